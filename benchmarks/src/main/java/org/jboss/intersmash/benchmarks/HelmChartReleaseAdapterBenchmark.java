@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.intersmash.model.helm.charts.values.wildfly.HelmWildflyRelease;
+import org.jboss.intersmash.provision.helm.HelmChartReleaseAdapter;
+import org.jboss.intersmash.provision.helm.Image;
+import org.jboss.intersmash.provision.helm.wildfly.WildFlyHelmChartReleaseAdapter;
+import org.jboss.intersmash.provision.helm.wildfly.WildflyHelmChartRelease;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.SecretVolumeSourceBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+
+/**
+ * Measures how the Helm Chart values are generated from a {@link HelmChartReleaseAdapter}, i.e. how a release is
+ * configured and then serialized into the values file which is passed to {@code helm install}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HelmChartReleaseAdapterBenchmark {
+
+	private WildFlyHelmChartReleaseAdapter release;
+
+	@Setup
+	public void setup() {
+		release = release();
+	}
+
+	@Benchmark
+	public WildFlyHelmChartReleaseAdapter configure() {
+		return release();
+	}
+
+	@Benchmark
+	public long toValuesFile() throws IOException {
+		final Path values = release.toValuesFile();
+		try {
+			return Files.size(values);
+		} finally {
+			Files.delete(values);
+		}
+	}
+
+	private static WildFlyHelmChartReleaseAdapter release() {
+		final WildFlyHelmChartReleaseAdapter release = new WildFlyHelmChartReleaseAdapter(new HelmWildflyRelease());
+		release.withSourceRepositoryUrl("https://github.com/Intersmash/intersmash.git")
+				.withSourceRepositoryRef("main")
+				.withContextDir("testsuite/deployments/openshift-jakarta-sample-standalone")
+				.withS2iFeaturePacks("org.wildfly:wildfly-galleon-pack:32.0.0.Final,"
+						+ "org.wildfly.cloud:wildfly-cloud-galleon-pack:7.0.0.Final")
+				.withS2iGalleonLayers("cloud-server,ejb,jaxrs-server,microprofile-platform")
+				.withBuildEnabled(true)
+				.withDeployEnabled(true)
+				.withReplicas(2)
+				.withRouteHost("app.apps.example.com")
+				.withRouteTLSEnabled(true)
+				.withTlsEnabled(false)
+				.withJdkBuilderImage(new WildflyHelmChartRelease.JdkImage("quay.io/wildfly/wildfly-s2i:latest-jdk17",
+						WildflyHelmChartRelease.JdkImage.Version.JDK_17))
+				.withJdkRuntimeImage(new WildflyHelmChartRelease.JdkImage("quay.io/wildfly/wildfly-runtime:latest-jdk17",
+						WildflyHelmChartRelease.JdkImage.Version.JDK_17))
+				.withInjectedImage(new Image(new Image.From("ImageStreamTag", "openshift", "drivers:latest"),
+						List.of(new Image.Path("/extensions", "/opt/server/extensions"))));
+		for (int i = 0; i < 20; i++) {
+			release.withBuildEnvironmentVariable("MAVEN_ARGS_" + i, "-Dproperty" + i + "=value" + i)
+					.withDeploymentEnvironmentVariable("ENV_" + i, "value-" + i);
+		}
+		for (int i = 0; i < 4; i++) {
+			release.withVolume(new VolumeBuilder()
+					.withName("secret-" + i)
+					.withSecret(new SecretVolumeSourceBuilder().withSecretName("secret-" + i).build())
+					.build())
+					.withVolumeMount(new VolumeMountBuilder()
+							.withName("secret-" + i)
+							.withMountPath("/etc/secrets/" + i)
+							.withReadOnly(true)
+							.build());
+		}
+		return release;
+	}
+}
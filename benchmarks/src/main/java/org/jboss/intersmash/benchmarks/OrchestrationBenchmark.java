@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.intersmash.benchmarks.orchestration.ClusterSimulator;
+import org.jboss.intersmash.benchmarks.orchestration.Scenarios;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the framework own orchestration overhead, by running representative {@link Scenarios} through the
+ * {@link org.jboss.intersmash.junit5.IntersmashExtension} against a {@link ClusterSimulator}, which reacts
+ * immediately, i.e. the cluster latency is left out.
+ * <p>
+ * Each invocation is a whole test class lifecycle, i.e. cleanup, deployment, test and undeployment. Besides the wall
+ * time, the API requests served by the mock server and the CLI processes forked by the framework are reported as
+ * secondary results, so that regressions can be told apart.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OrchestrationBenchmark {
+
+	private static final Map<String, Class<?>> SCENARIOS = Map.of(
+			"databases", Scenarios.Databases.class,
+			"operator", Scenarios.Operator.class,
+			"mixed", Scenarios.Mixed.class);
+
+	@Param({ "databases", "operator", "mixed" })
+	public String scenario;
+
+	private ClusterSimulator cluster;
+	private Launcher launcher;
+
+	/**
+	 * The orchestration cost of one test class lifecycle, besides its wall time.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Overhead {
+		public long apiRequests;
+		public long processForks;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			apiRequests = 0;
+			processForks = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void start() throws IOException {
+		cluster = ClusterSimulator.start(Files.createTempDirectory("intersmash-orchestration-"));
+		Scenarios.addOperators(cluster);
+		launcher = LauncherFactory.create();
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		cluster.close();
+	}
+
+	@Benchmark
+	public TestExecutionSummary orchestrate(Overhead overhead) {
+		final long requests = cluster.apiRequests();
+		final long forks = cluster.processForks();
+		final SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		launcher.execute(LauncherDiscoveryRequestBuilder.request()
+				.selectors(DiscoverySelectors.selectClass(SCENARIOS.get(scenario)))
+				.build(), listener);
+		final TestExecutionSummary summary = listener.getSummary();
+		if (summary.getTotalFailureCount() > 0 || summary.getTestsSucceededCount() == 0) {
+			throw new IllegalStateException("The " + scenario + " scenario failed",
+					summary.getFailures().isEmpty() ? null : summary.getFailures().get(0).getException());
+		}
+		cluster.awaitIdle();
+		overhead.apiRequests += cluster.apiRequests() - requests;
+		overhead.processForks += cluster.processForks() - forks;
+		return summary;
+	}
+}
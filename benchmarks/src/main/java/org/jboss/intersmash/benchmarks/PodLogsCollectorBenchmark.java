@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jboss.intersmash.provision.util.k8s.log.collect.PodLogsCollector;
+import org.jboss.intersmash.provision.util.k8s.log.collect.PodLogsCollectorBuilder;
+import org.jboss.intersmash.provision.util.k8s.log.collect.PodLogsReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+
+/**
+ * Measures how {@link PodLogsCollector} selects pods and filters their log lines, e.g. when collecting the errors of
+ * failing pods. Logs are served from memory by a stubbed client, so that only the collector overhead is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodLogsCollectorBenchmark {
+
+	@Param({ "10000", "100000" })
+	int lines;
+
+	@Param({ "1", "8" })
+	int pods;
+
+	private PodLogsCollector unfiltered;
+	private PodLogsCollector errors;
+
+	@Setup
+	public void setup() {
+		final String log = IntStream.range(0, lines)
+				.mapToObj(i -> String.format("12:%02d:%02d.%03d %s [org.jboss.as.server] (ServerService Thread Pool -- %d) "
+						+ "WFLYSRV0010: Deployed \"app-%d.war\" (runtime-name : \"app-%d.war\")",
+						i / 60_000 % 60, i / 1000 % 60, i % 1000, i % 100 == 0 ? "ERROR" : "INFO", i % 64, i, i))
+				.collect(Collectors.joining("\n"));
+		final NamespacedKubernetesClient client = mock(NamespacedKubernetesClient.class);
+		final MixedOperation<Pod, PodList, PodResource> operation = mock(MixedOperation.class);
+		when(client.pods()).thenReturn(operation);
+		final List<Pod> podList = IntStream.range(0, pods)
+				.mapToObj(i -> new PodBuilder().withNewMetadata().withName("app-" + i).endMetadata().build())
+				.collect(Collectors.toList());
+		for (Pod pod : podList) {
+			final PodResource podResource = mock(PodResource.class);
+			when(podResource.getLogReader()).thenAnswer(invocation -> new StringReader(log));
+			when(operation.withName(pod.getMetadata().getName())).thenReturn(podResource);
+		}
+		unfiltered = new PodLogsCollectorBuilder()
+				.withClient(client)
+				.withPods(podList)
+				.build();
+		errors = new PodLogsCollectorBuilder()
+				.withClient(client)
+				.withPods(podList)
+				.withPodSelector(p -> p.getMetadata().getName().startsWith("app-"))
+				.withLineSelector(line -> line.contains(" ERROR "))
+				.build();
+	}
+
+	@Benchmark
+	public List<PodLogsReport> collectAll() {
+		return unfiltered.collect();
+	}
+
+	@Benchmark
+	public List<PodLogsReport> collectErrors() {
+		return errors.collect();
+	}
+
+	@Benchmark
+	public String collectErrorsReport() {
+		return PodLogsReport.generate(errors.collect());
+	}
+}
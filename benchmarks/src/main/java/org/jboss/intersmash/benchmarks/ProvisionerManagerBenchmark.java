@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.intersmash.application.Application;
+import org.jboss.intersmash.application.input.BuildInput;
+import org.jboss.intersmash.application.openshift.PostgreSQLImageOpenShiftApplication;
+import org.jboss.intersmash.application.openshift.WildflyImageOpenShiftApplication;
+import org.jboss.intersmash.provision.Provisioner;
+import org.jboss.intersmash.provision.ProvisionerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@link ProvisionerManager#getProvisioner(Application)} looks up the provisioner of an application,
+ * among the {@link org.jboss.intersmash.provision.ProvisionerFactory} services which are available on the class path,
+ * including the worst case, i.e. an application which no factory supports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProvisionerManagerBenchmark {
+
+	private final Application postgresql = new PostgreSQLImageOpenShiftApplication() {
+		@Override
+		public String getUser() {
+			return "user";
+		}
+
+		@Override
+		public String getPassword() {
+			return "password";
+		}
+
+		@Override
+		public String getDbName() {
+			return "db";
+		}
+	};
+
+	private final Application wildfly = new WildflyImageOpenShiftApplication() {
+		@Override
+		public String getName() {
+			return "wildfly";
+		}
+
+		@Override
+		public BuildInput getBuildInput() {
+			return null;
+		}
+	};
+
+	private final Application unsupported = () -> "unsupported";
+
+	@Benchmark
+	public Provisioner postgresql() {
+		return ProvisionerManager.getProvisioner(postgresql);
+	}
+
+	@Benchmark
+	public Provisioner wildfly() {
+		return ProvisionerManager.getProvisioner(wildfly);
+	}
+
+	@Benchmark
+	public Exception unsupported() {
+		try {
+			ProvisionerManager.getProvisioner(unsupported);
+			throw new IllegalStateException("A provisioner was found for " + unsupported.getName());
+		} catch (UnsupportedOperationException e) {
+			return e;
+		}
+	}
+}
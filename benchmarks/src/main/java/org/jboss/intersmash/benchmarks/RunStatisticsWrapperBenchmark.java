@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.intersmash.provision.operator.hyperfoil.client.runschema.RunStatisticsWrapper;
+import org.jboss.intersmash.provision.operator.hyperfoil.client.runschema.v07.PhaseStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Measures how {@link RunStatisticsWrapper} parses the statistics of a Hyperfoil run, which grow with the number of
+ * phases and metrics, and hold a time series for each of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunStatisticsWrapperBenchmark {
+
+	@Param({ "100", "1000" })
+	int stats;
+
+	@Param({ "60" })
+	int seriesLength;
+
+	private String json;
+
+	@Setup
+	public void setup() throws JsonProcessingException {
+		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectNode run = mapper.createObjectNode();
+		run.putObject("info")
+				.put("id", "0001")
+				.put("benchmark", "intersmash")
+				.put("startTime", 1_700_000_000_000L)
+				.put("terminateTime", 1_700_000_600_000L)
+				.put("description", "Benchmark run")
+				.put("cancelled", false)
+				.putArray("errors");
+		final ArrayNode failures = run.putArray("failures");
+		final ArrayNode statsNode = run.putArray("stats");
+		for (int i = 0; i < stats; i++) {
+			final String phase = "phase-" + (i / 10);
+			final String metric = "metric-" + (i % 10);
+			final ObjectNode stat = statsNode.addObject()
+					.put("name", phase + "/" + metric)
+					.put("phase", phase)
+					.put("metric", metric);
+			final ObjectNode total = stat.putObject("total")
+					.put("phase", phase)
+					.put("metric", metric)
+					.put("start", 1_700_000_000_000L)
+					.put("end", 1_700_000_600_000L);
+			summary(total.putObject("summary"), i);
+			total.putObject("custom");
+			final ArrayNode series = stat.putArray("series");
+			for (int s = 0; s < seriesLength; s++) {
+				summary(series.addObject(), s);
+			}
+			if (i % 50 == 0) {
+				failures.addObject()
+						.put("phase", phase)
+						.put("metric", metric)
+						.put("message", "Response time 99.0 percentile exceeded")
+						.put("start", 1_700_000_000_000L)
+						.put("end", 1_700_000_600_000L)
+						.putObject("percentileResponseTime").put("99.0", 1_500_000L);
+			}
+		}
+		json = mapper.writeValueAsString(run);
+	}
+
+	private static void summary(ObjectNode summary, long seed) {
+		summary.put("startTime", 1_700_000_000_000L)
+				.put("endTime", 1_700_000_600_000L)
+				.put("minResponseTime", 100_000L + seed)
+				.put("meanResponseTime", 450_000L + seed)
+				.put("maxResponseTime", 9_000_000L + seed)
+				.put("meanSendTime", 20_000L)
+				.put("connectFailureCount", 0)
+				.put("requestCount", 60_000L + seed)
+				.put("responseCount", 60_000L + seed)
+				.put("status_2xx", 59_990L)
+				.put("status_3xx", 0)
+				.put("status_4xx", 10)
+				.put("status_5xx", 0)
+				.put("statusOther", 0)
+				.put("invalid", 0)
+				.put("cacheHits", 0)
+				.put("resetCount", 0)
+				.put("timeouts", 0)
+				.put("blockedCount", 0)
+				.put("blockedTime", 0);
+		summary.putObject("percentileResponseTime")
+				.put("50.0", 400_000L + seed)
+				.put("90.0", 800_000L + seed)
+				.put("99.0", 1_200_000L + seed)
+				.put("99.9", 2_000_000L + seed)
+				.put("99.99", 5_000_000L + seed);
+	}
+
+	@Benchmark
+	public List<PhaseStats> parse() throws JsonProcessingException {
+		return new RunStatisticsWrapper(json).getPhaseStats();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jboss.intersmash.provision.olm.Subscription;
+import org.jboss.intersmash.provision.operator.OperatorProvisioner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@link org.jboss.intersmash.provision.olm.SerializationCapableResource} resources, e.g. the
+ * {@link Subscription} which is created for each operator, are saved to and loaded from YAML files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationCapableResourceBenchmark {
+
+	private Subscription subscription;
+	private File file;
+	private File loaded;
+
+	@Setup
+	public void setup() throws IOException {
+		final Map<String, String> env = IntStream.range(0, 20).boxed()
+				.collect(Collectors.toMap(i -> "OPERATOR_ENV_" + i, i -> "value-" + i));
+		subscription = new Subscription("openshift-marketplace", "intersmash-benchmark", "redhat-operators",
+				"eap", "stable", OperatorProvisioner.INSTALLPLAN_APPROVAL_MANUAL, "eap-operator.v2.4.0", env);
+		file = File.createTempFile("subscription-", ".yaml");
+		loaded = subscription.save(File.createTempFile("subscription-", ".yaml"));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file.toPath());
+		Files.deleteIfExists(loaded.toPath());
+	}
+
+	@Benchmark
+	public File save() throws IOException {
+		return subscription.save(file);
+	}
+
+	@Benchmark
+	public Subscription load() throws IOException {
+		return new Subscription().load(loaded);
+	}
+}
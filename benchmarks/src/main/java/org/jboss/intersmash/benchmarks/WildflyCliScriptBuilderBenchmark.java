@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jboss.intersmash.util.wildfly.Eap7CliScriptBuilder;
+import org.jboss.intersmash.util.wildfly.WildflyAbstractCliScriptBuilder;
+import org.jboss.intersmash.util.wildfly.WildflyCliScriptBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@link WildflyAbstractCliScriptBuilder} implementations build the CLI scripts which configure WildFly
+ * and JBoss EAP applications, from the commands being added one by one, or as a whole.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WildflyCliScriptBuilderBenchmark {
+
+	@Param({ "10", "1000" })
+	int commands;
+
+	private List<String> script;
+
+	@Setup
+	public void setup() {
+		script = IntStream.range(0, commands)
+				.mapToObj(i -> String.format("/system-property=intersmash.property.%d:add(value=\"value-%d\")", i, i))
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<String> addCommand() {
+		final WildflyAbstractCliScriptBuilder builder = new WildflyCliScriptBuilder().batch();
+		script.forEach(builder::addCommand);
+		return builder.build();
+	}
+
+	@Benchmark
+	public List<String> addCommands() {
+		return new WildflyCliScriptBuilder().batch().addCommands(script).build();
+	}
+
+	@Benchmark
+	public List<String> embedServer() {
+		return new Eap7CliScriptBuilder().batch().addCommands(script).build();
+	}
+}
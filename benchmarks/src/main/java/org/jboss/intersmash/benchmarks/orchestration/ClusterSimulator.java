@@ -0,0 +1,594 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks.orchestration;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.IntersmashConfig;
+import org.jboss.intersmash.k8s.KubernetesConfig;
+
+import cz.xtf.core.config.BuildManagerConfig;
+import cz.xtf.core.config.OpenShiftConfig;
+import cz.xtf.core.config.WaitingConfig;
+import cz.xtf.core.config.XTFConfig;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpecBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.VersionInfo;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMixedDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.ProjectBuilder;
+import io.fabric8.openshift.api.model.config.v1.ClusterVersionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifestBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSourceBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.dsl.OpenShiftOperatorHubAPIGroupDSL;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Kubernetes/OpenShift cluster simulated by the Fabric8 mock server in CRUD mode, which Intersmash is configured to
+ * target, so that the framework orchestration can be measured without the latency of a real cluster.
+ * <p>
+ * The simulator plays the role of the cluster controllers, and reacts to the resources that the framework creates as
+ * soon as they're notified:
+ * <ul>
+ *     <li>deployment configs, deployments and stateful sets get their pods created, ready, and their status
+ *     reporting the desired replicas as available</li>
+ *     <li>subscriptions to the registered operators get their CRDs, a succeeded CSV and the operator deployment
+ *     created, like OLM would do</li>
+ *     <li>custom resources of the registered operators get a stateful set created, and their status reported once
+ *     its pods are ready</li>
+ *     <li>deleted resources get the resources they own deleted, like the garbage collector would do</li>
+ * </ul>
+ * CLI calls are served by stub binaries which just record that a process was forked, since only the fork itself is
+ * part of the framework overhead.
+ * </p>
+ * <p>
+ * The requests issued by the simulator itself are not counted by {@link #apiRequests()}.
+ * </p>
+ */
+@Slf4j
+public final class ClusterSimulator implements AutoCloseable {
+	public static final String NAMESPACE = "intersmash-benchmark";
+	private static final String CHANNEL = "stable";
+	private static final String VERSION = "1.0.0";
+	private static final String OPENSHIFT_VERSION = "4.16";
+
+	private final KubernetesMockServer server;
+	private final NamespacedKubernetesClient client;
+	private final AtomicLong simulatorRequests = new AtomicLong();
+	private final Path forks;
+	private final Map<String, Operator> operators = new HashMap<>();
+	private final Map<String, Operator> customResources = new HashMap<>();
+	private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+	// resources are reconciled one at a time, like by a single controller
+	private final ExecutorService controller = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "cluster-simulator");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicLong pods = new AtomicLong();
+
+	private ClusterSimulator(Path workDir) throws IOException {
+		// CRUD mode, besides the expectations which serve the Kubernetes version
+		final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+		server = new KubernetesMockServer(new Context(Serialization.jsonMapper()), new MockWebServer(), responses,
+				new KubernetesMixedDispatcher(responses), false,
+				new VersionInfo.Builder().withMajor("1").withMinor("29").build());
+		// OpenShift 4 reports its version via the cluster version resource only
+		server.expect().get().withPath("/version/openshift").andReturn(HttpURLConnection.HTTP_NOT_FOUND, "").always();
+		server.init();
+		client = server.createClient(builder -> builder.withHttpClientBuilderConsumer(
+				httpClient -> httpClient.addOrReplaceInterceptor("CLUSTER_SIMULATOR", new Interceptor() {
+					@Override
+					public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+						simulatorRequests.incrementAndGet();
+					}
+				}))).inNamespace(NAMESPACE);
+		forks = workDir.resolve("forks.log");
+		Files.createFile(forks);
+		final Path bin = Files.createDirectories(workDir.resolve("bin"));
+		configure(bin);
+	}
+
+	/**
+	 * Start the mock server, configure Intersmash to target it and start simulating the cluster controllers.
+	 *
+	 * @param workDir The directory where the CLI stubs and the files generated by the framework are stored
+	 * @return The started {@link ClusterSimulator}
+	 * @throws IOException If the CLI stubs can't be created
+	 */
+	public static ClusterSimulator start(Path workDir) throws IOException {
+		final ClusterSimulator simulator = new ClusterSimulator(workDir);
+		simulator.seedCluster();
+		simulator.seedCatalog();
+		simulator.simulateWorkload(DeploymentConfig.class);
+		simulator.simulateWorkload(Deployment.class);
+		simulator.simulateWorkload(StatefulSet.class);
+		simulator.simulateOlm();
+		return simulator;
+	}
+
+	/**
+	 * Make an operator available in the default catalog source, and simulate it: subscribing to it installs its CSV,
+	 * and its custom resources are deployed as stateful sets.
+	 *
+	 * @param packageName The operator package manifest name
+	 * @param customResource The class of the custom resource which is managed by the operator
+	 * @param status Computes the status of a custom resource out of its ready pods
+	 */
+	public void addOperator(String packageName, Class<? extends CustomResource<?, ?>> customResource,
+			Function<List<Pod>, Object> status) {
+		final CustomResourceDefinition crd = CustomResourceDefinitionContext.v1CRDFromCustomResourceType(customResource)
+				.build();
+		final Operator operator = new Operator(packageName, crd, status);
+		operators.put(packageName, operator);
+		customResources.put(crd.getSpec().getNames().getKind(), operator);
+		final String catalogSourceNamespace = IntersmashConfig.defaultOperatorCatalogSourceNamespace();
+		olm().packageManifests().inNamespace(catalogSourceNamespace).resource(new PackageManifestBuilder()
+				.withNewMetadata().withName(packageName).withNamespace(catalogSourceNamespace).endMetadata()
+				.withNewStatus()
+				.withDefaultChannel(CHANNEL)
+				.addNewChannel()
+				.withName(CHANNEL)
+				.withCurrentCSV(operator.csv)
+				.withNewCurrentCSVDesc()
+				.withNewCustomresourcedefinitions()
+				.addNewOwned().withName(crd.getMetadata().getName()).endOwned()
+				.endCustomresourcedefinitions()
+				.endCurrentCSVDesc()
+				.endChannel()
+				.endStatus()
+				.build()).create();
+		inform(CustomResourceDefinitionContext.fromCrd(crd), this::reconcileCustomResource);
+	}
+
+	/**
+	 * @return The number of API requests served to the framework so far
+	 */
+	public long apiRequests() {
+		return server.getRequestCount() - simulatorRequests.get();
+	}
+
+	/**
+	 * @return The number of CLI processes forked by the framework so far
+	 */
+	public long processForks() {
+		try (var lines = Files.lines(forks)) {
+			return lines.count();
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to read " + forks, e);
+		}
+	}
+
+	/**
+	 * Wait for the notified resources to be reconciled.
+	 */
+	public void awaitIdle() {
+		try {
+			controller.submit(() -> {
+			}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public void close() {
+		informers.forEach(SharedIndexInformer::close);
+		controller.shutdownNow();
+		client.close();
+		server.destroy();
+	}
+
+	/**
+	 * Point XTF and Intersmash to the mock server, and the CLI to the stub binaries.
+	 */
+	private void configure(Path bin) throws IOException {
+		final String url = client.getMasterUrl().toString();
+		System.setProperty(OpenShiftConfig.OPENSHIFT_URL, url);
+		System.setProperty(OpenShiftConfig.OPENSHIFT_VERSION, OPENSHIFT_VERSION);
+		System.setProperty(OpenShiftConfig.OPENSHIFT_NAMESPACE, NAMESPACE);
+		System.setProperty(OpenShiftConfig.OPENSHIFT_MASTER_TOKEN, "master");
+		System.setProperty(OpenShiftConfig.OPENSHIFT_ADMIN_TOKEN, "admin");
+		System.setProperty(OpenShiftConfig.OPENSHIFT_ROUTE_DOMAIN, "apps.intersmash.benchmark");
+		System.setProperty(OpenShiftConfig.OPENSHIFT_BINARY_PATH, stub(bin, "oc").toString());
+		// XTF stores the CLI sessions configuration where it would have downloaded the binary to
+		Files.createDirectories(Path.of("tmp", "oc"));
+		System.setProperty(KubernetesConfig.KUBERNETES_URL, url);
+		System.setProperty(KubernetesConfig.KUBERNETES_NAMESPACE, NAMESPACE);
+		System.setProperty(KubernetesConfig.KUBERNETES_MASTER_TOKEN, "master");
+		System.setProperty(KubernetesConfig.KUBERNETES_ADMIN_TOKEN, "admin");
+		System.setProperty(KubernetesConfig.KUBERNETES_BINARY_PATH, stub(bin, "kubectl").toString());
+		// a lost notification must fail the run, rather than wait for the default timeout
+		System.setProperty(WaitingConfig.WAITING_TIMEOUT, "60000");
+		XTFConfig.loadConfig();
+	}
+
+	private Path stub(Path bin, String name) throws IOException {
+		final Path stub = bin.resolve(name);
+		Files.writeString(stub, String.format("#!/bin/sh%necho \"%s $*\" >> \"%s\"%n", name, forks),
+				StandardCharsets.UTF_8);
+		Files.setPosixFilePermissions(stub, PosixFilePermissions.fromString("rwxr-xr-x"));
+		return stub;
+	}
+
+	private OpenShiftClient openShift() {
+		return client.adapt(OpenShiftClient.class);
+	}
+
+	private OpenShiftOperatorHubAPIGroupDSL olm() {
+		return openShift().operatorHub();
+	}
+
+	/**
+	 * Create the cluster version, the test namespace and the XTF build manager one, as if they had been requested
+	 * already.
+	 */
+	private void seedCluster() {
+		openShift().config().clusterVersions().resource(new ClusterVersionBuilder()
+				.withNewMetadata().withName("version").endMetadata()
+				.withNewStatus().withNewDesired().withVersion(OPENSHIFT_VERSION + ".0").endDesired().endStatus()
+				.build()).create();
+		for (String namespace : List.of(NAMESPACE, BuildManagerConfig.namespace())) {
+			client.namespaces().resource(new NamespaceBuilder().withNewMetadata().withName(namespace).endMetadata()
+					.build()).create();
+			openShift().projects().resource(new ProjectBuilder().withNewMetadata().withName(namespace).endMetadata()
+					.build()).create();
+		}
+	}
+
+	private void seedCatalog() {
+		final String catalogSourceNamespace = IntersmashConfig.defaultOperatorCatalogSourceNamespace();
+		olm().catalogSources().inNamespace(catalogSourceNamespace).resource(new CatalogSourceBuilder()
+				.withNewMetadata()
+				.withName(IntersmashConfig.defaultOperatorCatalogSourceName())
+				.withNamespace(catalogSourceNamespace)
+				.endMetadata()
+				.withNewSpec().withSourceType("grpc").endSpec()
+				.withNewStatus().withNewConnectionState().withLastObservedState("READY").endConnectionState()
+				.endStatus()
+				.build()).create();
+	}
+
+	// =================================================================================================================
+	// Workloads
+	// =================================================================================================================
+	private void simulateWorkload(Class<? extends HasMetadata> type) {
+		inform(ResourceDefinitionContext.fromResourceType(type), this::reconcileWorkload);
+	}
+
+	/**
+	 * Create or delete the pods of a workload, so that the desired replicas are ready, and report them in its status.
+	 */
+	private void reconcileWorkload(GenericKubernetesResource workload) {
+		final Map<String, Object> spec = workload.get("spec");
+		final int replicas = spec.get("replicas") == null ? 1 : ((Number) spec.get("replicas")).intValue();
+		final List<Pod> owned = owned(client.pods().list().getItems(), workload);
+		for (int i = owned.size(); i < replicas; i++) {
+			client.pods().resource(pod(workload, i)).create();
+		}
+		owned.stream().skip(replicas).forEach(pod -> client.pods().resource(pod).delete());
+
+		final Map<String, Object> status = new LinkedHashMap<>();
+		status.put("observedGeneration", workload.getMetadata().getGeneration());
+		status.put("replicas", replicas);
+		status.put("readyReplicas", replicas);
+		status.put("availableReplicas", replicas);
+		status.put("updatedReplicas", replicas);
+		status.put("currentReplicas", replicas);
+		if ("DeploymentConfig".equals(workload.getKind())) {
+			status.put("latestVersion", 1);
+		}
+		if (!status.equals(workload.get("status"))) {
+			workload.setAdditionalProperty("status", status);
+			client.genericKubernetesResources(workload.getApiVersion(), workload.getKind()).resource(workload)
+					.updateStatus();
+			owner(workload, customResources.keySet()).ifPresent(this::reportCustomResourceStatus);
+		}
+	}
+
+	private Pod pod(GenericKubernetesResource workload, int index) {
+		final String name = workload.getMetadata().getName();
+		final PodTemplateSpec template = client.getKubernetesSerialization()
+				.convertValue(workload.get("spec", "template"), PodTemplateSpec.class);
+		final PodBuilder pod = new PodBuilder()
+				.withNewMetadata()
+				.withNamespace(NAMESPACE)
+				.withLabels(template.getMetadata() == null ? null : template.getMetadata().getLabels())
+				.withOwnerReferences(ownerReference(workload))
+				.endMetadata()
+				.withSpec(template.getSpec());
+		if ("DeploymentConfig".equals(workload.getKind())) {
+			pod.editMetadata().withName(String.format("%s-1-%05d", name, pods.incrementAndGet()))
+					.addToLabels("deploymentconfig", name)
+					.addToLabels("deployment", name + "-1")
+					.endMetadata();
+		} else if ("StatefulSet".equals(workload.getKind())) {
+			pod.editMetadata().withName(String.format("%s-%d", name, index)).endMetadata();
+		} else {
+			pod.editMetadata().withName(String.format("%s-%05d", name, pods.incrementAndGet())).endMetadata();
+		}
+		final List<ContainerStatus> containerStatuses = template.getSpec().getContainers().stream()
+				.map(container -> new ContainerStatusBuilder()
+						.withName(container.getName())
+						.withImage(container.getImage())
+						.withReady(true)
+						.withStarted(true)
+						.withRestartCount(0)
+						.withNewState().withNewRunning().endRunning().endState()
+						.build())
+				.collect(Collectors.toList());
+		return pod.withNewStatus()
+				.withPhase("Running")
+				.withPodIP(String.format("10.0.%d.%d", (pods.get() / 250) % 250, pods.get() % 250 + 1))
+				.addNewCondition().withType("Ready").withStatus("True").endCondition()
+				.addNewCondition().withType("ContainersReady").withStatus("True").endCondition()
+				.withContainerStatuses(containerStatuses)
+				.endStatus()
+				.build();
+	}
+
+	// =================================================================================================================
+	// OLM
+	// =================================================================================================================
+	private void simulateOlm() {
+		inform(ResourceDefinitionContext.fromResourceType(Subscription.class), this::reconcileSubscription);
+		inform(ResourceDefinitionContext.fromResourceType(ClusterServiceVersion.class), csv -> {
+		});
+	}
+
+	/**
+	 * Install the subscribed operator, i.e. its CRD, CSV and deployment.
+	 */
+	private void reconcileSubscription(GenericKubernetesResource subscription) {
+		final Map<String, Object> spec = subscription.get("spec");
+		final Operator operator = operators.get((String) spec.get("name"));
+		if (operator == null || subscription.get("status") != null) {
+			return;
+		}
+		final String csvName = spec.get("startingCSV") == null ? operator.csv : (String) spec.get("startingCSV");
+		if (client.apiextensions().v1().customResourceDefinitions().withName(operator.crd.getMetadata().getName())
+				.get() == null) {
+			client.apiextensions().v1().customResourceDefinitions().resource(operator.crd).create();
+		}
+		final Map<String, String> labels = Map.of("name", operator.packageName);
+		final ClusterServiceVersion csv = olm().clusterServiceVersions().resource(new ClusterServiceVersionBuilder()
+				.withNewMetadata().withName(csvName).withNamespace(NAMESPACE).endMetadata()
+				.withNewSpec()
+				.withVersion(VERSION)
+				.withNewInstall()
+				.withStrategy("deployment")
+				.withNewSpec()
+				.addNewDeployment()
+				.withName(operator.packageName)
+				.withSpec(new DeploymentSpecBuilder()
+						.withReplicas(1)
+						.withNewSelector().withMatchLabels(labels).endSelector()
+						.withTemplate(new PodTemplateSpecBuilder()
+								.withNewMetadata().withLabels(labels).endMetadata()
+								.withNewSpec().addNewContainer().withName("operator").withImage(operator.packageName)
+								.endContainer().endSpec()
+								.build())
+						.build())
+				.endDeployment()
+				.endSpec()
+				.endInstall()
+				.endSpec()
+				.withNewStatus().withPhase("Succeeded").endStatus()
+				.build()).createOr(existing -> existing.update());
+		client.apps().deployments().resource(new DeploymentBuilder()
+				.withNewMetadata()
+				.withName(operator.packageName)
+				.withNamespace(NAMESPACE)
+				.withLabels(labels)
+				.withOwnerReferences(ownerReference(csv))
+				.endMetadata()
+				.withSpec(csv.getSpec().getInstall().getSpec().getDeployments().get(0).getSpec())
+				.build()).createOr(existing -> existing.update());
+		subscription.setAdditionalProperty("status", Map.of("state", "AtLatestKnown", "currentCSV", csvName,
+				"installedCSV", csvName));
+		client.genericKubernetesResources(subscription.getApiVersion(), subscription.getKind()).resource(subscription)
+				.updateStatus();
+	}
+
+	// =================================================================================================================
+	// Custom resources
+	// =================================================================================================================
+	/**
+	 * Deploy a custom resource as a stateful set, whose pods are labelled with the custom resource name.
+	 */
+	private void reconcileCustomResource(GenericKubernetesResource customResource) {
+		final Map<String, Object> spec = customResource.get("spec");
+		final int replicas = spec == null || spec.get("replicas") == null ? 1
+				: ((Number) spec.get("replicas")).intValue();
+		final String name = customResource.getMetadata().getName();
+		final StatefulSet statefulSet = client.apps().statefulSets().withName(name).get();
+		if (statefulSet == null) {
+			final Map<String, String> labels = Map.of("app.kubernetes.io/name", name);
+			client.apps().statefulSets().resource(new StatefulSetBuilder()
+					.withNewMetadata()
+					.withName(name)
+					.withNamespace(NAMESPACE)
+					.withLabels(labels)
+					.withOwnerReferences(ownerReference(customResource))
+					.endMetadata()
+					.withNewSpec()
+					.withReplicas(replicas)
+					.withNewSelector().withMatchLabels(labels).endSelector()
+					.withNewTemplate()
+					.withNewMetadata().withLabels(labels).endMetadata()
+					.withNewSpec().addNewContainer().withName(name).withImage(name).endContainer().endSpec()
+					.endTemplate()
+					.endSpec()
+					.build()).create();
+		} else if (!Objects.equals(statefulSet.getSpec().getReplicas(), replicas)) {
+			client.apps().statefulSets().withName(name).edit(s -> {
+				s.getSpec().setReplicas(replicas);
+				return s;
+			});
+		}
+	}
+
+	private void reportCustomResourceStatus(OwnerReference owner) {
+		final Operator operator = customResources.get(owner.getKind());
+		final GenericKubernetesResource customResource = client.genericKubernetesResources(
+				CustomResourceDefinitionContext.fromCrd(operator.crd)).withName(owner.getName()).get();
+		if (customResource == null) {
+			return;
+		}
+		final List<Pod> ready = client.pods().withLabel("app.kubernetes.io/name", owner.getName()).list().getItems();
+		customResource.setAdditionalProperty("status", operator.status.apply(ready));
+		client.genericKubernetesResources(CustomResourceDefinitionContext.fromCrd(operator.crd))
+				.resource(customResource).update();
+	}
+
+	// =================================================================================================================
+	// Garbage collection
+	// =================================================================================================================
+	private void collectGarbage(GenericKubernetesResource owner) {
+		owned(client.pods().list().getItems(), owner).forEach(pod -> client.pods().resource(pod).delete());
+		owned(client.apps().deployments().list().getItems(), owner)
+				.forEach(deployment -> client.apps().deployments().resource(deployment).delete());
+		owned(client.apps().statefulSets().list().getItems(), owner)
+				.forEach(statefulSet -> client.apps().statefulSets().resource(statefulSet).delete());
+	}
+
+	private static <T extends HasMetadata> List<T> owned(List<T> resources, HasMetadata owner) {
+		return resources.stream()
+				.filter(r -> r.getMetadata().getOwnerReferences().stream()
+						.anyMatch(o -> o.getKind().equals(owner.getKind())
+								&& o.getName().equals(owner.getMetadata().getName())))
+				.collect(Collectors.toList());
+	}
+
+	private static Optional<OwnerReference> owner(HasMetadata resource, Set<String> kinds) {
+		return resource.getMetadata().getOwnerReferences().stream().filter(o -> kinds.contains(o.getKind()))
+				.findFirst();
+	}
+
+	private static OwnerReference ownerReference(HasMetadata owner) {
+		return new OwnerReferenceBuilder()
+				.withApiVersion(owner.getApiVersion())
+				.withKind(owner.getKind())
+				.withName(owner.getMetadata().getName())
+				.withUid(owner.getMetadata().getUid())
+				.withController(true)
+				.build();
+	}
+
+	// =================================================================================================================
+	// Informers
+	// =================================================================================================================
+	private void inform(ResourceDefinitionContext context, Consumer<GenericKubernetesResource> reconciler) {
+		informers.add(client.genericKubernetesResources(context).inform(new ResourceEventHandler<>() {
+			@Override
+			public void onAdd(GenericKubernetesResource resource) {
+				reconcile(resource, reconciler);
+			}
+
+			@Override
+			public void onUpdate(GenericKubernetesResource oldResource, GenericKubernetesResource resource) {
+				reconcile(resource, reconciler);
+			}
+
+			@Override
+			public void onDelete(GenericKubernetesResource resource, boolean deletedFinalStateUnknown) {
+				reconcile(resource, ClusterSimulator.this::collectGarbage);
+			}
+		}));
+	}
+
+	private void reconcile(GenericKubernetesResource resource, Consumer<GenericKubernetesResource> reconciler) {
+		controller.submit(() -> {
+			try {
+				reconciler.accept(resource);
+			} catch (RuntimeException e) {
+				log.warn("Unable to reconcile {} {}: {}", resource.getKind(), resource.getMetadata().getName(),
+						e.getMessage());
+			}
+		});
+	}
+
+	private static final class Operator {
+		private final String packageName;
+		private final String csv;
+		private final CustomResourceDefinition crd;
+		private final Function<List<Pod>, Object> status;
+
+		private Operator(String packageName, CustomResourceDefinition crd, Function<List<Pod>, Object> status) {
+			this.packageName = packageName;
+			this.csv = packageName + ".v" + VERSION;
+			this.crd = crd;
+			this.status = status;
+		}
+	}
+}
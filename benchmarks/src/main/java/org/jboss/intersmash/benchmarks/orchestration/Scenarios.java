@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.benchmarks.orchestration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.annotations.Intersmash;
+import org.jboss.intersmash.annotations.Service;
+import org.jboss.intersmash.annotations.ServiceProvisioner;
+import org.jboss.intersmash.application.openshift.MysqlImageOpenShiftApplication;
+import org.jboss.intersmash.application.openshift.OpenShiftApplication;
+import org.jboss.intersmash.application.openshift.PostgreSQLImageOpenShiftApplication;
+import org.jboss.intersmash.application.operator.WildflyOperatorApplication;
+import org.jboss.intersmash.provision.openshift.OpenShiftProvisioner;
+import org.jboss.intersmash.provision.operator.WildflyOperatorProvisioner;
+import org.jboss.intersmash.provision.operator.model.wildfly.WildFlyServerBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.wildfly.v1alpha1.WildFlyServer;
+
+import io.fabric8.kubernetes.api.model.Pod;
+
+/**
+ * Representative {@link Intersmash} test classes, which are executed against a {@link ClusterSimulator} to measure
+ * the framework orchestration, i.e. the test classes only check that the services were provisioned.
+ */
+public final class Scenarios {
+
+	private Scenarios() {
+	}
+
+	/**
+	 * Register the operators which the scenarios are subscribing to.
+	 *
+	 * @param cluster The simulated cluster
+	 */
+	public static void addOperators(ClusterSimulator cluster) {
+		// the WildFly operator reports the pods which are serving requests
+		cluster.addOperator(WildflyOperatorProvisioner.OPERATOR_ID, WildFlyServer.class, pods -> Map.of(
+				"replicas", pods.size(),
+				"pods", pods.stream()
+						.map(pod -> Map.of("name", pod.getMetadata().getName(), "podIP", pod.getStatus().getPodIP(),
+								"state", "ACTIVE"))
+						.collect(Collectors.toList())));
+	}
+
+	/**
+	 * Two image based databases, deployed via deployment configs.
+	 */
+	@Intersmash({ @Service(PostgreSQL.class), @Service(Mysql.class) })
+	public static class Databases {
+		@ServiceProvisioner(PostgreSQL.class)
+		OpenShiftProvisioner<?> postgresql;
+		@ServiceProvisioner(Mysql.class)
+		OpenShiftProvisioner<?> mysql;
+
+		@Test
+		public void provisioned() {
+			assertReady(postgresql.getPods());
+			assertReady(mysql.getPods());
+		}
+	}
+
+	/**
+	 * An operator based application, i.e. an OLM subscription, and a custom resource deployed as a stateful set.
+	 */
+	@Intersmash({ @Service(WildflyOperator.class) })
+	public static class Operator {
+		@ServiceProvisioner(WildflyOperator.class)
+		OpenShiftProvisioner<?> wildfly;
+
+		@Test
+		public void provisioned() {
+			assertReady(wildfly.getPods());
+		}
+	}
+
+	/**
+	 * A database which an operator based application depends on.
+	 */
+	@Intersmash({ @Service(PostgreSQL.class), @Service(WildflyOperator.class) })
+	public static class Mixed {
+		@ServiceProvisioner(PostgreSQL.class)
+		OpenShiftProvisioner<?> postgresql;
+		@ServiceProvisioner(WildflyOperator.class)
+		OpenShiftProvisioner<?> wildfly;
+
+		@Test
+		public void provisioned() {
+			assertReady(postgresql.getPods());
+			assertReady(wildfly.getPods());
+		}
+	}
+
+	private static void assertReady(List<Pod> pods) {
+		Assertions.assertFalse(pods.isEmpty());
+		Assertions.assertTrue(pods.stream().allMatch(pod -> "Running".equals(pod.getStatus().getPhase())));
+	}
+
+	public static class PostgreSQL implements PostgreSQLImageOpenShiftApplication {
+		@Override
+		public String getUser() {
+			return "user";
+		}
+
+		@Override
+		public String getPassword() {
+			return "password";
+		}
+
+		@Override
+		public String getDbName() {
+			return "db";
+		}
+	}
+
+	public static class Mysql implements MysqlImageOpenShiftApplication {
+		@Override
+		public String getUser() {
+			return "user";
+		}
+
+		@Override
+		public String getPassword() {
+			return "password";
+		}
+
+		@Override
+		public String getDbName() {
+			return "db";
+		}
+	}
+
+	public static class WildflyOperator implements WildflyOperatorApplication, OpenShiftApplication {
+		@Override
+		public String getName() {
+			return "wildfly";
+		}
+
+		@Override
+		public WildFlyServer getWildflyServer() {
+			return new WildFlyServerBuilder(getName())
+					.applicationImage("quay.io/wildfly-quickstarts/wildfly-operator-quickstart:latest")
+					.replicas(2)
+					.build();
+		}
+	}
+}
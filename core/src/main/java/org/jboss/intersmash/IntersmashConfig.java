@@ -15,6 +15,8 @@
  */
 package org.jboss.intersmash;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,6 +29,11 @@ public class IntersmashConfig {
 	private static final String SCRIPT_DEBUG = "intersmash.openshift.script.debug";
 	private static final String DEPLOYMENTS_REPOSITORY_URL = "intersmash.deployments.repository.url";
 	private static final String DEPLOYMENTS_REPOSITORY_REF = "intersmash.deployments.repository.ref";
+	private static final String PROVISIONING_CONCURRENCY = "intersmash.provisioning.concurrency";
+	private static final String HELM_CHARTS_CACHE_DIR = "intersmash.helm.charts.cache.dir";
+	private static final String GIT_MIRRORS_DIR = "intersmash.git.mirrors.dir";
+	private static final String TIMINGS_DIR = "intersmash.timings.dir";
+	private static final String KEYSTORES_DIR = "intersmash.keystores.dir";
 
 	// Default Catalog for Operators
 	private static final String KUBERNETES_OPERATOR_CATALOG_SOURCE_NAMESPACE = "olm";
@@ -38,6 +45,9 @@ public class IntersmashConfig {
 	private static final String DEFAULT_OPERATOR_CATALOG_SOURCE_NAME = COMMUNITY_OPERATOR_CATALOG_SOURCE_NAME;
 	private static final String OLM_OPERATOR_CATALOG_SOURCE_NAME = "intersmash.olm.operators.catalog_source";
 	private static final String OLM_OPERATOR_CATALOG_SOURCE_NAMESPACE = "intersmash.olm.operators.namespace";
+	private static final String OLM_OPERATOR_CLI = "intersmash.olm.operators.cli";
+	private static final String OLM_OPERATOR_REUSE = "intersmash.olm.operators.reuse";
+	private static final String OLM_OPERATOR_INSTALL_NAMESPACE = "intersmash.olm.operators.install_namespace";
 
 	// Custom Catalogs for operators
 	private static final String INFINISPAN_OPERATOR_CATALOG_SOURCE_NAME = "intersmash.infinispan.operators.catalog_source";
@@ -149,6 +159,102 @@ public class IntersmashConfig {
 		return skipDeploy() || XTFConfig.get(SKIP_UNDEPLOY, "false").equals("true");
 	}
 
+	/**
+	 * Read the configuration property for the maximum number of services that can be provisioned concurrently,
+	 * i.e. {@code intersmash.provisioning.concurrency}.
+	 *
+	 * @return The value for the {@code intersmash.provisioning.concurrency} property, or {@code 1} - which means
+	 * services are provisioned sequentially - if not set.
+	 */
+	public static int provisioningConcurrency() {
+		return Math.max(1, Integer.parseInt(XTFConfig.get(PROVISIONING_CONCURRENCY, "1")));
+	}
+
+	/**
+	 * OLM resources, e.g. {@code PackageManifest}, {@code CatalogSource}, {@code Subscription} and
+	 * {@code ClusterServiceVersion}, are accessed via the API by default, while the CLI is used as a fallback only.
+	 *
+	 * @return whether the CLI should be used to access OLM resources instead
+	 */
+	public static boolean useOlmCli() {
+		return Boolean.parseBoolean(XTFConfig.get(OLM_OPERATOR_CLI, "false"));
+	}
+
+	/**
+	 * Operator subscriptions are removed when a test class execution is finished by default. When reuse is enabled,
+	 * subscriptions are kept and shared by the following test classes which require the same operator package,
+	 * channel, CSV and catalog source, and they're removed when the whole test plan execution is finished.
+	 * Reuse is always enabled when operators are installed in a shared namespace, see
+	 * {@link #operatorsInstallNamespace()}.
+	 *
+	 * @return whether operator subscriptions should be kept across test classes
+	 */
+	public static boolean reuseOperatorSubscriptions() {
+		return operatorsInstallNamespace() != null || Boolean.parseBoolean(XTFConfig.get(OLM_OPERATOR_REUSE, "false"));
+	}
+
+	/**
+	 * Operators are installed in the test namespace, and watch it only, by default. When a dedicated namespace is
+	 * set, operators are installed once in there, through an {@code OperatorGroup} that targets all namespaces, and
+	 * provisioners just create their custom resources in the test namespace.
+	 *
+	 * @return the namespace where operators are installed, or {@code null} if they're installed in the test namespace
+	 */
+	public static String operatorsInstallNamespace() {
+		final String namespace = XTFConfig.get(OLM_OPERATOR_INSTALL_NAMESPACE);
+		return namespace == null || namespace.isBlank() ? null : namespace;
+	}
+
+	/**
+	 * Helm Charts are cloned, and packaged together with their dependencies, into a local cache, which is kept across
+	 * executions, so that only the changes to the Helm Charts repository are fetched, and charts are packaged once per
+	 * revision.
+	 *
+	 * @return The directory of the Helm Charts cache, i.e. {@code tmp/helm-charts} by default
+	 */
+	public static Path helmChartsCacheDirectory() {
+		final String directory = XTFConfig.get(HELM_CHARTS_CACHE_DIR);
+		return directory == null || directory.isBlank() ? Paths.get("tmp").toAbsolutePath().resolve("helm-charts")
+				: Paths.get(directory).toAbsolutePath();
+	}
+
+	/**
+	 * Git repositories are mirrored into a local cache, which is kept across executions, so that only their changes
+	 * are fetched, and checkouts share the mirrored objects rather than cloning the repositories again.
+	 *
+	 * @return The directory of the Git mirrors cache, i.e. {@code tmp/git-mirrors} by default
+	 */
+	public static Path gitMirrorsDirectory() {
+		final String directory = XTFConfig.get(GIT_MIRRORS_DIR);
+		return directory == null || directory.isBlank() ? Paths.get("tmp").toAbsolutePath().resolve("git-mirrors")
+				: Paths.get(directory).toAbsolutePath();
+	}
+
+	/**
+	 * The duration of each provisioning phase is recorded, and exported into a JSON file per execution, see
+	 * {@link org.jboss.intersmash.provision.ProvisioningTimings}.
+	 *
+	 * @return The directory where the provisioning timings are exported, i.e. {@code tmp/timings} by default
+	 */
+	public static Path timingsDirectory() {
+		final String directory = XTFConfig.get(TIMINGS_DIR);
+		return directory == null || directory.isBlank() ? Paths.get("tmp").toAbsolutePath().resolve("timings")
+				: Paths.get(directory).toAbsolutePath();
+	}
+
+	/**
+	 * The Certification Authority, keystores and truststore generated by
+	 * {@link org.jboss.intersmash.util.KeystoreGenerator} are stored in a new subdirectory of this directory, per
+	 * execution.
+	 *
+	 * @return The directory where keystores are generated, i.e. {@code tmp/keystores} by default
+	 */
+	public static Path keystoresDirectory() {
+		final String directory = XTFConfig.get(KEYSTORES_DIR);
+		return directory == null || directory.isBlank() ? Paths.get("tmp").toAbsolutePath().resolve("keystores")
+				: Paths.get(directory).toAbsolutePath();
+	}
+
 	public static String[] getKnownCatalogSources() {
 		return new String[] { COMMUNITY_OPERATOR_CATALOG_SOURCE_NAME, REDHAT_OPERATOR_CATALOG_SOURCE_NAME };
 	}
@@ -26,10 +26,23 @@ import org.jboss.intersmash.application.Application;
 /**
  * Annotation to define an Intersmash service, i.e. the abstraction of a given runtime workload.
  * Examples are: a WildFly application service, a Keycloak service etc. on OpenShift.
+ * <p>
+ * Services can declare dependencies on other services of the same {@link Intersmash} definition via
+ * {@link #dependsOn()}, so that independent services can be provisioned concurrently, see
+ * {@code intersmash.provisioning.concurrency}.
+ * </p>
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 @Repeatable(Services.class)
 public @interface Service {
 	Class<? extends Application> value();
+
+	/**
+	 * Services which must be deployed before this one, and undeployed after it.
+	 * Each one must be declared by the same {@link Intersmash} annotation.
+	 *
+	 * @return The {@link Application} classes this service depends on
+	 */
+	Class<? extends Application>[] dependsOn() default {};
 }
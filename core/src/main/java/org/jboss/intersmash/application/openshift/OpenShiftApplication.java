@@ -16,8 +16,7 @@
 package org.jboss.intersmash.application.openshift;
 
 import org.jboss.intersmash.application.Application;
-
-import cz.xtf.core.openshift.OpenShifts;
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 
 /**
  * Interface representing the Application on OpenShift Container Platform.
@@ -28,7 +27,7 @@ import cz.xtf.core.openshift.OpenShifts;
 public interface OpenShiftApplication extends Application {
 
 	default String getOpenShiftHostName() {
-		return OpenShifts.master().generateHostname(getName());
+		return OpenShiftClients.master().generateHostname(getName());
 	}
 
 }
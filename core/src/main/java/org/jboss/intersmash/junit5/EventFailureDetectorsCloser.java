@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.junit5;
+
+import org.jboss.intersmash.provision.openshift.EventFailureDetector;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Stops watching the namespace events once the test plan execution is finished, so that the
+ * {@link EventFailureDetector} informers don't outlive the cluster, e.g. when namespaces are shared by test classes.
+ */
+public class EventFailureDetectorsCloser implements TestExecutionListener {
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		EventFailureDetector.invalidateAll();
+	}
+}
@@ -22,11 +22,11 @@ import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.annotations.Intersmash;
 import org.jboss.intersmash.annotations.Service;
 import org.jboss.intersmash.application.operator.OperatorApplication;
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
-import cz.xtf.core.openshift.OpenShifts;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -47,7 +47,7 @@ public class IntersmashExecutionCondition implements ExecutionCondition {
 			intersmash = intersmashes[0];
 			log.debug("Running: {}", context.getRequiredTestClass().getSimpleName());
 			// evaluate peculiar OpenShift/Kubernetes requirements
-			if (IntersmashConfig.isOcp3x(OpenShifts.admin())
+			if (IntersmashConfig.isOcp3x(OpenShiftClients.admin())
 					&& Arrays.stream(intersmash.value()).anyMatch(isOperatorApplication)) {
 				return ConditionEvaluationResult.disabled("OLM is not available on OCP 3.x clusters, " +
 						"skip the tests due to OperatorApplication(s) involvement.");
@@ -19,8 +19,17 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.annotations.Intersmash;
@@ -28,13 +37,22 @@ import org.jboss.intersmash.annotations.Service;
 import org.jboss.intersmash.annotations.ServiceProvisioner;
 import org.jboss.intersmash.annotations.ServiceUrl;
 import org.jboss.intersmash.application.Application;
-import org.jboss.intersmash.k8s.KubernetesConfig;
+import org.jboss.intersmash.k8s.client.ApiMetrics;
 import org.jboss.intersmash.k8s.client.Kuberneteses;
+import org.jboss.intersmash.k8s.client.NamespaceCleaner;
+import org.jboss.intersmash.k8s.client.NamespaceManager;
+import org.jboss.intersmash.k8s.client.TestCaseContext;
+import org.jboss.intersmash.provision.Prebuildable;
 import org.jboss.intersmash.provision.Provisioner;
 import org.jboss.intersmash.provision.ProvisionerManager;
+import org.jboss.intersmash.provision.ProvisioningTimings;
 import org.jboss.intersmash.provision.olm.OperatorGroup;
+import org.jboss.intersmash.provision.openshift.EventFailureDetector;
+import org.jboss.intersmash.provision.openshift.OpenShiftBinaries;
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.platform.commons.support.AnnotationSupport;
@@ -42,7 +60,11 @@ import org.opentest4j.AssertionFailedError;
 import org.opentest4j.TestAbortedException;
 
 import cz.xtf.core.config.OpenShiftConfig;
-import cz.xtf.core.openshift.OpenShifts;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroupBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.dsl.OpenShiftOperatorHubAPIGroupDSL;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -50,13 +72,18 @@ import lombok.extern.slf4j.Slf4j;
  * test execution.
  */
 @Slf4j
-public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback, TestInstancePostProcessor {
+public class IntersmashExtension
+		implements BeforeAllCallback, BeforeEachCallback, AfterAllCallback, TestInstancePostProcessor {
+	// shared operator namespaces which have been set up already, see deploySharedOperatorGroup
+	private static final Set<String> SHARED_OPERATOR_GROUPS = ConcurrentHashMap.newKeySet();
 
 	@Override
 	public void beforeAll(ExtensionContext extensionContext) throws Exception {
 		Optional<Throwable> tt = Optional.empty();
 		try {
 			log.debug("beforeAll");
+			// bind the test class to this thread, so that clients are created for its namespace
+			TestCaseContext.setRunningTestCase(extensionContext.getRequiredTestClass().getName());
 			// let's store the Intersmash definition in the extension context store
 			Intersmash intersmash = IntersmashExtensionHelper.getIntersmash(extensionContext);
 			if (intersmash == null) {
@@ -73,21 +100,29 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 			// Cleanup - BTW we don't want to touch anything if the deployment phase is skipped
 			if (!IntersmashConfig.skipDeploy()) {
 				if (intersmashTargetingOperator) {
-					operatorCleanup(intersmashTargetingKubernetes,
-							intersmashTargetingOpenShift && !IntersmashConfig.isOcp3x(OpenShifts.admin()));
+					// shared subscriptions are kept across test classes, and removed by OlmResourcesCleaner instead
+					if (!IntersmashConfig.reuseOperatorSubscriptions()) {
+						ProvisioningTimings.time(null, "operatorCleanup", () -> operatorCleanup(
+								intersmashTargetingKubernetes,
+								intersmashTargetingOpenShift && !IntersmashConfig.isOcp3x(OpenShiftClients.admin())));
+					}
 					deployOperatorGroup(extensionContext);
 				}
-				if (intersmashTargetingOpenShift) {
-					OpenShifts.master().clean().waitFor();
-				}
-				if (intersmashTargetingKubernetes) {
-					Kuberneteses.master().clean().waitFor();
-				}
+				ProvisioningTimings.time(null, "clean", () -> {
+					if (intersmashTargetingOpenShift) {
+						NamespaceCleaner.clean(OpenShiftClients.master()).waitFor();
+					}
+					if (intersmashTargetingKubernetes) {
+						Kuberneteses.master().clean().waitFor();
+					}
+				});
 			}
 
 			// deploy
 			Service[] services = intersmash.value();
 			log.debug("# of services: {}", services.length);
+			// validate service dependencies before touching anything
+			final ProvisioningPlan provisioningPlan = ProvisioningPlan.of(services);
 			for (Service service : services) {
 				final Application application = getApplicationFromService(service);
 				final String name = application.getClass().getName();
@@ -96,10 +131,13 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 				Provisioner provisioner = ProvisionerManager.getProvisioner(application);
 				// keep the provisioner in the JUpiter Extension Store
 				IntersmashExtensionHelper.getProvisioners(extensionContext).put(application.getClass().getName(), provisioner);
-				if (!IntersmashConfig.skipDeploy()) {
-					deployApplication(
-							IntersmashExtensionHelper.getProvisioners(extensionContext).get(application.getClass().getName()));
-				}
+			}
+			if (!IntersmashConfig.skipDeploy()) {
+				final Map<String, Provisioner> provisioners = IntersmashExtensionHelper.getProvisioners(extensionContext);
+				// image builds run concurrently, while the deployments which need them wait for them
+				prebuild(extensionContext, provisioners.values());
+				provisioningPlan.execute(IntersmashConfig.provisioningConcurrency(),
+						applicationClass -> deployApplication(provisioners.get(applicationClass.getName())));
 			}
 		} catch (Throwable t) {
 			tt = Optional.of(t);
@@ -109,6 +147,13 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 		}
 	}
 
+	@Override
+	public void beforeEach(ExtensionContext extensionContext) {
+		// test methods are not necessarily executed by the thread which executed beforeAll, e.g. when running
+		// test classes concurrently
+		TestCaseContext.setRunningTestCase(extensionContext.getRequiredTestClass().getName());
+	}
+
 	private Application getApplicationFromService(Service service) {
 		try {
 			return service.value().getConstructor().newInstance();
@@ -126,45 +171,122 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 		}
 	}
 
+	/**
+	 * Start building the images of the {@link Prebuildable} applications concurrently, without waiting for the builds
+	 * to complete. Build failures are reported by the deployment of the application.
+	 */
+	private static void prebuild(ExtensionContext extensionContext, Collection<Provisioner> provisioners) {
+		final List<Prebuildable> prebuildables = provisioners.stream()
+				.filter(Prebuildable.class::isInstance)
+				.map(Prebuildable.class::cast)
+				.collect(Collectors.toList());
+		if (prebuildables.isEmpty()) {
+			return;
+		}
+		log.info("Building {} application images ahead of the deployments", prebuildables.size());
+		final String testCaseName = extensionContext.getRequiredTestClass().getName();
+		final AtomicInteger threads = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(prebuildables.size(), r -> {
+			Thread thread = new Thread(r, "intersmash-prebuild-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		prebuildables.forEach(prebuildable -> executor.execute(() -> {
+			TestCaseContext.setRunningTestCase(testCaseName);
+			try {
+				ApiMetrics.attribute(prebuildable.getClass(), () -> ProvisioningTimings
+						.time(serviceName((Provisioner<?>) prebuildable), "prebuild", prebuildable::prebuild));
+			} catch (RuntimeException e) {
+				log.debug("Build ahead of deployment failed: {}", e.getMessage());
+			}
+		}));
+		executor.shutdown();
+	}
+
 	private void deployApplication(Provisioner provisioner) {
-		log.info("Deploying ", provisioner.getApplication().getClass().getName());
-		provisioner.configure();
-		provisioner.preDeploy();
-		provisioner.deploy();
+		log.info("Deploying {}", provisioner.getApplication().getClass().getName());
+		final String service = serviceName(provisioner);
+		// API requests and processes are attributed to the concrete provisioner, see ApiMetrics
+		ApiMetrics.attribute(provisioner.getClass(), () -> {
+			ProvisioningTimings.time(service, "configure", provisioner::configure);
+			ProvisioningTimings.time(service, "preDeploy", provisioner::preDeploy);
+			ProvisioningTimings.time(service, "deploy", provisioner::deploy);
+		});
 	}
 
 	private void undeployApplication(Provisioner provisioner) {
-		log.info("Undeploying ", provisioner.getApplication().getClass().getName());
-		provisioner.undeploy();
-		provisioner.postUndeploy();
-		provisioner.dismiss();
+		log.info("Undeploying {}", provisioner.getApplication().getClass().getName());
+		final String service = serviceName(provisioner);
+		ApiMetrics.attribute(provisioner.getClass(), () -> {
+			ProvisioningTimings.time(service, "undeploy", provisioner::undeploy);
+			ProvisioningTimings.time(service, "postUndeploy", provisioner::postUndeploy);
+			ProvisioningTimings.time(service, "dismiss", provisioner::dismiss);
+		});
+	}
+
+	private static String serviceName(Provisioner<?> provisioner) {
+		return provisioner.getApplication().getClass().getSimpleName();
 	}
 
 	public void afterAll(ExtensionContext extensionContext) {
-		log.debug("afterAll");
-		// skip undeploy?
-		if (IntersmashConfig.skipUndeploy()) {
-			log.info("Skipping the after test cleanup operations.");
-		} else {
-			for (Provisioner provisioner : IntersmashExtensionHelper.getProvisioners(extensionContext).values()) {
-				undeployApplication(provisioner);
+		try {
+			log.debug("afterAll");
+			TestCaseContext.setRunningTestCase(extensionContext.getRequiredTestClass().getName());
+			// skip undeploy?
+			if (IntersmashConfig.skipUndeploy()) {
+				log.info("Skipping the after test cleanup operations.");
+			} else {
+				// dependent services are undeployed before the ones they depend on
+				final Map<String, Provisioner> provisioners = IntersmashExtensionHelper.getProvisioners(extensionContext);
+				ProvisioningPlan.of(IntersmashExtensionHelper.getIntersmash(extensionContext).value())
+						.executeReversed(IntersmashConfig.provisioningConcurrency(), applicationClass -> {
+							Provisioner provisioner = provisioners.get(applicationClass.getName());
+							if (provisioner != null) {
+								undeployApplication(provisioner);
+							}
+						});
+				// operator group is not bound to a specific product
+				// no Operator support on OCP3 clusters, OLM doesn't run there
+				if (IntersmashExtensionHelper.isIntersmashTargetingOperator(extensionContext)
+						&& !IntersmashConfig.reuseOperatorSubscriptions()) {
+					ProvisioningTimings.time(null, "operatorCleanup", () -> operatorCleanup(
+							IntersmashExtensionHelper.isIntersmashTargetingKubernetes(extensionContext),
+							IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)
+									&& !IntersmashConfig.isOcp3x(OpenShiftClients.admin())));
+				}
+				// let's cleanup once we're done
+				ProvisioningTimings.time(null, "clean", () -> safetyCleanup(extensionContext));
 			}
-			// operator group is not bound to a specific product
-			// no Operator support on OCP3 clusters, OLM doesn't run there
-			if (IntersmashExtensionHelper.isIntersmashTargetingOperator(extensionContext)) {
-				operatorCleanup(IntersmashExtensionHelper.isIntersmashTargetingKubernetes(extensionContext),
-						IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)
-								&& !IntersmashConfig.isOcp3x(OpenShifts.admin()));
+			// the test class namespace is about to be deleted, stop watching its events
+			if (IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)
+					&& OpenShiftConfig.useNamespacePerTestCase()) {
+				EventFailureDetector.invalidate(OpenShiftClients.namespace());
 			}
-			// let's cleanup once we're done
-			safetyCleanup(extensionContext);
+		} finally {
+			publishTimings(extensionContext);
+			ApiMetrics.export(extensionContext.getRequiredTestClass().getName());
+			TestCaseContext.finishTestCase(extensionContext.getRequiredTestClass().getName());
+		}
+	}
+
+	/**
+	 * Publish the total duration of each provisioning phase of the test class as report entries, and export the
+	 * timings of the run so far.
+	 */
+	private static void publishTimings(ExtensionContext extensionContext) {
+		final Map<String, String> entries = new LinkedHashMap<>();
+		ProvisioningTimings.totals(ProvisioningTimings.of(extensionContext.getRequiredTestClass().getName()))
+				.forEach((phase, millis) -> entries.put("intersmash.timing." + phase, String.valueOf(millis)));
+		if (!entries.isEmpty()) {
+			extensionContext.publishReportEntry(entries);
 		}
+		ProvisioningTimings.export();
 	}
 
 	private static void safetyCleanup(ExtensionContext extensionContext) {
 		log.info("Cleaning up the remaining resources on the cluster.");
 		if (IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)) {
-			OpenShifts.master().clean().waitFor();
+			NamespaceCleaner.clean(OpenShiftClients.master()).waitFor();
 		}
 		if (IntersmashExtensionHelper.isIntersmashTargetingKubernetes(extensionContext)) {
 			Kuberneteses.master().clean().waitFor();
@@ -216,18 +338,63 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 	}
 
 	private static void deployOperatorGroup(ExtensionContext extensionContext) throws IOException {
+		final String operatorsNamespace = IntersmashConfig.operatorsInstallNamespace();
+		if (operatorsNamespace != null) {
+			// operators are installed once in a dedicated namespace, and they watch all the namespaces
+			if (IntersmashExtensionHelper.isIntersmashTargetingKubernetes(extensionContext)) {
+				deploySharedOperatorGroup(Kuberneteses.admin(), operatorsNamespace);
+			}
+			if (IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)
+					&& !IntersmashConfig.isOcp3x(OpenShiftClients.admin())) {
+				deploySharedOperatorGroup(OpenShiftClients.admin(), operatorsNamespace);
+			}
+			return;
+		}
 		if (IntersmashExtensionHelper.isIntersmashTargetingKubernetes(extensionContext)) {
 			log.debug("Deploy operatorgroup [{}] to enable operators subscription into tested namespace",
-					new OperatorGroup(KubernetesConfig.namespace()).getMetadata().getName());
-			OpenShifts.adminBinary().execute("apply", "-f",
-					new OperatorGroup(KubernetesConfig.namespace()).save().getAbsolutePath());
+					new OperatorGroup(NamespaceManager.getNamespace()).getMetadata().getName());
+			OpenShiftBinaries.adminBinary().execute("apply", "-f",
+					new OperatorGroup(NamespaceManager.getNamespace()).save().getAbsolutePath());
 		}
 		if (IntersmashExtensionHelper.isIntersmashTargetingOpenShift(extensionContext)
-				&& !IntersmashConfig.isOcp3x(OpenShifts.admin())) {
+				&& !IntersmashConfig.isOcp3x(OpenShiftClients.admin())) {
 			log.debug("Deploy operatorgroup [{}] to enable operators subscription into tested namespace",
-					new OperatorGroup(OpenShiftConfig.namespace()).getMetadata().getName());
-			OpenShifts.adminBinary().execute("apply", "-f",
-					new OperatorGroup(OpenShiftConfig.namespace()).save().getAbsolutePath());
+					new OperatorGroup(OpenShiftClients.namespace()).getMetadata().getName());
+			OpenShiftBinaries.adminBinary().execute("apply", "-f",
+					new OperatorGroup(OpenShiftClients.namespace()).save().getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Make sure that the shared operators namespace exists, and that it contains an {@code OperatorGroup} which
+	 * targets all namespaces, unless any {@code OperatorGroup} exists already, e.g. in "openshift-operators". This is
+	 * done once per run.
+	 */
+	private static void deploySharedOperatorGroup(KubernetesClient admin, String operatorsNamespace) {
+		final String key = admin.getMasterUrl() + "|" + operatorsNamespace;
+		if (SHARED_OPERATOR_GROUPS.contains(key)) {
+			return;
+		}
+		synchronized (SHARED_OPERATOR_GROUPS) {
+			if (SHARED_OPERATOR_GROUPS.contains(key)) {
+				return;
+			}
+			if (admin.namespaces().withName(operatorsNamespace).get() == null) {
+				log.info("Creating the shared operators namespace {}", operatorsNamespace);
+				admin.namespaces().resource(new NamespaceBuilder()
+						.withNewMetadata().withName(operatorsNamespace).endMetadata()
+						.build()).create();
+			}
+			final OpenShiftOperatorHubAPIGroupDSL operatorHub = admin.adapt(OpenShiftClient.class).operatorHub();
+			if (operatorHub.operatorGroups().inNamespace(operatorsNamespace).list().getItems().isEmpty()) {
+				log.debug("Deploy operatorgroup [{}-operators] to enable operators subscription into all namespaces",
+						operatorsNamespace);
+				operatorHub.operatorGroups().inNamespace(operatorsNamespace).resource(new OperatorGroupBuilder()
+						.withNewMetadata().withName(operatorsNamespace + "-operators").endMetadata()
+						.withNewSpec().endSpec()
+						.build()).create();
+			}
+			SHARED_OPERATOR_GROUPS.add(key);
 		}
 	}
 
@@ -242,9 +409,9 @@ public class IntersmashExtension implements BeforeAllCallback, AfterAllCallback,
 			Kuberneteses.adminBinary().execute("delete", "operatorgroup", "--all");
 		}
 		if (cleanupOpenShift) {
-			OpenShifts.adminBinary().execute("delete", "subscription", "--all");
-			OpenShifts.adminBinary().execute("delete", "csvs", "--all");
-			OpenShifts.adminBinary().execute("delete", "operatorgroup", "--all");
+			OpenShiftBinaries.adminBinary().execute("delete", "subscription", "--all");
+			OpenShiftBinaries.adminBinary().execute("delete", "csvs", "--all");
+			OpenShiftBinaries.adminBinary().execute("delete", "operatorgroup", "--all");
 		}
 	}
 }
@@ -16,8 +16,8 @@
 package org.jboss.intersmash.junit5;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.intersmash.annotations.Intersmash;
 import org.jboss.intersmash.application.k8s.KubernetesApplication;
@@ -39,7 +39,7 @@ public class IntersmashExtensionHelper {
 		if (provisioners != null) {
 			return provisioners;
 		} else {
-			store.put(INTERSMASH_SERVICES, new HashMap<String, Provisioner>());
+			store.put(INTERSMASH_SERVICES, new ConcurrentHashMap<String, Provisioner>());
 			return (Map<String, Provisioner>) store.get(INTERSMASH_SERVICES);
 		}
 	}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.junit5;
+
+import org.jboss.intersmash.IntersmashConfig;
+import org.jboss.intersmash.provision.operator.OlmMetadataCache;
+import org.jboss.intersmash.provision.operator.OperatorSubscriptions;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes the OLM resources which are shared by test classes, once the test plan execution is finished, and discards
+ * the run scoped OLM metadata.
+ */
+@Slf4j
+public class OlmResourcesCleaner implements TestExecutionListener {
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (IntersmashConfig.skipUndeploy()) {
+			log.info("Skipping the removal of shared operator subscriptions.");
+		} else {
+			OperatorSubscriptions.tearDownAll();
+		}
+		OlmMetadataCache.invalidateAll();
+	}
+}
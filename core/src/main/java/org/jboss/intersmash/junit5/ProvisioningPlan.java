@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.junit5;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.annotations.Service;
+import org.jboss.intersmash.application.Application;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directed acyclic graph of the services declared by an {@link org.jboss.intersmash.annotations.Intersmash}
+ * annotation, built out of the {@link Service#dependsOn()} declarations.
+ * <p>
+ * The plan executes a given action on each service once all its dependencies have been processed, using a bounded
+ * number of threads, so that independent services are provisioned concurrently. When the concurrency is {@code 1}
+ * the services are processed sequentially, in declaration order, unless a dependency requires otherwise.
+ * </p>
+ */
+@Slf4j
+public class ProvisioningPlan {
+
+	private final Map<Class<? extends Application>, Set<Class<? extends Application>>> dependencies;
+
+	private ProvisioningPlan(Map<Class<? extends Application>, Set<Class<? extends Application>>> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	/**
+	 * Build a plan for the given services.
+	 *
+	 * @param services The services declared by an {@link org.jboss.intersmash.annotations.Intersmash} annotation
+	 * @return A {@link ProvisioningPlan} instance
+	 * @throws IllegalStateException if a service depends on an undeclared service, or if the dependencies are cyclic
+	 */
+	public static ProvisioningPlan of(Service[] services) {
+		Map<Class<? extends Application>, Set<Class<? extends Application>>> dependencies = new LinkedHashMap<>();
+		for (Service service : services) {
+			dependencies.put(service.value(), new LinkedHashSet<>(Arrays.asList(service.dependsOn())));
+		}
+		dependencies.forEach((application, applicationDependencies) -> applicationDependencies.stream()
+				.filter(d -> !dependencies.containsKey(d))
+				.findFirst()
+				.ifPresent(d -> {
+					throw new IllegalStateException(String.format(
+							"Service %s depends on %s, which is not declared by the same @Intersmash annotation",
+							application.getName(), d.getName()));
+				}));
+		ProvisioningPlan plan = new ProvisioningPlan(dependencies);
+		// fail early in case of cycles
+		plan.order();
+		return plan;
+	}
+
+	/**
+	 * Services sorted so that each one comes after all its dependencies, declaration order is kept otherwise.
+	 *
+	 * @return A list of {@link Application} classes
+	 */
+	public List<Class<? extends Application>> order() {
+		List<Class<? extends Application>> sorted = new ArrayList<>();
+		Set<Class<? extends Application>> visiting = new LinkedHashSet<>();
+		for (Class<? extends Application> application : dependencies.keySet()) {
+			visit(application, visiting, sorted);
+		}
+		return Collections.unmodifiableList(sorted);
+	}
+
+	private void visit(Class<? extends Application> application, Set<Class<? extends Application>> visiting,
+			List<Class<? extends Application>> sorted) {
+		if (sorted.contains(application)) {
+			return;
+		}
+		if (!visiting.add(application)) {
+			throw new IllegalStateException("Cyclic service dependencies: " + visiting.stream()
+					.dropWhile(a -> !a.equals(application))
+					.map(Class::getSimpleName)
+					.collect(Collectors.joining(" -> ")) + " -> " + application.getSimpleName());
+		}
+		for (Class<? extends Application> dependency : dependencies.get(application)) {
+			visit(dependency, visiting, sorted);
+		}
+		visiting.remove(application);
+		sorted.add(application);
+	}
+
+	/**
+	 * Execute the given action on each service, after it has been executed on all the service dependencies.
+	 *
+	 * @param concurrency Maximum number of actions that can be executed concurrently
+	 * @param action The action to be executed, e.g. deploying the service
+	 */
+	public void execute(int concurrency, Consumer<Class<? extends Application>> action) {
+		execute(concurrency, action, false);
+	}
+
+	/**
+	 * Execute the given action on each service, after it has been executed on all the services depending on it.
+	 *
+	 * @param concurrency Maximum number of actions that can be executed concurrently
+	 * @param action The action to be executed, e.g. undeploying the service
+	 */
+	public void executeReversed(int concurrency, Consumer<Class<? extends Application>> action) {
+		execute(concurrency, action, true);
+	}
+
+	private void execute(int concurrency, Consumer<Class<? extends Application>> action, boolean reversed) {
+		List<Class<? extends Application>> order = new ArrayList<>(order());
+		if (reversed) {
+			Collections.reverse(order);
+		}
+		if (concurrency <= 1 || order.size() <= 1) {
+			order.forEach(action);
+			return;
+		}
+		final Map<Class<? extends Application>, Set<Class<? extends Application>>> prerequisites = reversed ? dependents()
+				: dependencies;
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, order.size()),
+				new ProvisioningThreadFactory());
+		try {
+			Map<Class<? extends Application>, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+			for (Class<? extends Application> application : order) {
+				CompletableFuture<?>[] required = prerequisites.get(application).stream()
+						.map(tasks::get)
+						.toArray(CompletableFuture[]::new);
+				tasks.put(application, CompletableFuture.allOf(required).thenRunAsync(() -> {
+					// don't start anything new once something has failed
+					if (failure.get() != null) {
+						throw new CancellationException("Skipping " + application.getName() + " due to a previous failure");
+					}
+					try {
+						action.accept(application);
+					} catch (Throwable t) {
+						failure.compareAndSet(null, t);
+						throw t;
+					}
+				}, executor));
+			}
+			try {
+				CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0])).join();
+			} catch (CompletionException | CancellationException e) {
+				log.debug("Provisioning plan execution failed", e);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Throwable t = failure.get();
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		} else if (t instanceof Error) {
+			throw (Error) t;
+		} else if (t != null) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	private Map<Class<? extends Application>, Set<Class<? extends Application>>> dependents() {
+		Map<Class<? extends Application>, Set<Class<? extends Application>>> dependents = new LinkedHashMap<>();
+		dependencies.keySet().forEach(a -> dependents.put(a, new LinkedHashSet<>()));
+		dependencies.forEach((application, applicationDependencies) -> applicationDependencies
+				.forEach(d -> dependents.get(d).add(application)));
+		return dependents;
+	}
+
+	private static class ProvisioningThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "intersmash-provisioning-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Result of a build which is run only once, by the first caller of {@link #get(Supplier)}, while concurrent and later
+ * callers wait for it, see {@link Prebuildable}.
+ *
+ * @param <T> The type of the build result, e.g. a reference to the built image
+ */
+public final class BuildResult<T> {
+	private final AtomicReference<CompletableFuture<T>> result = new AtomicReference<>();
+
+	/**
+	 * @param build Runs the build, unless it has been run already
+	 * @return The build result
+	 */
+	public T get(Supplier<T> build) {
+		final CompletableFuture<T> started = new CompletableFuture<>();
+		if (result.compareAndSet(null, started)) {
+			try {
+				started.complete(build.get());
+			} catch (RuntimeException | Error e) {
+				started.completeExceptionally(e);
+			}
+		}
+		try {
+			return result.get().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision;
+
+/**
+ * Implemented by provisioners whose deployment requires an application image to be built first, e.g. via an S2I
+ * binary build, so that the builds of all the applications of a test class can be run concurrently, before any of
+ * them is deployed.
+ * <p>
+ * The build must be run once, either by {@link #prebuild()} or by {@link Provisioner#deploy()}, whichever comes
+ * first, and the other one must wait for it, see {@link BuildResult}.
+ * </p>
+ */
+public interface Prebuildable {
+
+	/**
+	 * Build the application image, and wait for the build to complete.
+	 */
+	void prebuild();
+}
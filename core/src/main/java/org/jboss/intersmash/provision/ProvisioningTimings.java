@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.IntersmashConfig;
+import org.jboss.intersmash.k8s.client.TestCaseContext;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import cz.xtf.core.waiting.Waiter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records how long the provisioning phases take, e.g. the {@link Provisioner} lifecycle methods, which are timed per
+ * service, the namespace cleanup, which is timed per test class, or the waiters which are relevant to provisioning.
+ * <p>
+ * Timings are recorded for the running test case, see {@link TestCaseContext}, and nested timings, e.g. waiters, are
+ * attributed to the service whose phase is being timed by the same thread. All the timings of the run are exported
+ * into a JSON file in {@link IntersmashConfig#timingsDirectory()}.
+ * </p>
+ */
+@Slf4j
+public final class ProvisioningTimings {
+	public static final String WAIT = "wait";
+
+	private static final Queue<Timing> TIMINGS = new ConcurrentLinkedQueue<>();
+	private static final ThreadLocal<String> SERVICE = new ThreadLocal<>();
+	private static final String RUN = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-"
+			+ ProcessHandle.current().pid();
+
+	private ProvisioningTimings() {
+	}
+
+	/**
+	 * Time a provisioning phase.
+	 *
+	 * @param service The name of the service which is being provisioned, or {@code null} for test class phases
+	 * @param phase The name of the phase, e.g. {@code deploy}
+	 * @param action The phase
+	 */
+	public static void time(String service, String phase, Runnable action) {
+		time(service, phase, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Time a provisioning phase.
+	 *
+	 * @param service The name of the service which is being provisioned, or {@code null} for test class phases
+	 * @param phase The name of the phase, e.g. {@code deploy}
+	 * @param action The phase
+	 * @return The result of the phase
+	 * @param <T> The type of the result of the phase
+	 */
+	public static <T> T time(String service, String phase, Supplier<T> action) {
+		final String outer = SERVICE.get();
+		SERVICE.set(service);
+		final Instant start = Instant.now();
+		boolean succeeded = false;
+		try {
+			final T result = action.get();
+			succeeded = true;
+			return result;
+		} finally {
+			record(service, phase, null, start, succeeded);
+			SERVICE.set(outer);
+		}
+	}
+
+	/**
+	 * Wait via the given {@link Waiter}, and record the wait time for the service whose phase is being timed.
+	 *
+	 * @param description What is waited for, e.g. {@code operator pod}
+	 * @param waiter The waiter
+	 * @return The result of {@link Waiter#waitFor()}
+	 */
+	public static boolean waitFor(String description, Waiter waiter) {
+		final Instant start = Instant.now();
+		boolean succeeded = false;
+		try {
+			succeeded = waiter.waitFor();
+			return succeeded;
+		} finally {
+			record(SERVICE.get(), WAIT, description, start, succeeded);
+		}
+	}
+
+	/**
+	 * @param testCase The test class name
+	 * @return The timings recorded for the given test class, in the order they completed
+	 */
+	public static List<Timing> of(String testCase) {
+		return TIMINGS.stream().filter(t -> testCase.equals(t.getTestCase())).collect(Collectors.toList());
+	}
+
+	/**
+	 * Summarize the given timings, i.e. the total duration of each phase, per service.
+	 *
+	 * @param timings The timings
+	 * @return The total duration in milliseconds, by {@code [<service>.]<phase>}
+	 */
+	public static Map<String, Long> totals(List<Timing> timings) {
+		final Map<String, Long> totals = new LinkedHashMap<>();
+		timings.forEach(t -> totals.merge((t.getService() == null ? "" : t.getService() + ".") + t.getPhase(),
+				t.getMillis(), Long::sum));
+		return totals;
+	}
+
+	/**
+	 * Write all the timings recorded so far into the JSON file of this run, which is overwritten.
+	 *
+	 * @return The JSON file, or {@code null} if it couldn't be written
+	 */
+	public static synchronized Path export() {
+		final Path file = IntersmashConfig.timingsDirectory().resolve("intersmash-timings-" + RUN + ".json");
+		try {
+			Files.createDirectories(file.getParent());
+			new ObjectMapper()
+					.enable(SerializationFeature.INDENT_OUTPUT)
+					.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+					.writeValue(file.toFile(), new ArrayList<>(TIMINGS));
+			return file;
+		} catch (IOException e) {
+			log.warn("Unable to write the provisioning timings to {}: {}", file, e.getMessage());
+			return null;
+		}
+	}
+
+	private static void record(String service, String phase, String description, Instant start, boolean succeeded) {
+		final Timing timing = new Timing(TestCaseContext.getRunningTestCaseName(), service, phase, description,
+				start.toString(), Instant.now().toEpochMilli() - start.toEpochMilli(), succeeded);
+		log.debug("{} {} {} took {} ms", timing.getTestCase(), service == null ? "" : service,
+				description == null ? phase : phase + " for " + description, timing.getMillis());
+		TIMINGS.add(timing);
+	}
+
+	/**
+	 * The duration of a provisioning phase.
+	 */
+	@Getter
+	public static final class Timing {
+		private final String testCase;
+		private final String service;
+		private final String phase;
+		private final String description;
+		private final String start;
+		private final long millis;
+		private final boolean succeeded;
+
+		Timing(String testCase, String service, String phase, String description, String start, long millis,
+				boolean succeeded) {
+			this.testCase = testCase;
+			this.service = service;
+			this.phase = phase;
+			this.description = description;
+			this.start = start;
+			this.millis = millis;
+			this.succeeded = succeeded;
+		}
+	}
+}
@@ -36,10 +36,22 @@ import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
  */
 public interface KubernetesProvisioner<T extends Application> extends Provisioner<T>, Scalable, HasPods {
 
+	/**
+	 * @deprecated The client is bound to the namespace of the test case which was running when the interface was
+	 *             initialized, use {@link #getKubernetes()} instead.
+	 */
+	@Deprecated
 	Kubernetes kubernetes = Kuberneteses.master();
 
 	default NamespacedKubernetesClientAdapter<NamespacedKubernetesClient> client() {
-		return kubernetes;
+		return getKubernetes();
+	}
+
+	/**
+	 * @return The client for the namespace of the test case which is running in the current thread
+	 */
+	default Kubernetes getKubernetes() {
+		return Kuberneteses.master();
 	}
 
 	default String execute(String... args) {
@@ -54,11 +66,11 @@ public interface KubernetesProvisioner<T extends Application> extends Provisione
 	default void preDeploy() {
 		// create secrets
 		if (HasSecrets.class.isAssignableFrom(getApplication().getClass())) {
-			((HasSecrets) getApplication()).getSecrets().forEach(s -> kubernetes.secrets().create(s));
+			((HasSecrets) getApplication()).getSecrets().forEach(s -> getKubernetes().secrets().create(s));
 		}
 		// create configMaps
 		if (HasConfigMaps.class.isAssignableFrom(getApplication().getClass())) {
-			((HasConfigMaps) getApplication()).getConfigMaps().forEach(c -> kubernetes.configMaps().create(c));
+			((HasConfigMaps) getApplication()).getConfigMaps().forEach(c -> getKubernetes().configMaps().create(c));
 		}
 	}
 
@@ -66,17 +78,18 @@ public interface KubernetesProvisioner<T extends Application> extends Provisione
 	default void postUndeploy() {
 		// delete secrets
 		if (HasSecrets.class.isAssignableFrom(getApplication().getClass())) {
-			((HasSecrets) getApplication()).getSecrets().forEach(s -> kubernetes.secrets().delete(s));
+			((HasSecrets) getApplication()).getSecrets().forEach(s -> getKubernetes().secrets().delete(s));
 		}
 		// delete configMaps
 		if (HasConfigMaps.class.isAssignableFrom(getApplication().getClass())) {
-			((HasConfigMaps) getApplication()).getConfigMaps().forEach(c -> kubernetes.configMaps().delete(c));
+			((HasConfigMaps) getApplication()).getConfigMaps().forEach(c -> getKubernetes().configMaps().delete(c));
 		}
 	}
 
 	// TODO - check (use a static class method like XTF OpenShift::generateHostName ?)
 	default String getUrl(String routeName, boolean secure) {
 		String protocol = secure ? "https" : "http";
+		final Kubernetes kubernetes = getKubernetes();
 		return protocol + "://" + kubernetes.getMasterUrl() + "-" + routeName + "-"
 				+ kubernetes.getConfiguration().getNamespace();
 	}
@@ -93,7 +106,6 @@ public interface KubernetesProvisioner<T extends Application> extends Provisione
 
 	@Override
 	default List<Pod> getPods() {
-		return KubernetesProvisioner.kubernetes.pods().inNamespace(KubernetesProvisioner.kubernetes.getNamespace()).list()
-				.getItems();
+		return getKubernetes().pods().list().getItems();
 	}
 }
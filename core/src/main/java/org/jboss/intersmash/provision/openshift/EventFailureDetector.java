@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cz.xtf.core.event.EventList;
+import cz.xtf.core.event.EventListFilter;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches the events of a given namespace, and records the ones whose message denotes a failure, e.g. an image that
+ * can't be pulled, or a failed build, so that fail-fast checks are evaluated against the recorded failures, rather
+ * than listing all the namespace events each time a waiter polls.
+ * <p>
+ * One detector is started per namespace, the first time it is requested, and it is shared by all the waiters. Events
+ * are matched by the same XTF filters which are used by {@link cz.xtf.core.waiting.failfast.FailFastBuilder}.
+ * </p>
+ */
+@Slf4j
+public final class EventFailureDetector {
+	private static final Map<String, EventFailureDetector> DETECTORS = new ConcurrentHashMap<>();
+
+	private final String namespace;
+	private final String[] failureMessages;
+	private final Map<String, Event> failures = new ConcurrentHashMap<>();
+	private final SharedIndexInformer<Event> informer;
+
+	EventFailureDetector(KubernetesClient client, String namespace, String... failureMessages) {
+		this.namespace = namespace;
+		this.failureMessages = failureMessages;
+		this.informer = startInformer(client);
+	}
+
+	/**
+	 * Get the detector for the given namespace, the detector is created and starts watching events when first
+	 * requested.
+	 *
+	 * @param client The client used to watch the events, when the detector is created
+	 * @param namespace The namespace whose events are watched
+	 * @param failureMessages The regular expressions matching the messages of the events which denote failures
+	 * @return The {@link EventFailureDetector} instance
+	 */
+	public static EventFailureDetector of(KubernetesClient client, String namespace, String... failureMessages) {
+		return DETECTORS.computeIfAbsent(client.getMasterUrl() + "|" + namespace,
+				k -> new EventFailureDetector(client, namespace, failureMessages));
+	}
+
+	/**
+	 * Stop watching the events of the given namespace, e.g. because the namespace is deleted.
+	 *
+	 * @param namespace The namespace whose events are watched
+	 */
+	public static void invalidate(String namespace) {
+		DETECTORS.entrySet().removeIf(e -> {
+			if (e.getValue().namespace.equals(namespace)) {
+				e.getValue().close();
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Stop watching the events of all the namespaces, e.g. because the test plan execution is finished, which is
+	 * required when namespaces are shared by test classes, since they're not invalidated one by one.
+	 */
+	public static void invalidateAll() {
+		DETECTORS.values().removeIf(detector -> {
+			detector.close();
+			return true;
+		});
+	}
+
+	/**
+	 * @return {@code true} if the events are being watched, {@code false} if the detector can't be used
+	 */
+	public boolean isWatching() {
+		return informer != null && informer.isRunning();
+	}
+
+	/**
+	 * @param after Only the events which happened after this time are considered, or {@code null}
+	 * @param objectNames The regular expressions matching the names of the objects that the events relate to
+	 * @return The recorded failure events which match the given conditions
+	 */
+	public List<Event> failures(ZonedDateTime after, String... objectNames) {
+		if (failures.isEmpty()) {
+			return List.of();
+		}
+		EventListFilter filter = new EventList(new ArrayList<>(failures.values())).filter().ofObjNames(objectNames);
+		if (after != null) {
+			filter = filter.inOneOfTimeWindows(after, ZonedDateTime.now());
+		}
+		return filter.collect();
+	}
+
+	void record(Event event) {
+		if (new EventList(new ArrayList<>(List.of(event))).filter().ofMessages(failureMessages).count() > 0) {
+			log.debug("Failure event in namespace {}: {}/{} {}", namespace, event.getInvolvedObject().getKind(),
+					event.getInvolvedObject().getName(), event.getMessage());
+			failures.put(event.getMetadata().getUid(), event);
+		}
+	}
+
+	private SharedIndexInformer<Event> startInformer(KubernetesClient client) {
+		try {
+			return client.v1().events().inNamespace(namespace)
+					.inform(new ResourceEventHandler<>() {
+						@Override
+						public void onAdd(Event obj) {
+							record(obj);
+						}
+
+						@Override
+						public void onUpdate(Event oldObj, Event newObj) {
+							record(newObj);
+						}
+
+						@Override
+						public void onDelete(Event obj, boolean deletedFinalStateUnknown) {
+							// expired events are still relevant to the waiters which started before they expired
+						}
+					});
+		} catch (KubernetesClientException e) {
+			log.warn("Unable to watch events in namespace {}, fail-fast checks will list them: {}", namespace,
+					e.getMessage());
+			return null;
+		}
+	}
+
+	private void close() {
+		if (informer != null) {
+			informer.close();
+		}
+	}
+}
@@ -16,15 +16,24 @@
 package org.jboss.intersmash.provision.openshift;
 
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import cz.xtf.core.bm.BuildManagers;
+import cz.xtf.core.openshift.OpenShift;
 import cz.xtf.core.openshift.OpenShiftWaiters;
-import cz.xtf.core.openshift.OpenShifts;
 import cz.xtf.core.waiting.failfast.FailFastBuilder;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 
 /**
  * Helper class that leverages the XTF library fail-fast APIs in methods that can be used to control the
  * Intersmash provisioning workflow.
+ * <p>
+ * The events of the test and build namespaces are watched by an {@link EventFailureDetector}, so that fail-fast
+ * checks don't list events each time they are evaluated. XTF event checks are used when events can't be watched.
+ * </p>
  */
 public class FailFastUtils {
 	private static String[] failFastEventMessages = new String[] {
@@ -38,7 +47,7 @@ public class FailFastUtils {
 	};
 
 	public static OpenShiftWaiters failFastWaitersFor(ZonedDateTime after, String... appNames) {
-		return OpenShiftWaiters.get(OpenShifts.master(), getFailFastCheck(after, appNames));
+		return OpenShiftWaiters.get(OpenShiftClients.master(), getFailFastCheck(after, appNames));
 	}
 
 	public static FailFastCheck getFailFastCheck(ZonedDateTime after, String... appNames) {
@@ -46,6 +55,31 @@ public class FailFastUtils {
 		for (int i = 0; i < appNames.length; i++) {
 			appNamesRegex[i] = appNames[i].concat(".*");
 		}
+		// test and build namespaces, which might be the same one
+		final Map<String, OpenShift> namespaces = new LinkedHashMap<>();
+		for (OpenShift openShift : List.of(OpenShiftClients.master(), BuildManagers.get().openShift())) {
+			namespaces.putIfAbsent(openShift.getNamespace(), openShift);
+		}
+		final List<EventFailureDetector> detectors = namespaces.entrySet().stream()
+				.map(e -> EventFailureDetector.of(e.getValue(), e.getKey(), failFastEventMessages))
+				.collect(Collectors.toList());
+		if (detectors.stream().allMatch(EventFailureDetector::isWatching)) {
+			return new FailFastCheck() {
+				@Override
+				public boolean hasFailed() {
+					return detectors.stream().anyMatch(d -> !d.failures(after, appNamesRegex).isEmpty());
+				}
+
+				@Override
+				public String reason() {
+					return "Following events match fail fast conditions:\n" + detectors.stream()
+							.flatMap(d -> d.failures(after, appNamesRegex).stream())
+							.map(e -> String.format("\t%s/%s: %s", e.getInvolvedObject().getKind(),
+									e.getInvolvedObject().getName(), e.getMessage()))
+							.collect(Collectors.joining("\n"));
+				}
+			};
+		}
 		return FailFastBuilder
 				.ofTestAndBuildNamespace()
 				.events()
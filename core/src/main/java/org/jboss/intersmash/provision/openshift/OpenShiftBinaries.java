@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import org.jboss.intersmash.k8s.KubernetesConfig;
+import org.jboss.intersmash.k8s.client.binary.BinarySessions;
+
+import cz.xtf.core.config.OpenShiftConfig;
+import cz.xtf.core.openshift.OpenShiftBinary;
+import cz.xtf.core.openshift.OpenShifts;
+
+/**
+ * Provides {@code oc} binary clients which are reused across calls and threads, as long as the credentials and
+ * namespace are the same, instead of setting up a new configuration via {@link OpenShifts#adminBinary(String)} each
+ * time, which forks several processes.
+ * See {@link BinarySessions} for the sessions expiration semantics.
+ */
+public class OpenShiftBinaries {
+	private static final BinarySessions<OpenShiftBinary> SESSIONS = new BinarySessions<>(
+			KubernetesConfig::binarySessionTtl);
+
+	private OpenShiftBinaries() {
+	}
+
+	public static OpenShiftBinary adminBinary() {
+		return adminBinary(OpenShiftClients.namespace());
+	}
+
+	public static OpenShiftBinary adminBinary(String namespace) {
+		final String key = BinarySessions.key("admin", OpenShiftConfig.url(), OpenShiftConfig.adminToken(),
+				OpenShiftConfig.adminUsername(), OpenShiftConfig.adminPassword(), OpenShiftConfig.adminKubeconfig(),
+				namespace);
+		return SESSIONS.get(key, () -> new SessionOpenShiftBinary(OpenShifts.adminBinary(namespace), key));
+	}
+
+	public static OpenShiftBinary masterBinary() {
+		return masterBinary(OpenShiftClients.namespace());
+	}
+
+	public static OpenShiftBinary masterBinary(String namespace) {
+		final String key = BinarySessions.key("master", OpenShiftConfig.url(), OpenShiftConfig.masterToken(),
+				OpenShiftConfig.masterUsername(), OpenShiftConfig.masterPassword(), OpenShiftConfig.masterKubeconfig(),
+				namespace);
+		return SESSIONS.get(key, () -> new SessionOpenShiftBinary(OpenShifts.masterBinary(namespace), key));
+	}
+
+	/**
+	 * Discard all the cached sessions, so that new ones will be created upon next request.
+	 */
+	public static void invalidateSessions() {
+		SESSIONS.invalidateAll();
+	}
+
+	/**
+	 * Binary bound to an existing session configuration, which discards the session when a command fails because the
+	 * session is no longer authenticated, e.g. because its token has expired. Commands which fail otherwise, e.g. when
+	 * getting resources which don't exist, keep the session.
+	 */
+	private static class SessionOpenShiftBinary extends OpenShiftBinary {
+		private final String key;
+
+		SessionOpenShiftBinary(OpenShiftBinary binary, String key) {
+			super(OpenShifts.getBinaryPath(), binary.getOcConfigPath());
+			this.key = key;
+		}
+
+		@Override
+		public String execute(String... args) {
+			final String output = super.execute(args);
+			if (output == null && super.execute("whoami") == null) {
+				SESSIONS.invalidate(key);
+			}
+			return output;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.intersmash.k8s.client.TestCaseContext;
+
+import cz.xtf.core.config.OpenShiftConfig;
+import cz.xtf.core.namespace.NamespaceManager;
+import cz.xtf.core.openshift.OpenShift;
+import cz.xtf.core.openshift.OpenShifts;
+
+/**
+ * Provides the {@link OpenShift} clients for the namespace of the test case which is bound to the current thread, see
+ * {@link TestCaseContext}, so that test classes can be executed concurrently, each one in its own namespace.
+ * <p>
+ * XTF resolves the namespace of the running test case via a process wide context, which is not reliable when test
+ * classes are executed concurrently, hence the XTF context is set to the test case of the current thread while its
+ * namespace is resolved, once per test case.
+ * </p>
+ */
+public final class OpenShiftClients {
+	private static final Object XTF_CONTEXT_LOCK = new Object();
+	private static final Map<String, String> NAMESPACES = new ConcurrentHashMap<>();
+	private static final Map<String, OpenShift> MASTERS = new ConcurrentHashMap<>();
+	private static final Map<String, OpenShift> ADMINS = new ConcurrentHashMap<>();
+
+	private OpenShiftClients() {
+	}
+
+	/**
+	 * @return The namespace of the test case which is running in the current thread, or the configured one, unless
+	 *         {@link OpenShiftConfig#useNamespacePerTestCase()} is set
+	 */
+	public static String namespace() {
+		if (!OpenShiftConfig.useNamespacePerTestCase()) {
+			return OpenShiftConfig.namespace();
+		}
+		final String testCaseName = TestCaseContext.getRunningTestCaseName();
+		if (testCaseName == null) {
+			return NamespaceManager.getNamespace();
+		}
+		// the XTF context is swapped once per test case, since its namespace doesn't change
+		return NAMESPACES.computeIfAbsent(testCaseName, OpenShiftClients::resolveNamespace);
+	}
+
+	private static String resolveNamespace(String testCaseName) {
+		synchronized (XTF_CONTEXT_LOCK) {
+			final String previous = cz.xtf.core.context.TestCaseContext.getRunningTestCaseName();
+			cz.xtf.core.context.TestCaseContext.setRunningTestCase(testCaseName);
+			try {
+				return NamespaceManager.getNamespace();
+			} finally {
+				cz.xtf.core.context.TestCaseContext.setRunningTestCase(previous);
+			}
+		}
+	}
+
+	/**
+	 * @return A client with user rights for the namespace of the test case which is running in the current thread
+	 */
+	public static OpenShift master() {
+		return MASTERS.computeIfAbsent(namespace(), OpenShifts::master);
+	}
+
+	/**
+	 * @return A client with administrative rights for the namespace of the test case which is running in the current
+	 *         thread
+	 */
+	public static OpenShift admin() {
+		return ADMINS.computeIfAbsent(namespace(), OpenShifts::admin);
+	}
+}
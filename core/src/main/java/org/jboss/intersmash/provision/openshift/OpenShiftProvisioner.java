@@ -26,7 +26,6 @@ import org.jboss.intersmash.application.k8s.HasSecrets;
 import org.jboss.intersmash.provision.Provisioner;
 import org.jboss.intersmash.provision.k8s.Scalable;
 
-import cz.xtf.core.config.OpenShiftConfig;
 import cz.xtf.core.openshift.OpenShift;
 import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -44,29 +43,34 @@ public interface OpenShiftProvisioner<T extends Application> extends Provisioner
 	String SCRIPT_DEBUG = "SCRIPT_DEBUG";
 	String APP_LABEL_KEY = "intersmash.app";
 
+	/**
+	 * @deprecated The client is bound to the namespace of the test case which was running when the interface was
+	 *             initialized, use {@link #getOpenShift()} instead.
+	 */
+	@Deprecated
 	OpenShift openShift = OpenShifts.master();
 
 	default NamespacedKubernetesClientAdapter<NamespacedOpenShiftClient> client() {
-		return openShift;
+		return getOpenShift();
 	}
 
 	default String execute(String... args) {
-		return OpenShifts.adminBinary().execute(args);
+		return OpenShiftBinaries.adminBinary().execute(args);
 	}
 
 	default String executeInNamespace(final String namespace, String... args) {
-		return OpenShifts.adminBinary(namespace).execute(args);
+		return OpenShiftBinaries.adminBinary(namespace).execute(args);
 	}
 
 	@Override
 	default void preDeploy() {
 		// create secrets
 		if (HasSecrets.class.isAssignableFrom(getApplication().getClass())) {
-			((HasSecrets) getApplication()).getSecrets().forEach(openShift::createSecret);
+			((HasSecrets) getApplication()).getSecrets().forEach(getOpenShift()::createSecret);
 		}
 		// create configMaps
 		if (HasConfigMaps.class.isAssignableFrom(getApplication().getClass())) {
-			((HasConfigMaps) getApplication()).getConfigMaps().forEach(openShift::createConfigMap);
+			((HasConfigMaps) getApplication()).getConfigMaps().forEach(getOpenShift()::createConfigMap);
 		}
 	}
 
@@ -74,21 +78,25 @@ public interface OpenShiftProvisioner<T extends Application> extends Provisioner
 	default void postUndeploy() {
 		// delete secrets
 		if (HasSecrets.class.isAssignableFrom(getApplication().getClass())) {
-			((HasSecrets) getApplication()).getSecrets().forEach(openShift::deleteSecret);
+			((HasSecrets) getApplication()).getSecrets().forEach(getOpenShift()::deleteSecret);
 		}
 		// delete configMaps
 		if (HasConfigMaps.class.isAssignableFrom(getApplication().getClass())) {
-			((HasConfigMaps) getApplication()).getConfigMaps().forEach(openShift::deleteConfigMap);
+			((HasConfigMaps) getApplication()).getConfigMaps().forEach(getOpenShift()::deleteConfigMap);
 		}
 	}
 
+	/**
+	 * @return The client for the namespace of the test case which is running in the current thread, see
+	 *         {@link OpenShiftClients#master()}
+	 */
 	default OpenShift getOpenShift() {
-		return openShift;
+		return OpenShiftClients.master();
 	}
 
 	default String getUrl(String routeName, boolean secure) {
 		String protocol = secure ? "https" : "http";
-		return protocol + "://" + openShift.generateHostname(routeName);
+		return protocol + "://" + getOpenShift().generateHostname(routeName);
 	}
 
 	@Override
@@ -103,10 +111,10 @@ public interface OpenShiftProvisioner<T extends Application> extends Provisioner
 
 	@Override
 	default List<Pod> getPods() {
-		return OpenShiftProvisioner.openShift.inNamespace(OpenShiftConfig.namespace()).pods().list().getItems();
+		return getOpenShift().pods().list().getItems();
 	}
 
 	default NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 }
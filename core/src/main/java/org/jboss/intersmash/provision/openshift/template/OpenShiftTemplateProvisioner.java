@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
 
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 import org.slf4j.LoggerFactory;
 
 import cz.xtf.core.openshift.OpenShift;
@@ -32,8 +33,21 @@ import io.fabric8.openshift.api.model.Template;
  */
 public interface OpenShiftTemplateProvisioner {
 
+	/**
+	 * @deprecated The client is bound to the namespace of the test case which was running when the interface was
+	 *             initialized, use {@link #getOpenShift()} instead.
+	 */
+	@Deprecated
 	OpenShift openShift = OpenShifts.master();
 
+	/**
+	 * @return The client for the namespace of the test case which is running in the current thread, see
+	 *         {@link OpenShiftClients#master()}
+	 */
+	default OpenShift getOpenShift() {
+		return OpenShiftClients.master();
+	}
+
 	/**
 	 * Get a <b>base</b> URL of templates location for given product.
 	 *
@@ -90,6 +104,7 @@ public interface OpenShiftTemplateProvisioner {
 		String url = getTemplateFileUrl(openShiftTemplate);
 		try (InputStream is = new URL(url).openStream()) {
 			// workaround for the API version in the data (v1) does not match the expected API version (image.template.io/v1)
+			final OpenShift openShift = getOpenShift();
 			template = openShift.templates().load(is).item();
 			template.setApiVersion("template.openshift.io/v1");
 			if (openShift.getTemplate(template.getMetadata().getName()) == null) {
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.operator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageChannel;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifest;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Run scoped, thread safe cache of the OLM metadata which is read by operator provisioners, i.e. the
+ * {@link CatalogSource} and {@link PackageManifest} resources, which don't change while tests are executed.
+ * <p>
+ * The cache also tracks the {@link CatalogSource} resources which are created by Intersmash for custom index images:
+ * provisioners which use the same index image in the same namespace share one {@link CatalogSource}, which is created
+ * and waited for once, and is deleted when the last provisioner using it releases it.
+ * </p>
+ * Keys are scoped by cluster, see {@link #key(String, String...)}.
+ */
+@Slf4j
+public final class OlmMetadataCache {
+	private static final Map<String, CompletableFuture<List<CatalogSource>>> CATALOG_SOURCES = new ConcurrentHashMap<>();
+	private static final Map<String, CompletableFuture<PackageManifest>> PACKAGE_MANIFESTS = new ConcurrentHashMap<>();
+	private static final Map<String, ManagedCatalogSource> MANAGED_CATALOG_SOURCES = new ConcurrentHashMap<>();
+
+	private OlmMetadataCache() {
+	}
+
+	/**
+	 * @param cluster The cluster URL
+	 * @param parts The values identifying the cached resource, e.g. namespace and name
+	 * @return The cache key
+	 */
+	public static String key(String cluster, String... parts) {
+		return cluster + "|" + String.join("|", parts);
+	}
+
+	/**
+	 * Get the {@link CatalogSource} resources in a given namespace, which are loaded once.
+	 *
+	 * @param key The cache key, see {@link #key(String, String...)}
+	 * @param loader Loads the {@link CatalogSource} resources from the cluster
+	 * @return The list of {@link CatalogSource} resources
+	 */
+	public static List<CatalogSource> catalogSources(String key, Supplier<List<CatalogSource>> loader) {
+		return load(CATALOG_SOURCES, key, () -> List.copyOf(loader.get()));
+	}
+
+	/**
+	 * Get a {@link PackageManifest}, which is loaded once. A missing {@link PackageManifest} is not cached, since it
+	 * might just not be served yet by a newly created {@link CatalogSource}.
+	 *
+	 * @param key The cache key, see {@link #key(String, String...)}
+	 * @param loader Loads the {@link PackageManifest} from the cluster, or returns {@code null} if it doesn't exist
+	 * @return The {@link PackageManifest}, or {@code null} if it doesn't exist
+	 */
+	public static PackageManifest packageManifest(String key, Supplier<PackageManifest> loader) {
+		return load(PACKAGE_MANIFESTS, key, loader);
+	}
+
+	/**
+	 * Load a value once, outside the map, so that the cluster calls don't block the callers which load other keys,
+	 * while the ones using the same key wait for it to be loaded. Failed loads, and {@code null} values, are not
+	 * cached, so that the next caller tries again.
+	 */
+	private static <T> T load(Map<String, CompletableFuture<T>> cache, String key, Supplier<T> loader) {
+		final CompletableFuture<T> loading = new CompletableFuture<>();
+		final CompletableFuture<T> existing = cache.putIfAbsent(key, loading);
+		if (existing != null) {
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		try {
+			final T value = loader.get();
+			if (value == null) {
+				cache.remove(key, loading);
+			}
+			loading.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			cache.remove(key, loading);
+			loading.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Resolve a channel of a given {@link PackageManifest}.
+	 *
+	 * @param packageManifest The {@link PackageManifest}
+	 * @param channelName The desired channel, or {@code null} to use the default one
+	 * @return The {@link PackageChannel}
+	 */
+	public static PackageChannel channel(PackageManifest packageManifest, String channelName) {
+		final String name = (channelName == null || channelName.isEmpty())
+				? packageManifest.getStatus().getDefaultChannel()
+				: channelName;
+		return packageManifest.getStatus().getChannels().stream()
+				.filter(ch -> ch.getName().equals(name)).findFirst()
+				.orElseThrow(() -> new IllegalStateException(
+						String.format("Cannot find desired channel in PackageManifest (%s): %s",
+								packageManifest.getMetadata().getName(), name)));
+	}
+
+	/**
+	 * Resolve the CSV that should be installed out of a given channel.
+	 *
+	 * @param channel The {@link PackageChannel}
+	 * @param version The desired operator version, or {@code null} to use the channel current CSV
+	 * @return The CSV name
+	 */
+	@SuppressWarnings("unchecked")
+	public static String startingCSV(PackageChannel channel, String version) {
+		if (version == null || version.isBlank()) {
+			return channel.getCurrentCSV();
+		}
+		List<Map<String, Object>> entries = (List<Map<String, Object>>) channel.getAdditionalProperties().get("entries");
+		if (entries == null) {
+			return channel.getCurrentCSV();
+		}
+		return entries.stream()
+				.filter(v -> version.equals(v.get("version")))
+				.map(e -> e.get("name").toString())
+				.findFirst()
+				.orElse(channel.getCurrentCSV());
+	}
+
+	/**
+	 * Get the {@link CatalogSource} which is managed by Intersmash for a given index image, and create it if it doesn't
+	 * exist yet. Concurrent callers for the same key wait for the {@link CatalogSource} to be created once.
+	 * Each call must be matched by a call to {@link #releaseCatalogSource(String, Runnable)}.
+	 *
+	 * @param key The cache key, e.g. cluster, namespace and index image, see {@link #key(String, String...)}
+	 * @param factory Creates the {@link CatalogSource} and waits for it to be ready
+	 * @return The shared {@link CatalogSource}
+	 */
+	public static CatalogSource acquireCatalogSource(String key, Supplier<CatalogSource> factory) {
+		while (true) {
+			final ManagedCatalogSource managed = MANAGED_CATALOG_SOURCES.computeIfAbsent(key,
+					k -> new ManagedCatalogSource());
+			synchronized (managed) {
+				if (managed.released) {
+					// the CatalogSource has just been deleted, a new one must be created
+					continue;
+				}
+				if (managed.catalogSource == null) {
+					managed.catalogSource = factory.get();
+				} else {
+					log.debug("Reusing CatalogSource {}", managed.catalogSource.getMetadata().getName());
+				}
+				managed.users++;
+				return managed.catalogSource;
+			}
+		}
+	}
+
+	/**
+	 * Release a {@link CatalogSource} obtained via {@link #acquireCatalogSource(String, Supplier)}, which is deleted
+	 * when no other provisioner uses it.
+	 *
+	 * @param key The cache key
+	 * @param deleter Deletes the {@link CatalogSource}
+	 * @return {@code true} if the {@link CatalogSource} has been deleted, {@code false} otherwise
+	 */
+	public static boolean releaseCatalogSource(String key, Runnable deleter) {
+		final ManagedCatalogSource managed = MANAGED_CATALOG_SOURCES.get(key);
+		if (managed == null) {
+			return false;
+		}
+		synchronized (managed) {
+			if (managed.released || --managed.users > 0) {
+				return false;
+			}
+			managed.released = true;
+			MANAGED_CATALOG_SOURCES.remove(key, managed);
+			deleter.run();
+			return true;
+		}
+	}
+
+	/**
+	 * Discard the cached metadata, managed {@link CatalogSource} resources are not deleted.
+	 */
+	public static void invalidateAll() {
+		CATALOG_SOURCES.clear();
+		PACKAGE_MANIFESTS.clear();
+		MANAGED_CATALOG_SOURCES.clear();
+	}
+
+	private static class ManagedCatalogSource {
+		private CatalogSource catalogSource;
+		private int users;
+		private boolean released;
+	}
+}
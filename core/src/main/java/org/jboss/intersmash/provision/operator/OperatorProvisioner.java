@@ -19,14 +19,18 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.assertj.core.util.Strings;
 import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.application.operator.OperatorApplication;
+import org.jboss.intersmash.k8s.client.PodCache;
+import org.jboss.intersmash.k8s.client.waiters.WatchWaiters;
 import org.jboss.intersmash.provision.Provisioner;
+import org.jboss.intersmash.provision.ProvisioningTimings;
 import org.jboss.intersmash.provision.k8s.Scalable;
 import org.jboss.intersmash.provision.olm.Subscription;
 import org.slf4j.event.Level;
@@ -39,15 +43,25 @@ import cz.xtf.core.waiting.failfast.FailFastCheck;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
 import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageChannel;
 import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifest;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CRDDescription;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSource;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSourceBuilder;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSourceList;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.InstallPlanBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.StrategyDeploymentSpec;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.SubscriptionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.SubscriptionSpec;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.dsl.OpenShiftOperatorHubAPIGroupDSL;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -63,10 +77,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class OperatorProvisioner<A extends OperatorApplication, C extends NamespacedKubernetesClient>
 		implements Provisioner<A>, Scalable {
-	// cache the current csv and list of provided custom resource definitions
-	protected static String currentCSV;
+	// cache the current csv and list of provided custom resource definitions, per provisioner, since operators can be
+	// provisioned concurrently
+	protected String currentCSV;
 	protected final String packageManifestName;
 	private CatalogSource catalogSource;
+	// the key of the CatalogSource managed by Intersmash, set only once a reference to it is held, see OlmMetadataCache
+	private String catalogSourceKey;
+	// the key of the subscription shared with other test classes, if any, see OperatorSubscriptions
+	private String subscriptionKey;
 	private final A operatorApplication;
 	private PackageManifest packageManifest;
 	private String operatorChannel;
@@ -78,6 +97,8 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 			.withMaxRetries(3)
 			.build();
 	public static final String INSTALLPLAN_APPROVAL_MANUAL = "Manual";
+	private static final String METADATA_NAME_LABEL_LEGACY_NAME = "name";
+	private static final String METADATA_NAME_LABEL_NAME = "app.kubernetes.io/name";
 
 	public OperatorProvisioner(A operatorApplication, String packageManifestName) {
 		this.operatorApplication = operatorApplication;
@@ -86,20 +107,85 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 
 	protected abstract NamespacedKubernetesClientAdapter<C> client();
 
+	/**
+	 * Pods are read from the {@link PodCache} which is shared by all the provisioners working in the same namespace,
+	 * see {@link PodCache} for the staleness semantics.
+	 *
+	 * @return The {@link PodCache} instance for the provisioner namespace
+	 */
+	protected PodCache podCache() {
+		return PodCache.of(this.client(), this.client().getNamespace());
+	}
+
 	public List<Pod> getPods() {
-		return this.client().pods().inNamespace(this.client().getNamespace()).list().getItems();
+		return podCache().list();
 	}
 
 	protected List<Pod> getLabeledPods(final String labelName, final String labelValue) {
-		return this.client().pods().inNamespace(this.client().getNamespace()).withLabel(labelName, labelValue).list()
-				.getItems();
+		return podCache().withLabel(labelName, labelValue);
 	}
 
 	protected abstract String execute(String... args);
 
 	protected abstract String executeInNamespace(final String namespace, String... args);
 
+	/**
+	 * Typed client for OLM resources, which are served both by OpenShift and by Kubernetes clusters where OLM is
+	 * installed.
+	 *
+	 * @return A {@link OpenShiftOperatorHubAPIGroupDSL} instance
+	 */
+	protected OpenShiftOperatorHubAPIGroupDSL operatorHub() {
+		return this.client().adapt(OpenShiftClient.class).operatorHub();
+	}
+
+	/**
+	 * Access OLM resources in-process via the API, unless {@link IntersmashConfig#useOlmCli()} is set, and fall back
+	 * to the CLI when the API call fails, e.g. because of missing permissions.
+	 */
+	private <T> T olm(Supplier<T> api, Supplier<T> cli) {
+		if (IntersmashConfig.useOlmCli()) {
+			return cli.get();
+		}
+		try {
+			return api.get();
+		} catch (KubernetesClientException e) {
+			log.warn("Failed to access OLM resources via API, falling back to CLI: {}", e.getMessage());
+			return cli.get();
+		}
+	}
+
+	/**
+	 * Run the given steps in-process via the API, see {@link #olm(Supplier, Supplier)}. The step which fails via the
+	 * API, and all the following ones, are run via the CLI, so that what has already been applied, or waited for,
+	 * is not done again.
+	 */
+	private void olm(OlmStep... steps) {
+		boolean viaCli = IntersmashConfig.useOlmCli();
+		for (OlmStep step : steps) {
+			if (!viaCli) {
+				try {
+					step.api.run();
+					continue;
+				} catch (KubernetesClientException e) {
+					log.warn("Failed to access OLM resources via API, falling back to CLI: {}", e.getMessage());
+					viaCli = true;
+				}
+			}
+			step.cli.run();
+		}
+	}
+
+	private static OlmStep step(Runnable api, Runnable cli) {
+		return new OlmStep(api, cli);
+	}
+
 	public PackageManifest getPackageManifest(String operatorName, String operatorNamespace) {
+		return olm(() -> operatorHub().packageManifests().inNamespace(operatorNamespace).withName(operatorName).get(),
+				() -> getPackageManifestViaCli(operatorName, operatorNamespace));
+	}
+
+	private PackageManifest getPackageManifestViaCli(String operatorName, String operatorNamespace) {
 		try {
 			return new ObjectMapper()
 					.readValue(
@@ -111,6 +197,11 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	}
 
 	public List<CatalogSource> getCatalogSources(final String catalogSourceNamespace) {
+		return olm(() -> operatorHub().catalogSources().inNamespace(catalogSourceNamespace).list().getItems(),
+				() -> getCatalogSourcesViaCli(catalogSourceNamespace));
+	}
+
+	private List<CatalogSource> getCatalogSourcesViaCli(final String catalogSourceNamespace) {
 		try {
 			return new ObjectMapper().readValue(this.executeInNamespace(catalogSourceNamespace, "get", "catsrc", "-o", "json"),
 					CatalogSourceList.class).getItems();
@@ -119,8 +210,16 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 		}
 	}
 
+	/**
+	 * Look up a {@link CatalogSource} by name, out of the ones listed once per run, see {@link OlmMetadataCache}.
+	 *
+	 * @param catalogSourceNamespace The namespace where the {@link CatalogSource} is located
+	 * @param catalogSourceName The {@link CatalogSource} name
+	 * @return The {@link CatalogSource}
+	 */
 	public CatalogSource getCatalogSource(final String catalogSourceNamespace, final String catalogSourceName) {
-		io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSource loaded = getCatalogSources(catalogSourceNamespace)
+		io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSource loaded = OlmMetadataCache
+				.catalogSources(olmCacheKey(catalogSourceNamespace), () -> getCatalogSources(catalogSourceNamespace))
 				.stream()
 				.filter(cs -> cs.getMetadata().getName().equalsIgnoreCase(catalogSourceName))
 				.findFirst().orElseThrow(
@@ -146,11 +245,10 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 
 		// if there is no specific desired channel for Operator installation, let's use the default one.
 		final String desiredChannel = this.getOperatorChannel();
-		this.operatorChannel = (desiredChannel != null && !desiredChannel.isEmpty()) ? desiredChannel : defaultChannel;
-
-		PackageChannel packageChannel = initPackageChannel(operatorChannel);
+		PackageChannel packageChannel = OlmMetadataCache.channel(packageManifest, desiredChannel);
+		this.operatorChannel = packageChannel.getName();
 
-		currentCSV = initStartingCSV(packageManifest);
+		currentCSV = OlmMetadataCache.startingCSV(packageChannel, getVersion());
 
 		customResourceDefinitions = packageChannel.getCurrentCSVDesc().getCustomresourcedefinitions().getOwned().stream()
 				.map(CRDDescription::getName).collect(Collectors.toSet());
@@ -174,26 +272,36 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 
 	/**
 	 * The CatalogSource is in the "openshift-marketplace" namespace by default on OpenShift, in the "olm" one on K8s.
-	 * When a custom operator image must be used, then a custom CatalogSource will be created in the current namespace.
+	 * When a custom operator image must be used, then a custom CatalogSource will be created in the current namespace,
+	 * or in the shared operators namespace, see {@link IntersmashConfig#operatorsInstallNamespace()}.
 	 *
 	 * @return namespace where the custom CatalogSource is located
 	 */
 	private String getCatalogSourceNamespace() {
 		String namespace = IntersmashConfig.defaultOperatorCatalogSourceNamespace(); // default namespace for CatalogSources
 		if (!Strings.isNullOrEmpty(getOperatorIndexImage())) {
-			namespace = this.client().getNamespace();
+			namespace = IntersmashConfig.operatorsInstallNamespace() != null
+					? IntersmashConfig.operatorsInstallNamespace()
+					: this.client().getNamespace();
 		}
 		return namespace;
 	}
 
 	/**
-	 * The CatalogSource is in the "openshift-marketplace" namespace by default on OpenShift, in the "olm" one on K8s.
-	 * When a custom operator image must be used, then a custom CatalogSource will be created in the current namespace.
+	 * The operator is installed in the current namespace by default, or once in a shared namespace, where it watches
+	 * all namespaces, see {@link IntersmashConfig#operatorsInstallNamespace()}.
+	 * Custom resources are always created in the current namespace.
 	 *
-	 * @return namespace where the custom CatalogSource is located
+	 * @return namespace where the Subscription, the CSV and the operator pods are located
 	 */
 	protected String getTargetNamespace() {
-		return this.client().getNamespace();
+		return IntersmashConfig.operatorsInstallNamespace() != null
+				? IntersmashConfig.operatorsInstallNamespace()
+				: this.client().getNamespace();
+	}
+
+	private String olmCacheKey(String... parts) {
+		return OlmMetadataCache.key(this.client().getMasterUrl().toString(), parts);
 	}
 
 	/**
@@ -220,6 +328,8 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	 *         or just {@code intersmash.*.operators.index.image} is (i.e.: ".operators.catalog_source" might fallback to
 	 *         the default "openshift-marketplace" namespace) - in this case a custom {@code CatalogSource} will be
 	 *         created and managed by Intersmash in the working namespace and it will point to the custom operator image.
+	 *         Operators which use the same index image share the same {@code CatalogSource}, see
+	 *         {@link OlmMetadataCache#acquireCatalogSource(String, Supplier)}.
 	 *         <br>This is to cover the use case of testing a development version of a given Operator</li>
 	 * </ul>
 	 *
@@ -230,60 +340,14 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 		final String operatorCatalogSource = getOperatorCatalogSource();
 		final String operatorCatalogSourceNamespace = getCatalogSourceNamespace();
 		final String operatorIndexImage = getOperatorIndexImage();
-		// if a custom index-image has been specified, then a custom CatalogSource has to be created
+		// if a custom index-image has been specified, then a custom CatalogSource has to be created, unless another
+		// operator already did it for the same index image
 		if (!Strings.isNullOrEmpty(operatorIndexImage)) {
-			String catalogSourceName;
-			// default CatalogSource name must be differentiated per product adding a suffix to avoid conflicts
-			if (IntersmashConfig.defaultOperatorCatalogSourceName().equalsIgnoreCase(operatorCatalogSource)) {
-				catalogSourceName = String.format("%s-%s",
-						operatorCatalogSource,
-						getApplication().getName())
-						.toLowerCase();
-			} else {
-				catalogSourceName = operatorCatalogSource;
-			}
-			// create CatalogSource pointing to our custom IndexImage
-			catalogSource = new CatalogSourceBuilder()
-					.withNewMetadata()
-					.withName(catalogSourceName)
-					.withNamespace(operatorCatalogSourceNamespace)
-					.endMetadata()
-					.withNewSpec()
-					.withSourceType("grpc")
-					.withImage(operatorIndexImage)
-					.withDisplayName(catalogSourceName)
-					.withPublisher("intersmash@intersmash.org")
-					.endSpec()
-					.build();
-			try {
-				this.execute("apply", "-f",
-						new org.jboss.intersmash.provision.olm.CatalogSource()
-								.load(catalogSource)
-								.save()
-								.getAbsolutePath());
-				AtomicReference<String> catalogSourceStatus = new AtomicReference<>();
-				new SimpleWaiter(() -> {
-					// oc get CatalogSource redhat-operators -n openshift-marketplace -o template --template {{.status.connectionState.lastObservedState}}
-					catalogSourceStatus.set(this.executeInNamespace(operatorCatalogSourceNamespace,
-							"get", "CatalogSource", catalogSource.getMetadata().getName(),
-							"-o", "template", "--template",
-							"{{.status.connectionState.lastObservedState}}",
-							"--ignore-not-found"));
-					if (!Strings.isNullOrEmpty(catalogSourceStatus.get())) {
-						log.info("CatalogSource {} status {}", catalogSource.getMetadata().getName(),
-								catalogSourceStatus.get());
-					}
-					return !Strings.isNullOrEmpty(catalogSourceStatus.get())
-							&& "READY".equalsIgnoreCase(catalogSourceStatus.get());
-				}).reason(String.format("CatalogSource [%s] not found in namespace [%s]",
-						catalogSource.getMetadata().getName(), operatorCatalogSourceNamespace))
-						.level(Level.DEBUG)
-						.failFast(getFailFastCheck())
-						.waitFor();
-			} catch (IOException e) {
-				throw new RuntimeException(String.format("Failed to serialize the %s CatalogSource object into a yaml file.",
-						catalogSource.getMetadata().getName()), e);
-			}
+			final String key = olmCacheKey(operatorCatalogSourceNamespace, operatorIndexImage);
+			catalogSource = OlmMetadataCache.acquireCatalogSource(key,
+					() -> createCatalogSource(operatorCatalogSource, operatorCatalogSourceNamespace, operatorIndexImage));
+			// the key is set only once the reference is held, so that dismiss() doesn't release what it never acquired
+			catalogSourceKey = key;
 		} else {
 			// load CatalogSource by name from cluster
 			catalogSource = getCatalogSource(IntersmashConfig.defaultOperatorCatalogSourceNamespace(), operatorCatalogSource);
@@ -291,10 +355,87 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 		return catalogSource;
 	}
 
+	private CatalogSource createCatalogSource(final String operatorCatalogSource,
+			final String operatorCatalogSourceNamespace, final String operatorIndexImage) {
+		String catalogSourceName;
+		// default CatalogSource name must be differentiated per product adding a suffix to avoid conflicts
+		if (IntersmashConfig.defaultOperatorCatalogSourceName().equalsIgnoreCase(operatorCatalogSource)) {
+			catalogSourceName = String.format("%s-%s",
+					operatorCatalogSource,
+					getApplication().getName())
+					.toLowerCase();
+		} else {
+			catalogSourceName = operatorCatalogSource;
+		}
+		// create CatalogSource pointing to our custom IndexImage
+		final CatalogSource catalogSource = new CatalogSourceBuilder()
+				.withNewMetadata()
+				.withName(catalogSourceName)
+				.withNamespace(operatorCatalogSourceNamespace)
+				.endMetadata()
+				.withNewSpec()
+				.withSourceType("grpc")
+				.withImage(operatorIndexImage)
+				.withDisplayName(catalogSourceName)
+				.withPublisher("intersmash@intersmash.org")
+				.endSpec()
+				.build();
+		olm(step(() -> operatorHub().catalogSources().inNamespace(operatorCatalogSourceNamespace).resource(catalogSource)
+				.createOr(NonDeletingOperation::update),
+				() -> applyCatalogSourceViaCli(catalogSource)),
+				step(() -> ProvisioningTimings.waitFor("catalog source", WatchWaiters.resource(
+						operatorHub().catalogSources().inNamespace(operatorCatalogSourceNamespace).withName(catalogSourceName),
+						cs -> cs.getStatus() != null && cs.getStatus().getConnectionState() != null
+								&& "READY".equalsIgnoreCase(cs.getStatus().getConnectionState().getLastObservedState()))
+						.reason(String.format("CatalogSource [%s] not found in namespace [%s]",
+								catalogSourceName, operatorCatalogSourceNamespace))
+						.level(Level.DEBUG)
+						.failFast(getFailFastCheck())),
+						() -> waitForCatalogSourceViaCli(catalogSource, operatorCatalogSourceNamespace)));
+		return catalogSource;
+	}
+
+	private void applyCatalogSourceViaCli(final CatalogSource catalogSource) {
+		try {
+			this.execute("apply", "-f",
+					new org.jboss.intersmash.provision.olm.CatalogSource()
+							.load(catalogSource)
+							.save()
+							.getAbsolutePath());
+		} catch (IOException e) {
+			throw new RuntimeException(String.format("Failed to serialize the %s CatalogSource object into a yaml file.",
+					catalogSource.getMetadata().getName()), e);
+		}
+	}
+
+	private void waitForCatalogSourceViaCli(final CatalogSource catalogSource,
+			final String operatorCatalogSourceNamespace) {
+		AtomicReference<String> catalogSourceStatus = new AtomicReference<>();
+		ProvisioningTimings.waitFor("catalog source", new SimpleWaiter(() -> {
+			// oc get CatalogSource redhat-operators -n openshift-marketplace -o template --template {{.status.connectionState.lastObservedState}}
+			catalogSourceStatus.set(this.executeInNamespace(operatorCatalogSourceNamespace,
+					"get", "CatalogSource", catalogSource.getMetadata().getName(),
+					"-o", "template", "--template",
+					"{{.status.connectionState.lastObservedState}}",
+					"--ignore-not-found"));
+			if (!Strings.isNullOrEmpty(catalogSourceStatus.get())) {
+				log.info("CatalogSource {} status {}", catalogSource.getMetadata().getName(),
+						catalogSourceStatus.get());
+			}
+			return !Strings.isNullOrEmpty(catalogSourceStatus.get())
+					&& "READY".equalsIgnoreCase(catalogSourceStatus.get());
+		}).reason(String.format("CatalogSource [%s] not found in namespace [%s]",
+				catalogSource.getMetadata().getName(), operatorCatalogSourceNamespace))
+				.level(Level.DEBUG)
+				.failFast(getFailFastCheck()));
+	}
+
 	private PackageManifest initPackageManifest() {
 		log.debug("Listing package manifests belonging to: " + this.catalogSource.getMetadata().getName());
-		PackageManifest catalogSourcePackageManifest = this.getPackageManifest(this.packageManifestName,
-				this.getCatalogSourceNamespace());
+		final String catalogSourceNamespace = this.getCatalogSourceNamespace();
+		PackageManifest catalogSourcePackageManifest = OlmMetadataCache.packageManifest(
+				olmCacheKey(catalogSourceNamespace, this.catalogSource.getMetadata().getName(), this.packageManifestName),
+				() -> this.getPackageManifest(this.packageManifestName, catalogSourceNamespace));
 		if (catalogSourcePackageManifest == null) {
 			throw new IllegalStateException(
 					"Unable to retrieve PackageManifest " + this.packageManifestName + " in CatalogSource "
@@ -304,34 +445,6 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 		return catalogSourcePackageManifest;
 	}
 
-	private String initStartingCSV(PackageManifest packageManifest) {
-		final String packageManifestName = packageManifest.getMetadata().getName();
-		log.debug("Listing CSVs belonging to: {}", packageManifestName);
-		PackageChannel channel = packageManifest.getStatus().getChannels().stream().filter(
-				c -> c.getName().equals(this.operatorChannel)).findFirst()
-				.orElseThrow(() -> new IllegalStateException(
-						String.format("Cannot find desired channel in PackageManifest (%s): %s", packageManifestName,
-								this.operatorChannel)));
-		List<Map<String, Object>> entries = (List<Map<String, Object>>) channel.getAdditionalProperties().get("entries");
-		final String version = getVersion();
-		if (version == null || version.isBlank()) {
-			return channel.getCurrentCSV();
-		}
-		return entries.stream()
-				.filter(v -> v.get("version").equals(version))
-				.map(e -> e.get("name").toString())
-				.findFirst()
-				.orElse(channel.getCurrentCSV());
-	}
-
-	private PackageChannel initPackageChannel(String channelName) {
-		return packageManifest.getStatus().getChannels().stream()
-				.filter(ch -> ch.getName().equals(channelName)).findFirst()
-				.orElseThrow(
-						() -> new IllegalStateException("Unable retrieve channel (" + channelName + ") in PackageManifest: "
-								+ packageManifest.getMetadata().getName()));
-	}
-
 	@Override
 	public A getApplication() {
 		return operatorApplication;
@@ -392,65 +505,195 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 		final String catalogSourceNamespace = getCatalogSourceNamespace();
 		final String targetNamespace = getTargetNamespace();
 		Subscription operatorSubscription = (envVariables == null || envVariables.isEmpty())
-				? new Subscription(catalogSourceNamespace, targetNamespace, getOperatorCatalogSource(),
+				? new Subscription(catalogSourceNamespace, targetNamespace, catalogSource.getMetadata().getName(),
 						packageManifestName,
 						operatorChannel, installPlanApproval, currentCSV)
-				: new Subscription(catalogSourceNamespace, targetNamespace, getOperatorCatalogSource(),
+				: new Subscription(catalogSourceNamespace, targetNamespace, catalogSource.getMetadata().getName(),
 						packageManifestName,
 						operatorChannel, installPlanApproval, currentCSV, envVariables);
+		if (IntersmashConfig.reuseOperatorSubscriptions()) {
+			// keep the subscription, and the catalog source it refers to, until the end of the test plan
+			final String key = olmCacheKey(targetNamespace, packageManifestName, operatorChannel, currentCSV,
+					catalogSourceNamespace, catalogSource.getMetadata().getName(), String.valueOf(installPlanApproval),
+					String.valueOf(envVariables == null ? Map.of() : new TreeMap<>(envVariables)));
+			final AtomicBoolean holdsCatalogSource = new AtomicBoolean();
+			// dismiss() clears the provisioner state, while the subscription outlives it
+			final String sharedCatalogSourceKey = catalogSourceKey;
+			final CatalogSource sharedCatalogSource = catalogSource;
+			final boolean reused = OperatorSubscriptions.acquire(key, () -> isSubscribed(operatorSubscription), () -> {
+				createSubscription(operatorSubscription, installPlanApproval);
+				if (sharedCatalogSourceKey != null) {
+					OlmMetadataCache.acquireCatalogSource(sharedCatalogSourceKey, () -> sharedCatalogSource);
+					holdsCatalogSource.set(true);
+				}
+			}, () -> {
+				removeOperator();
+				if (holdsCatalogSource.get()) {
+					releaseCatalogSource(sharedCatalogSourceKey, sharedCatalogSource);
+				}
+			});
+			if (reused) {
+				log.info("Reusing the {} operator subscription", packageManifestName);
+			}
+			subscriptionKey = key;
+		} else {
+			createSubscription(operatorSubscription, installPlanApproval);
+		}
+		waitForOperatorPod();
+	}
+
+	private void createSubscription(final Subscription operatorSubscription, final String installPlanApproval) {
+		final boolean manualApproval = INSTALLPLAN_APPROVAL_MANUAL.equalsIgnoreCase(installPlanApproval);
+		olm(step(() -> applySubscriptionViaApi(operatorSubscription), () -> applySubscriptionViaCli(operatorSubscription)),
+				// if installPlanApproval is "Manual", approve InstallPlan manually
+				step(() -> {
+					if (manualApproval) {
+						approveInstallPlanViaApi(operatorSubscription);
+					}
+				}, () -> {
+					if (manualApproval) {
+						approveInstallPlanViaCli(operatorSubscription);
+					}
+				}),
+				step(this::waitForClusterServiceVersionViaApi, this::waitForClusterServiceVersionViaCli));
+	}
+
+	/**
+	 * Check whether a subscription matching the given one exists already, and the related CSV has been installed.
+	 */
+	private boolean isSubscribed(final Subscription operatorSubscription) {
+		try {
+			final io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription existing = operatorHub()
+					.subscriptions().inNamespace(this.getTargetNamespace())
+					.withName(operatorSubscription.getMetadata().getName()).get();
+			if (existing == null || existing.getSpec() == null) {
+				return false;
+			}
+			final SubscriptionSpec spec = existing.getSpec();
+			final SubscriptionSpec expected = operatorSubscription.getSpec();
+			if (!Objects.equals(spec.getName(), expected.getName())
+					|| !Objects.equals(spec.getChannel(), expected.getChannel())
+					|| !Objects.equals(spec.getSource(), expected.getSource())
+					|| !Objects.equals(spec.getSourceNamespace(), expected.getSourceNamespace())
+					|| !Objects.equals(spec.getStartingCSV(), expected.getStartingCSV())
+					|| !Objects.equals(envVariables(spec), envVariables(expected))) {
+				log.info("Subscription {} exists, but doesn't match the required one",
+						operatorSubscription.getMetadata().getName());
+				return false;
+			}
+			final ClusterServiceVersion csv = operatorHub().clusterServiceVersions()
+					.inNamespace(this.getTargetNamespace()).withName(currentCSV).get();
+			return csv != null && csv.getStatus() != null && "Succeeded".equals(csv.getStatus().getPhase());
+		} catch (KubernetesClientException e) {
+			log.debug("Unable to look up the existing subscription: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private static Map<String, String> envVariables(SubscriptionSpec spec) {
+		if (spec.getConfig() == null || spec.getConfig().getEnv() == null) {
+			return Map.of();
+		}
+		return spec.getConfig().getEnv().stream()
+				.collect(Collectors.toMap(EnvVar::getName, e -> String.valueOf(e.getValue())));
+	}
+
+	private void applySubscriptionViaApi(final Subscription operatorSubscription) {
+		operatorHub().subscriptions().inNamespace(this.getTargetNamespace())
+				.resource(new SubscriptionBuilder(operatorSubscription).build())
+				.createOr(NonDeletingOperation::update);
+	}
+
+	private void approveInstallPlanViaApi(final Subscription operatorSubscription) {
+		final String subscriptionName = operatorSubscription.getMetadata().getName();
+		AtomicReference<String> installPlan = new AtomicReference<>();
+		// wait for installPlan to be attached to the subscription
+		WatchWaiters.resource(
+				operatorHub().subscriptions().inNamespace(this.getTargetNamespace()).withName(subscriptionName),
+				subscription -> {
+					if (subscription.getStatus() != null && subscription.getStatus().getInstallPlanRef() != null
+							&& !Strings.isNullOrEmpty(subscription.getStatus().getInstallPlanRef().getName())) {
+						installPlan.set(subscription.getStatus().getInstallPlanRef().getName());
+						log.info("Pending approval on InstallPlan {} for Subscription {}", installPlan.get(),
+								subscriptionName);
+						return true;
+					}
+					return false;
+				})
+				.reason(String.format("InstallPlan not found for subscription [%s]", subscriptionName))
+				.level(Level.DEBUG)
+				.failFast(getFailFastCheck())
+				.waitFor();
+		operatorHub().installPlans().inNamespace(this.getTargetNamespace()).withName(installPlan.get())
+				.edit(plan -> new InstallPlanBuilder(plan).editSpec().withApproved(true).endSpec().build());
+		log.info("Approved InstallPlan {} for subscription {}", installPlan.get(), subscriptionName);
+	}
+
+	private void waitForClusterServiceVersionViaApi() {
+		ProvisioningTimings.waitFor("cluster service version",
+				WatchWaiters.resource(operatorHub().clusterServiceVersions().inNamespace(this.getTargetNamespace())
+						.withName(currentCSV),
+						// this is the one where the operator image is pulled
+						csv -> csv.getStatus() != null && "Succeeded".equals(csv.getStatus().getPhase()))
+						.reason(String.format("Setup [%s] clusterserviceVersion", currentCSV))
+						.level(Level.DEBUG)
+						.failFast(getFailFastCheck()));
+	}
+
+	private void applySubscriptionViaCli(final Subscription operatorSubscription) {
 		try {
 			this.execute("apply", "-f", operatorSubscription.save().getAbsolutePath());
 		} catch (IOException e) {
 			throw new RuntimeException(String.format("Failed to serialize the %s subscription object into a yaml file.",
 					operatorSubscription.getMetadata().getName()), e);
 		}
+	}
 
-		// if installPlanApproval is "Manual", approve InstallPlan manually
-		if (INSTALLPLAN_APPROVAL_MANUAL.equalsIgnoreCase(installPlanApproval)) {
-			AtomicReference<String> installPlan = new AtomicReference<>();
-			// wait for installPlan to be attached to the subscription
-			new SimpleWaiter(() -> {
-				// oc get subscription rhsso-operator -o template --template="{{.status.installplan.name}}"
-				installPlan.set(
-						this.executeInNamespace(this.getTargetNamespace(),
-								"get", "subscription", operatorSubscription.getMetadata().getName(),
-								"-o", "template", "--template",
-								"{{ if .status.installPlanRef.name }}{{.status.installPlanRef.name}}{{ end }}",
-								"--ignore-not-found"));
-				if (!Strings.isNullOrEmpty(installPlan.get())) {
-					log.info("Pending approval on InstallPlan {} for Subscription {}", installPlan.get(),
-							operatorSubscription.getMetadata().getName());
-				}
-				return !Strings.isNullOrEmpty(installPlan.get());
-			}).reason(
-					String.format("InstallPlan not found for subscription [%s]", operatorSubscription.getMetadata().getName()))
-					.level(Level.DEBUG)
-					.failFast(getFailFastCheck())
-					.waitFor();
-			String outcome = this.executeInNamespace(this.getTargetNamespace(),
-					"patch", "InstallPlan", installPlan.get(),
-					"--type", "merge", "--patch", "{\"spec\":{\"approved\":true}}");
-			if (!Strings.isNullOrEmpty(outcome) && outcome.contains("patched")) {
-				log.info("Approved InstallPlan {} for subscription {}",
-						installPlan.get(),
+	private void approveInstallPlanViaCli(final Subscription operatorSubscription) {
+		AtomicReference<String> installPlan = new AtomicReference<>();
+		// wait for installPlan to be attached to the subscription
+		new SimpleWaiter(() -> {
+			// oc get subscription rhsso-operator -o template --template="{{.status.installplan.name}}"
+			installPlan.set(
+					this.executeInNamespace(this.getTargetNamespace(),
+							"get", "subscription", operatorSubscription.getMetadata().getName(),
+							"-o", "template", "--template",
+							"{{ if .status.installPlanRef.name }}{{.status.installPlanRef.name}}{{ end }}",
+							"--ignore-not-found"));
+			if (!Strings.isNullOrEmpty(installPlan.get())) {
+				log.info("Pending approval on InstallPlan {} for Subscription {}", installPlan.get(),
 						operatorSubscription.getMetadata().getName());
-			} else {
-				throw new IllegalStateException(
-						"Failed to approve InstallPlan " + installPlan.get() + " for subscription " +
-								operatorSubscription.getMetadata().getName() + ": " + outcome);
 			}
+			return !Strings.isNullOrEmpty(installPlan.get());
+		}).reason(
+				String.format("InstallPlan not found for subscription [%s]", operatorSubscription.getMetadata().getName()))
+				.level(Level.DEBUG)
+				.failFast(getFailFastCheck())
+				.waitFor();
+		String outcome = this.executeInNamespace(this.getTargetNamespace(),
+				"patch", "InstallPlan", installPlan.get(),
+				"--type", "merge", "--patch", "{\"spec\":{\"approved\":true}}");
+		if (!Strings.isNullOrEmpty(outcome) && outcome.contains("patched")) {
+			log.info("Approved InstallPlan {} for subscription {}",
+					installPlan.get(),
+					operatorSubscription.getMetadata().getName());
+		} else {
+			throw new IllegalStateException(
+					"Failed to approve InstallPlan " + installPlan.get() + " for subscription " +
+							operatorSubscription.getMetadata().getName() + ": " + outcome);
 		}
+	}
+
+	private void waitForClusterServiceVersionViaCli() {
 		// oc get clusterserviceversion wildfly-operator.v1.0.0 -o template --template {{.status.phase}}
-		new SimpleWaiter(() -> {
-			String clusterServicePhase = this.execute("get", "csvs", currentCSV, "-o", "template", "--template",
-					"{{.status.phase}}", "--ignore-not-found");
+		ProvisioningTimings.waitFor("cluster service version", new SimpleWaiter(() -> {
+			String clusterServicePhase = this.executeInNamespace(this.getTargetNamespace(), "get", "csvs", currentCSV,
+					"-o", "template", "--template", "{{.status.phase}}", "--ignore-not-found");
 			// this is the one where the operator image is pulled
 			return clusterServicePhase != null && clusterServicePhase.equals("Succeeded");
 		}).reason(String.format("Setup [%s] clusterserviceVersion", currentCSV))
 				.level(Level.DEBUG)
-				.failFast(getFailFastCheck())
-				.waitFor();
-		waitForOperatorPod();
+				.failFast(getFailFastCheck()));
 	}
 
 	/**
@@ -479,7 +722,8 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	 * </p>
 	 *
 	 * <p>
-	 * The command issued to find the "app.kubernetes.io/name" label is e.g.:
+	 * The CSV is read via the OLM API, or via the CLI as a fallback, in which case the command issued to find the
+	 * "app.kubernetes.io/name" label is e.g.:
 	 * <code>
 	 *  $ oc get csvs datagrid-operator.v8.1.0 -o template --template '{{range .spec.install.spec.deployments}}{{printf "%d|%s\n" .spec.replicas .spec.template.metadata.labels.name}}{{end}}'
 	 *    1|infinispan-operator-alm-owned
@@ -487,9 +731,55 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	 * </p>
 	 */
 	protected void waitForOperatorPod() {
-		final String metadataNameLabelLegacyName = "name";
-		final String metadataNameLabelName = "app.kubernetes.io/name";
-		String[] operatorSpecs = this.execute(
+		final List<String[]> operatorSpecs = olm(this::getOperatorDeploymentSpecs, this::getOperatorDeploymentSpecsViaCli);
+		for (String[] operatorSpec : operatorSpecs) {
+			final int replicas = Integer.parseInt(operatorSpec[0]);
+			String reason = "Waiting for exactly " + replicas + " pods with label \"" + operatorSpec[1]
+					+ "\"="
+					+ operatorSpec[2] + " to be ready.";
+			// watch the operator pods, instead of listing all the namespace pods periodically
+			ProvisioningTimings.waitFor("operator pods", WatchWaiters.resources(
+					this.client().inNamespace(this.getTargetNamespace()).pods().withLabel(operatorSpec[1], operatorSpec[2]),
+					pods -> pods.stream()
+							.filter(p -> p.getStatus() != null
+									&& p.getStatus().getContainerStatuses().size() > 0
+									&& p.getStatus().getContainerStatuses().stream().allMatch(ContainerStatus::getReady))
+							.count() == replicas)
+					.timeout(TimeUnit.MINUTES, 2)
+					.reason(reason)
+					.level(Level.DEBUG));
+		}
+	}
+
+	/**
+	 * Read the operator deployments replicas and name label out of the current CSV.
+	 *
+	 * @return A list of <code>[replicas, label name, label value]</code> arrays, one per operator deployment
+	 */
+	private List<String[]> getOperatorDeploymentSpecs() {
+		final ClusterServiceVersion csv = operatorHub().clusterServiceVersions()
+				.inNamespace(this.getTargetNamespace()).withName(currentCSV).get();
+		if (csv == null) {
+			throw new IllegalStateException("Failed to get operator deployment spec from csvs!");
+		}
+		return csv.getSpec().getInstall().getSpec().getDeployments().stream()
+				.map(StrategyDeploymentSpec::getSpec)
+				.map(spec -> {
+					final Map<String, String> labels = spec.getTemplate().getMetadata().getLabels();
+					final String labelName = labels.containsKey(METADATA_NAME_LABEL_LEGACY_NAME)
+							? METADATA_NAME_LABEL_LEGACY_NAME
+							: METADATA_NAME_LABEL_NAME;
+					if (labels.get(labelName) == null) {
+						throw new IllegalStateException("Failed to get operator deployment spec from csvs!");
+					}
+					return new String[] { String.valueOf(spec.getReplicas() == null ? 1 : spec.getReplicas()), labelName,
+							labels.get(labelName) };
+				})
+				.collect(Collectors.toList());
+	}
+
+	private List<String[]> getOperatorDeploymentSpecsViaCli() {
+		String[] operatorSpecs = this.executeInNamespace(this.getTargetNamespace(),
 				"get",
 				"csvs",
 				currentCSV,
@@ -498,26 +788,17 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 				"--template",
 				String.format(
 						"{{range .spec.install.spec.deployments}}{{.spec.replicas }}|{{if .spec.template.metadata.labels.name}}%s|{{ .spec.template.metadata.labels.name }}{{else}}%s|{{index .spec.template.metadata.labels \"app.kubernetes.io/name\"}}{{end}}{{end}}",
-						metadataNameLabelLegacyName, metadataNameLabelName))
+						METADATA_NAME_LABEL_LEGACY_NAME, METADATA_NAME_LABEL_NAME))
 				.split(System.lineSeparator());
+		List<String[]> specs = new ArrayList<>();
 		for (String spec : operatorSpecs) {
 			String[] operatorSpec = spec.split("\\|");
 			if (operatorSpec.length != 3) {
 				throw new IllegalStateException("Failed to get operator deployment spec from csvs!");
 			}
-			BooleanSupplier bs = () -> this.client().inNamespace(this.getTargetNamespace()).pods().list().getItems().stream()
-					.filter(p -> !com.google.common.base.Strings.isNullOrEmpty(p.getMetadata().getLabels().get(operatorSpec[1]))
-							&& p.getMetadata().getLabels().get(operatorSpec[1]).equals(operatorSpec[2])
-							&& p.getStatus().getContainerStatuses().size() > 0
-							&& p.getStatus().getContainerStatuses().stream().allMatch(ContainerStatus::getReady))
-					.collect(Collectors.toList()).size() == Integer.valueOf(operatorSpec[0]);
-			String reason = "Waiting for exactly " + Integer.valueOf(operatorSpec[0]) + " pods with label \"" + operatorSpec[1]
-					+ "\"="
-					+ operatorSpec[2] + " to be ready.";
-			new SimpleWaiter(bs, TimeUnit.MINUTES, 2, reason)
-					.level(Level.DEBUG)
-					.waitFor();
+			specs.add(operatorSpec);
 		}
+		return specs;
 	}
 
 	protected FailFastCheck getFailFastCheck() {
@@ -529,6 +810,16 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	 * Documentation: https://docs.openshift.com/container-platform/4.4/operators/olm-deleting-operators-from-cluster.html#olm-deleting-operator-from-a-cluster-using-cli_olm-deleting-operators-from-a-cluster
 	 */
 	public void unsubscribe() {
+		if (subscriptionKey != null) {
+			// the subscription is shared, and will be removed at the end of the test plan
+			OperatorSubscriptions.release(subscriptionKey);
+			subscriptionKey = null;
+			return;
+		}
+		removeOperator();
+	}
+
+	private void removeOperator() {
 		removeSubscription();
 		removeClusterServiceVersion();
 		for (String customResource : getCustomResourceDefinitions()) {
@@ -540,11 +831,22 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 	}
 
 	protected void removeClusterServiceVersion() {
-		this.execute("delete", "csvs", currentCSV, "--ignore-not-found");
+		this.executeInNamespace(this.getTargetNamespace(), "delete", "csvs", currentCSV, "--ignore-not-found");
 	}
 
 	protected void removeSubscription() {
-		this.execute("delete", "subscription", packageManifestName, "--ignore-not-found");
+		this.executeInNamespace(this.getTargetNamespace(), "delete", "subscription", packageManifestName,
+				"--ignore-not-found");
+	}
+
+	private void releaseCatalogSource(final String key, final CatalogSource catalogSource) {
+		final String catalogSourceName = catalogSource.getMetadata().getName();
+		final String catalogSourceNamespace = catalogSource.getMetadata().getNamespace();
+		OlmMetadataCache.releaseCatalogSource(key,
+				() -> olm(() -> operatorHub().catalogSources().inNamespace(catalogSourceNamespace)
+						.withName(catalogSourceName).delete(),
+						() -> this.executeInNamespace(catalogSourceNamespace, "delete", "catalogsource",
+								catalogSourceName, "--ignore-not-found")));
 	}
 
 	public String getCurrentCSV() {
@@ -553,10 +855,34 @@ public abstract class OperatorProvisioner<A extends OperatorApplication, C exten
 
 	@Override
 	public void dismiss() {
-		// let's remove any custom catalog source
-		if (Arrays.stream(IntersmashConfig.getKnownCatalogSources())
-				.noneMatch(cs -> this.catalogSource.getMetadata().getName().equals(cs))) {
-			this.execute("delete", "catalogsource", catalogSource.getMetadata().getName(), "--ignore-not-found");
+		if (this.catalogSource == null) {
+			// the catalog source initialization failed, there's nothing to clean up
+			return;
+		}
+		final String catalogSourceName = this.catalogSource.getMetadata().getName();
+		if (catalogSourceKey != null) {
+			// the custom catalog source is removed once no other operator uses it
+			releaseCatalogSource(catalogSourceKey, this.catalogSource);
+		} else if (Arrays.stream(IntersmashConfig.getKnownCatalogSources())
+				.noneMatch(catalogSourceName::equals)) {
+			// let's remove any custom catalog source
+			this.execute("delete", "catalogsource", catalogSourceName, "--ignore-not-found");
+		}
+		// the catalog source is released once, even if dismiss() is called again
+		catalogSourceKey = null;
+		this.catalogSource = null;
+	}
+
+	/**
+	 * A step of an OLM operation, which can be run either via the API or via the CLI, see {@link #olm(OlmStep...)}.
+	 */
+	private static class OlmStep {
+		private final Runnable api;
+		private final Runnable cli;
+
+		OlmStep(Runnable api, Runnable cli) {
+			this.api = api;
+			this.cli = cli;
 		}
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.intersmash.IntersmashConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Run scoped registry of the operator subscriptions which are kept across test classes, when
+ * {@link IntersmashConfig#reuseOperatorSubscriptions()} is set.
+ * <p>
+ * A subscription is identified by a key which contains the cluster, namespace, package, channel, starting CSV and
+ * catalog source, so that provisioners requiring exactly the same operator installation share it. Subscriptions are
+ * reference counted, but they're not removed when no test class uses them anymore, since a later one might: instead,
+ * they are torn down once the test plan execution is finished, see {@link #tearDownAll()}.
+ * </p>
+ */
+@Slf4j
+public final class OperatorSubscriptions {
+	private static final Map<String, SharedSubscription> SUBSCRIPTIONS = new ConcurrentHashMap<>();
+
+	private OperatorSubscriptions() {
+	}
+
+	/**
+	 * Acquire a subscription, which is created only if no matching one exists already.
+	 *
+	 * @param key The subscription key
+	 * @param exists Checks whether the subscription exists and the operator is installed, e.g. because it has been
+	 *               created by a previous test class, or by a previous run which kept it
+	 * @param subscriber Creates the subscription and waits for the operator to be installed
+	 * @param tearDown Removes the subscription, executed at the end of the test plan
+	 * @return {@code true} if an existing subscription is reused, {@code false} if it has been created
+	 */
+	public static boolean acquire(String key, BooleanSupplier exists, Runnable subscriber, Runnable tearDown) {
+		final SharedSubscription shared = SUBSCRIPTIONS.computeIfAbsent(key, k -> new SharedSubscription());
+		synchronized (shared) {
+			final boolean reused = exists.getAsBoolean();
+			if (!reused) {
+				subscriber.run();
+			}
+			if (shared.tearDown == null) {
+				shared.tearDown = tearDown;
+			}
+			shared.users++;
+			log.debug("Operator subscription {} {}, {} user(s)", key, reused ? "reused" : "created", shared.users);
+			return reused;
+		}
+	}
+
+	/**
+	 * Release a subscription obtained via {@link #acquire(String, BooleanSupplier, Runnable, Runnable)}, which is
+	 * kept until the end of the test plan anyway.
+	 *
+	 * @param key The subscription key
+	 */
+	public static void release(String key) {
+		final SharedSubscription shared = SUBSCRIPTIONS.get(key);
+		if (shared != null) {
+			synchronized (shared) {
+				shared.users = Math.max(0, shared.users - 1);
+				log.debug("Operator subscription {} released, {} user(s)", key, shared.users);
+			}
+		}
+	}
+
+	/**
+	 * Tear down all the subscriptions, failures are logged so that all of them are attempted.
+	 */
+	public static void tearDownAll() {
+		final List<String> keys = new ArrayList<>(SUBSCRIPTIONS.keySet());
+		for (String key : keys) {
+			final SharedSubscription shared = SUBSCRIPTIONS.remove(key);
+			if (shared == null) {
+				continue;
+			}
+			synchronized (shared) {
+				if (shared.users > 0) {
+					log.warn("Operator subscription {} is still used by {} test class(es)", key, shared.users);
+				}
+				try {
+					if (shared.tearDown != null) {
+						shared.tearDown.run();
+					}
+				} catch (RuntimeException e) {
+					log.warn("Failed to remove operator subscription {}: {}", key, e.getMessage());
+				}
+			}
+		}
+	}
+
+	private static class SharedSubscription {
+		private Runnable tearDown;
+		private int users;
+	}
+}
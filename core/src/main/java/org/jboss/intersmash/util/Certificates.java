@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+/**
+ * In-process generation of keys, X.509 certificates, key stores and PEM files, via the JCA and BouncyCastle APIs, as
+ * a replacement for forking {@code openssl} and {@code keytool}.
+ */
+public final class Certificates {
+	private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final AtomicLong SERIAL = new AtomicLong(System.currentTimeMillis());
+
+	private Certificates() {
+	}
+
+	/**
+	 * @param keySize The RSA key size, e.g. {@code 2048}
+	 * @return A new RSA key pair
+	 */
+	public static KeyPair generateKeyPair(int keySize) {
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(keySize, RANDOM);
+			return generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Unable to generate an RSA key pair", e);
+		}
+	}
+
+	/**
+	 * Create a self-signed certificate, which can be used as a certification authority, like
+	 * {@code openssl req -x509} does.
+	 *
+	 * @param keyPair The key pair of the certificate
+	 * @param subject The subject distinguished name, e.g. {@code CN=example.com, O=QE, C=CZ}
+	 * @param validity The validity of the certificate
+	 * @return The self-signed certificate
+	 */
+	public static X509Certificate selfSigned(KeyPair keyPair, String subject, Duration validity) {
+		final X500Name name = new X500Name(subject);
+		return sign(builder(name, keyPair.getPublic(), name, validity, keyPair.getPublic(), true),
+				keyPair.getPrivate());
+	}
+
+	/**
+	 * Create a certificate signed by the given certification authority, like {@code openssl x509 -req -CA} does.
+	 *
+	 * @param publicKey The public key of the certificate
+	 * @param subject The subject distinguished name
+	 * @param dnsNames The DNS names of the Subject Alternative Name extension, or none
+	 * @param issuer The certificate of the certification authority
+	 * @param issuerKey The private key of the certification authority
+	 * @param validity The validity of the certificate
+	 * @return The signed certificate
+	 */
+	public static X509Certificate signed(PublicKey publicKey, String subject, String[] dnsNames,
+			X509Certificate issuer, PrivateKey issuerKey, Duration validity) {
+		final X500Name issuerName = X500Name.getInstance(issuer.getSubjectX500Principal().getEncoded());
+		final X509v3CertificateBuilder builder = builder(issuerName, issuer.getPublicKey(), new X500Name(subject), validity,
+				publicKey, false);
+		if (dnsNames != null && dnsNames.length > 0) {
+			try {
+				builder.addExtension(Extension.subjectAlternativeName, false, new GeneralNames(Arrays.stream(dnsNames)
+						.map(dnsName -> new GeneralName(GeneralName.dNSName, dnsName))
+						.toArray(GeneralName[]::new)));
+			} catch (CertIOException e) {
+				throw new IllegalStateException("Unable to add the Subject Alternative Names", e);
+			}
+		}
+		return sign(builder, issuerKey);
+	}
+
+	/**
+	 * @param type The key store type, e.g. {@code PKCS12} or {@code JKS}
+	 * @return A new, empty, key store
+	 */
+	public static KeyStore keyStore(String type) {
+		try {
+			final KeyStore keyStore = KeyStore.getInstance(type);
+			keyStore.load(null, null);
+			return keyStore;
+		} catch (GeneralSecurityException | IOException e) {
+			throw new IllegalStateException("Unable to create a " + type + " key store", e);
+		}
+	}
+
+	/**
+	 * Write the key store to the given file.
+	 *
+	 * @param keyStore The key store
+	 * @param file The file
+	 * @param password The key store password
+	 */
+	public static void store(KeyStore keyStore, Path file, String password) {
+		try (OutputStream out = Files.newOutputStream(file)) {
+			keyStore.store(out, password.toCharArray());
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Unable to store the key store " + file, e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to store the key store " + file, e);
+		}
+	}
+
+	/**
+	 * @param objects The certificates or keys
+	 * @return The PEM encoding of the given objects
+	 */
+	public static String toPem(Object... objects) {
+		final StringWriter pem = new StringWriter();
+		try (JcaPEMWriter writer = new JcaPEMWriter(pem)) {
+			for (Object object : objects) {
+				writer.writeObject(object);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return pem.toString();
+	}
+
+	/**
+	 * Write the PEM encoding of the given objects to a file.
+	 *
+	 * @param file The file
+	 * @param objects The certificates or keys
+	 * @return The file
+	 */
+	public static Path writePem(Path file, Object... objects) {
+		try {
+			return Files.writeString(file, toPem(objects));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to write " + file, e);
+		}
+	}
+
+	private static X509v3CertificateBuilder builder(X500Name issuer, PublicKey issuerPublicKey, X500Name subject,
+			Duration validity, PublicKey publicKey, boolean ca) {
+		final Instant now = Instant.now();
+		final X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuer,
+				BigInteger.valueOf(SERIAL.incrementAndGet()), Date.from(now.minus(Duration.ofMinutes(5))),
+				Date.from(now.plus(validity)), subject, publicKey);
+		try {
+			final JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+			builder.addExtension(Extension.subjectKeyIdentifier, false,
+					extensionUtils.createSubjectKeyIdentifier(publicKey));
+			builder.addExtension(Extension.authorityKeyIdentifier, false,
+					extensionUtils.createAuthorityKeyIdentifier(issuerPublicKey));
+			if (ca) {
+				builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			}
+		} catch (GeneralSecurityException | CertIOException e) {
+			throw new IllegalStateException("Unable to add the certificate extensions", e);
+		}
+		return builder;
+	}
+
+	private static X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey signingKey) {
+		try {
+			final ContentSigner signer = new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(signingKey);
+			return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+		} catch (OperatorCreationException | GeneralSecurityException e) {
+			throw new IllegalStateException("Unable to sign the certificate", e);
+		}
+	}
+}
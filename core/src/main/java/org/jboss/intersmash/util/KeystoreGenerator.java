@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.PKCS8Generator;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.openssl.jcajce.JceOpenSSLPKCS8EncryptorBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.jboss.intersmash.IntersmashConfig;
+
+import cz.xtf.core.config.OpenShiftConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates keystores signed by one common generated Certification Authority, in-process, see {@link Certificates}.
+ * <p>
+ * The Certification Authority and the truststore are generated once, the truststore includes the Certification
+ * Authority certificate and the certificates of the OpenShift API server, when it can be reached.
+ * </p>
+ */
+@Slf4j
+public class KeystoreGenerator {
+	public static final String KEYSTORE_FILE_EXTENSION = ".keystore";
+	private static final Path TMP_DIRECTORY = IntersmashConfig.keystoresDirectory();
+	@Getter
+	private static Path caDir;
+	@Getter
+	private static Path truststore;
+	@Getter
+	private static final String password = "password";
+	private static final String INTERSMASH_CA = "Intersmash.ca";
+	private static final String TRUSTSTORE_FILE_NAME = "truststore";
+	public static final String CA_CERTIFICATE_PEM_FILE_NAME = "ca-certificate.pem";
+	private static final String CA_KEY_PEM_FILE_NAME = "ca-key.pem";
+	private static final String KEYSTORE_TYPE = "PKCS12";
+	private static final Duration VALIDITY = Duration.ofDays(365);
+	private static final KeyPair caKeyPair;
+	private static final X509Certificate caCertificate;
+
+	/**
+	 * Statically set everything up in order to have private key, certificate and truststore ready
+	 */
+	static {
+		try {
+			TMP_DIRECTORY.toFile().mkdirs();
+			caDir = Files.createTempDirectory(TMP_DIRECTORY, "ca");
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to initialize Intersmash CA", e);
+		}
+		// Generate key and cert
+		caKeyPair = Certificates.generateKeyPair(4096);
+		caCertificate = Certificates.selfSigned(caKeyPair, "C=CZ, ST=CZ, L=Brno, O=QE, CN=" + INTERSMASH_CA, VALIDITY);
+		Certificates.writePem(caDir.resolve(CA_CERTIFICATE_PEM_FILE_NAME), caCertificate);
+		Certificates.writePem(caDir.resolve(CA_KEY_PEM_FILE_NAME), encrypted(caKeyPair.getPrivate()));
+		// Generate truststore that includes the generated CA cert, and the openshift server certs
+		final KeyStore trustStore = Certificates.keyStore(KEYSTORE_TYPE);
+		try {
+			trustStore.setCertificateEntry(INTERSMASH_CA, caCertificate);
+			final List<X509Certificate> serverCertificates = getOpenShiftServerCertificates();
+			for (int i = 0; i < serverCertificates.size(); i++) {
+				trustStore.setCertificateEntry("openshift-" + i, serverCertificates.get(i));
+			}
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to initialize Intersmash truststore", e);
+		}
+		truststore = caDir.resolve(TRUSTSTORE_FILE_NAME);
+		Certificates.store(trustStore, truststore, password);
+	}
+
+	protected KeystoreGenerator() {
+	}
+
+	public static Path generateKeystore(String hostname) {
+		return generateKeystore(hostname, null, hostname, false);
+	}
+
+	public static Path generateKeystore(String hostname, String keyAlias) {
+		return generateKeystore(hostname, null, keyAlias, false);
+	}
+
+	public static Path generateKeystore(String hostname, String keyAlias, boolean deleteCaFromKeyStore) {
+		return generateKeystore(hostname, null, keyAlias, deleteCaFromKeyStore);
+	}
+
+	public static Path generateKeystore(String hostname, String[] alternativeHostnames) {
+		return generateKeystore(hostname, alternativeHostnames, hostname, false);
+	}
+
+	public static synchronized Path generateKeystore(String hostname, String[] alternativeHostnames, String keyAlias,
+			boolean deleteCaFromKeyStore) {
+		final Path keystore = caDir.resolve(hostname + KEYSTORE_FILE_EXTENSION);
+		if (keystore.toFile().exists()) {
+			return keystore;
+		}
+		final KeyPair keyPair = Certificates.generateKeyPair(2048);
+		// When provided, injects Subject Alternative Names (SAN) within the certificate
+		String[] dnsNames = null;
+		if (alternativeHostnames != null && alternativeHostnames.length > 0) {
+			dnsNames = new String[alternativeHostnames.length + 1];
+			dnsNames[0] = hostname;
+			System.arraycopy(alternativeHostnames, 0, dnsNames, 1, alternativeHostnames.length);
+		}
+		final X509Certificate certificate = Certificates.signed(keyPair.getPublic(),
+				"C=CZ, ST=CZ, L=Brno, O=XTF, OU=TF, CN=" + hostname, dnsNames, caCertificate, caKeyPair.getPrivate(),
+				VALIDITY);
+		final KeyStore keyStore = Certificates.keyStore(KEYSTORE_TYPE);
+		try {
+			if (!deleteCaFromKeyStore) {
+				keyStore.setCertificateEntry(INTERSMASH_CA, caCertificate);
+			}
+			keyStore.setKeyEntry(keyAlias, keyPair.getPrivate(), password.toCharArray(),
+					new Certificate[] { certificate, caCertificate });
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to generate the keystore for " + hostname, e);
+		}
+		Certificates.store(keyStore, keystore, password);
+		return keystore;
+	}
+
+	public static GeneratedPaths generateCerts(String hostname) {
+		return generateCerts(hostname, null);
+	}
+
+	public static GeneratedPaths generateCerts(String hostname, String[] alternativeHostnames) {
+		final String keystore = hostname + KEYSTORE_FILE_EXTENSION;
+		final Path keystorePath = generateKeystore(hostname, alternativeHostnames);
+		try (InputStream in = Files.newInputStream(keystorePath)) {
+			final KeyStore keyStore = KeyStore.getInstance(KEYSTORE_TYPE);
+			keyStore.load(in, password.toCharArray());
+			// export cert as CN.keystore.pem, and the key as CN.keystore.key.pem
+			Certificates.writePem(caDir.resolve(keystore + ".pem"), keyStore.getCertificate(hostname));
+			Certificates.writePem(caDir.resolve(keystore + ".key.pem"),
+					keyStore.getKey(hostname, password.toCharArray()));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to export the certificate and key of " + hostname, e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to export the certificate and key of " + hostname, e);
+		}
+		return new GeneratedPaths(
+				caDir.resolve(CA_CERTIFICATE_PEM_FILE_NAME),
+				caDir.resolve(TRUSTSTORE_FILE_NAME),
+				caDir.resolve(keystore),
+				caDir.resolve(keystore + ".key.pem"),
+				caDir.resolve(keystore + ".pem"));
+	}
+
+	/**
+	 * Retrieve the certificate chain of the OpenShift API server, like {@code openssl s_client -showcerts} does.
+	 *
+	 * @return The certificates, or an empty list if the server can't be reached
+	 */
+	private static List<X509Certificate> getOpenShiftServerCertificates() {
+		final String url = OpenShiftConfig.url();
+		if (url == null || url.isBlank()) {
+			return List.of();
+		}
+		final URI server = URI.create(url.contains("://") ? url : "https://" + url);
+		final List<X509Certificate> certificates = new ArrayList<>();
+		try {
+			final SSLContext context = SSLContext.getInstance("TLS");
+			context.init(null, new TrustManager[] { new X509TrustManager() {
+				@Override
+				public void checkClientTrusted(X509Certificate[] chain, String authType) {
+				}
+
+				@Override
+				public void checkServerTrusted(X509Certificate[] chain, String authType) {
+					// collect the whole chain, leaf included, which is what the former "openssl s_client -showcerts"
+					// based import did, since the skipped csplit chunk was the preamble preceding the first certificate
+					certificates.addAll(List.of(chain));
+				}
+
+				@Override
+				public X509Certificate[] getAcceptedIssuers() {
+					return new X509Certificate[0];
+				}
+			} }, null);
+			try (SSLSocket socket = (SSLSocket) context.getSocketFactory().createSocket()) {
+				socket.connect(new InetSocketAddress(server.getHost(), server.getPort() > 0 ? server.getPort() : 443),
+						10_000);
+				socket.setSoTimeout(10_000);
+				socket.startHandshake();
+			}
+		} catch (IOException | GeneralSecurityException e) {
+			log.warn("Unable to retrieve the OpenShift server certificates from {}, they won't be trusted: {}", url,
+					e.getMessage());
+		}
+		return certificates;
+	}
+
+	private static Object encrypted(PrivateKey key) {
+		try {
+			return new JcaPKCS8Generator(key, new JceOpenSSLPKCS8EncryptorBuilder(PKCS8Generator.AES_256_CBC)
+					.setProvider(new BouncyCastleProvider())
+					.setPassword(password.toCharArray())
+					.build());
+		} catch (OperatorCreationException | IOException e) {
+			throw new IllegalStateException("Failed to encrypt the Intersmash CA key", e);
+		}
+	}
+
+	/**
+	 * POJO to hold the path of the generated certs and stores
+	 */
+	public static class GeneratedPaths {
+		public Path caPem;
+		public Path truststore;
+		public Path keystore;
+		public Path keyPem;
+		public Path certPem;
+
+		public GeneratedPaths(final Path caPem, final Path truststore, final Path keystore, final Path keyPem,
+				final Path certPem) {
+			this.caPem = caPem;
+			this.truststore = truststore;
+			this.keystore = keystore;
+			this.keyPem = keyPem;
+			this.certPem = certPem;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.junit5;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.intersmash.annotations.Intersmash;
+import org.jboss.intersmash.annotations.Service;
+import org.jboss.intersmash.application.Application;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProvisioningPlanTest {
+
+	/**
+	 * Verifies that services are ordered after their dependencies, and that declaration order is kept otherwise
+	 */
+	@Test
+	public void testOrder() {
+		ProvisioningPlan plan = ProvisioningPlan.of(services(DependentScenario.class));
+		Assertions.assertEquals(List.of(KeycloakApp.class, KafkaApp.class, DatabaseApp.class, WildflyApp.class),
+				plan.order());
+	}
+
+	/**
+	 * Verifies that dependencies on services which are not declared are rejected
+	 */
+	@Test
+	public void testUndeclaredDependency() {
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> ProvisioningPlan.of(services(UndeclaredDependencyScenario.class)));
+	}
+
+	/**
+	 * Verifies that cyclic dependencies are rejected
+	 */
+	@Test
+	public void testCyclicDependencies() {
+		IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+				() -> ProvisioningPlan.of(services(CyclicScenario.class)));
+		Assertions.assertTrue(e.getMessage().contains("WildflyApp -> KeycloakApp -> WildflyApp"), e.getMessage());
+	}
+
+	/**
+	 * Verifies that independent services are processed concurrently, and dependent ones only once their dependencies
+	 * have been processed
+	 */
+	@Test
+	public void testConcurrentExecution() {
+		// Kafka and Keycloak are independent, so they must be able to wait for each other
+		final CountDownLatch independent = new CountDownLatch(2);
+		final List<Class<? extends Application>> executed = Collections.synchronizedList(new ArrayList<>());
+		ProvisioningPlan.of(services(DependentScenario.class)).execute(4, application -> {
+			if (application.equals(KafkaApp.class) || application.equals(KeycloakApp.class)) {
+				independent.countDown();
+				try {
+					Assertions.assertTrue(independent.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			executed.add(application);
+		});
+		Assertions.assertEquals(4, executed.size());
+		Assertions.assertTrue(executed.indexOf(WildflyApp.class) > executed.indexOf(KeycloakApp.class));
+		Assertions.assertTrue(executed.indexOf(WildflyApp.class) > executed.indexOf(DatabaseApp.class));
+		Assertions.assertTrue(executed.indexOf(DatabaseApp.class) > executed.indexOf(KafkaApp.class));
+	}
+
+	/**
+	 * Verifies that services are processed before the ones they depend on when executing in reverse order
+	 */
+	@Test
+	public void testReversedExecution() {
+		final List<Class<? extends Application>> executed = Collections.synchronizedList(new ArrayList<>());
+		ProvisioningPlan.of(services(DependentScenario.class)).executeReversed(4, executed::add);
+		Assertions.assertEquals(WildflyApp.class, executed.get(0));
+		Assertions.assertTrue(executed.indexOf(DatabaseApp.class) < executed.indexOf(KafkaApp.class));
+	}
+
+	/**
+	 * Verifies that the original failure is propagated, and that dependent services are not processed
+	 */
+	@Test
+	public void testFailurePropagation() {
+		final List<Class<? extends Application>> executed = Collections.synchronizedList(new ArrayList<>());
+		IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+				() -> ProvisioningPlan.of(services(DependentScenario.class)).execute(4, application -> {
+					if (application.equals(KafkaApp.class)) {
+						throw new IllegalStateException("Kafka failed");
+					}
+					executed.add(application);
+				}));
+		Assertions.assertEquals("Kafka failed", e.getMessage());
+		Assertions.assertFalse(executed.contains(DatabaseApp.class));
+		Assertions.assertFalse(executed.contains(WildflyApp.class));
+	}
+
+	private static Service[] services(Class<?> scenario) {
+		return scenario.getAnnotation(Intersmash.class).value();
+	}
+
+	@Intersmash({
+			@Service(value = WildflyApp.class, dependsOn = { KeycloakApp.class, DatabaseApp.class }),
+			@Service(value = DatabaseApp.class, dependsOn = KafkaApp.class),
+			@Service(KafkaApp.class),
+			@Service(KeycloakApp.class)
+	})
+	static class DependentScenario {
+	}
+
+	@Intersmash({
+			@Service(value = WildflyApp.class, dependsOn = KeycloakApp.class)
+	})
+	static class UndeclaredDependencyScenario {
+	}
+
+	@Intersmash({
+			@Service(value = WildflyApp.class, dependsOn = KeycloakApp.class),
+			@Service(value = KeycloakApp.class, dependsOn = WildflyApp.class)
+	})
+	static class CyclicScenario {
+	}
+
+	static class WildflyApp implements Application {
+		@Override
+		public String getName() {
+			return "wildfly";
+		}
+	}
+
+	static class KeycloakApp implements Application {
+		@Override
+		public String getName() {
+			return "keycloak";
+		}
+	}
+
+	static class DatabaseApp implements Application {
+		@Override
+		public String getName() {
+			return "database";
+		}
+	}
+
+	static class KafkaApp implements Application {
+		@Override
+		public String getName() {
+			return "kafka";
+		}
+	}
+}
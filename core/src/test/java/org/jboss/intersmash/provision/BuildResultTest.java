@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BuildResultTest {
+
+	/**
+	 * Verifies that the build is run once, while a concurrent caller waits for its result
+	 */
+	@Test
+	public void testBuildIsRunOnce() throws Exception {
+		final BuildResult<String> result = new BuildResult<>();
+		final AtomicInteger builds = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<String> prebuild = CompletableFuture.supplyAsync(() -> result.get(() -> {
+			builds.incrementAndGet();
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "image";
+		}));
+		Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+		final CompletableFuture<String> deploy = CompletableFuture.supplyAsync(() -> result.get(() -> {
+			builds.incrementAndGet();
+			return "other";
+		}));
+		release.countDown();
+		Assertions.assertEquals("image", prebuild.get(10, TimeUnit.SECONDS));
+		Assertions.assertEquals("image", deploy.get(10, TimeUnit.SECONDS));
+		Assertions.assertEquals(1, builds.get());
+	}
+
+	/**
+	 * Verifies that a build failure is reported to all the callers
+	 */
+	@Test
+	public void testBuildFailureIsRethrown() {
+		final BuildResult<String> result = new BuildResult<>();
+		final IllegalStateException failure = new IllegalStateException("Build failed");
+		Assertions.assertSame(failure, Assertions.assertThrows(IllegalStateException.class, () -> result.get(() -> {
+			throw failure;
+		})));
+		Assertions.assertSame(failure, Assertions.assertThrows(IllegalStateException.class, () -> result.get(() -> "image")));
+	}
+}
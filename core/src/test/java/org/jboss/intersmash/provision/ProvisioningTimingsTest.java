@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.intersmash.k8s.client.TestCaseContext;
+import org.jboss.intersmash.provision.ProvisioningTimings.Timing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import cz.xtf.core.waiting.SimpleWaiter;
+
+public class ProvisioningTimingsTest {
+
+	private String testCase;
+
+	@BeforeEach
+	public void setTestCase() {
+		testCase = ProvisioningTimingsTest.class.getName() + "-" + System.nanoTime();
+		TestCaseContext.setRunningTestCase(testCase);
+	}
+
+	@AfterEach
+	public void finishTestCase() {
+		TestCaseContext.finishTestCase(testCase);
+	}
+
+	/**
+	 * Verifies that phases are timed per service, and that waits are attributed to the service whose phase is timed
+	 */
+	@Test
+	public void testWaitsAreAttributedToTheTimedService() {
+		ProvisioningTimings.time(null, "clean",
+				() -> ProvisioningTimings.waitFor("namespace", new SimpleWaiter(() -> true)));
+		final String result = ProvisioningTimings.time("App", "deploy", () -> {
+			Assertions.assertTrue(ProvisioningTimings.waitFor("pods", new SimpleWaiter(() -> true)));
+			return "deployed";
+		});
+		Assertions.assertEquals("deployed", result);
+
+		final List<Timing> timings = ProvisioningTimings.of(testCase);
+		Assertions.assertEquals(4, timings.size());
+		Assertions.assertNull(timings.get(0).getService());
+		Assertions.assertEquals("namespace", timings.get(0).getDescription());
+		Assertions.assertEquals("clean", timings.get(1).getPhase());
+		Assertions.assertEquals("App", timings.get(2).getService());
+		Assertions.assertEquals(ProvisioningTimings.WAIT, timings.get(2).getPhase());
+		Assertions.assertEquals("pods", timings.get(2).getDescription());
+		Assertions.assertEquals("deploy", timings.get(3).getPhase());
+		Assertions.assertTrue(timings.stream().allMatch(Timing::isSucceeded));
+		Assertions.assertEquals(List.of("wait", "clean", "App.wait", "App.deploy"),
+				List.copyOf(ProvisioningTimings.totals(timings).keySet()));
+	}
+
+	/**
+	 * Verifies that failed phases are recorded, and that their failure is propagated
+	 */
+	@Test
+	public void testFailedPhaseIsRecorded() {
+		Assertions.assertThrows(IllegalStateException.class, () -> ProvisioningTimings.time("App", "undeploy", () -> {
+			throw new IllegalStateException("undeploy failed");
+		}));
+		final List<Timing> timings = ProvisioningTimings.of(testCase);
+		Assertions.assertEquals(1, timings.size());
+		Assertions.assertFalse(timings.get(0).isSucceeded());
+	}
+
+	/**
+	 * Verifies that the timings of the run are exported as JSON
+	 */
+	@Test
+	public void testTimingsAreExported() throws IOException {
+		ProvisioningTimings.time("App", "configure", () -> {
+		});
+		final Path file = ProvisioningTimings.export();
+		Assertions.assertNotNull(file);
+		final JsonNode timings = new ObjectMapper().readTree(file.toFile());
+		Assertions.assertTrue(timings.isArray());
+		final JsonNode timing = timings.get(timings.size() - 1);
+		Assertions.assertEquals(testCase, timing.get("testCase").asText());
+		Assertions.assertEquals("App", timing.get("service").asText());
+		Assertions.assertEquals("configure", timing.get("phase").asText());
+		Assertions.assertTrue(timing.get("millis").isNumber());
+		Assertions.assertFalse(timing.has("description"));
+	}
+}
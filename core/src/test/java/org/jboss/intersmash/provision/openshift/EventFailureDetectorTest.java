@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cz.xtf.core.waiting.SimpleWaiter;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+@EnableKubernetesMockClient(crud = true)
+public class EventFailureDetectorTest {
+
+	private static final String NAMESPACE = "test";
+
+	KubernetesMockServer server;
+	KubernetesClient client;
+
+	@AfterEach
+	public void invalidate() {
+		EventFailureDetector.invalidate(NAMESPACE);
+	}
+
+	/**
+	 * Verifies that failure events are recorded as they are notified, and that checking them doesn't issue requests
+	 */
+	@Test
+	public void testFailuresAreDetected() {
+		final ZonedDateTime after = ZonedDateTime.now().minusMinutes(1);
+		final EventFailureDetector detector = EventFailureDetector.of(client, NAMESPACE, "Failed to pull image.*");
+		Assertions.assertSame(detector, EventFailureDetector.of(client, NAMESPACE, "Failed to pull image.*"));
+		Assertions.assertTrue(detector.isWatching());
+		Assertions.assertTrue(detector.failures(after, "app.*").isEmpty());
+
+		client.v1().events().inNamespace(NAMESPACE).resource(event("e-1", "app-1-abcde", "Pulling image \"app:1\""))
+				.create();
+		client.v1().events().inNamespace(NAMESPACE).resource(event("e-2", "other-1-abcde", "Failed to pull image"))
+				.create();
+		client.v1().events().inNamespace(NAMESPACE).resource(event("e-3", "app-1-abcde", "Failed to pull image \"app:1\""))
+				.create();
+
+		Assertions.assertTrue(new SimpleWaiter(() -> !detector.failures(after, "app.*").isEmpty())
+				.timeout(TimeUnit.SECONDS, 10)
+				.interval(100)
+				.waitFor());
+		final int requests = server.getRequestCount();
+		Assertions.assertEquals("e-3", detector.failures(after, "app.*").get(0).getMetadata().getName());
+		Assertions.assertEquals(1, detector.failures(after, "app.*").size());
+		Assertions.assertEquals(1, detector.failures(after, "other.*").size());
+		Assertions.assertTrue(detector.failures(ZonedDateTime.now().plusMinutes(1), "app.*").isEmpty());
+		Assertions.assertEquals(requests, server.getRequestCount());
+	}
+
+	/**
+	 * Verifies that the detectors of all the namespaces stop watching once invalidated, e.g. at the end of the test plan
+	 */
+	@Test
+	public void testAllDetectorsAreClosed() {
+		final EventFailureDetector detector = EventFailureDetector.of(client, NAMESPACE, "Failed to pull image.*");
+		final EventFailureDetector other = EventFailureDetector.of(client, "other", "Failed to pull image.*");
+		Assertions.assertTrue(detector.isWatching());
+		Assertions.assertTrue(other.isWatching());
+
+		EventFailureDetector.invalidateAll();
+
+		Assertions.assertFalse(detector.isWatching());
+		Assertions.assertFalse(other.isWatching());
+		Assertions.assertNotSame(detector, EventFailureDetector.of(client, NAMESPACE, "Failed to pull image.*"));
+	}
+
+	private static Event event(String name, String objectName, String message) {
+		return new EventBuilder()
+				.withNewMetadata().withName(name).withNamespace(NAMESPACE).withUid(name).endMetadata()
+				.withNewInvolvedObject().withKind("Pod").withName(objectName).endInvolvedObject()
+				.withMessage(message)
+				.withLastTimestamp(ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT))
+				.build();
+	}
+}
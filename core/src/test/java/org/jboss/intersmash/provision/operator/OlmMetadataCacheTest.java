@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.operator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageChannel;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageChannelBuilder;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifest;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifestBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSource;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSourceBuilder;
+
+public class OlmMetadataCacheTest {
+
+	@AfterEach
+	public void invalidate() {
+		OlmMetadataCache.invalidateAll();
+	}
+
+	/**
+	 * Verifies that concurrent provisioners using the same index image share one CatalogSource, which is deleted once
+	 */
+	@Test
+	public void testManagedCatalogSourceIsShared() {
+		final String key = OlmMetadataCache.key("https://cluster", "test", "quay.io/intersmash/index:latest");
+		final AtomicInteger created = new AtomicInteger();
+		final AtomicInteger deleted = new AtomicInteger();
+		final List<CatalogSource> acquired = IntStream.range(0, 6)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> OlmMetadataCache.acquireCatalogSource(key, () -> {
+					created.incrementAndGet();
+					return new CatalogSourceBuilder().withNewMetadata().withName("catalog-" + i).endMetadata().build();
+				})))
+				.collect(Collectors.toList()).stream()
+				.map(CompletableFuture::join)
+				.collect(Collectors.toList());
+		Assertions.assertEquals(1, created.get());
+		Assertions.assertEquals(1, acquired.stream().distinct().count());
+
+		for (int i = 0; i < 5; i++) {
+			Assertions.assertFalse(OlmMetadataCache.releaseCatalogSource(key, deleted::incrementAndGet));
+		}
+		Assertions.assertEquals(0, deleted.get());
+		Assertions.assertTrue(OlmMetadataCache.releaseCatalogSource(key, deleted::incrementAndGet));
+		Assertions.assertEquals(1, deleted.get());
+
+		// a new CatalogSource is created when requested again
+		OlmMetadataCache.acquireCatalogSource(key, () -> {
+			created.incrementAndGet();
+			return new CatalogSourceBuilder().withNewMetadata().withName("catalog").endMetadata().build();
+		});
+		Assertions.assertEquals(2, created.get());
+	}
+
+	/**
+	 * Verifies that package manifests are loaded once, unless missing, and that channel and CSV are resolved
+	 */
+	@Test
+	public void testPackageManifest() {
+		final String key = OlmMetadataCache.key("https://cluster", "olm", "operatorhubio-catalog", "wildfly");
+		final AtomicInteger loaded = new AtomicInteger();
+		Assertions.assertNull(OlmMetadataCache.packageManifest(key, () -> {
+			loaded.incrementAndGet();
+			return null;
+		}));
+		final PackageManifest packageManifest = new PackageManifestBuilder()
+				.withNewMetadata().withName("wildfly").endMetadata()
+				.withNewStatus()
+				.withDefaultChannel("alpha")
+				.addToChannels(new PackageChannelBuilder().withName("alpha").withCurrentCSV("wildfly-operator.v1.1.0")
+						.addToAdditionalProperties("entries", List.of(
+								Map.of("name", "wildfly-operator.v1.1.0", "version", "1.1.0"),
+								Map.of("name", "wildfly-operator.v1.0.0", "version", "1.0.0")))
+						.build())
+				.addToChannels(new PackageChannelBuilder().withName("beta").withCurrentCSV("wildfly-operator.v2.0.0")
+						.build())
+				.endStatus()
+				.build();
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertSame(packageManifest, OlmMetadataCache.packageManifest(key, () -> {
+				loaded.incrementAndGet();
+				return packageManifest;
+			}));
+		}
+		Assertions.assertEquals(2, loaded.get());
+
+		final PackageChannel defaultChannel = OlmMetadataCache.channel(packageManifest, null);
+		Assertions.assertEquals("alpha", defaultChannel.getName());
+		Assertions.assertEquals("wildfly-operator.v1.1.0", OlmMetadataCache.startingCSV(defaultChannel, null));
+		Assertions.assertEquals("wildfly-operator.v1.0.0", OlmMetadataCache.startingCSV(defaultChannel, "1.0.0"));
+		Assertions.assertEquals("wildfly-operator.v2.0.0",
+				OlmMetadataCache.startingCSV(OlmMetadataCache.channel(packageManifest, "beta"), "1.0.0"));
+		Assertions.assertThrows(IllegalStateException.class, () -> OlmMetadataCache.channel(packageManifest, "gamma"));
+	}
+
+	/**
+	 * Verifies that catalog sources are loaded outside the cache, i.e. a slow load doesn't block other keys, and that
+	 * failed loads are not cached
+	 */
+	@Test
+	public void testCatalogSources() {
+		final String slowKey = OlmMetadataCache.key("https://cluster", "slow");
+		final String key = OlmMetadataCache.key("https://cluster", "olm");
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<List<CatalogSource>> slow = CompletableFuture
+				.supplyAsync(() -> OlmMetadataCache.catalogSources(slowKey, () -> {
+					loading.countDown();
+					await(release);
+					return List.of();
+				}));
+		await(loading);
+		try {
+			Assertions.assertThrows(IllegalStateException.class, () -> OlmMetadataCache.catalogSources(key, () -> {
+				throw new IllegalStateException("Unable to list the catalog sources");
+			}));
+			final List<CatalogSource> catalogSources = List.of(
+					new CatalogSourceBuilder().withNewMetadata().withName("catalog").endMetadata().build());
+			Assertions.assertEquals(catalogSources, OlmMetadataCache.catalogSources(key, () -> catalogSources));
+			Assertions.assertEquals(catalogSources, OlmMetadataCache.catalogSources(key, List::of));
+			Assertions.assertFalse(slow.isDone());
+		} finally {
+			release.countDown();
+		}
+		Assertions.assertTrue(slow.join().isEmpty());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
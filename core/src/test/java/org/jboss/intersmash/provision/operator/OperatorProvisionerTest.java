@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.operator;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.intersmash.IntersmashConfig;
+import org.jboss.intersmash.application.operator.OperatorApplication;
+import org.jboss.intersmash.k8s.client.PodCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpecBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.openshift.api.model.operatorhub.packages.v1.PackageManifestBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CatalogSourceBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class OperatorProvisionerTest {
+
+	private static final String NAMESPACE = "test";
+	private static final String OPERATOR = "dummy-operator";
+	private static final String CSV = "dummy-operator.v1.0.0";
+
+	KubernetesClient client;
+
+	@AfterEach
+	public void invalidate() {
+		PodCache.invalidateAll();
+		OlmMetadataCache.invalidateAll();
+	}
+
+	/**
+	 * Verifies that an operator is configured and subscribed via the OLM API, without forking any CLI process
+	 */
+	@Test
+	public void testSubscribeViaApi() {
+		final OpenShiftClient olm = client.adapt(OpenShiftClient.class);
+		final String catalogSourceNamespace = IntersmashConfig.defaultOperatorCatalogSourceNamespace();
+		olm.operatorHub().catalogSources().inNamespace(catalogSourceNamespace).resource(new CatalogSourceBuilder()
+				.withNewMetadata().withName(IntersmashConfig.defaultOperatorCatalogSourceName())
+				.withNamespace(catalogSourceNamespace).endMetadata()
+				.build()).create();
+		olm.operatorHub().packageManifests().inNamespace(catalogSourceNamespace).resource(new PackageManifestBuilder()
+				.withNewMetadata().withName(OPERATOR).withNamespace(catalogSourceNamespace).endMetadata()
+				.withNewStatus()
+				.withDefaultChannel("stable")
+				.addNewChannel()
+				.withName("stable")
+				.withCurrentCSV(CSV)
+				.withNewCurrentCSVDesc()
+				.withNewCustomresourcedefinitions()
+				.addNewOwned().withName("dummies.intersmash.org").endOwned()
+				.endCustomresourcedefinitions()
+				.endCurrentCSVDesc()
+				.endChannel()
+				.endStatus()
+				.build()).create();
+		olm.operatorHub().clusterServiceVersions().inNamespace(NAMESPACE).resource(new ClusterServiceVersionBuilder()
+				.withNewMetadata().withName(CSV).withNamespace(NAMESPACE).endMetadata()
+				.withNewSpec()
+				.withNewInstall()
+				.withStrategy("deployment")
+				.withNewSpec()
+				.addNewDeployment()
+				.withName(OPERATOR)
+				.withSpec(new DeploymentSpecBuilder()
+						.withReplicas(1)
+						.withNewTemplate().withNewMetadata().addToLabels("name", OPERATOR).endMetadata().endTemplate()
+						.build())
+				.endDeployment()
+				.endSpec()
+				.endInstall()
+				.endSpec()
+				.withNewStatus().withPhase("Succeeded").endStatus()
+				.build()).create();
+		client.pods().inNamespace(NAMESPACE).resource(new PodBuilder()
+				.withNewMetadata().withName(OPERATOR + "-1").withNamespace(NAMESPACE).addToLabels("name", OPERATOR)
+				.endMetadata()
+				.withNewStatus().addNewContainerStatus().withReady(true).endContainerStatus().endStatus()
+				.build()).create();
+
+		final DummyOperatorProvisioner provisioner = new DummyOperatorProvisioner(client);
+		provisioner.configure();
+		Assertions.assertEquals(CSV, provisioner.getCurrentCSV());
+		Assertions.assertEquals(Collections.singleton("dummies.intersmash.org"),
+				provisioner.getCustomResourceDefinitions());
+		provisioner.subscribe();
+
+		final Subscription subscription = olm.operatorHub().subscriptions().inNamespace(NAMESPACE).withName(OPERATOR)
+				.get();
+		Assertions.assertNotNull(subscription);
+		Assertions.assertEquals("stable", subscription.getSpec().getChannel());
+		Assertions.assertEquals(CSV, subscription.getSpec().getStartingCSV());
+		Assertions.assertTrue(provisioner.commands.isEmpty(), "Unexpected CLI calls: " + provisioner.commands);
+	}
+
+	static class DummyOperatorProvisioner extends OperatorProvisioner<DummyOperatorApplication, NamespacedKubernetesClient> {
+		private final NamespacedKubernetesClientAdapter<NamespacedKubernetesClient> adapter;
+		private final List<String> commands = new ArrayList<>();
+
+		DummyOperatorProvisioner(KubernetesClient client) {
+			super(new DummyOperatorApplication(), OPERATOR);
+			adapter = new NamespacedKubernetesClientAdapter<>(NamespacedKubernetesClient.class);
+			adapter.init(client.adapt(NamespacedKubernetesClient.class).inNamespace(NAMESPACE));
+		}
+
+		@Override
+		protected NamespacedKubernetesClientAdapter<NamespacedKubernetesClient> client() {
+			return adapter;
+		}
+
+		@Override
+		protected String execute(String... args) {
+			commands.add(Arrays.toString(args));
+			return null;
+		}
+
+		@Override
+		protected String executeInNamespace(String namespace, String... args) {
+			return execute(args);
+		}
+
+		@Override
+		protected String getOperatorCatalogSource() {
+			return IntersmashConfig.defaultOperatorCatalogSourceName();
+		}
+
+		@Override
+		protected String getOperatorIndexImage() {
+			return null;
+		}
+
+		@Override
+		protected String getOperatorChannel() {
+			return null;
+		}
+
+		@Override
+		protected String getVersion() {
+			return null;
+		}
+
+		@Override
+		public void preDeploy() {
+		}
+
+		@Override
+		public void deploy() {
+		}
+
+		@Override
+		public void undeploy() {
+		}
+
+		@Override
+		public void postUndeploy() {
+		}
+
+		@Override
+		public URL getURL() {
+			return null;
+		}
+
+		@Override
+		public void scale(int replicas, boolean wait) {
+		}
+	}
+
+	static class DummyOperatorApplication implements OperatorApplication {
+		@Override
+		public String getName() {
+			return OPERATOR;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.operator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OperatorSubscriptionsTest {
+
+	@AfterEach
+	public void tearDown() {
+		OperatorSubscriptions.tearDownAll();
+	}
+
+	/**
+	 * Verifies that a subscription is created once, kept across releases, and torn down once at the end
+	 */
+	@Test
+	public void testSubscriptionIsReused() {
+		final String key = OlmMetadataCache.key("https://cluster", "test", "wildfly", "alpha", "wildfly-operator.v1.0.0");
+		final AtomicBoolean subscribed = new AtomicBoolean();
+		final AtomicInteger subscriptions = new AtomicInteger();
+		final AtomicInteger tearDowns = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			final boolean reused = OperatorSubscriptions.acquire(key, subscribed::get, () -> {
+				subscriptions.incrementAndGet();
+				subscribed.set(true);
+			}, () -> {
+				tearDowns.incrementAndGet();
+				subscribed.set(false);
+			});
+			Assertions.assertEquals(i > 0, reused);
+			OperatorSubscriptions.release(key);
+		}
+		Assertions.assertEquals(1, subscriptions.get());
+		Assertions.assertEquals(0, tearDowns.get());
+
+		OperatorSubscriptions.tearDownAll();
+		Assertions.assertEquals(1, tearDowns.get());
+		Assertions.assertFalse(subscribed.get());
+		OperatorSubscriptions.tearDownAll();
+		Assertions.assertEquals(1, tearDowns.get());
+	}
+
+	/**
+	 * Verifies that a subscription which doesn't exist anymore, e.g. because the namespace was deleted, is re-created
+	 */
+	@Test
+	public void testMissingSubscriptionIsRecreated() {
+		final String key = OlmMetadataCache.key("https://cluster", "test", "infinispan", "stable", "infinispan.v2.4.0");
+		final AtomicInteger subscriptions = new AtomicInteger();
+		final AtomicInteger tearDowns = new AtomicInteger();
+		Assertions.assertFalse(OperatorSubscriptions.acquire(key, () -> false, subscriptions::incrementAndGet,
+				tearDowns::incrementAndGet));
+		OperatorSubscriptions.release(key);
+		Assertions.assertFalse(OperatorSubscriptions.acquire(key, () -> false, subscriptions::incrementAndGet,
+				tearDowns::incrementAndGet));
+		Assertions.assertEquals(2, subscriptions.get());
+
+		OperatorSubscriptions.tearDownAll();
+		Assertions.assertEquals(1, tearDowns.get());
+	}
+}
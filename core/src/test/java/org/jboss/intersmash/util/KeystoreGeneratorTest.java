@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KeystoreGeneratorTest {
+
+	/**
+	 * Verifies that keystores contain a key whose certificate is signed by the generated CA, which is trusted by the
+	 * generated truststore
+	 */
+	@Test
+	public void testKeystoreIsSignedByCa() throws IOException, GeneralSecurityException {
+		final KeystoreGenerator.GeneratedPaths paths = KeystoreGenerator.generateCerts("app.example.com",
+				new String[] { "app-alt.example.com" });
+
+		final KeyStore keyStore = load(paths.keystore);
+		final Certificate[] chain = keyStore.getCertificateChain("app.example.com");
+		Assertions.assertEquals(2, chain.length);
+		final X509Certificate certificate = (X509Certificate) chain[0];
+		final X509Certificate ca = (X509Certificate) load(paths.truststore).getCertificate("Intersmash.ca");
+		certificate.verify(ca.getPublicKey());
+		Assertions.assertEquals(ca, chain[1]);
+		Assertions.assertTrue(certificate.getSubjectX500Principal().getName().contains("CN=app.example.com"));
+		Assertions.assertEquals(List.of("app.example.com", "app-alt.example.com"),
+				certificate.getSubjectAlternativeNames().stream().map(name -> name.get(1)).collect(Collectors.toList()));
+		Assertions.assertNotNull(keyStore.getCertificate("Intersmash.ca"));
+
+		Assertions.assertTrue(Files.readString(paths.certPem).startsWith("-----BEGIN CERTIFICATE-----"));
+		Assertions.assertTrue(Files.readString(paths.keyPem).contains("PRIVATE KEY-----"));
+		Assertions.assertTrue(Files.readString(paths.caPem).startsWith("-----BEGIN CERTIFICATE-----"));
+		// keystores are generated once per hostname
+		Assertions.assertEquals(paths.keystore, KeystoreGenerator.generateKeystore("app.example.com"));
+	}
+
+	/**
+	 * Verifies that the CA can be left out of the keystore
+	 */
+	@Test
+	public void testCaIsDeletedFromKeystore() throws IOException, GeneralSecurityException {
+		final KeyStore keyStore = load(KeystoreGenerator.generateKeystore("no-ca.example.com", "server", true));
+		Assertions.assertEquals(List.of("server"), Collections.list(keyStore.aliases()));
+		Assertions.assertNull(((X509Certificate) keyStore.getCertificate("server")).getSubjectAlternativeNames());
+	}
+
+	private static KeyStore load(Path path) throws IOException, GeneralSecurityException {
+		try (InputStream in = Files.newInputStream(path)) {
+			final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			keyStore.load(in, KeystoreGenerator.getPassword().toCharArray());
+			return keyStore;
+		}
+	}
+}
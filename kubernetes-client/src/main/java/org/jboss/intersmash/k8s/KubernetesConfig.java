@@ -15,6 +15,7 @@
  */
 package org.jboss.intersmash.k8s;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import cz.xtf.core.config.XTFConfig;
@@ -31,6 +32,7 @@ public final class KubernetesConfig {
 	public static final String KUBERNETES_BINARY_CACHE_ENABLED = "intersmash.kubernetes.binary.cache.enabled";
 	public static final String KUBERNETES_BINARY_CACHE_PATH = "intersmash.kubernetes.binary.cache.path";
 	public static final String KUBERNETES_BINARY_CACHE_DEFAULT_FOLDER = "kubectl-cache";
+	public static final String KUBERNETES_BINARY_SESSION_TTL = "intersmash.kubernetes.binary.session.ttl";
 	public static final String KUBERNETES_ADMIN_USERNAME = "intersmash.kubernetes.admin.username";
 	public static final String KUBERNETES_ADMIN_PASSWORD = "intersmash.kubernetes.admin.password";
 	public static final String KUBERNETES_ADMIN_KUBECONFIG = "intersmash.kubernetes.admin.kubeconfig";
@@ -42,6 +44,13 @@ public final class KubernetesConfig {
 	public static final String KUBERNETES_ROUTE_DOMAIN = "intersmash.kubernetes.route_domain";
 	public static final String KUBERNETES_PULL_SECRET = "intersmash.kubernetes.pullsecret";
 	public static final String KUBERNETES_NAMESPACE_PER_TESTCASE = "intersmash.kubernetes.namespace.per.testcase";
+	public static final String KUBERNETES_PODS_CACHE_ENABLED = "intersmash.kubernetes.pods.cache.enabled";
+	public static final String KUBERNETES_PODS_CACHE_MAX_STALENESS = "intersmash.kubernetes.pods.cache.max.staleness";
+	public static final String KUBERNETES_NAMESPACE_POOL_SIZE = "intersmash.kubernetes.namespace.pool.size";
+	public static final String KUBERNETES_NAMESPACE_POOL_RECYCLE = "intersmash.kubernetes.namespace.pool.recycle";
+	public static final String KUBERNETES_NAMESPACE_CLEAN_RECREATE = "intersmash.kubernetes.namespace.clean.recreate";
+	public static final String KUBERNETES_API_METRICS_ENABLED = "intersmash.kubernetes.api.metrics.enabled";
+	public static final String KUBERNETES_API_METRICS_DIR = "intersmash.kubernetes.api.metrics.dir";
 
 	/**
 	 * Used only if intersmash.kubernetes.namespace.per.testcase=true - this property can configure its maximum length. This is useful
@@ -132,6 +141,75 @@ public final class KubernetesConfig {
 				KUBERNETES_BINARY_CACHE_DEFAULT_FOLDER).toAbsolutePath().normalize().toString());
 	}
 
+	/**
+	 * @return whether pods should be read from an informer backed cache, see {@link org.jboss.intersmash.k8s.client.PodCache}
+	 */
+	public static boolean isPodsCacheEnabled() {
+		return Boolean.parseBoolean(XTFConfig.get(KUBERNETES_PODS_CACHE_ENABLED, "true"));
+	}
+
+	/**
+	 * @return for how long, in milliseconds, the pods cache can still be read after the underlying watch got
+	 * disconnected
+	 */
+	public static long podsCacheMaxStaleness() {
+		return Long.parseLong(XTFConfig.get(KUBERNETES_PODS_CACHE_MAX_STALENESS, "5000"));
+	}
+
+	/**
+	 * @return for how long, in milliseconds, an authenticated client binary session is reused, see
+	 * {@link org.jboss.intersmash.k8s.client.binary.BinarySessions}
+	 */
+	public static long binarySessionTtl() {
+		return Long.parseLong(XTFConfig.get(KUBERNETES_BINARY_SESSION_TTL, "3600000"));
+	}
+
+	/**
+	 * Used only if intersmash.kubernetes.namespace.per.testcase=true
+	 *
+	 * @return how many namespaces are created ahead of the test classes which will use them, see
+	 * {@link org.jboss.intersmash.k8s.client.NamespacePool}, {@code 0} disables the pool. Kubernetes only, OpenShift
+	 * namespaces per test case are not pooled
+	 */
+	public static int namespacePoolSize() {
+		return Integer.parseInt(XTFConfig.get(KUBERNETES_NAMESPACE_POOL_SIZE, "0"));
+	}
+
+	/**
+	 * @return whether pooled namespaces are cleaned and reused once a test class is done with them, rather than deleted
+	 * and replaced
+	 */
+	public static boolean isNamespacePoolRecycleEnabled() {
+		return Boolean.parseBoolean(XTFConfig.get(KUBERNETES_NAMESPACE_POOL_RECYCLE, "false"));
+	}
+
+	/**
+	 * @return whether namespaces are cleaned by deleting and re-creating them, which loses the resources labelled to be
+	 * kept and the operators installed in the namespace
+	 */
+	public static boolean isNamespaceRecreateOnCleanEnabled() {
+		return Boolean.parseBoolean(XTFConfig.get(KUBERNETES_NAMESPACE_CLEAN_RECREATE, "false"));
+	}
+
+	/**
+	 * @return whether the requests issued by the {@link org.jboss.intersmash.k8s.client.Kubernetes} clients, and the
+	 * processes forked to execute client binaries, are counted and timed, see
+	 * {@link org.jboss.intersmash.k8s.client.ApiMetrics}
+	 */
+	public static boolean isApiMetricsEnabled() {
+		return Boolean.parseBoolean(XTFConfig.get(KUBERNETES_API_METRICS_ENABLED, "false"));
+	}
+
+	/**
+	 * @return The directory where the API metrics are exported, once per test class, i.e. {@code tmp/api-metrics} by
+	 * default
+	 */
+	public static Path apiMetricsDirectory() {
+		final String directory = XTFConfig.get(KUBERNETES_API_METRICS_DIR);
+		return directory == null || directory.isBlank() ? Paths.get("tmp").toAbsolutePath().resolve("api-metrics")
+				: Paths.get(directory).toAbsolutePath();
+	}
+
 	public static String adminUsername() {
 		return XTFConfig.get(KUBERNETES_ADMIN_USERNAME);
 	}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.k8s.KubernetesConfig;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts and times the requests which are issued by the {@link Kubernetes} clients, by verb, resource, namespace and
+ * calling provisioner, as well as the processes which are forked to execute client binaries, e.g. {@code oc},
+ * {@code kubectl} or {@code helm}, so that API hot spots, like resources being listed by waiters, can be found.
+ * <p>
+ * Metrics are opt-in, see {@link KubernetesConfig#isApiMetricsEnabled()}, they are recorded for the running test case,
+ * see {@link TestCaseContext}, and attributed to the concrete provisioner class which is bound to the calling thread,
+ * see {@link #attribute(Class, Runnable)}. Otherwise, they're attributed to the innermost provisioner type found on
+ * the calling thread stack, i.e. the type which declares the calling method, which can be a base provisioner type.
+ * Requests which are issued by other threads, e.g. the ones of informers, are attributed to {@link #OTHER}.
+ * The metrics of a test class are exported into a JSON file in {@link KubernetesConfig#apiMetricsDirectory()}, and
+ * discarded afterward.
+ * </p>
+ */
+@Slf4j
+public final class ApiMetrics {
+	public static final String API = "api";
+	public static final String PROCESS = "process";
+	public static final String OTHER = "other";
+
+	private static final String INTERCEPTOR = "INTERSMASH_API_METRICS";
+	private static final Map<Key, Metric> METRICS = new ConcurrentHashMap<>();
+	private static final Map<UUID, Pending> PENDING = new ConcurrentHashMap<>();
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+	private static final ThreadLocal<String> PROVISIONER = new ThreadLocal<>();
+
+	private ApiMetrics() {
+	}
+
+	/**
+	 * Create the HTTP client of a {@link Kubernetes} client, like fabric8 does, and record its requests if metrics are
+	 * enabled.
+	 *
+	 * @param config The client configuration
+	 * @return The HTTP client
+	 */
+	static HttpClient httpClient(Config config) {
+		final HttpClient.Builder builder = HttpClientUtils.getHttpClientFactory().newBuilder(config);
+		if (KubernetesConfig.isApiMetricsEnabled()) {
+			builder.addOrReplaceInterceptor(INTERCEPTOR, new MetricsInterceptor());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Fork a client binary process, and record it if metrics are enabled.
+	 *
+	 * @param binary The path of the client binary, e.g. {@code oc}
+	 * @param args The binary arguments, the first of which not being an option is recorded as the verb
+	 * @param execution Forks the process, and returns its output, or {@code null} if it failed
+	 * @return The process output
+	 */
+	public static String process(String binary, String[] args, Supplier<String> execution) {
+		if (!KubernetesConfig.isApiMetricsEnabled()) {
+			return execution.get();
+		}
+		final Key key = new Key(testCase(), caller(), PROCESS,
+				Arrays.stream(args).filter(a -> !a.startsWith("-")).findFirst().orElse(""),
+				Paths.get(binary).getFileName().toString(), namespace(args));
+		final long start = System.nanoTime();
+		boolean succeeded = false;
+		try {
+			final String output = execution.get();
+			succeeded = output != null;
+			return output;
+		} finally {
+			record(key, start, succeeded);
+		}
+	}
+
+	/**
+	 * Attribute the requests and processes issued by the given action, on the calling thread, to the given
+	 * provisioner class.
+	 *
+	 * @param provisioner The concrete provisioner class, e.g. the one whose lifecycle method is being executed
+	 * @param action The action
+	 */
+	public static void attribute(Class<?> provisioner, Runnable action) {
+		final String outer = PROVISIONER.get();
+		PROVISIONER.set(provisioner.getSimpleName());
+		try {
+			action.run();
+		} finally {
+			if (outer == null) {
+				PROVISIONER.remove();
+			} else {
+				PROVISIONER.set(outer);
+			}
+		}
+	}
+
+	/**
+	 * @param testCase The test class name
+	 * @return The metrics recorded for the given test class, the most frequent calls first
+	 */
+	public static List<Metric> of(String testCase) {
+		return METRICS.entrySet().stream()
+				.filter(e -> Objects.equals(testCase, e.getKey().testCase))
+				.map(Map.Entry::getValue)
+				.sorted(Comparator.comparingLong(Metric::getCount).reversed())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Write the metrics recorded for the given test class into its JSON file, if metrics are enabled, then discard
+	 * them.
+	 *
+	 * @param testCase The test class name
+	 * @return The JSON file, or {@code null} if metrics are disabled, or the file couldn't be written
+	 */
+	public static Path export(String testCase) {
+		if (!KubernetesConfig.isApiMetricsEnabled()) {
+			return null;
+		}
+		final List<Metric> metrics = of(testCase);
+		METRICS.keySet().removeIf(key -> Objects.equals(testCase, key.testCase));
+		log.info("{} issued {} API requests and forked {} processes", testCase,
+				metrics.stream().filter(m -> API.equals(m.getType())).mapToLong(Metric::getCount).sum(),
+				metrics.stream().filter(m -> PROCESS.equals(m.getType())).mapToLong(Metric::getCount).sum());
+		final Path file = KubernetesConfig.apiMetricsDirectory().resolve("intersmash-api-metrics-" + testCase + ".json");
+		try {
+			Files.createDirectories(file.getParent());
+			new ObjectMapper()
+					.enable(SerializationFeature.INDENT_OUTPUT)
+					.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+					.writeValue(file.toFile(), metrics);
+			return file;
+		} catch (IOException e) {
+			log.warn("Unable to write the API metrics to {}: {}", file, e.getMessage());
+			return null;
+		}
+	}
+
+	static Key request(String testCase, String caller, String method, URI uri) {
+		final List<String> segments = Arrays.stream(uri.getRawPath().split("/"))
+				.filter(s -> !s.isEmpty()).collect(Collectors.toList());
+		// /api/<version>/... or /apis/<group>/<version>/...
+		final String root = segments.isEmpty() ? "" : segments.get(0);
+		final int start = "api".equals(root) ? 2 : "apis".equals(root) ? 3 : 0;
+		if (start == 0 || segments.size() <= start) {
+			return new Key(testCase, caller, API, method.toLowerCase(), uri.getRawPath(), null);
+		}
+		List<String> path = segments.subList(start, segments.size());
+		String namespace = null;
+		if (path.size() > 2 && "namespaces".equals(path.get(0))) {
+			namespace = path.get(1);
+			path = path.subList(2, path.size());
+		}
+		final boolean named = path.size() > 1;
+		final String resource = (start == 3 ? path.get(0) + "." + segments.get(1) : path.get(0))
+				+ (path.size() > 2 ? "/" + path.get(2) : "");
+		return new Key(testCase, caller, API, verb(method, named, uri.getRawQuery()), resource, namespace);
+	}
+
+	private static String verb(String method, boolean named, String query) {
+		switch (method) {
+			case "GET":
+				if (query != null && query.contains("watch=true")) {
+					return "watch";
+				}
+				return named ? "get" : "list";
+			case "POST":
+				return "create";
+			case "PUT":
+				return "update";
+			case "PATCH":
+				return "patch";
+			case "DELETE":
+				return named ? "delete" : "deletecollection";
+			default:
+				return method.toLowerCase();
+		}
+	}
+
+	private static String namespace(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].startsWith("--namespace=")) {
+				return args[i].substring("--namespace=".length());
+			} else if (("-n".equals(args[i]) || "--namespace".equals(args[i])) && i + 1 < args.length) {
+				return args[i + 1];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return The test case of the current thread, or {@code null} if it can't be resolved, in which case the request is
+	 * recorded anyway, rather than failing it
+	 */
+	private static String testCase() {
+		try {
+			return TestCaseContext.getRunningTestCaseName();
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	private static String caller() {
+		final String provisioner = PROVISIONER.get();
+		if (provisioner != null) {
+			return provisioner;
+		}
+		return STACK_WALKER.walk(frames -> frames
+				.map(StackWalker.StackFrame::getClassName)
+				.filter(c -> c.startsWith("org.jboss.intersmash.") && c.endsWith("Provisioner"))
+				.map(c -> c.substring(Math.max(c.lastIndexOf('.'), c.lastIndexOf('$')) + 1))
+				.findFirst()
+				.orElse(OTHER));
+	}
+
+	private static void record(Key key, long start, boolean succeeded) {
+		METRICS.computeIfAbsent(key, Metric::new)
+				.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), succeeded);
+	}
+
+	/**
+	 * Times the requests from the moment their body consumer is created, i.e. once all the interceptors have completed
+	 * the request, to the moment their response is received.
+	 */
+	private static final class MetricsInterceptor implements Interceptor {
+
+		@Override
+		public AsyncBody.Consumer<List<ByteBuffer>> consumer(AsyncBody.Consumer<List<ByteBuffer>> consumer,
+				HttpRequest request) {
+			PENDING.put(request.id(), new Pending(
+					request(testCase(), caller(), request.method(), request.uri()),
+					System.nanoTime()));
+			return consumer;
+		}
+
+		@Override
+		public void after(HttpRequest request, HttpResponse<?> response,
+				AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+			final Pending pending = PENDING.remove(request.id());
+			if (pending != null) {
+				record(pending.key, pending.start, response.isSuccessful());
+			}
+		}
+
+		@Override
+		public void afterConnectionFailure(HttpRequest request, Throwable failure) {
+			final Pending pending = PENDING.remove(request.id());
+			if (pending != null) {
+				record(pending.key, pending.start, false);
+			}
+		}
+	}
+
+	private static final class Pending {
+		private final Key key;
+		private final long start;
+
+		Pending(Key key, long start) {
+			this.key = key;
+			this.start = start;
+		}
+	}
+
+	static final class Key {
+		private final String testCase;
+		private final String caller;
+		private final String type;
+		private final String verb;
+		private final String resource;
+		private final String namespace;
+
+		Key(String testCase, String caller, String type, String verb, String resource, String namespace) {
+			this.testCase = testCase;
+			this.caller = caller;
+			this.type = type;
+			this.verb = verb;
+			this.resource = resource;
+			this.namespace = namespace;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return Objects.equals(testCase, key.testCase) && caller.equals(key.caller) && type.equals(key.type)
+					&& verb.equals(key.verb) && resource.equals(key.resource) && Objects.equals(namespace, key.namespace);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(testCase, caller, type, verb, resource, namespace);
+		}
+	}
+
+	/**
+	 * The requests, or the forked processes, which share the same verb, resource, namespace and caller.
+	 */
+	public static final class Metric {
+		@Getter
+		private final String testCase;
+		@Getter
+		private final String caller;
+		@Getter
+		private final String type;
+		@Getter
+		private final String verb;
+		@Getter
+		private final String resource;
+		@Getter
+		private final String namespace;
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong failures = new AtomicLong();
+		private final AtomicLong totalMillis = new AtomicLong();
+		private final AtomicLong maxMillis = new AtomicLong();
+
+		Metric(Key key) {
+			this.testCase = key.testCase;
+			this.caller = key.caller;
+			this.type = key.type;
+			this.verb = key.verb;
+			this.resource = key.resource;
+			this.namespace = key.namespace;
+		}
+
+		public long getCount() {
+			return count.get();
+		}
+
+		public long getFailures() {
+			return failures.get();
+		}
+
+		public long getTotalMillis() {
+			return totalMillis.get();
+		}
+
+		public long getMaxMillis() {
+			return maxMillis.get();
+		}
+
+		void record(long millis, boolean succeeded) {
+			count.incrementAndGet();
+			if (!succeeded) {
+				failures.incrementAndGet();
+			}
+			totalMillis.addAndGet(millis);
+			maxMillis.accumulateAndGet(millis, Math::max);
+		}
+	}
+}
@@ -19,7 +19,6 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
@@ -40,7 +39,6 @@ import cz.xtf.core.config.WaitingConfig;
 import cz.xtf.core.openshift.crd.CustomResourceDefinitionContextProvider;
 import cz.xtf.core.waiting.SimpleWaiter;
 import cz.xtf.core.waiting.Waiter;
-import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
@@ -48,6 +46,7 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import lombok.extern.slf4j.Slf4j;
@@ -68,7 +67,9 @@ public class Kubernetes extends DefaultKubernetesClient {
 	 */
 	public static final Multimap<String, Kubernetes> namespaceToKubernetesClientMap = Multimaps
 			.synchronizedListMultimap(ArrayListMultimap.create());
-	private static final String KEEP_LABEL = "intersmash/keep";
+	public static final String KEEP_LABEL = "intersmash/keep";
+	private static final String OPERATOR_GROUP_API_VERSION = "operators.coreos.com/v1";
+	private static final String OPERATOR_GROUP_KIND = "OperatorGroup";
 
 	/**
 	 * Autoconfigures the client with the default fabric8 client rules
@@ -131,7 +132,7 @@ public class Kubernetes extends DefaultKubernetesClient {
 	}
 
 	public Kubernetes(Config kubeconfig) {
-		super(kubeconfig);
+		super(ApiMetrics.httpClient(kubeconfig), kubeconfig);
 	}
 
 	public void setupPullSecret(String secret) {
@@ -176,21 +177,21 @@ public class Kubernetes extends DefaultKubernetesClient {
 	}
 
 	private static Kubernetes get(Config kubeconfig) {
-		Kubernetes kubernetes;
-
-		// check whether such a client already exists
-		Optional<Kubernetes> optionalKubernetes = namespaceToKubernetesClientMap
-				.get(kubeconfig.getNamespace()).stream()
-				.filter(kc -> isEqualConfig(kubeconfig, kc.getConfiguration()))
-				.findFirst();
-
-		if (optionalKubernetes.isPresent()) {
-			return optionalKubernetes.get();
-		} else {
-			kubernetes = new Kubernetes(kubeconfig);
+		// check whether such a client already exists, the lookup and the registration must be atomic since the
+		// multimap views are not synchronized
+		synchronized (namespaceToKubernetesClientMap) {
+			Optional<Kubernetes> optionalKubernetes = namespaceToKubernetesClientMap
+					.get(kubeconfig.getNamespace()).stream()
+					.filter(kc -> isEqualConfig(kubeconfig, kc.getConfiguration()))
+					.findFirst();
+
+			if (optionalKubernetes.isPresent()) {
+				return optionalKubernetes.get();
+			}
+			Kubernetes kubernetes = new Kubernetes(kubeconfig);
 			namespaceToKubernetesClientMap.put(kubeconfig.getNamespace(), kubernetes);
+			return kubernetes;
 		}
-		return kubernetes;
 	}
 
 	private static void setupTimeouts(Config config) {
@@ -277,132 +278,66 @@ public class Kubernetes extends DefaultKubernetesClient {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Delete the resources created by tests from the namespace, i.e. those which are not labelled with
+	 * {@link #KEEP_LABEL}, see {@link NamespaceCleaner}.
+	 * <p>
+	 * When {@link KubernetesConfig#isNamespaceRecreateOnCleanEnabled()} is set, the namespace is deleted and created
+	 * again instead, see {@link #recreate()}.
+	 * </p>
+	 *
+	 * @return A {@link Waiter} instance which waits for the namespace to be clean, and which must be waited for
+	 */
 	public Waiter clean() {
-		for (CustomResourceDefinitionContextProvider crdContextProvider : Kubernetes.getCRDContextProviders()) {
-			try {
-				// TODO - check
-				genericKubernetesResources(crdContextProvider.getContext())
-						.inNamespace(getNamespace()).delete();
-				log.debug("DELETE :: " + crdContextProvider.getContext().getName() + " instances");
-			} catch (KubernetesClientException kce) {
-				log.debug(crdContextProvider.getContext().getName() + " might not be installed on the cluster.", kce);
-			}
+		if (KubernetesConfig.isNamespaceRecreateOnCleanEnabled()) {
+			return recreate();
 		}
-
-		/* Only OpenShift has the following ones, which are missing from k8s
-		templates().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		deploymentConfigs().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		buildConfigs().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		imageStreams().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		builds().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		routes().withLabelNotIn(KEEP_LABEL, "", "true").delete();
-		*/
-
-		// keep the order for deletion to prevent K8s creating resources again
-		apps().deployments().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		apps().replicaSets().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		apps().statefulSets().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		batch().jobs().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		replicationControllers().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		endpoints().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		services().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		pods().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").withGracePeriod(0).delete();
-		persistentVolumeClaims().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-		autoscaling().v1().horizontalPodAutoscalers().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").delete();
-
-		getUserConfigMaps().forEach(c -> configMaps().delete(c));
-		getUserSecrets().forEach(s -> secrets().delete(s));
-		getUserServiceAccounts().forEach((sa) -> {
-			serviceAccounts().delete(sa);
-		});
-		getUserRoleBindings().forEach(r -> rbac().roleBindings().delete(r));
-		rbac().roles().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true")
-				.withLabelNotIn("olm.owner.kind", "ClusterServiceVersion")
-				.delete();
-
-		for (HasMetadata hasMetadata : listRemovableResources()) {
-			log.warn("DELETE LEFTOVER :: " + hasMetadata.getKind() + "/" + hasMetadata.getMetadata().getName());
-			resource(hasMetadata).cascading(true).withGracePeriod(0).delete();
-		}
-
-		FailFastCheck failFastCheck = () -> false;
-		return new SimpleWaiter(
-				() -> isNamespaceClean(),
-				TimeUnit.MILLISECONDS, WaitingConfig.timeoutCleanup(), "Cleaning project - " + getNamespace())
-				.onTimeout(() -> log.info("Cleaning namespace: " + getNamespace() + " - timed out."))
-				.onFailure(() -> log.info("Cleaning namespace: " + getNamespace() + " - failed."))
-				.onSuccess(() -> log.info("Cleaning namespace: " + getNamespace() + " - finished."))
-				.failFast(failFastCheck);
-	}
-
-	List<HasMetadata> listRemovableResources() {
-		/* Only OpenShift has the following ones, which are missing from k8s
-		removables.addAll(templates().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(deploymentConfigs().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(buildConfigs().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(imageStreams().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(builds().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(routes().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		*/
-
-		// keep the order for deletion to prevent K8s creating resources again
-		List<HasMetadata> removables = new ArrayList<>();
-		removables.addAll(apps().deployments().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(apps().replicaSets().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(batch().jobs().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(apps().statefulSets().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(replicationControllers().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(endpoints().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(services().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(pods().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(persistentVolumeClaims().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list().getItems());
-		removables.addAll(autoscaling().v1().horizontalPodAutoscalers().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true").list()
-				.getItems());
-		removables.addAll(getUserConfigMaps());
-		removables.addAll(getUserSecrets());
-		removables.addAll(getUserServiceAccounts());
-		removables.addAll(getUserRoleBindings());
-		removables.addAll(rbac().roles().withLabelNotIn(Kubernetes.KEEP_LABEL, "", "true")
-				.withLabelNotIn("olm.owner.kind", "ClusterServiceVersion").list().getItems());
-
-		return removables;
+		return NamespaceCleaner.clean(this);
 	}
 
-	private boolean isNamespaceClean() {
-		int crdInstances = 0;
-		List<GenericKubernetesResource> customResourceDefinitionList = null;
-		for (CustomResourceDefinitionContextProvider crdContextProvider : Kubernetes.getCRDContextProviders()) {
-			try {
-				customResourceDefinitionList = genericKubernetesResources(crdContextProvider.getContext())
-						.inNamespace(getNamespace())
-						.list().getItems();
-				crdInstances += customResourceDefinitionList.size();
-			} catch (KubernetesClientException kce) {
-				// CRD might not be installed on the cluster
-			}
-		}
-
-		boolean isClean = false;
-		List<HasMetadata> listRemovableResources = listRemovableResources();
-		if (crdInstances == 0 & listRemovableResources.isEmpty()) {
-			isClean = true;
-		} else {
-			StringBuilder strBuilderResourcesToDelete = new StringBuilder(
-					"Cleaning project - " + getNamespace()
-							+ " Waiting for following resources to be deleted: \n");
-			if (customResourceDefinitionList != null && !customResourceDefinitionList.isEmpty()) {
-				customResourceDefinitionList.stream().forEach((r) -> {
-					strBuilderResourcesToDelete.append(r + "\n");
-				});
-			}
-			if (!listRemovableResources.isEmpty()) {
-				listRemovableResources.stream().forEach((r) -> {
-					strBuilderResourcesToDelete.append(r + "\n");
-				});
-			}
-			log.debug(strBuilderResourcesToDelete.toString());
+	/**
+	 * Delete the namespace and create it again, which is faster than deleting its resources one kind after another.
+	 * <p>
+	 * Everything is deleted, including the resources labelled with {@link #KEEP_LABEL} and the operators which are
+	 * installed in the namespace, only the {@code OperatorGroup} instances are created again.
+	 * </p>
+	 *
+	 * @return A {@link Waiter} instance which waits for the namespace to be created again
+	 */
+	private Waiter recreate() {
+		final String namespace = getNamespace();
+		final Kubernetes admin = Kuberneteses.admin(namespace);
+		List<GenericKubernetesResource> operatorGroups = List.of();
+		try {
+			operatorGroups = admin.genericKubernetesResources(OPERATOR_GROUP_API_VERSION, OPERATOR_GROUP_KIND)
+					.inNamespace(namespace).list().getItems();
+		} catch (KubernetesClientException kce) {
+			log.debug("OperatorGroup might not be installed on the cluster.", kce);
 		}
-		return isClean;
+		final List<GenericKubernetesResource> preserved = operatorGroups;
+		log.info("Cleaning namespace: " + namespace + " - deleting and re-creating it.");
+		NamespaceManager.deleteProject(namespace, false);
+		return new SimpleWaiter(
+				() -> {
+					if (admin.namespaces().withName(namespace).get() != null) {
+						return false;
+					}
+					NamespaceManager.createIfDoesNotExistsProject(namespace);
+					preserved.forEach(og -> admin.resource(new GenericKubernetesResourceBuilder()
+							.withApiVersion(og.getApiVersion())
+							.withKind(og.getKind())
+							.withNewMetadata()
+							.withName(og.getMetadata().getName())
+							.withNamespace(namespace)
+							.withLabels(og.getMetadata().getLabels())
+							.endMetadata()
+							.withAdditionalProperties(og.getAdditionalProperties())
+							.build()).createOr(NonDeletingOperation::update));
+					return true;
+				},
+				TimeUnit.MILLISECONDS, WaitingConfig.timeoutCleanup(), "Re-creating project - " + namespace)
+				.onTimeout(() -> log.info("Re-creating namespace: " + namespace + " - timed out."))
+				.onSuccess(() -> log.info("Re-creating namespace: " + namespace + " - finished."));
 	}
 
 	public String generateHostname() {
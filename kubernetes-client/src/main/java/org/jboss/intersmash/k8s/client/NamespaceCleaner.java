@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import cz.xtf.core.config.WaitingConfig;
+import cz.xtf.core.openshift.OpenShift;
+import cz.xtf.core.openshift.crd.CustomResourceDefinitionContextProvider;
+import cz.xtf.core.waiting.SimpleWaiter;
+import cz.xtf.core.waiting.Waiter;
+import cz.xtf.core.waiting.failfast.FailFastCheck;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.openshift.client.OpenShiftClient;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes the resources created by tests from a namespace, see {@link #clean(NamespacedKubernetesClient)}.
+ * <p>
+ * The resources which OLM created on behalf of a {@code ClusterServiceVersion}, i.e. those labelled with
+ * {@code olm.owner.kind} or owned by it, are preserved, as well as the replica sets and pods of the operator
+ * deployments, so that the operators which are shared across test classes keep running.
+ * </p>
+ * <p>
+ * Resources are deleted in two waves, i.e. the controllers which would otherwise re-create the resources they own,
+ * then everything else. The resource kinds of each wave are deleted concurrently, with a single collection deletion
+ * call per kind, unless only some of the resources matching the keep label selector must be deleted, e.g. secrets.
+ * </p>
+ * <p>
+ * The remaining resources are tracked by an inventory which is populated by one informer per kind before anything
+ * is deleted, so that checking whether the namespace is clean doesn't issue any request. Kinds which can't be
+ * watched, e.g. because a custom resource definition is not installed, are listed on each check instead.
+ * {@link #close()} must be called once done, in order to stop the informers, and {@link #closeAfter(long)} makes
+ * sure they're stopped even if that never happens.
+ * </p>
+ */
+@Slf4j
+public final class NamespaceCleaner {
+	private static final AtomicInteger THREADS = new AtomicInteger();
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(8, r -> {
+		Thread thread = new Thread(r, "intersmash-namespace-cleaner-" + THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "intersmash-namespace-cleaner-closer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private static final String OLM_OWNER_KIND = "olm.owner.kind";
+	private static final String CSV = "ClusterServiceVersion";
+
+	private final NamespacedKubernetesClient client;
+	private final List<Removable<?>> removables = new ArrayList<>();
+	private boolean leftoversDeleted;
+	private volatile ScheduledFuture<?> scheduledClose;
+
+	NamespaceCleaner(NamespacedKubernetesClient client) {
+		this.client = client;
+		final boolean openShift = client instanceof OpenShiftClient;
+		final String keepLabel = openShift ? OpenShift.KEEP_LABEL : Kubernetes.KEEP_LABEL;
+		final Set<String> olmOwnedControllers = olmOwnedControllers();
+		for (CustomResourceDefinitionContextProvider crdContextProvider : CrdContextProviders.get()) {
+			removables.add(new Removable<>(crdContextProvider.getContext().getName(), true, null,
+					() -> client.genericKubernetesResources(crdContextProvider.getContext())
+							.inNamespace(client.getNamespace()),
+					false));
+		}
+		controller("Deployment", () -> userResources(client.apps().deployments(), keepLabel));
+		removables.add(new Removable<>("ReplicaSet", true, notOwnedBy(olmOwnedControllers),
+				() -> userResources(client.apps().replicaSets(), keepLabel), false));
+		controller("StatefulSet", () -> userResources(client.apps().statefulSets(), keepLabel));
+		controller("Job", () -> userResources(client.batch().jobs(), keepLabel));
+		controller("ReplicationController", () -> userResources(client.replicationControllers(), keepLabel));
+		controller("HorizontalPodAutoscaler",
+				() -> userResources(client.autoscaling().v1().horizontalPodAutoscalers(), keepLabel));
+		if (openShift) {
+			final OpenShiftClient openShiftClient = (OpenShiftClient) client;
+			controller("DeploymentConfig", () -> userResources(openShiftClient.deploymentConfigs(), keepLabel));
+			controller("BuildConfig", () -> userResources(openShiftClient.buildConfigs(), keepLabel));
+			removables.add(new Removable<>("Template", false, null,
+					() -> userResources(openShiftClient.templates(), keepLabel), false));
+			removables.add(new Removable<>("ImageStream", false, null,
+					() -> userResources(openShiftClient.imageStreams(), keepLabel), false));
+			removables.add(new Removable<>("Build", false, null,
+					() -> userResources(openShiftClient.builds(), keepLabel), false));
+			removables.add(new Removable<>("Route", false, null,
+					() -> userResources(openShiftClient.routes(), keepLabel), false));
+		}
+		removables.add(new Removable<>("Endpoints", false, null,
+				() -> userResources(client.endpoints(), keepLabel), false));
+		removables.add(new Removable<>("Service", false, null,
+				() -> userResources(client.services(), keepLabel), false));
+		removables.add(new Removable<>("Pod", false, notOwnedBy(olmOwnedControllers),
+				() -> userResources(client.pods(), keepLabel), true));
+		removables.add(new Removable<>("PersistentVolumeClaim", false, null,
+				() -> userResources(client.persistentVolumeClaims(), keepLabel), false));
+		removables.add(new Removable<>("ConfigMap", false,
+				cm -> !cm.getMetadata().getName().equals("kube-root-ca.crt") && !isOwnedByCsv(cm),
+				() -> userResources(client.configMaps(), keepLabel), false));
+		removables.add(new Removable<>("Secret", false,
+				s -> !s.getType().startsWith("kubernetes.io/") && !isOwnedByCsv(s),
+				() -> userResources(client.secrets(), keepLabel), false));
+		removables.add(new Removable<>("ServiceAccount", false,
+				sa -> !sa.getMetadata().getName().matches("builder|default|deployer") && !isOwnedByCsv(sa),
+				() -> userResources(client.serviceAccounts(), keepLabel), false));
+		removables.add(new Removable<>("RoleBinding", false,
+				rb -> !rb.getMetadata().getName().matches("admin|system:deployers|system:image-builders|system:image-pullers")
+						&& !isOwnedByCsv(rb),
+				() -> userResources(client.rbac().roleBindings(), keepLabel), false));
+		removables.add(new Removable<>("Role", false, null,
+				() -> userResources(client.rbac().roles(), keepLabel), false));
+	}
+
+	/**
+	 * Delete the resources created by tests from the namespace of the given client, i.e. those which are not labelled
+	 * with the keep label, {@link OpenShift#KEEP_LABEL} for OpenShift clients and {@link Kubernetes#KEEP_LABEL}
+	 * otherwise, and which are not owned by OLM, e.g. the deployments of the operators installed in the namespace.
+	 *
+	 * @param client The client which is bound to the namespace to be cleaned
+	 * @return A {@link Waiter} instance which waits for the namespace to be clean, and which must be waited for
+	 */
+	public static Waiter clean(NamespacedKubernetesClient client) {
+		final NamespaceCleaner cleaner = new NamespaceCleaner(client);
+		try {
+			cleaner.deleteAll();
+		} catch (RuntimeException e) {
+			cleaner.close();
+			throw e;
+		}
+		// the informers are stopped even if the returned waiter is never waited for
+		cleaner.closeAfter(WaitingConfig.timeoutCleanup());
+
+		FailFastCheck failFastCheck = () -> false;
+		return new SimpleWaiter(
+				cleaner::isClean,
+				TimeUnit.MILLISECONDS, WaitingConfig.timeoutCleanup(), "Cleaning project - " + client.getNamespace())
+				// the remaining resources are checked locally
+				.interval(TimeUnit.MILLISECONDS, 250)
+				.onTimeout(() -> {
+					cleaner.close();
+					log.info("Cleaning namespace: " + client.getNamespace() + " - timed out.");
+				})
+				.onFailure(() -> {
+					cleaner.close();
+					log.info("Cleaning namespace: " + client.getNamespace() + " - failed.");
+				})
+				.onSuccess(() -> {
+					cleaner.close();
+					log.info("Cleaning namespace: " + client.getNamespace() + " - finished.");
+				})
+				.failFast(failFastCheck);
+	}
+
+	/**
+	 * Populate the inventory, then delete the resources.
+	 */
+	void deleteAll() {
+		runConcurrently(removables.stream(), Removable::startInventory);
+		// keep the order for deletion to prevent K8s creating resources again
+		runConcurrently(removables.stream().filter(r -> r.controller), r -> r.delete(client));
+		runConcurrently(removables.stream().filter(r -> !r.controller), r -> r.delete(client));
+	}
+
+	/**
+	 * @return whether no removable resources are left, leftovers that are not being deleted yet are deleted once
+	 */
+	boolean isClean() {
+		final List<HasMetadata> remaining = remaining();
+		if (remaining.isEmpty()) {
+			return true;
+		}
+		if (!leftoversDeleted) {
+			leftoversDeleted = true;
+			remaining.stream()
+					.filter(r -> r.getMetadata().getDeletionTimestamp() == null)
+					.forEach(r -> {
+						log.warn("DELETE LEFTOVER :: " + r.getKind() + "/" + r.getMetadata().getName());
+						client.resource(r).cascading(true).withGracePeriod(0).delete();
+					});
+		}
+		log.debug("Cleaning project - " + client.getNamespace() + " Waiting for following resources to be deleted: \n"
+				+ remaining.stream().map(r -> r.getKind() + "/" + r.getMetadata().getName())
+						.collect(Collectors.joining("\n")));
+		return false;
+	}
+
+	/**
+	 * @return The removable resources which still exist
+	 */
+	List<HasMetadata> remaining() {
+		return removables.stream().flatMap(r -> r.remaining().stream()).collect(Collectors.toList());
+	}
+
+	/**
+	 * Stop the informers which populate the inventory.
+	 */
+	void close() {
+		final ScheduledFuture<?> current = scheduledClose;
+		if (current != null) {
+			current.cancel(false);
+		}
+		removables.forEach(Removable::close);
+	}
+
+	/**
+	 * Stop the informers once the given time has elapsed, unless {@link #close()} has been called already, so that
+	 * they don't outlive the cleanup when the caller never waits for it. The namespace is listed afterward.
+	 *
+	 * @param millis The time after which the informers are stopped
+	 */
+	void closeAfter(long millis) {
+		scheduledClose = SCHEDULER.schedule(() -> removables.forEach(Removable::close), millis, TimeUnit.MILLISECONDS);
+	}
+
+	private <T extends HasMetadata> void controller(String kind,
+			Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>, ?>> resources) {
+		removables.add(new Removable<>(kind, true, null, resources, false));
+	}
+
+	/**
+	 * @return The deployments which OLM created for the operators installed in the namespace, and their replica sets,
+	 * whose pods must be preserved too, since they don't carry the OLM labels
+	 */
+	private Set<String> olmOwnedControllers() {
+		final Set<String> uids = client.apps().deployments().withLabel(OLM_OWNER_KIND, CSV).list().getItems()
+				.stream().map(d -> d.getMetadata().getUid()).collect(Collectors.toCollection(HashSet::new));
+		if (!uids.isEmpty()) {
+			final Predicate<HasMetadata> ownedByOlm = notOwnedBy(Set.copyOf(uids)).negate();
+			client.apps().replicaSets().list().getItems().stream()
+					.filter(ownedByOlm)
+					.forEach(rs -> uids.add(rs.getMetadata().getUid()));
+		}
+		return uids;
+	}
+
+	/**
+	 * @return A filter which selects the resources which are neither owned by a CSV nor by the given controllers, or
+	 * null if there are no such controllers, so that the resources can be deleted at once
+	 */
+	private static <T extends HasMetadata> Predicate<T> notOwnedBy(Set<String> controllers) {
+		return controllers.isEmpty() ? null
+				: r -> !isOwnedByCsv(r) && r.getMetadata().getOwnerReferences().stream()
+						.noneMatch(o -> controllers.contains(o.getUid()));
+	}
+
+	private static boolean isOwnedByCsv(HasMetadata resource) {
+		return resource.getMetadata().getOwnerReferences().stream().anyMatch(o -> CSV.equals(o.getKind()));
+	}
+
+	/**
+	 * @return The resources which are neither labelled with the keep label, nor created by OLM on behalf of a CSV
+	 */
+	private static <T extends HasMetadata, L extends KubernetesResourceList<T>> FilterWatchListDeletable<T, L, ?>
+			userResources(FilterWatchListDeletable<T, L, ?> resources, String keepLabel) {
+		return resources.withLabelNotIn(keepLabel, "", "true").withLabelNotIn(OLM_OWNER_KIND, CSV);
+	}
+
+	private static <T> void runConcurrently(Stream<T> items, Consumer<T> action) {
+		// the pool threads are shared by test cases, hence the tasks are bound to the one of the calling thread
+		final Executor executor = TestCaseContext.bind(EXECUTOR);
+		CompletableFuture.allOf(items.map(item -> CompletableFuture.runAsync(() -> action.accept(item), executor))
+				.toArray(CompletableFuture[]::new)).join();
+	}
+
+	/**
+	 * Resources of a given kind which should be deleted.
+	 */
+	private static class Removable<T extends HasMetadata> {
+		private final String kind;
+		private final boolean controller;
+		// selects the resources to be deleted among the listed ones, or null if all of them can be deleted at once
+		private final Predicate<T> filter;
+		private final Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>, ?>> resources;
+		// whether the resources are deleted without waiting for them to terminate gracefully, e.g. pods
+		private final boolean immediate;
+		private volatile SharedIndexInformer<T> informer;
+
+		Removable(String kind, boolean controller, Predicate<T> filter,
+				Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>, ?>> resources,
+				boolean immediate) {
+			this.kind = kind;
+			this.controller = controller;
+			this.filter = filter;
+			this.resources = resources;
+			this.immediate = immediate;
+		}
+
+		void startInventory() {
+			final SharedIndexInformer<T> started = resources.get().runnableInformer(0);
+			try {
+				started.start().toCompletableFuture().join();
+				informer = started;
+			} catch (RuntimeException e) {
+				// e.g. the CRD is not installed, or watching is not allowed
+				log.debug("{} instances will be listed, they can't be watched: {}", kind, e.getMessage());
+				started.close();
+			}
+		}
+
+		void delete(NamespacedKubernetesClient client) {
+			try {
+				if (filter == null) {
+					if (immediate) {
+						resources.get().withGracePeriod(0).delete();
+					} else {
+						resources.get().delete();
+					}
+					log.debug("DELETE :: " + kind + " instances");
+				} else if (immediate) {
+					remaining().forEach(r -> client.resource(r).withGracePeriod(0).delete());
+				} else {
+					remaining().forEach(r -> client.resource(r).delete());
+				}
+			} catch (KubernetesClientException kce) {
+				log.debug(kind + " might not be installed on the cluster.", kce);
+			}
+		}
+
+		List<T> remaining() {
+			List<T> items;
+			final SharedIndexInformer<T> current = informer;
+			if (current != null && current.isRunning()) {
+				items = current.getStore().list();
+			} else {
+				try {
+					items = resources.get().list().getItems();
+				} catch (KubernetesClientException kce) {
+					return List.of();
+				}
+			}
+			return filter == null ? items : items.stream().filter(filter).collect(Collectors.toList());
+		}
+
+		void close() {
+			final SharedIndexInformer<T> current = informer;
+			informer = null;
+			if (current != null) {
+				current.close();
+			}
+		}
+	}
+
+	/**
+	 * Thread safe access to the {@link CustomResourceDefinitionContextProvider} services.
+	 */
+	private static class CrdContextProviders {
+		static List<CustomResourceDefinitionContextProvider> get() {
+			final ServiceLoader<CustomResourceDefinitionContextProvider> loader = Kubernetes
+					.getCRDContextProviders();
+			synchronized (loader) {
+				final List<CustomResourceDefinitionContextProvider> providers = new ArrayList<>();
+				loader.forEach(providers::add);
+				return providers;
+			}
+		}
+	}
+}
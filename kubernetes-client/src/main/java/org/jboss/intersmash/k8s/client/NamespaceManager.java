@@ -15,9 +15,9 @@
  */
 package org.jboss.intersmash.k8s.client;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
@@ -27,7 +27,6 @@ import org.jboss.intersmash.k8s.KubernetesConfig;
 import org.junit.jupiter.engine.descriptor.MethodBasedTestDescriptor;
 import org.junit.platform.engine.TestDescriptor;
 
-import cz.xtf.core.context.TestCaseContext;
 import cz.xtf.core.waiting.SimpleWaiter;
 import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.Namespace;
@@ -48,7 +47,7 @@ public class NamespaceManager {
 	 *
 	 *      Maps testcase -> namespace
 	 */
-	private static final Map<String, String> testcaseToNamespaceMap = new HashMap<String, String>();
+	private static final Map<String, String> testcaseToNamespaceMap = new ConcurrentHashMap<>();
 
 	/**
 	 * @return Map testcase -> namespace
@@ -89,7 +88,7 @@ public class NamespaceManager {
 
 			Namespace projectNamespace = new Namespace();
 			ObjectMeta objectMeta = new ObjectMeta();
-			objectMeta.setName(KubernetesConfig.namespace());
+			objectMeta.setName(namespace);
 			projectNamespace.setMetadata(objectMeta);
 
 			kubernetes.namespaces().create(projectNamespace);
@@ -165,6 +164,7 @@ public class NamespaceManager {
 		// ... User "xpaasqe" cannot get resource "namespaces" in API group "" in the namespace ...
 		if (Kuberneteses.admin(namespace).namespaces().withName(namespace).get() != null) {
 			Kubernetes kubernetes = Kuberneteses.master(namespace);
+			PodCache.invalidate(namespace);
 			log.info("Start deleting namespace: " + kubernetes.getNamespace() + ", wait for deletion: " + waitForDeletion);
 			List<StatusDetails> details = kubernetes.namespaces().withName(namespace).delete();
 			deleted = details.stream().allMatch(d -> d.getCauses().isEmpty());
@@ -188,11 +188,31 @@ public class NamespaceManager {
 	 */
 	public static boolean deleteProjectIfUsedNamespacePerTestCase(boolean waitForDeletion) {
 		if (KubernetesConfig.useNamespacePerTestCase()) {
+			// pooled namespaces are deleted, or recycled, in the background
+			if (NamespacePool.release(getNamespace(), true)) {
+				return true;
+			}
 			return deleteProject(waitForDeletion);
 		}
 		return false;
 	}
 
+	/**
+	 * Assign a pre-created namespace to the given test case, when the {@link NamespacePool} is enabled.
+	 *
+	 * @param testcase The test case name
+	 * @return true if a pooled namespace has been assigned, false otherwise
+	 */
+	public static boolean assignPooledNamespace(String testcase) {
+		final String namespace = NamespacePool.claim();
+		if (namespace == null) {
+			return false;
+		}
+		log.debug("Test case {} will use pooled namespace {}", testcase, namespace);
+		getTestCaseToNamespaceMap().put(testcase, namespace);
+		return true;
+	}
+
 	private static void waitForNamespaceToBeDeleted(String namespace) {
 		BooleanSupplier bs = () -> Kuberneteses.admin(namespace).namespaces().withName(namespace).get() == null;
 		new SimpleWaiter(bs, TimeUnit.MINUTES, 2, "Waiting for " + namespace + " project deletion")
@@ -243,7 +263,12 @@ public class NamespaceManager {
 	 */
 	public static String getNamespace() {
 		if (KubernetesConfig.useNamespacePerTestCase()) {
-			String namespace = NamespaceManager.getNamespaceForTestCase(TestCaseContext.getRunningTestCaseName());
+			String testCaseName = TestCaseContext.getRunningTestCaseName();
+			if (testCaseName == null) {
+				// the test case might have been set by the XTF extensions only
+				testCaseName = cz.xtf.core.context.TestCaseContext.getRunningTestCaseName();
+			}
+			String namespace = testCaseName == null ? null : NamespaceManager.getNamespaceForTestCase(testCaseName);
 			if (StringUtils.isEmpty(namespace)) {
 				throw new RuntimeException(
 						"There is no namespace associated with current thread or test case. This can happen in case that OpenShift instance is created in static variable. In this case avoid using static. Or in thread which is not associated with any test case.");
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jboss.intersmash.k8s.KubernetesConfig;
+
+import cz.xtf.core.config.WaitingConfig;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool of namespaces which are created ahead of the test classes that will use them, when
+ * {@link KubernetesConfig#useNamespacePerTestCase()} is set and {@link KubernetesConfig#namespacePoolSize()} is
+ * greater than zero.
+ * <p>
+ * Pooled namespaces are created, labelled, and provided with pull secrets and an {@code OperatorGroup} in the
+ * background, see {@link NamespaceManager#createIfDoesNotExistsProject(String)}. A test class claims a ready namespace
+ * when it starts, or creates one on demand if none is ready. Once the test class is done, its namespace is deleted
+ * in the background and replaced by a new one, or it is cleaned and returned to the pool, when
+ * {@link KubernetesConfig#isNamespacePoolRecycleEnabled()} is set, so that neither the namespace creation nor its
+ * deletion are waited for by test classes.
+ * </p>
+ * <p>
+ * The pool is used only by the Kubernetes namespace per test case, see
+ * {@link org.jboss.intersmash.k8s.junit5.KubernetesNamespaceCreator}. The OpenShift namespaces per test case are
+ * named and created by XTF, which doesn't support pooling them.
+ * </p>
+ */
+@Slf4j
+public final class NamespacePool {
+	private static final String OPERATOR_GROUP_API_VERSION = "operators.coreos.com/v1";
+	private static final String OPERATOR_GROUP_KIND = "OperatorGroup";
+	// the length of the "-%04x-N" suffix of the generated names, for up to 9999 namespaces
+	private static final int GENERATED_SUFFIX_LENGTH = 10;
+	private static volatile NamespacePool instance;
+
+	private final String prefix;
+	private final int size;
+	private final boolean recycle;
+	private final Consumer<String> creator;
+	private final Consumer<String> recycler;
+	private final Consumer<String> remover;
+	private final BlockingQueue<String> ready = new LinkedBlockingQueue<>();
+	private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger counter = new AtomicInteger();
+	private final ExecutorService executor;
+
+	NamespacePool(String prefix, int size, boolean recycle, Consumer<String> creator, Consumer<String> recycler,
+			Consumer<String> remover) {
+		this.prefix = prefix;
+		this.size = size;
+		this.recycle = recycle;
+		this.creator = creator;
+		this.recycler = recycler;
+		this.remover = remover;
+		final AtomicInteger threads = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(Math.min(size, 4), r -> {
+			Thread thread = new Thread(r, "intersmash-namespace-pool-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @return whether namespaces should be pooled
+	 */
+	public static boolean isEnabled() {
+		return KubernetesConfig.useNamespacePerTestCase() && KubernetesConfig.namespacePoolSize() > 0;
+	}
+
+	/**
+	 * Start filling the pool, if enabled.
+	 */
+	public static synchronized void start() {
+		if (instance == null && isEnabled()) {
+			// a random suffix avoids clashing with namespaces left over by previous runs, and the configured namespace
+			// is truncated like NamespaceManager does, so that the generated names fit the length limit
+			final int length = Math.max(1, KubernetesConfig.getNamespaceLengthLimitForUniqueNamespacePerTest()
+					- GENERATED_SUFFIX_LENGTH);
+			final String prefix = String.format("%s-%04x", StringUtils.truncate(KubernetesConfig.namespace(), length),
+					ThreadLocalRandom.current().nextInt(0x10000));
+			instance = new NamespacePool(prefix, KubernetesConfig.namespacePoolSize(),
+					KubernetesConfig.isNamespacePoolRecycleEnabled(),
+					NamespacePool::prepare,
+					namespace -> {
+						if (!Kuberneteses.master(namespace).clean().waitFor()) {
+							throw new IllegalStateException("Namespace " + namespace + " could not be cleaned");
+						}
+					},
+					namespace -> NamespaceManager.deleteProject(namespace, false));
+			log.info("Pre-creating {} namespaces with prefix {}", instance.size, prefix);
+			instance.fill();
+		}
+	}
+
+	/**
+	 * Claim a namespace for a test class.
+	 *
+	 * @return The name of the namespace, or {@code null} if the pool is not started
+	 */
+	public static String claim() {
+		final NamespacePool pool = instance;
+		return pool == null ? null : pool.take();
+	}
+
+	/**
+	 * Release a namespace claimed via {@link #claim()}, other namespaces are ignored.
+	 *
+	 * @param namespace The namespace name
+	 * @param clean Whether the namespace should be deleted or recycled, otherwise it's left as is, e.g. for debugging
+	 * @return {@code true} if the namespace belongs to the pool, {@code false} otherwise
+	 */
+	public static boolean release(String namespace, boolean clean) {
+		final NamespacePool pool = instance;
+		return pool != null && pool.giveBack(namespace, clean);
+	}
+
+	/**
+	 * Stop the pool, waiting for the pending background operations to complete.
+	 *
+	 * @param delete Whether the idle namespaces should be deleted
+	 */
+	public static synchronized void shutdown(boolean delete) {
+		if (instance != null) {
+			instance.stop(delete);
+			instance = null;
+		}
+	}
+
+	void fill() {
+		for (int i = 0; i < size; i++) {
+			replenish();
+		}
+	}
+
+	String take() {
+		String namespace = ready.poll();
+		if (namespace == null) {
+			namespace = nextName();
+			log.info("No pre-created namespace is ready, creating {}", namespace);
+			creator.accept(namespace);
+		}
+		claimed.add(namespace);
+		return namespace;
+	}
+
+	boolean giveBack(String namespace, boolean clean) {
+		if (!claimed.remove(namespace)) {
+			return false;
+		}
+		if (!clean) {
+			replenish();
+			return true;
+		}
+		executor.submit(() -> {
+			if (recycle) {
+				try {
+					recycler.accept(namespace);
+					ready.add(namespace);
+					return;
+				} catch (RuntimeException e) {
+					log.warn("Failed to recycle namespace {}, it will be replaced: {}", namespace, e.getMessage());
+				}
+			}
+			remove(namespace);
+			replenish();
+		});
+		return true;
+	}
+
+	void stop(boolean delete) {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(WaitingConfig.timeoutCleanup(), TimeUnit.MILLISECONDS)) {
+				log.warn("Namespace pool background operations did not complete in time");
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (delete) {
+			List<String> idle = new ArrayList<>();
+			ready.drainTo(idle);
+			idle.forEach(this::remove);
+		}
+	}
+
+	int available() {
+		return ready.size();
+	}
+
+	private void replenish() {
+		if (executor.isShutdown()) {
+			return;
+		}
+		executor.submit(() -> {
+			final String namespace = nextName();
+			try {
+				creator.accept(namespace);
+				ready.add(namespace);
+				log.debug("Namespace {} is ready", namespace);
+			} catch (RuntimeException e) {
+				log.warn("Failed to pre-create namespace {}: {}", namespace, e.getMessage());
+			}
+		});
+	}
+
+	private void remove(String namespace) {
+		try {
+			remover.accept(namespace);
+		} catch (RuntimeException e) {
+			log.warn("Failed to delete namespace {}: {}", namespace, e.getMessage());
+		}
+	}
+
+	private String nextName() {
+		return prefix + "-" + counter.incrementAndGet();
+	}
+
+	private static void prepare(String namespace) {
+		NamespaceManager.createIfDoesNotExistsProject(namespace);
+		// the same OperatorGroup which is created for operator based tests, when OLM is available
+		try {
+			Kuberneteses.admin(namespace).genericKubernetesResources(OPERATOR_GROUP_API_VERSION, OPERATOR_GROUP_KIND)
+					.inNamespace(namespace)
+					.resource(new GenericKubernetesResourceBuilder()
+							.withApiVersion(OPERATOR_GROUP_API_VERSION)
+							.withKind(OPERATOR_GROUP_KIND)
+							.withNewMetadata().withName(namespace + "-operators").withNamespace(namespace).endMetadata()
+							.addToAdditionalProperties("spec", Map.of("targetNamespaces", List.of(namespace)))
+							.build())
+					.create();
+		} catch (KubernetesClientException e) {
+			log.debug("OperatorGroup not created in namespace {}: {}", namespace, e.getMessage());
+		}
+	}
+}
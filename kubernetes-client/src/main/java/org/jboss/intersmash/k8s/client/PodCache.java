@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jboss.intersmash.k8s.KubernetesConfig;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Informer backed cache of the pods which exist in a given namespace, shared by all the provisioners which read pods
+ * from that namespace, and indexed by label, so that looking up the pods of a given application doesn't require a
+ * LIST call.
+ * <p>
+ * Staleness semantics:
+ * <ul>
+ *     <li>while the underlying watch is connected, reads return the state notified by the cluster so far, i.e. they
+ *     can lag behind the actual cluster state only by the watch event delivery latency. Callers that have just
+ *     mutated pods (e.g. deleted or scaled) must expect the change to become visible eventually, which is what
+ *     waiters do anyway;</li>
+ *     <li>when the watch gets disconnected, reads keep being served by the cache for at most
+ *     {@link KubernetesConfig#podsCacheMaxStaleness()} milliseconds since the watch was last known to be connected,
+ *     then they fall back to a LIST call, until the watch is re-established;</li>
+ *     <li>when the informer can't be started at all, e.g. because the user is not allowed to watch pods, or when the
+ *     cache is disabled via {@link KubernetesConfig#KUBERNETES_PODS_CACHE_ENABLED}, every read is a LIST call.</li>
+ * </ul>
+ * The returned {@link Pod} instances are shared with the cache, and must not be modified.
+ * </p>
+ */
+@Slf4j
+public final class PodCache {
+	private static final String LABEL_INDEX = "intersmash-labels";
+	private static final Map<String, PodCache> CACHES = new ConcurrentHashMap<>();
+
+	private final KubernetesClient client;
+	private final String namespace;
+	private final long maxStaleness;
+	private final SharedIndexInformer<Pod> informer;
+	private volatile long lastConnected;
+
+	private PodCache(KubernetesClient client, String namespace, boolean enabled, long maxStaleness) {
+		this.client = client;
+		this.namespace = namespace;
+		this.maxStaleness = maxStaleness;
+		this.informer = enabled ? startInformer() : null;
+		this.lastConnected = System.currentTimeMillis();
+	}
+
+	/**
+	 * Get the pods cache for the given namespace, the cache is created and populated when first requested.
+	 *
+	 * @param client The client used to watch the pods, when the cache is created
+	 * @param namespace The namespace where pods are cached
+	 * @return The {@link PodCache} instance
+	 */
+	public static PodCache of(KubernetesClient client, String namespace) {
+		return CACHES.computeIfAbsent(key(client, namespace),
+				k -> new PodCache(client, namespace, KubernetesConfig.isPodsCacheEnabled(),
+						KubernetesConfig.podsCacheMaxStaleness()));
+	}
+
+	/**
+	 * Stop watching and discard the cached pods for the given namespace, e.g. because the namespace is deleted.
+	 *
+	 * @param namespace The namespace where pods are cached
+	 */
+	public static void invalidate(String namespace) {
+		CACHES.entrySet().removeIf(e -> {
+			if (e.getValue().namespace.equals(namespace)) {
+				e.getValue().close();
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Stop watching and discard the cached pods of all the namespaces.
+	 */
+	public static void invalidateAll() {
+		CACHES.values().forEach(PodCache::close);
+		CACHES.clear();
+	}
+
+	/**
+	 * @return All the pods in the namespace
+	 */
+	public List<Pod> list() {
+		return read(() -> informer.getStore().list(),
+				() -> client.pods().inNamespace(namespace).list().getItems());
+	}
+
+	/**
+	 * @param labelName The label name
+	 * @param labelValue The label value
+	 * @return The pods having the given label
+	 */
+	public List<Pod> withLabel(String labelName, String labelValue) {
+		return read(() -> informer.getIndexer().byIndex(LABEL_INDEX, indexKey(labelName, labelValue)),
+				() -> client.pods().inNamespace(namespace).withLabel(labelName, labelValue).list().getItems());
+	}
+
+	/**
+	 * @param labels The labels
+	 * @return The pods having all the given labels
+	 */
+	public List<Pod> withLabels(Map<String, String> labels) {
+		if (labels.isEmpty()) {
+			return list();
+		}
+		final Map.Entry<String, String> first = labels.entrySet().iterator().next();
+		return read(() -> informer.getIndexer().byIndex(LABEL_INDEX, indexKey(first.getKey(), first.getValue())).stream()
+				.filter(p -> p.getMetadata().getLabels().entrySet().containsAll(labels.entrySet()))
+				.collect(Collectors.toList()),
+				() -> client.pods().inNamespace(namespace).withLabels(labels).list().getItems());
+	}
+
+	/**
+	 * @return {@code true} if the reads are currently served by the cache, {@code false} if they result in LIST calls
+	 */
+	public boolean isFresh() {
+		if (informer == null || !informer.isRunning()) {
+			return false;
+		}
+		if (informer.isWatching()) {
+			lastConnected = System.currentTimeMillis();
+			return true;
+		}
+		return System.currentTimeMillis() - lastConnected <= maxStaleness;
+	}
+
+	private List<Pod> read(Supplier<List<Pod>> cached, Supplier<List<Pod>> live) {
+		if (isFresh()) {
+			return cached.get();
+		}
+		if (informer != null) {
+			log.debug("Pods cache for namespace {} is stale, listing pods", namespace);
+		}
+		return live.get();
+	}
+
+	private SharedIndexInformer<Pod> startInformer() {
+		try {
+			final SharedIndexInformer<Pod> podInformer = client.pods().inNamespace(namespace).runnableInformer(0);
+			podInformer.addIndexers(Map.of(LABEL_INDEX, pod -> pod.getMetadata().getLabels() == null ? List.of()
+					: pod.getMetadata().getLabels().entrySet().stream()
+							.map(l -> indexKey(l.getKey(), l.getValue()))
+							.collect(Collectors.toList())));
+			podInformer.addEventHandler(new ResourceEventHandler<>() {
+				@Override
+				public void onAdd(Pod obj) {
+					lastConnected = System.currentTimeMillis();
+				}
+
+				@Override
+				public void onUpdate(Pod oldObj, Pod newObj) {
+					lastConnected = System.currentTimeMillis();
+				}
+
+				@Override
+				public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+					lastConnected = System.currentTimeMillis();
+				}
+			});
+			try {
+				podInformer.run();
+			} catch (KubernetesClientException e) {
+				podInformer.close();
+				throw e;
+			}
+			return podInformer;
+		} catch (KubernetesClientException e) {
+			log.warn("Unable to watch pods in namespace {}, pods will be listed on each request: {}", namespace,
+					e.getMessage());
+			return null;
+		}
+	}
+
+	private void close() {
+		if (informer != null) {
+			informer.close();
+		}
+	}
+
+	private static String key(KubernetesClient client, String namespace) {
+		return client.getMasterUrl() + "|" + namespace;
+	}
+
+	private static String indexKey(String labelName, String labelValue) {
+		return labelName + "=" + labelValue;
+	}
+}
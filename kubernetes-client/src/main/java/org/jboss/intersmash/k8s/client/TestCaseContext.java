@@ -15,25 +15,99 @@
  */
 package org.jboss.intersmash.k8s.client;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Tracks the currently running test case, which is used to resolve the namespace it should use.
+ * <p>
+ * The test case is bound to the thread that executes it, and it is inherited by the threads that the test case
+ * creates, so that test classes can be executed concurrently. Tasks which are submitted to long-lived thread pools
+ * must be bound to the test case of the submitting thread explicitly, see {@link #bind(Executor)}, since the pool
+ * threads would otherwise keep the test case which was running when they were created.
+ * </p>
+ * <p>
+ * The most recently set test case is used by threads which are not bound to any test case only as long as test
+ * classes are executed sequentially, i.e. while at most one test case is running, and resolving the test case fails
+ * otherwise.
+ * </p>
+ */
 public class TestCaseContext {
 
+	private static final InheritableThreadLocal<String> currentTestCaseName = new InheritableThreadLocal<>();
+
+	/**
+	 * The test cases which have been set and are not finished yet, see {@link #finishTestCase(String)}
+	 */
+	private static final Set<String> runningTestCaseNames = ConcurrentHashMap.newKeySet();
+
 	/**
 	 *
 	 * This allows to track currently running test case for correct namespace mapping. This is used to automatically find
 	 * namespace for running test case when
 	 * creating {@link Kubernetes} instances.
 	 */
-	private static String runningTestCaseName;
+	private static volatile String runningTestCaseName;
 
 	/**
 	 * @return test case name associated with current thread or null if not such mapping exists, for example for com.SmokeTest
 	 *         returns SmokeTest
+	 * @throws IllegalStateException if the current thread is not bound to any test case, while several test cases are
+	 *         running concurrently
 	 */
 	public static String getRunningTestCaseName() {
+		final String testCaseName = currentTestCaseName.get();
+		if (testCaseName != null) {
+			return testCaseName;
+		}
+		if (runningTestCaseNames.size() > 1) {
+			throw new IllegalStateException(String.format(
+					"Thread %s is not bound to any test case, while the %s test cases are running concurrently",
+					Thread.currentThread().getName(), runningTestCaseNames));
+		}
 		return runningTestCaseName;
 	}
 
 	public static void setRunningTestCase(String currentlyRunningTestCaseName) {
+		currentTestCaseName.set(currentlyRunningTestCaseName);
+		if (currentlyRunningTestCaseName != null) {
+			runningTestCaseNames.add(currentlyRunningTestCaseName);
+		}
 		runningTestCaseName = currentlyRunningTestCaseName;
 	}
+
+	/**
+	 * Mark a test case as finished, so that the threads which are not bound to any test case can fall back to the
+	 * most recently set one again once the other test cases are finished too. The threads which are bound to it are
+	 * not affected, since the test case callbacks might still be executed.
+	 *
+	 * @param testCaseName The test case name, as passed to {@link #setRunningTestCase(String)}
+	 */
+	public static void finishTestCase(String testCaseName) {
+		runningTestCaseNames.remove(testCaseName);
+	}
+
+	/**
+	 * Bind the tasks which are submitted to a given executor to the test case of the submitting thread, rather than to
+	 * the one which the executing thread inherited. Tasks submitted by threads which are not bound to any test case are
+	 * not bound either.
+	 *
+	 * @param executor The executor, e.g. a thread pool which is shared by test cases
+	 * @return An executor which runs the tasks with the {@link TestCaseContext} of the submitting thread
+	 */
+	public static Executor bind(Executor executor) {
+		return task -> {
+			final String testCaseName = currentTestCaseName.get();
+			executor.execute(() -> {
+				final String previous = currentTestCaseName.get();
+				currentTestCaseName.set(testCaseName);
+				try {
+					task.run();
+				} finally {
+					currentTestCaseName.set(previous);
+				}
+			});
+		};
+	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of authenticated client binary sessions, i.e. binaries bound to a dedicated configuration file which has
+ * already been set up via {@code login} or {@code config view --flatten}, and {@code config set-context} for a given
+ * namespace.
+ * <p>
+ * Sessions are keyed by the credentials and namespace they were created for, and are shared across calls and threads,
+ * so that setting a session up, which requires forking several processes, happens once.
+ * Sessions expire after the configured time to live, which should be shorter than the lifetime of the tokens obtained
+ * by logging in, and can be explicitly invalidated, e.g. when a command fails because the token has expired anyway.
+ * A time to live which is not positive disables the cache.
+ * </p>
+ *
+ * @param <B> The binary client type
+ */
+@Slf4j
+public class BinarySessions<B> {
+	private final Map<String, Session<B>> sessions = new ConcurrentHashMap<>();
+	private final Supplier<Long> ttl;
+
+	/**
+	 * @param ttl Supplies the sessions time to live, in milliseconds
+	 */
+	public BinarySessions(Supplier<Long> ttl) {
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Get a valid session for the given key, or create a new one.
+	 *
+	 * @param key The session key, see {@link #key(String...)}
+	 * @param factory Creates a new authenticated binary, when no valid session exists
+	 * @return The binary client bound to the session
+	 */
+	public B get(String key, Supplier<B> factory) {
+		final long timeToLive = ttl.get();
+		if (timeToLive <= 0) {
+			return factory.get();
+		}
+		return sessions.compute(key, (k, session) -> {
+			if (session != null && System.currentTimeMillis() - session.created < timeToLive) {
+				return session;
+			}
+			if (session != null) {
+				log.debug("Client binary session expired, a new one will be created");
+			}
+			return new Session<>(factory.get(), System.currentTimeMillis());
+		}).binary;
+	}
+
+	/**
+	 * Discard the session for the given key, so that a new one will be created upon next request.
+	 *
+	 * @param key The session key
+	 */
+	public void invalidate(String key) {
+		if (sessions.remove(key) != null) {
+			log.debug("Client binary session invalidated");
+		}
+	}
+
+	/**
+	 * Discard all sessions.
+	 */
+	public void invalidateAll() {
+		sessions.clear();
+	}
+
+	/**
+	 * Compute a session key out of the given credentials and namespace. Values are hashed so that secrets are not
+	 * kept in memory as keys.
+	 *
+	 * @param parts The values identifying the session, e.g. URL, token, username, password, kubeconfig and namespace
+	 * @return The session key
+	 */
+	public static String key(String... parts) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String part : parts) {
+				digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+
+	private static class Session<B> {
+		private final B binary;
+		private final long created;
+
+		private Session(B binary, long created) {
+			this.binary = binary;
+			this.created = created;
+		}
+	}
+}
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.jboss.intersmash.k8s.client.ApiMetrics;
 
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
@@ -37,6 +38,10 @@ public class KubernetesClientBinary {
 	@Getter
 	private String configPath;
 
+	// invoked when a command fails because the binary is no longer authenticated, e.g. to discard a session whose
+	// token has expired
+	private Runnable onFailure;
+
 	public KubernetesClientBinary(String path) {
 		this.path = path;
 	}
@@ -107,13 +112,36 @@ public class KubernetesClientBinary {
 	//        this.execute("start-build", buildConfig, "--from-dir=" + sourcePath);
 	//    }
 
+	void onFailure(Runnable onFailure) {
+		this.onFailure = onFailure;
+	}
+
 	// Common method for any oc command call
 	public String execute(String... args) {
-		if (configPath == null) {
-			return CLIUtils.executeCommand(ArrayUtils.addAll(new String[] { path }, args));
-		} else {
-			return CLIUtils.executeCommand(ArrayUtils.addAll(new String[] { path, "--kubeconfig=" + configPath }, args));
+		final String output = executeCommand(args);
+		// commands are expected to fail, e.g. when getting resources which don't exist, so only an authentication
+		// failure is reported
+		if (output == null && onFailure != null && !isAuthenticated()) {
+			onFailure.run();
 		}
+		return output;
+	}
+
+	/**
+	 * @return Whether the binary is still authenticated, i.e. it can read the API discovery endpoint, which requires an
+	 *         authenticated user
+	 */
+	boolean isAuthenticated() {
+		return executeCommand("get", "--raw", "/api") != null;
+	}
+
+	private String executeCommand(String... args) {
+		return ApiMetrics.process(path, args, () -> {
+			if (configPath == null) {
+				return CLIUtils.executeCommand(ArrayUtils.addAll(new String[] { path }, args));
+			}
+			return CLIUtils.executeCommand(ArrayUtils.addAll(new String[] { path, "--kubeconfig=" + configPath }, args));
+		});
 	}
 
 	public List<PackageManifest> packageManifests(final String operatorName, final String operatorNamespace) {
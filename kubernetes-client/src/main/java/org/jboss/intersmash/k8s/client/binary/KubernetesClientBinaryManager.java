@@ -33,6 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class KubernetesClientBinaryManager {
 	private final String kubernetesClientBinaryPath;
+	private final BinarySessions<KubernetesClientBinary> sessions = new BinarySessions<>(
+			KubernetesConfig::binarySessionTtl);
 
 	KubernetesClientBinaryManager(final String kubernetesClientBinaryPath) {
 		this.kubernetesClientBinaryPath = kubernetesClientBinaryPath;
@@ -56,9 +58,29 @@ public class KubernetesClientBinaryManager {
 				KubernetesConfig.adminKubeconfig(), namespace);
 	}
 
+	/**
+	 * Discard all the cached binary sessions, so that new ones will be created upon next request.
+	 */
+	public void invalidateSessions() {
+		sessions.invalidateAll();
+	}
+
 	private KubernetesClientBinary getBinary(final String token, final String username, final String password,
 			final String kubeconfig,
 			String namespace) {
+		// reuse an existing session for the same credentials and namespace, rather than forking login/config commands
+		final String sessionKey = BinarySessions.key(KubernetesConfig.url(), token, username, password, kubeconfig,
+				namespace);
+		return sessions.get(sessionKey, () -> {
+			KubernetesClientBinary binary = createBinary(token, username, password, kubeconfig, namespace);
+			binary.onFailure(() -> sessions.invalidate(sessionKey));
+			return binary;
+		});
+	}
+
+	private KubernetesClientBinary createBinary(final String token, final String username, final String password,
+			final String kubeconfig,
+			String namespace) {
 		String configPath = createUniqueKubernetesConfigFolder().resolve("kube.config").toAbsolutePath().toString();
 		KubernetesClientBinary kubernetesClientBinary;
 
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.waiters;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.event.Level;
+
+import cz.xtf.core.config.WaitingConfig;
+import cz.xtf.core.waiting.Waiter;
+import cz.xtf.core.waiting.WaiterException;
+import cz.xtf.core.waiting.failfast.FailFastCheck;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Informable;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link Waiter} which is backed by a fabric8 informer, rather than by polling a {@link java.util.function.BooleanSupplier}
+ * on a fixed interval, like {@link cz.xtf.core.waiting.SimpleWaiter} does.
+ * <p>
+ * The success and failure conditions are evaluated against the informer cache, i.e. the resources currently matching
+ * the watched {@link Informable}, every time a change is notified by the cluster, so that the waiter returns as soon as
+ * the expected status is reached, without re-listing the resources.
+ * The {@link #interval(long)} is used as an upper bound between two consecutive evaluations, which is when the
+ * {@link FailFastCheck} is executed as well.
+ * </p>
+ * <p>
+ * Should the informer fail to start, e.g. because the user is not allowed to watch the resources, the waiter falls back
+ * to polling the resources via the given {@link Supplier}.
+ * </p>
+ *
+ * @param <T> The type of the watched resources
+ */
+@Slf4j
+public class WatchWaiter<T> implements Waiter {
+	/**
+	 * Default upper bound between two consecutive evaluations of the wait conditions, when no changes are notified.
+	 */
+	public static final long DEFAULT_WATCH_INTERVAL = 10_000L;
+
+	private final Informable<T> informable;
+	private final Supplier<List<T>> fallback;
+	private final Predicate<List<T>> successCondition;
+	private Predicate<List<T>> failureCondition;
+	private Runnable onIteration;
+	private Runnable onSuccess;
+	private Runnable onFailure;
+	private Runnable onTimeout;
+	private long timeout;
+	private long interval;
+	private String reason;
+	private LogPoint logPoint;
+	private Level level;
+	private FailFastCheck failFast;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private long changes;
+
+	public WatchWaiter(Informable<T> informable, Supplier<List<T>> fallback, Predicate<List<T>> successCondition) {
+		this(informable, fallback, successCondition, TimeUnit.MILLISECONDS, WaitingConfig.timeout(), null);
+	}
+
+	public WatchWaiter(Informable<T> informable, Supplier<List<T>> fallback, Predicate<List<T>> successCondition,
+			String reason) {
+		this(informable, fallback, successCondition, TimeUnit.MILLISECONDS, WaitingConfig.timeout(), reason);
+	}
+
+	public WatchWaiter(Informable<T> informable, Supplier<List<T>> fallback, Predicate<List<T>> successCondition,
+			TimeUnit timeoutUnit, long timeout, String reason) {
+		this.informable = informable;
+		this.fallback = fallback;
+		this.successCondition = successCondition;
+		this.failureCondition = resources -> false;
+		this.failFast = () -> false;
+		this.onIteration = () -> {
+		};
+		this.onSuccess = () -> {
+		};
+		this.onFailure = () -> {
+		};
+		this.onTimeout = () -> {
+		};
+		this.timeout = timeoutUnit.toMillis(timeout);
+		this.interval = DEFAULT_WATCH_INTERVAL;
+		this.reason = reason;
+		this.level = WaitingConfig.level();
+		this.logPoint = reason == null ? LogPoint.NONE : LogPoint.START;
+	}
+
+	public WatchWaiter<T> failureCondition(Predicate<List<T>> failureCondition) {
+		this.failureCondition = failureCondition;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> timeout(long millis) {
+		this.timeout = millis;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> timeout(TimeUnit timeUnit, long t) {
+		this.timeout = timeUnit.toMillis(t);
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> interval(long millis) {
+		this.interval = millis;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> interval(TimeUnit timeUnit, long t) {
+		this.interval = timeUnit.toMillis(t);
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> reason(String reason) {
+		this.reason = reason;
+		this.logPoint = LogPoint.START;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> logPoint(LogPoint logPoint) {
+		this.logPoint = logPoint;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> level(Level level) {
+		this.level = level;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> onIteration(Runnable runnable) {
+		this.onIteration = runnable;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> onSuccess(Runnable runnable) {
+		this.onSuccess = runnable;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> onFailure(Runnable runnable) {
+		this.onFailure = runnable;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> onTimeout(Runnable runnable) {
+		this.onTimeout = runnable;
+		return this;
+	}
+
+	@Override
+	public WatchWaiter<T> failFast(FailFastCheck failFast) {
+		this.failFast = failFast;
+		return this;
+	}
+
+	@Override
+	public boolean waitFor() {
+		final long startTime = System.currentTimeMillis();
+		final long endTime = startTime + timeout;
+		logPoint.logStart(reason, timeout, level);
+		final SharedIndexInformer<T> informer = startInformer();
+		try {
+			while (System.currentTimeMillis() < endTime) {
+				final long observedChanges = observedChanges();
+				if (failFast.hasFailed()) {
+					logPoint.logEnd(reason + " (fail fast method failure)", System.currentTimeMillis() - startTime, level);
+					throw new WaiterException(failFast.reason());
+				}
+				final List<T> resources = informer != null ? informer.getStore().list() : fallback.get();
+				if (failureCondition.test(resources)) {
+					logPoint.logEnd(reason + " (Failure)", System.currentTimeMillis() - startTime, level);
+					onFailure.run();
+					return false;
+				}
+				if (successCondition.test(resources)) {
+					logPoint.logEnd(reason + " (Success)", System.currentTimeMillis() - startTime, level);
+					onSuccess.run();
+					return true;
+				}
+				onIteration.run();
+				awaitChange(observedChanges, Math.min(interval, endTime - System.currentTimeMillis()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WaiterException("Thread has been interrupted!");
+		} finally {
+			if (informer != null) {
+				informer.close();
+			}
+		}
+		logPoint.logEnd(reason + " (Time out)", System.currentTimeMillis() - startTime, level);
+		onTimeout.run();
+		throw new WaiterException(reason);
+	}
+
+	private SharedIndexInformer<T> startInformer() {
+		try {
+			return informable.inform(new ResourceEventHandler<>() {
+				@Override
+				public void onAdd(T obj) {
+					notifyChange();
+				}
+
+				@Override
+				public void onUpdate(T oldObj, T newObj) {
+					notifyChange();
+				}
+
+				@Override
+				public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+					notifyChange();
+				}
+			});
+		} catch (KubernetesClientException e) {
+			log.debug("Unable to watch resources, falling back to polling every {} ms", interval, e);
+			return null;
+		}
+	}
+
+	private long observedChanges() {
+		lock.lock();
+		try {
+			return changes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void notifyChange() {
+		lock.lock();
+		try {
+			changes++;
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void awaitChange(long observedChanges, long millis) throws InterruptedException {
+		if (millis <= 0) {
+			return;
+		}
+		lock.lock();
+		try {
+			// don't wait if something changed while the conditions were being evaluated
+			if (changes == observedChanges) {
+				changed.await(millis, TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.waiters;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+
+/**
+ * Factory methods for the most common {@link WatchWaiter} instances.
+ */
+public class WatchWaiters {
+
+	private WatchWaiters() {
+	}
+
+	/**
+	 * Wait for a single resource to exist and to satisfy the given condition.
+	 *
+	 * @param resource The watched resource
+	 * @param condition The condition the resource must satisfy, it is never tested against a {@code null} value
+	 * @param <T> The type of the watched resource
+	 * @return A {@link WatchWaiter} instance
+	 */
+	public static <T extends HasMetadata> WatchWaiter<T> resource(Resource<T> resource, Predicate<T> condition) {
+		return new WatchWaiter<>(resource, () -> {
+			T current = resource.get();
+			return current == null ? List.of() : List.of(current);
+		}, resources -> !resources.isEmpty() && condition.test(resources.get(0)));
+	}
+
+	/**
+	 * Wait for the resources matching the given filter to satisfy the given condition.
+	 *
+	 * @param resources The watched resources, e.g. the ones matching a given label
+	 * @param condition The condition the resources must satisfy
+	 * @param <T> The type of the watched resources
+	 * @param <L> The type of the watched resources list
+	 * @return A {@link WatchWaiter} instance
+	 */
+	public static <T extends HasMetadata, L extends KubernetesResourceList<T>> WatchWaiter<T> resources(
+			FilterWatchListDeletable<T, L, ?> resources, Predicate<List<T>> condition) {
+		return new WatchWaiter<>(resources, () -> resources.list().getItems(), condition);
+	}
+
+	/**
+	 * Wait for the given number of pods, matching the given filter, to be ready.
+	 *
+	 * @param pods The watched pods, e.g. the ones matching a given label
+	 * @param count The expected number of ready pods
+	 * @param <L> The type of the watched pods list
+	 * @return A {@link WatchWaiter} instance
+	 */
+	public static <L extends KubernetesResourceList<Pod>> WatchWaiter<Pod> readyPods(
+			FilterWatchListDeletable<Pod, L, ?> pods, int count) {
+		return resources(pods, list -> list.stream().filter(Readiness::isPodReady).count() == count);
+	}
+
+	/**
+	 * Wait for the given number of pods, matching the given filter, to exist.
+	 *
+	 * @param pods The watched pods, e.g. the ones matching a given label
+	 * @param count The expected number of pods
+	 * @param <L> The type of the watched pods list
+	 * @return A {@link WatchWaiter} instance
+	 */
+	public static <L extends KubernetesResourceList<Pod>> WatchWaiter<Pod> podCount(
+			FilterWatchListDeletable<Pod, L, ?> pods, int count) {
+		return resources(pods, list -> list.size() == count);
+	}
+}
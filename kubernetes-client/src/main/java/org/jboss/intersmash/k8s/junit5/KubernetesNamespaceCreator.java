@@ -20,10 +20,13 @@ import java.util.Arrays;
 import org.jboss.intersmash.k8s.KubernetesConfig;
 import org.jboss.intersmash.k8s.client.Kuberneteses;
 import org.jboss.intersmash.k8s.client.NamespaceManager;
+import org.jboss.intersmash.k8s.client.NamespacePool;
+import org.jboss.intersmash.k8s.client.PodCache;
 import org.jboss.intersmash.k8s.client.TestCaseContext;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.descriptor.MethodBasedTestDescriptor;
 import org.junit.platform.engine.FilterResult;
@@ -36,17 +39,21 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class KubernetesNamespaceCreator
-		implements TestExecutionListener, BeforeAllCallback, AfterAllCallback, PostDiscoveryFilter {
+		implements TestExecutionListener, BeforeAllCallback, BeforeEachCallback, AfterAllCallback, PostDiscoveryFilter {
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		NamespaceManager.createIfDoesNotExistsProject(KubernetesConfig.namespace());
+		NamespacePool.start();
 	}
 
 	@Override
 	public void beforeAll(ExtensionContext context) {
 		// todo this can be removed once TestCaseContextExtension is called always before ProjectCreator extension
 		setTestExecutionContext(context);
+		if (NamespacePool.isEnabled()) {
+			NamespaceManager.assignPooledNamespace(context.getTestClass().get().getName());
+		}
 
 		log.debug("BeforeAll - Test case: " + context.getTestClass().get().getName() + " running in thread name: "
 				+ Thread.currentThread().getName()
@@ -55,19 +62,35 @@ public class KubernetesNamespaceCreator
 		NamespaceManager.createIfDoesNotExistsProject();
 	}
 
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		// test methods are not necessarily executed by the thread which executed beforeAll, e.g. when running
+		// test classes concurrently
+		setTestExecutionContext(context);
+	}
+
 	private void setTestExecutionContext(ExtensionContext context) {
 		TestCaseContext.setRunningTestCase(context.getTestClass().get().getName());
 	}
 
 	@Override
 	public void afterAll(ExtensionContext context) {
-		if (KubernetesConfig.cleanKubernetes()) {
-			NamespaceManager.deleteProjectIfUsedNamespacePerTestCase(false);
+		try {
+			if (KubernetesConfig.cleanKubernetes()) {
+				NamespaceManager.deleteProjectIfUsedNamespacePerTestCase(false);
+			} else if (NamespacePool.isEnabled()) {
+				// the namespace is left as is, and replaced in the pool
+				NamespacePool.release(NamespaceManager.getNamespace(), false);
+			}
+		} finally {
+			TestCaseContext.finishTestCase(context.getTestClass().get().getName());
 		}
 	}
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
+		NamespacePool.shutdown(KubernetesConfig.cleanKubernetes());
+		PodCache.invalidateAll();
 		if (KubernetesConfig.cleanKubernetes()) {
 			NamespaceManager.deleteProject(KubernetesConfig.namespace(), true);
 		}
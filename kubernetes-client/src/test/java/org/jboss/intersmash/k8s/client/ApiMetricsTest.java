@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jboss.intersmash.k8s.KubernetesConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import cz.xtf.core.config.XTFConfig;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import uk.org.webcompere.systemstubs.jupiter.SystemStub;
+import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
+import uk.org.webcompere.systemstubs.properties.SystemProperties;
+
+@EnableKubernetesMockClient(crud = true)
+@ExtendWith(SystemStubsExtension.class)
+public class ApiMetricsTest {
+
+	private static final String NAMESPACE = "test";
+
+	KubernetesClient client;
+
+	@SystemStub
+	private SystemProperties systemProperties;
+
+	@TempDir
+	Path metricsDirectory;
+
+	private String testCase;
+
+	@BeforeEach
+	public void enableMetrics(TestInfo testInfo) {
+		systemProperties.set(KubernetesConfig.KUBERNETES_API_METRICS_ENABLED, "true");
+		systemProperties.set(KubernetesConfig.KUBERNETES_API_METRICS_DIR, metricsDirectory.toString());
+		XTFConfig.loadConfig();
+		// metrics are recorded for the running test case, use a distinct one per test
+		testCase = getClass().getName() + "." + testInfo.getTestMethod().orElseThrow().getName();
+		TestCaseContext.setRunningTestCase(testCase);
+	}
+
+	@AfterEach
+	public void resetConfig() {
+		TestCaseContext.finishTestCase(testCase);
+		TestCaseContext.setRunningTestCase(null);
+		// the loaded configuration outlives the system properties stub
+		systemProperties.set(KubernetesConfig.KUBERNETES_API_METRICS_ENABLED, "false");
+		XTFConfig.loadConfig();
+	}
+
+	/**
+	 * Verifies that requests are counted by verb, resource, namespace and calling provisioner
+	 */
+	@Test
+	public void testRequestsAreRecordedByProvisioner() {
+		final Kubernetes kubernetes = kubernetes();
+		new ConfigMapProvisioner(kubernetes).deploy();
+		kubernetes.configMaps().withName("app-config").get();
+
+		final List<ApiMetrics.Metric> metrics = ApiMetrics.of(testCase);
+		final ApiMetrics.Metric lists = metric(metrics, "ConfigMapProvisioner", "list", "configmaps").orElseThrow();
+		Assertions.assertEquals(3, lists.getCount());
+		Assertions.assertEquals(NAMESPACE, lists.getNamespace());
+		Assertions.assertEquals(ApiMetrics.API, lists.getType());
+		Assertions.assertEquals(1, metric(metrics, "ConfigMapProvisioner", "create", "configmaps").orElseThrow()
+				.getCount());
+		Assertions.assertEquals(1, metric(metrics, ApiMetrics.OTHER, "get", "configmaps").orElseThrow().getCount());
+		Assertions.assertTrue(metric(metrics, "ConfigMapProvisioner", "get", "configmaps").isEmpty());
+		// the most frequent calls come first
+		Assertions.assertSame(lists, metrics.get(0));
+	}
+
+	/**
+	 * Verifies that requests are attributed to the concrete provisioner class bound to the calling thread, rather
+	 * than to the type which declares the calling method
+	 */
+	@Test
+	public void testRequestsAreRecordedByConcreteProvisioner() {
+		final Kubernetes kubernetes = kubernetes();
+		final ConfigMapProvisioner provisioner = new ExtendedConfigMapProvisioner(kubernetes);
+		ApiMetrics.attribute(provisioner.getClass(), provisioner::deploy);
+
+		final List<ApiMetrics.Metric> metrics = ApiMetrics.of(testCase);
+		Assertions.assertEquals(3, metric(metrics, "ExtendedConfigMapProvisioner", "list", "configmaps").orElseThrow().getCount());
+		Assertions.assertTrue(metric(metrics, "ConfigMapProvisioner", "list", "configmaps").isEmpty());
+	}
+
+	/**
+	 * Verifies that the API group is part of the recorded resource, and that failed requests are counted
+	 */
+	@Test
+	public void testResourcesAndFailuresAreRecorded() {
+		final Kubernetes kubernetes = kubernetes();
+		Assertions.assertNull(kubernetes.apps().deployments().withName("missing").get());
+
+		final ApiMetrics.Metric metric = metric(ApiMetrics.of(testCase), ApiMetrics.OTHER, "get", "deployments.apps")
+				.orElseThrow();
+		Assertions.assertEquals(1, metric.getCount());
+		Assertions.assertEquals(1, metric.getFailures());
+	}
+
+	/**
+	 * Verifies that forked processes are recorded, and that the metrics of a test class are exported
+	 */
+	@Test
+	public void testProcessesAreRecordedAndExported() throws Exception {
+		ApiMetrics.process("/usr/local/bin/oc", new String[] { "get", "pods", "-n", NAMESPACE }, () -> "pods");
+		ApiMetrics.process("/usr/local/bin/oc", new String[] { "--namespace=" + NAMESPACE, "get", "pods" }, () -> null);
+
+		final ApiMetrics.Metric metric = metric(ApiMetrics.of(testCase), ApiMetrics.OTHER, "get", "oc").orElseThrow();
+		Assertions.assertEquals(ApiMetrics.PROCESS, metric.getType());
+		Assertions.assertEquals(NAMESPACE, metric.getNamespace());
+		Assertions.assertEquals(2, metric.getCount());
+		Assertions.assertEquals(1, metric.getFailures());
+
+		final Path file = ApiMetrics.export(testCase);
+		Assertions.assertNotNull(file);
+		Assertions.assertEquals(metricsDirectory, file.getParent());
+		Assertions.assertTrue(Files.readString(file).contains("\"resource\" : \"oc\""));
+		// exported metrics are discarded
+		Assertions.assertTrue(ApiMetrics.of(testCase).isEmpty());
+	}
+
+	private Kubernetes kubernetes() {
+		return new Kubernetes(new ConfigBuilder(client.getConfiguration()).withNamespace(NAMESPACE).build());
+	}
+
+	private static Optional<ApiMetrics.Metric> metric(List<ApiMetrics.Metric> metrics, String caller, String verb,
+			String resource) {
+		return metrics.stream()
+				.filter(m -> caller.equals(m.getCaller()) && verb.equals(m.getVerb()) && resource.equals(m.getResource()))
+				.findFirst();
+	}
+
+	/**
+	 * Inherits the methods which issue the requests, see {@link ApiMetrics#attribute(Class, Runnable)}
+	 */
+	private static final class ExtendedConfigMapProvisioner extends ConfigMapProvisioner {
+		ExtendedConfigMapProvisioner(Kubernetes kubernetes) {
+			super(kubernetes);
+		}
+	}
+
+	/**
+	 * Lists resources while waiting for them, like provisioners do
+	 */
+	private static class ConfigMapProvisioner {
+		private final Kubernetes kubernetes;
+
+		ConfigMapProvisioner(Kubernetes kubernetes) {
+			this.kubernetes = kubernetes;
+		}
+
+		void deploy() {
+			kubernetes.configMaps().list();
+			kubernetes.configMaps().resource(new ConfigMapBuilder().withNewMetadata().withName("app-config").endMetadata()
+					.build()).create();
+			kubernetes.configMaps().list();
+			kubernetes.configMaps().list();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cz.xtf.core.waiting.SimpleWaiter;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSetBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class NamespaceCleanerTest {
+
+	private static final String NAMESPACE = "test";
+
+	KubernetesClient client;
+
+	/**
+	 * Verifies that the resources created by tests are deleted, while the default ones are preserved. Kept resources
+	 * are not covered, since the mock server doesn't support the {@code notin} label selector.
+	 */
+	@Test
+	public void testUserResourcesAreDeleted() {
+		final Kubernetes kubernetes = kubernetes();
+		kubernetes.apps().deployments().resource(new DeploymentBuilder().withNewMetadata().withName("app").endMetadata()
+				.build()).create();
+		kubernetes.pods().resource(new PodBuilder().withNewMetadata().withName("app-1").endMetadata().build()).create();
+		kubernetes.configMaps().resource(new ConfigMapBuilder().withNewMetadata().withName("app-config").endMetadata()
+				.build()).create();
+		kubernetes.configMaps().resource(new ConfigMapBuilder().withNewMetadata().withName("kube-root-ca.crt")
+				.endMetadata().build()).create();
+		kubernetes.secrets().resource(new SecretBuilder().withNewMetadata().withName("app-secret").endMetadata()
+				.withType("Opaque").build()).create();
+		kubernetes.secrets().resource(new SecretBuilder().withNewMetadata().withName("default-token").endMetadata()
+				.withType("kubernetes.io/service-account-token").build()).create();
+
+		Assertions.assertTrue(kubernetes.clean().waitFor());
+
+		Assertions.assertTrue(kubernetes.apps().deployments().list().getItems().isEmpty());
+		Assertions.assertTrue(kubernetes.pods().list().getItems().isEmpty());
+		Assertions.assertEquals("kube-root-ca.crt", names(kubernetes.configMaps().list().getItems()));
+		Assertions.assertEquals("default-token", names(kubernetes.secrets().list().getItems()));
+	}
+
+	/**
+	 * Verifies that the pods of the operators installed by OLM are preserved, i.e. those owned by a CSV, and those of
+	 * the replica sets which belong to a deployment labelled by OLM.
+	 */
+	@Test
+	public void testOlmOwnedPodsArePreserved() {
+		final Kubernetes kubernetes = kubernetes();
+		final Deployment deployment = kubernetes.apps().deployments().resource(new DeploymentBuilder().withNewMetadata()
+				.withName("operator").addToLabels("olm.owner.kind", "ClusterServiceVersion").endMetadata().build())
+				.create();
+		final ReplicaSet replicaSet = kubernetes.apps().replicaSets().resource(new ReplicaSetBuilder().withNewMetadata()
+				.withName("operator-1").addNewOwnerReference().withKind("Deployment").withName("operator")
+				.withUid(deployment.getMetadata().getUid()).endOwnerReference().endMetadata().build()).create();
+		kubernetes.pods().resource(new PodBuilder().withNewMetadata().withName("operator-1-a").addNewOwnerReference()
+				.withKind("ReplicaSet").withName("operator-1").withUid(replicaSet.getMetadata().getUid())
+				.endOwnerReference().endMetadata().build()).create();
+		kubernetes.pods().resource(new PodBuilder().withNewMetadata().withName("webhook").addNewOwnerReference()
+				.withKind("ClusterServiceVersion").withName("operator.v1").withUid("csv-uid").endOwnerReference()
+				.endMetadata().build()).create();
+		kubernetes.pods().resource(new PodBuilder().withNewMetadata().withName("app-1").endMetadata().build()).create();
+
+		Assertions.assertTrue(kubernetes.clean().waitFor());
+
+		Assertions.assertEquals("operator-1", names(kubernetes.apps().replicaSets().list().getItems()));
+		Assertions.assertEquals("operator-1-a,webhook", names(kubernetes.pods().list().getItems()));
+	}
+
+	/**
+	 * Verifies that the inventory of the remaining resources is kept up to date by the informers
+	 */
+	@Test
+	public void testInventoryTracksRemainingResources() {
+		final Kubernetes kubernetes = kubernetes();
+		final NamespaceCleaner cleaner = new NamespaceCleaner(kubernetes);
+		try {
+			cleaner.deleteAll();
+			Assertions.assertTrue(cleaner.isClean());
+			kubernetes.configMaps().resource(new ConfigMapBuilder().withNewMetadata().withName("late").endMetadata()
+					.build()).create();
+			Assertions.assertTrue(new SimpleWaiter(() -> cleaner.remaining().size() == 1)
+					.timeout(10_000).interval(100).waitFor());
+			// leftovers are deleted by the first check which finds them
+			Assertions.assertFalse(cleaner.isClean());
+			Assertions.assertTrue(new SimpleWaiter(cleaner::isClean)
+					.timeout(10_000).interval(100).waitFor());
+		} finally {
+			cleaner.close();
+		}
+	}
+
+	private Kubernetes kubernetes() {
+		return new Kubernetes(new ConfigBuilder(client.getConfiguration()).withNamespace(NAMESPACE).build());
+	}
+
+	private static String names(List<? extends HasMetadata> resources) {
+		return resources.stream().map(r -> r.getMetadata().getName()).sorted().collect(Collectors.joining(","));
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cz.xtf.core.waiting.SimpleWaiter;
+
+public class NamespacePoolTest {
+
+	private final Set<String> existing = ConcurrentHashMap.newKeySet();
+	private final List<String> recycled = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Verifies that namespaces are pre-created, and that released ones are deleted and replaced in the background
+	 */
+	@Test
+	public void testNamespacesAreReplaced() {
+		final NamespacePool pool = new NamespacePool("test", 2, false, existing::add, recycled::add, existing::remove);
+		pool.fill();
+		waitForAvailable(pool, 2);
+
+		final String namespace = pool.take();
+		Assertions.assertTrue(existing.contains(namespace));
+		Assertions.assertTrue(pool.giveBack(namespace, true));
+		Assertions.assertFalse(pool.giveBack(namespace, true));
+		Assertions.assertTrue(new SimpleWaiter(() -> !existing.contains(namespace) && pool.available() == 2)
+				.timeout(TimeUnit.SECONDS, 10).interval(50).waitFor());
+		Assertions.assertEquals(2, existing.size());
+		Assertions.assertTrue(recycled.isEmpty());
+
+		pool.stop(true);
+		Assertions.assertTrue(existing.isEmpty());
+	}
+
+	/**
+	 * Verifies that released namespaces are recycled, and that namespaces are created on demand when none is ready
+	 */
+	@Test
+	public void testNamespacesAreRecycled() {
+		final NamespacePool pool = new NamespacePool("test", 1, true, existing::add, recycled::add, existing::remove);
+		pool.fill();
+		waitForAvailable(pool, 1);
+
+		final String first = pool.take();
+		final String second = pool.take();
+		Assertions.assertNotEquals(first, second);
+		Assertions.assertEquals(Set.of(first, second), existing);
+
+		Assertions.assertTrue(pool.giveBack(first, true));
+		waitForAvailable(pool, 1);
+		Assertions.assertEquals(List.of(first), recycled);
+		Assertions.assertEquals(first, pool.take());
+		Assertions.assertEquals(2, existing.size());
+
+		// namespaces which are not released cleanly are kept, and replaced
+		Assertions.assertTrue(pool.giveBack(second, false));
+		waitForAvailable(pool, 1);
+		pool.stop(false);
+		Assertions.assertEquals(3, existing.size());
+	}
+
+	private static void waitForAvailable(NamespacePool pool, int count) {
+		Assertions.assertTrue(new SimpleWaiter(() -> pool.available() == count)
+				.timeout(TimeUnit.SECONDS, 10).interval(50).waitFor());
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cz.xtf.core.waiting.SimpleWaiter;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+@EnableKubernetesMockClient(crud = true)
+public class PodCacheTest {
+
+	private static final String NAMESPACE = "test";
+
+	KubernetesMockServer server;
+	KubernetesClient client;
+
+	@AfterEach
+	public void invalidate() {
+		PodCache.invalidateAll();
+	}
+
+	/**
+	 * Verifies that pods are looked up by label, and that reads are served without further requests to the cluster
+	 */
+	@Test
+	public void testLabelLookup() {
+		client.pods().inNamespace(NAMESPACE).resource(pod("app-1", Map.of("app", "infinispan-pod", "clusterName", "a")))
+				.create();
+		client.pods().inNamespace(NAMESPACE).resource(pod("app-2", Map.of("app", "infinispan-pod", "clusterName", "b")))
+				.create();
+		client.pods().inNamespace(NAMESPACE).resource(pod("other", Map.of("role", "agent"))).create();
+
+		final PodCache cache = PodCache.of(client, NAMESPACE);
+		Assertions.assertSame(cache, PodCache.of(client, NAMESPACE));
+		Assertions.assertTrue(cache.isFresh());
+		final int requests = server.getRequestCount();
+		Assertions.assertEquals(3, cache.list().size());
+		Assertions.assertEquals(2, cache.withLabel("app", "infinispan-pod").size());
+		Assertions.assertEquals(1, cache.withLabel("role", "agent").size());
+		Assertions.assertEquals("app-2",
+				cache.withLabels(Map.of("app", "infinispan-pod", "clusterName", "b")).get(0).getMetadata().getName());
+		Assertions.assertTrue(cache.withLabel("role", "controller").isEmpty());
+		Assertions.assertEquals(requests, server.getRequestCount());
+	}
+
+	/**
+	 * Verifies that changes are eventually visible, and that invalidated caches are re-created
+	 */
+	@Test
+	public void testChangesAndInvalidation() {
+		final PodCache cache = PodCache.of(client, NAMESPACE);
+		Assertions.assertTrue(cache.list().isEmpty());
+		client.pods().inNamespace(NAMESPACE).resource(pod("agent-1", Map.of("role", "agent"))).create();
+		Assertions.assertTrue(new SimpleWaiter(() -> cache.withLabel("role", "agent").size() == 1)
+				.timeout(TimeUnit.SECONDS, 10)
+				.interval(100)
+				.waitFor());
+		client.pods().inNamespace(NAMESPACE).withName("agent-1").delete();
+		Assertions.assertTrue(new SimpleWaiter(() -> cache.withLabel("role", "agent").isEmpty())
+				.timeout(TimeUnit.SECONDS, 10)
+				.interval(100)
+				.waitFor());
+
+		PodCache.invalidate(NAMESPACE);
+		Assertions.assertNotSame(cache, PodCache.of(client, NAMESPACE));
+	}
+
+	private static Pod pod(String name, Map<String, String> labels) {
+		return new PodBuilder()
+				.withNewMetadata().withName(name).withNamespace(NAMESPACE).withLabels(labels).endMetadata()
+				.build();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCaseContextTest {
+
+	/**
+	 * Verifies that test cases running concurrently in different threads don't see each other's context, and that
+	 * the threads they create inherit it
+	 */
+	@Test
+	public void testRunningTestCaseIsBoundToThread() throws Exception {
+		final CountDownLatch bound = new CountDownLatch(2);
+		final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> runAs("FirstTest", bound));
+		final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> runAs("SecondTest", bound));
+		try {
+			Assertions.assertEquals("FirstTest", first.get(10, TimeUnit.SECONDS));
+			Assertions.assertEquals("SecondTest", second.get(10, TimeUnit.SECONDS));
+		} finally {
+			TestCaseContext.finishTestCase("FirstTest");
+			TestCaseContext.finishTestCase("SecondTest");
+		}
+	}
+
+	/**
+	 * Verifies that tasks submitted to a shared pool run with the test case of the submitting thread, rather than the
+	 * one inherited by the pool thread, and that unbound threads fail to resolve the test case while several ones are
+	 * running
+	 */
+	@Test
+	public void testSharedPoolTasksAreBoundToSubmitter() throws Exception {
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			// the pool thread is created, and inherits the context, while the first test case is running
+			runInThread(() -> {
+				TestCaseContext.setRunningTestCase("FirstTest");
+				CompletableFuture.runAsync(() -> {
+				}, pool).join();
+			});
+			final AtomicReference<String> bound = new AtomicReference<>();
+			runInThread(() -> {
+				TestCaseContext.setRunningTestCase("SecondTest");
+				CompletableFuture.runAsync(() -> bound.set(TestCaseContext.getRunningTestCaseName()),
+						TestCaseContext.bind(pool)).join();
+			});
+			Assertions.assertEquals("SecondTest", bound.get());
+
+			final AtomicReference<Throwable> failure = new AtomicReference<>();
+			runInThread(() -> {
+				try {
+					TestCaseContext.getRunningTestCaseName();
+				} catch (IllegalStateException e) {
+					failure.set(e);
+				}
+			});
+			Assertions.assertNotNull(failure.get());
+
+			// sequential test cases fall back to the most recent one
+			TestCaseContext.finishTestCase("FirstTest");
+			final AtomicReference<String> fallback = new AtomicReference<>();
+			runInThread(() -> fallback.set(TestCaseContext.getRunningTestCaseName()));
+			Assertions.assertEquals("SecondTest", fallback.get());
+		} finally {
+			pool.shutdownNow();
+			TestCaseContext.finishTestCase("FirstTest");
+			TestCaseContext.finishTestCase("SecondTest");
+		}
+	}
+
+	/**
+	 * Run a task in a thread which is not bound to any test case
+	 */
+	private static void runInThread(Runnable task) throws InterruptedException {
+		final Thread thread = new Thread(task);
+		thread.start();
+		thread.join();
+	}
+
+	private static String runAs(String testCaseName, CountDownLatch bound) {
+		TestCaseContext.setRunningTestCase(testCaseName);
+		bound.countDown();
+		try {
+			// make sure that both test cases have been set before reading the context
+			bound.await(10, TimeUnit.SECONDS);
+			final AtomicReference<String> inherited = new AtomicReference<>();
+			final Thread child = new Thread(() -> inherited.set(TestCaseContext.getRunningTestCaseName()));
+			child.start();
+			child.join();
+			Assertions.assertEquals(testCaseName, inherited.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		return TestCaseContext.getRunningTestCaseName();
+	}
+}
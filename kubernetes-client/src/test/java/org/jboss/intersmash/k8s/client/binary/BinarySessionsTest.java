@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.binary;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BinarySessionsTest {
+
+	@Test
+	public void sessionIsReusedForSameKeyTest() {
+		final AtomicInteger created = new AtomicInteger();
+		final BinarySessions<Integer> sessions = new BinarySessions<>(() -> 60_000L);
+		final String key = BinarySessions.key("https://api.cluster:6443", "token", null, null, null, "namespace-a");
+		Assertions.assertEquals(1, sessions.get(key, created::incrementAndGet));
+		Assertions.assertEquals(1, sessions.get(key, created::incrementAndGet));
+		final String otherNamespaceKey = BinarySessions.key("https://api.cluster:6443", "token", null, null, null,
+				"namespace-b");
+		Assertions.assertNotEquals(key, otherNamespaceKey);
+		Assertions.assertEquals(2, sessions.get(otherNamespaceKey, created::incrementAndGet));
+	}
+
+	@Test
+	public void sessionIsRecreatedWhenInvalidatedOrExpiredTest() {
+		final AtomicInteger created = new AtomicInteger();
+		final AtomicLong ttl = new AtomicLong(60_000L);
+		final BinarySessions<Integer> sessions = new BinarySessions<>(ttl::get);
+		final String key = BinarySessions.key("https://api.cluster:6443", null, "user", "password", null, "namespace");
+		Assertions.assertEquals(1, sessions.get(key, created::incrementAndGet));
+		sessions.invalidate(key);
+		Assertions.assertEquals(2, sessions.get(key, created::incrementAndGet));
+		ttl.set(-1L);
+		Assertions.assertEquals(3, sessions.get(key, created::incrementAndGet));
+		Assertions.assertEquals(4, sessions.get(key, created::incrementAndGet));
+	}
+}
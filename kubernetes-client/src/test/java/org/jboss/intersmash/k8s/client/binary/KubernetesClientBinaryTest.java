@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.binary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisabledOnOs(OS.WINDOWS)
+public class KubernetesClientBinaryTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void failureIsReportedOnlyWhenNotAuthenticatedTest() throws IOException {
+		final Path authenticated = Files.createFile(directory.resolve("authenticated"));
+		// a binary which fails any command, and which is authenticated as long as the marker file exists
+		final Path binary = directory.resolve("kubectl");
+		Files.writeString(binary, "#!/bin/sh\n"
+				+ "case \"$*\" in\n"
+				+ "  *\"get --raw /api\"*) [ -f \"" + authenticated + "\" ] && echo '{}' && exit 0 ;;\n"
+				+ "esac\n"
+				+ "exit 1\n");
+		Files.setPosixFilePermissions(binary, PosixFilePermissions.fromString("rwx------"));
+		final AtomicInteger failures = new AtomicInteger();
+		final KubernetesClientBinary kubernetesClientBinary = new KubernetesClientBinary(binary.toString(),
+				directory.resolve("kube.config").toString());
+		kubernetesClientBinary.onFailure(failures::incrementAndGet);
+
+		Assertions.assertNull(kubernetesClientBinary.execute("get", "subscription", "missing"));
+		Assertions.assertEquals(0, failures.get());
+		Files.delete(authenticated);
+		Assertions.assertNull(kubernetesClientBinary.execute("get", "subscription", "missing"));
+		Assertions.assertEquals(1, failures.get());
+	}
+}
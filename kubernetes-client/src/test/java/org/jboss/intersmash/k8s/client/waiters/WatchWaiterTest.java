@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.k8s.client.waiters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cz.xtf.core.waiting.WaiterException;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class WatchWaiterTest {
+
+	private static final String NAMESPACE = "test";
+
+	KubernetesClient client;
+
+	/**
+	 * Verifies that the waiter is notified about changes, rather than waiting for the next evaluation
+	 */
+	@Test
+	public void testWaitForResource() throws Exception {
+		CompletableFuture<Void> update = CompletableFuture.runAsync(() -> {
+			sleep(500);
+			client.configMaps().inNamespace(NAMESPACE).resource(configMap("ready")).create();
+		});
+		long start = System.currentTimeMillis();
+		Assertions.assertTrue(WatchWaiters.resource(client.configMaps().inNamespace(NAMESPACE).withName("config"),
+				c -> "ready".equals(c.getData().get("status")))
+				.timeout(TimeUnit.SECONDS, 20)
+				.interval(TimeUnit.SECONDS, 15)
+				.waitFor());
+		Assertions.assertTrue(System.currentTimeMillis() - start < 15_000);
+		update.get(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Verifies that the ready pods matching a label are counted
+	 */
+	@Test
+	public void testWaitForReadyPods() {
+		client.pods().inNamespace(NAMESPACE).resource(pod("app-1", "app", true)).create();
+		client.pods().inNamespace(NAMESPACE).resource(pod("app-2", "app", false)).create();
+		client.pods().inNamespace(NAMESPACE).resource(pod("other-1", "other", true)).create();
+		Assertions.assertTrue(WatchWaiters.readyPods(client.pods().inNamespace(NAMESPACE).withLabel("name", "app"), 1)
+				.timeout(TimeUnit.SECONDS, 10)
+				.waitFor());
+		Assertions.assertTrue(WatchWaiters.podCount(client.pods().inNamespace(NAMESPACE).withLabel("name", "app"), 2)
+				.timeout(TimeUnit.SECONDS, 10)
+				.waitFor());
+	}
+
+	/**
+	 * Verifies the failure, fail fast and time out semantics, which must be the same as the ones of
+	 * {@link cz.xtf.core.waiting.SimpleWaiter}
+	 */
+	@Test
+	public void testFailureFailFastAndTimeout() {
+		client.configMaps().inNamespace(NAMESPACE).resource(configMap("failed")).create();
+		Assertions.assertFalse(WatchWaiters.resource(client.configMaps().inNamespace(NAMESPACE).withName("config"),
+				c -> "ready".equals(c.getData().get("status")))
+				.failureCondition(l -> !l.isEmpty() && "failed".equals(l.get(0).getData().get("status")))
+				.timeout(TimeUnit.SECONDS, 10)
+				.waitFor());
+		Assertions.assertThrows(WaiterException.class,
+				() -> WatchWaiters.resource(client.configMaps().inNamespace(NAMESPACE).withName("config"), c -> false)
+						.failFast(() -> true)
+						.timeout(TimeUnit.SECONDS, 10)
+						.waitFor());
+		Assertions.assertThrows(WaiterException.class,
+				() -> WatchWaiters.resource(client.configMaps().inNamespace(NAMESPACE).withName("config"), c -> false)
+						.reason("Waiting for a config map which never gets ready")
+						.timeout(500)
+						.interval(100)
+						.waitFor());
+	}
+
+	private static ConfigMap configMap(String status) {
+		return new ConfigMapBuilder()
+				.withNewMetadata().withName("config").withNamespace(NAMESPACE).endMetadata()
+				.addToData("status", status)
+				.build();
+	}
+
+	private static Pod pod(String name, String label, boolean ready) {
+		return new PodBuilder()
+				.withNewMetadata().withName(name).withNamespace(NAMESPACE).addToLabels("name", label).endMetadata()
+				.withNewStatus()
+				.withPhase("Running")
+				.addNewCondition().withType("Ready").withStatus(ready ? "True" : "False").endCondition()
+				.endStatus()
+				.build();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
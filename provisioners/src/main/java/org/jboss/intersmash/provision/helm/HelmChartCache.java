@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.helm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.transport.TagOpt;
+import org.jboss.intersmash.util.git.GitUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of Helm Charts, which is kept across executions.
+ * <p>
+ * Each Helm Charts repository and reference is cloned once into the cache directory, and only the changes are
+ * fetched afterwards. Charts are then packaged together with their dependencies, i.e. {@code helm dependency build}
+ * and {@code helm package}, once per revision, so that releases are installed or upgraded from the packaged chart,
+ * without resolving the chart dependencies again.
+ * </p>
+ * The cache is laid out as follows:
+ * <pre>
+ *     &lt;directory&gt;/&lt;repository&gt;-&lt;hash of the URL and reference&gt;/repository
+ *     &lt;directory&gt;/&lt;repository&gt;-&lt;hash of the URL and reference&gt;/packages/&lt;revision&gt;/&lt;chart&gt;/&lt;chart&gt;-&lt;version&gt;.tgz
+ * </pre>
+ */
+@Slf4j
+final class HelmChartCache {
+	private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+	private final Path directory;
+	private final Function<String[], String> helm;
+
+	/**
+	 * @param directory The cache directory
+	 * @param helm Executes the Helm CLI with the given arguments
+	 */
+	HelmChartCache(Path directory, Function<String[], String> helm) {
+		this.directory = directory;
+		this.helm = helm;
+	}
+
+	/**
+	 * Get the packaged chart, updating the cached repository and packaging the chart first, if needed.
+	 *
+	 * @param repositoryUrl The Helm Charts repository URL
+	 * @param ref The Helm Charts repository branch, tag or commit
+	 * @param chartName The name of the chart directory, in the {@code charts} directory of the repository
+	 * @return The path of the packaged chart
+	 */
+	Path chart(String repositoryUrl, String ref, String chartName) {
+		final Path entry = directory.resolve(entryName(repositoryUrl, ref));
+		synchronized (LOCKS.computeIfAbsent(entry.toString(), k -> new Object())) {
+			final Path repository = entry.resolve("repository");
+			final String revision = update(repository, repositoryUrl, ref);
+			final Path packageDirectory = entry.resolve("packages").resolve(revision).resolve(chartName);
+			return packaged(packageDirectory).orElseGet(() -> {
+				log.info("Packaging Helm Chart {} at revision {} of {}", chartName, revision, repositoryUrl);
+				return pack(findChart(repository, chartName), packageDirectory);
+			});
+		}
+	}
+
+	/**
+	 * Fetch the changes of an existing clone, or clone the repository, and check the given reference out.
+	 *
+	 * @return The checked out revision
+	 */
+	private static String update(Path repository, String repositoryUrl, String ref) {
+		if (Files.isDirectory(repository.resolve(".git"))) {
+			try (Git git = Git.open(repository.toFile())) {
+				git.fetch().setRemote("origin").setRemoveDeletedRefs(true).setTagOpt(TagOpt.FETCH_TAGS)
+						.setTimeout(120).call();
+				final ObjectId revision = resolve(git.getRepository(), ref);
+				git.checkout().setName(revision.getName()).setForced(true).call();
+				git.clean().setCleanDirectories(true).setForce(true).call();
+				log.debug("Fetched {} into {}, at revision {}", repositoryUrl, repository, revision.getName());
+				return revision.getName();
+			} catch (IOException | GitAPIException | IllegalStateException e) {
+				log.warn("Unable to update the cached clone of {}, cloning it again: {}", repositoryUrl, e.getMessage());
+			}
+		}
+		return GitUtil.cloneRepository(repository, repositoryUrl, ref).getRevHash();
+	}
+
+	private static ObjectId resolve(Repository repository, String ref) throws IOException {
+		for (String candidate : new String[] { "refs/remotes/origin/" + ref, "refs/tags/" + ref + "^{commit}", ref }) {
+			final ObjectId revision = repository.resolve(candidate);
+			if (revision != null) {
+				return revision;
+			}
+		}
+		throw new IllegalStateException(String.format("Reference %s not found", ref));
+	}
+
+	private static Path findChart(Path repository, String chartName) {
+		try (Stream<Path> paths = Files.walk(repository.resolve("charts"))) {
+			return paths
+					.filter(Files::isDirectory)
+					.filter(path -> path.getFileName().toString().equals(chartName))
+					.findFirst()
+					.orElseThrow(() -> new IllegalStateException(
+							String.format("The %s Helm Chart was not found in %s", chartName, repository)));
+		} catch (IOException e) {
+			throw new UncheckedIOException("An IOException was thrown while retrieving Helm charts", e);
+		}
+	}
+
+	private static Optional<Path> packaged(Path packageDirectory) {
+		if (!Files.isDirectory(packageDirectory)) {
+			return Optional.empty();
+		}
+		try (Stream<Path> files = Files.list(packageDirectory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".tgz")).findFirst();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Package the chart with its dependencies, the package is moved into the cache once complete, so that an
+	 * interrupted execution doesn't leave an incomplete package behind.
+	 */
+	private Path pack(Path chart, Path packageDirectory) {
+		try {
+			helm.apply(new String[] { "dependency", "build", chart.toAbsolutePath().toString() });
+			Files.createDirectories(packageDirectory.getParent());
+			final Path staging = Files.createTempDirectory(packageDirectory.getParent(), ".staging-");
+			try {
+				helm.apply(new String[] { "package", chart.toAbsolutePath().toString(), "--destination",
+						staging.toAbsolutePath().toString() });
+				Files.move(staging, packageDirectory, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+				log.debug("The Helm Chart {} has been packaged concurrently", chart);
+			} finally {
+				FileUtils.deleteQuietly(staging.toFile());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to package the Helm Chart " + chart, e);
+		}
+		return packaged(packageDirectory).orElseThrow(
+				() -> new IllegalStateException("No Helm Chart package was created for " + chart));
+	}
+
+	private static String entryName(String repositoryUrl, String ref) {
+		final String name = repositoryUrl.replaceAll("/+$", "").replaceAll("\\.git$", "")
+				.replaceAll(".*/", "").replaceAll("[^A-Za-z0-9._-]", "_");
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((repositoryUrl + "\0" + ref).getBytes(StandardCharsets.UTF_8));
+			return name + "-" + HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+}
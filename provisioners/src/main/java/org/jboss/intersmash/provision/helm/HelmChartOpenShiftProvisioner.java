@@ -15,33 +15,37 @@
  */
 package org.jboss.intersmash.provision.helm;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.application.openshift.helm.HelmChartOpenShiftApplication;
 import org.jboss.intersmash.application.openshift.helm.HelmChartRelease;
 import org.jboss.intersmash.application.openshift.helm.SerializableHelmChartRelease;
+import org.jboss.intersmash.k8s.client.ApiMetrics;
+import org.jboss.intersmash.provision.openshift.OpenShiftBinaries;
 import org.jboss.intersmash.provision.openshift.OpenShiftProvisioner;
-import org.jboss.intersmash.util.git.GitProject;
-import org.jboss.intersmash.util.git.GitUtil;
 import org.slf4j.event.Level;
 
 import cz.xtf.core.helm.HelmBinary;
 import cz.xtf.core.helm.HelmClients;
 import cz.xtf.core.openshift.OpenShiftWaiters;
-import cz.xtf.core.openshift.OpenShifts;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.KubernetesClient;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * An OpenShift provisioner that can provision applications through Helm Charts.
@@ -57,13 +61,15 @@ import lombok.NonNull;
  *
  * Concrete implementations must provide the path for the Chart to be deployed and can extend the behavior.
  */
+@Slf4j
 public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShiftApplication>
 		implements OpenShiftProvisioner<A> {
+	private static final String INSTANCE_LABEL = "app.kubernetes.io/instance";
 	private static HelmBinary helmBinary;
 	protected final A application;
 	protected FailFastCheck ffCheck = () -> false;
 
-	private final static Map<String, Map<String, Path>> HELM_CHARTS = new HashMap<>();
+	private final static Map<String, CompletableFuture<Map<String, Path>>> HELM_CHARTS = new ConcurrentHashMap<>();
 
 	public HelmChartOpenShiftProvisioner(@NonNull A application) {
 		this.application = application;
@@ -81,6 +87,16 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 		return helmBinary;
 	}
 
+	/**
+	 * Execute the Helm CLI, so that the forked process is recorded by {@link ApiMetrics}.
+	 *
+	 * @param arguments The Helm CLI arguments
+	 * @return The Helm CLI output
+	 */
+	protected String helm(String... arguments) {
+		return ApiMetrics.process("helm", arguments, () -> helmBinary().execute(arguments));
+	}
+
 	@Override
 	public A getApplication() {
 		return application;
@@ -103,7 +119,7 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 							this.getApplication().getHelmChartsRepositoryName(),
 							this.getApplication().getName()));
 		}
-		helmBinary().execute(getHelmChartInstallArguments(this.getApplication(), helmChartsPath));
+		helm(getHelmChartInstallArguments(this.getApplication(), helmChartsPath));
 		if (this.getApplication().getRelease().getReplicas() > 0) {
 			waitForReplicas(this.getApplication().getRelease().getReplicas());
 		}
@@ -111,29 +127,68 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 
 	@Override
 	public void undeploy() {
-		helmBinary().execute(getHelmChartUninstallArguments(this.getApplication().getName()));
-		OpenShiftWaiters.get(openShift, ffCheck).areNoPodsPresent("app.kubernetes.io/instance", application.getName())
+		helm(getHelmChartUninstallArguments(this.getApplication().getName()));
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).areNoPodsPresent("app.kubernetes.io/instance", application.getName())
 				.level(Level.DEBUG)
 				.waitFor();
 	}
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getLabeledPods("app.kubernetes.io/instance", application.getName());
+		return getOpenShift().getLabeledPods("app.kubernetes.io/instance", application.getName());
 	}
 
+	/**
+	 * Scale the release workload through the {@code scale} subresource, so that the release manifests are not rendered
+	 * and applied again, which could trigger a rolling restart. The replicas are recorded in the release values
+	 * anyway, so that following upgrades keep them.
+	 * A {@code helm upgrade} is executed instead, when the release doesn't consist of exactly one
+	 * {@code Deployment} or {@code StatefulSet}.
+	 *
+	 * @param replicas The number of replicas
+	 * @param wait Whether to wait for the replicas to be ready
+	 */
 	@Override
 	public void scale(int replicas, boolean wait) {
 		this.getApplication().getRelease().setReplicas(replicas);
-		final Path helmChartsPath = this.getHelmCharts().get(this.getApplication().getHelmChartsRepositoryName());
-		helmBinary().execute(getHelmChartUpgradeArguments(this.getApplication(), helmChartsPath));
+		if (!scaleWorkload(getOpenShift(), application.getName(), replicas)) {
+			final Path helmChartsPath = this.getHelmCharts().get(this.getApplication().getHelmChartsRepositoryName());
+			helm(getHelmChartUpgradeArguments(this.getApplication(), helmChartsPath));
+		}
 		if (wait) {
 			waitForReplicas(replicas);
 		}
 	}
 
+	/**
+	 * Scale the workload of a release through the {@code scale} subresource.
+	 *
+	 * @param client The client of the release namespace
+	 * @param releaseName The release name
+	 * @param replicas The number of replicas
+	 * @return {@code true} if the workload has been scaled, {@code false} if the release doesn't consist of exactly one
+	 * {@code Deployment} or {@code StatefulSet}
+	 */
+	static boolean scaleWorkload(KubernetesClient client, String releaseName, int replicas) {
+		final List<Deployment> deployments = client.apps().deployments()
+				.withLabel(INSTANCE_LABEL, releaseName).list().getItems();
+		final List<StatefulSet> statefulSets = client.apps().statefulSets()
+				.withLabel(INSTANCE_LABEL, releaseName).list().getItems();
+		if (deployments.size() + statefulSets.size() != 1) {
+			log.debug("Release {} has {} deployments and {} stateful sets, it will be scaled by Helm", releaseName,
+					deployments.size(), statefulSets.size());
+			return false;
+		}
+		if (deployments.isEmpty()) {
+			client.apps().statefulSets().withName(statefulSets.get(0).getMetadata().getName()).scale(replicas);
+		} else {
+			client.apps().deployments().withName(deployments.get(0).getMetadata().getName()).scale(replicas);
+		}
+		return true;
+	}
+
 	protected void waitForReplicas(int replicas) {
-		OpenShiftWaiters.get(openShift, ffCheck)
+		OpenShiftWaiters.get(getOpenShift(), ffCheck)
 				.areExactlyNPodsReady(replicas, "app.kubernetes.io/instance", application.getName()).level(Level.DEBUG)
 				.waitFor();
 	}
@@ -144,12 +199,8 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 				.collect(Collectors.toList());
 		arguments.addAll(Arrays.asList(getHelmChartValuesFilesArguments(application)));
 		arguments.addAll(getSetOverrideArguments(application));
-		arguments.addAll(Arrays.asList(
-				"--kubeconfig", OpenShifts.adminBinary().getOcConfigPath(),
-				// since we deploy from cloned charts repository, we need to set the "--dependency-update"
-				// flag to fetch any non-local dependencies that chart requires
-				// in order to prevent any issues with the helm chart
-				"--dependency-update"));
+		// charts are packaged together with their dependencies, see HelmChartCache
+		arguments.addAll(Arrays.asList("--kubeconfig", OpenShiftBinaries.adminBinary().getOcConfigPath()));
 		return arguments.stream().toArray(String[]::new);
 	}
 
@@ -159,17 +210,13 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 				"--replace").collect(Collectors.toList());
 		arguments.addAll(Arrays.asList(getHelmChartValuesFilesArguments(application)));
 		arguments.addAll(getSetOverrideArguments(application));
-		arguments.addAll(Arrays.asList(
-				"--kubeconfig", OpenShifts.adminBinary().getOcConfigPath(),
-				// since we deploy from cloned charts repository, we need to set the "--dependency-update"
-				// flag to fetch any non-local dependencies that chart requires
-				// in order to prevent any issues with the helm chart
-				"--dependency-update"));
+		// charts are packaged together with their dependencies, see HelmChartCache
+		arguments.addAll(Arrays.asList("--kubeconfig", OpenShiftBinaries.adminBinary().getOcConfigPath()));
 		return arguments.stream().toArray(String[]::new);
 	}
 
 	private static String[] getHelmChartUninstallArguments(final String releaseName) {
-		return Stream.of("uninstall", releaseName, "--kubeconfig", OpenShifts.adminBinary().getOcConfigPath())
+		return Stream.of("uninstall", releaseName, "--kubeconfig", OpenShiftBinaries.adminBinary().getOcConfigPath())
 				.collect(Collectors.toList()).stream().toArray(String[]::new);
 	}
 
@@ -198,22 +245,41 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 		return arguments;
 	}
 
+	/**
+	 * Get the Helm Charts which are used to deploy the application, i.e. the packaged chart, including its
+	 * dependencies, from the local Helm Charts cache, see {@link IntersmashConfig#helmChartsCacheDirectory()}.
+	 *
+	 * @return Map&lt;String, Path&gt; of Helm Charts names and the absolute path of their package
+	 */
 	protected Map<String, Path> getHelmCharts() {
-		final String cachedChartsKey = forgeHelmChartsKey();
-		if (!HELM_CHARTS.containsKey(cachedChartsKey)) {
-			String helmChartsRepository = this.getApplication().getHelmChartsRepositoryUrl();
-			String helmChartsBranch = this.getApplication().getHelmChartsRepositoryRef();
-			GitProject helmChartsProject = GitUtil.cloneRepository(
-					GitUtil.REPOSITORIES
-							.resolve(String.format("%s-%s", this.getClass().getSimpleName(),
-									this.getApplication().getHelmChartsRepositoryName()))
-							.resolve("helm-charts"),
-					helmChartsRepository,
-					helmChartsBranch);
-			HELM_CHARTS.put(cachedChartsKey,
-					retrieveCharts(helmChartsProject.getPath(), this.getApplication().getHelmChartsRepositoryName()));
+		// the chart is resolved outside the map, so that provisioners which use other charts are not blocked, while
+		// the ones using the same chart wait for it to be resolved once
+		final String key = forgeHelmChartsKey();
+		final CompletableFuture<Map<String, Path>> resolving = new CompletableFuture<>();
+		final CompletableFuture<Map<String, Path>> existing = HELM_CHARTS.putIfAbsent(key, resolving);
+		if (existing != null) {
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		try {
+			final String helmChartsName = this.getApplication().getHelmChartsRepositoryName();
+			final Path chart = new HelmChartCache(IntersmashConfig.helmChartsCacheDirectory(),
+					this::helm)
+					.chart(this.getApplication().getHelmChartsRepositoryUrl(),
+							this.getApplication().getHelmChartsRepositoryRef(),
+							helmChartsName);
+			final Map<String, Path> helmCharts = Map.of(helmChartsName, chart);
+			resolving.complete(helmCharts);
+			return helmCharts;
+		} catch (RuntimeException e) {
+			// let the next provisioner try again
+			HELM_CHARTS.remove(key, resolving);
+			resolving.completeExceptionally(e);
+			throw e;
 		}
-		return HELM_CHARTS.get(cachedChartsKey);
 	}
 
 	private String forgeHelmChartsKey() {
@@ -222,27 +288,4 @@ public abstract class HelmChartOpenShiftProvisioner<A extends HelmChartOpenShift
 				this.getApplication().getHelmChartsRepositoryRef(),
 				this.getApplication().getHelmChartsRepositoryName());
 	}
-
-	/**
-	 * Parses Helm Chart repository into a Map&lt;String, Path&gt;
-	 * with entries containing chart names and their absolute paths
-	 * Example {
-	 * 		"eap74" : /tmp/wildfly-charts/charts/eap74,
-	 * 		"eap-xp2" : /tmp/wildfly-charts/charts/eap-xp2
-	 * 	}
-	 * @param projectRoot of the Helm Chart repository
-	 * @return Map&lt;String, Path&gt; of Helm Charts and their absolute path
-	 */
-	private Map<String, Path> retrieveCharts(Path projectRoot, final String helmChartsName) {
-		String prefix = helmChartsName;
-		try (Stream<Path> paths = Files.walk(projectRoot.resolve("charts"))) {
-			return paths
-					.filter(path -> path.getFileName().startsWith(prefix))
-					.collect(Collectors.toMap(path -> path.getFileName().toString(), path -> path));
-		} catch (IOException e) {
-			throw new IllegalStateException(
-					"An IOException was thrown while retrieving Helm charts, please double check your testing profile Helm properties",
-					e);
-		}
-	}
 }
@@ -17,12 +17,12 @@ package org.jboss.intersmash.provision.helm.wildfly;
 
 import org.jboss.intersmash.application.openshift.helm.WildflyHelmChartOpenShiftApplication;
 import org.jboss.intersmash.provision.helm.HelmChartOpenShiftProvisioner;
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 import org.jboss.intersmash.provision.openshift.WaitersUtil;
 import org.jboss.intersmash.util.openshift.WildflyOpenShiftUtils;
 import org.slf4j.event.Level;
 
 import cz.xtf.core.image.Image;
-import cz.xtf.core.openshift.OpenShifts;
 import lombok.NonNull;
 
 /**
@@ -56,10 +56,10 @@ public class WildflyHelmChartOpenShiftProvisioner extends HelmChartOpenShiftProv
 
 	@Override
 	public void postUndeploy() {
-		OpenShifts.master().deleteImageStream(
+		OpenShiftClients.master().deleteImageStream(
 				Image.from(this.getApplication().getRuntimeImage()).getImageStream(computeRuntimeImageStreamName(),
 						RUNTIME_IMAGE_STREAM_TAG));
-		OpenShifts.master().deleteImageStream(
+		OpenShiftClients.master().deleteImageStream(
 				Image.from(this.getApplication().getBuilderImage()).getImageStream(computeBuilderImageStreamName(),
 						BUILDER_IMAGE_STREAM_TAG));
 		super.postUndeploy();
@@ -68,7 +68,7 @@ public class WildflyHelmChartOpenShiftProvisioner extends HelmChartOpenShiftProv
 	@Override
 	protected void waitForReplicas(int replicas) {
 		super.waitForReplicas(replicas);
-		WaitersUtil.serviceEndpointsAreReady(openShift, getApplication().getName(), replicas, 8080)
+		WaitersUtil.serviceEndpointsAreReady(getOpenShift(), getApplication().getName(), replicas, 8080)
 				.level(Level.DEBUG)
 				.waitFor();
 		if (replicas > 0) {
@@ -20,7 +20,6 @@ import org.jboss.intersmash.provision.operator.ActiveMQOperatorProvisioner;
 import org.jboss.intersmash.provision.operator.model.activemq.address.ActiveMQArtemisAddressList;
 import org.jboss.intersmash.provision.operator.model.activemq.broker.ActiveMQArtemisList;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.amq.broker.v1beta1.ActiveMQArtemis;
 import io.amq.broker.v1beta1.ActiveMQArtemisAddress;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
@@ -66,20 +65,19 @@ public class ActiveMQOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<ActiveMQArtemis, ActiveMQArtemisList> activeMQArtemisCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, ActiveMQArtemis.class, ActiveMQArtemisList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, ActiveMQArtemis.class, ActiveMQArtemisList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<ActiveMQArtemisAddress, ActiveMQArtemisAddressList> activeMQArtemisAddressesCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, ActiveMQArtemisAddress.class, ActiveMQArtemisAddressList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, ActiveMQArtemisAddress.class,
+				ActiveMQArtemisAddressList.class);
 	}
 }
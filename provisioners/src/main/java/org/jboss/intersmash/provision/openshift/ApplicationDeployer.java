@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import cz.xtf.builder.builders.ApplicationBuilder;
+import cz.xtf.core.openshift.OpenShift;
+import cz.xtf.core.openshift.OpenShiftWaiters;
+import cz.xtf.core.waiting.failfast.FailFastCheck;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deploys the resources defined by an {@link ApplicationBuilder}, like
+ * {@link cz.xtf.builder.OpenShiftApplication#deploy()} does, but lets the pod template of a deployment config be
+ * completed before it is created.
+ * <p>
+ * As in XTF, the deployment configs labelled with {@code synchronousId} are deployed first, one by one in the order
+ * of the label values, each of them waiting for its pods to be ready before the next one is created.
+ * </p>
+ * <p>
+ * Volumes can't be added via the XTF pod template builders, since they are incompatible with the Fabric8 7.x fluent
+ * API at runtime. Adding them to the created deployment config instead would trigger a second rollout, which the
+ * deployment would have to wait for.
+ * </p>
+ */
+@Slf4j
+final class ApplicationDeployer {
+	static final String SYNCHRONOUS_ID = "synchronousId";
+
+	private ApplicationDeployer() {
+	}
+
+	/**
+	 * Create the application resources.
+	 *
+	 * @param openShift The client used to create the resources
+	 * @param appBuilder The application definition
+	 * @param ffCheck The fail fast check used while waiting for the synchronous deployment configs
+	 * @param deploymentConfigName The name of the deployment config whose pod template should be customized
+	 * @param podSpecCustomizer Completes the pod template, e.g. with volumes
+	 */
+	static void deploy(OpenShift openShift, ApplicationBuilder appBuilder, FailFastCheck ffCheck,
+			String deploymentConfigName, Consumer<PodSpec> podSpecCustomizer) {
+		final List<DeploymentConfig> deploymentConfigs = appBuilder.buildDeploymentConfigs();
+		deploymentConfigs.stream()
+				.filter(dc -> deploymentConfigName.equals(dc.getMetadata().getName()))
+				.forEach(dc -> podSpecCustomizer.accept(dc.getSpec().getTemplate().getSpec()));
+
+		// same order as XTF, except that the resources which are referenced by the pod template come first
+		final List<HasMetadata> resources = new ArrayList<>();
+		resources.addAll(appBuilder.buildSecrets());
+		resources.addAll(appBuilder.buildConfigMaps());
+		resources.addAll(appBuilder.buildImageStreams());
+		resources.addAll(appBuilder.buildBuildConfigs());
+		resources.addAll(appBuilder.buildPVCs());
+		create(openShift, resources);
+
+		deploymentConfigs.stream()
+				.filter(ApplicationDeployer::isSynchronous)
+				.sorted(Comparator.comparingInt(
+						dc -> Integer.parseInt(dc.getMetadata().getLabels().get(SYNCHRONOUS_ID))))
+				.forEach(dc -> deploySynchronously(openShift, ffCheck, dc));
+
+		resources.clear();
+		resources.addAll(deploymentConfigs.stream().filter(dc -> !isSynchronous(dc)).collect(Collectors.toList()));
+		resources.addAll(appBuilder.buildServices());
+		resources.addAll(appBuilder.buildRoutes());
+		resources.addAll(appBuilder.buildRoles());
+		resources.addAll(appBuilder.buildRoleBindings());
+		create(openShift, resources);
+	}
+
+	private static void create(OpenShift openShift, List<HasMetadata> resources) {
+		for (HasMetadata resource : resources) {
+			log.debug("Creating {} {}", resource.getKind(), resource.getMetadata().getName());
+			openShift.resource(resource).create();
+		}
+	}
+
+	private static boolean isSynchronous(DeploymentConfig dc) {
+		return dc.getMetadata().getLabels() != null && dc.getMetadata().getLabels().containsKey(SYNCHRONOUS_ID);
+	}
+
+	private static void deploySynchronously(OpenShift openShift, FailFastCheck ffCheck, DeploymentConfig dc) {
+		final String name = dc.getMetadata().getName();
+		log.debug("Creating DeploymentConfig {}", name);
+		openShift.resource(dc).create();
+		final int replicas = dc.getSpec().getReplicas();
+		if (replicas > 0) {
+			log.info("Waiting for a startup of pod with deploymentconfig '{}' ({} {})", name, SYNCHRONOUS_ID,
+					dc.getMetadata().getLabels().get(SYNCHRONOUS_ID));
+			try {
+				OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, name).waitFor();
+			} catch (Exception e) {
+				throw new IllegalStateException("Timeout while waiting for deployment of " + name, e);
+			}
+		}
+	}
+
+	/**
+	 * Add a volume to the pod template, and mount it into its first container.
+	 *
+	 * @param podSpec The pod template
+	 * @param volume The volume
+	 * @param mounts The mounts of the volume
+	 */
+	static void addVolume(PodSpec podSpec, Volume volume, List<VolumeMount> mounts) {
+		if (podSpec.getVolumes() == null) {
+			podSpec.setVolumes(new ArrayList<>());
+		}
+		podSpec.getVolumes().add(volume);
+		final Container container = podSpec.getContainers().get(0);
+		if (container.getVolumeMounts() == null) {
+			container.setVolumeMounts(new ArrayList<>());
+		}
+		container.getVolumeMounts().addAll(mounts);
+	}
+}
@@ -26,6 +26,8 @@ import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.application.input.BinarySource;
 import org.jboss.intersmash.application.input.BuildInput;
 import org.jboss.intersmash.application.openshift.BootableJarOpenShiftApplication;
+import org.jboss.intersmash.provision.BuildResult;
+import org.jboss.intersmash.provision.Prebuildable;
 import org.slf4j.event.Level;
 
 import cz.xtf.builder.builders.ApplicationBuilder;
@@ -49,10 +51,11 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public abstract class BootableJarImageOpenShiftProvisioner
-		implements OpenShiftProvisioner<BootableJarOpenShiftApplication> {
+		implements OpenShiftProvisioner<BootableJarOpenShiftApplication>, Prebuildable {
 
 	private final BootableJarOpenShiftApplication bootableApplication;
 	private FailFastCheck ffCheck = () -> false;
+	private final BuildResult<ManagedBuildReference> build = new BuildResult<>();
 
 	public BootableJarImageOpenShiftProvisioner(@NonNull BootableJarOpenShiftApplication bootableApplication) {
 		this.bootableApplication = bootableApplication;
@@ -71,47 +74,56 @@ public abstract class BootableJarImageOpenShiftProvisioner
 		deployImage();
 	}
 
+	@Override
+	public void prebuild() {
+		// the binary build is run by the application builder, while S2I builds from a git repository are triggered by
+		// the build config which is created by the deployment
+		if (bootableApplication.getBuildInput() instanceof BinarySource) {
+			getAppBuilder();
+		}
+	}
+
 	@Override
 	public void undeploy() {
-		OpenShiftUtils.deleteResourcesWithLabel(openShift, APP_LABEL_KEY, bootableApplication.getName());
+		OpenShiftUtils.deleteResourcesWithLabel(getOpenShift(), APP_LABEL_KEY, bootableApplication.getName());
 		// the bootable JAR provisioning process _might_ need to clean some custom build configs, builds,
 		// config maps, image streams and build pods which might appear as leftovers in OpenShift::clean()
 		// when the build and master namespaces are the same
-		openShift.getBuildConfigs()
+		getOpenShift().getBuildConfigs()
 				.stream()
 				.filter(bc -> bc.getMetadata().getName().startsWith(bootableApplication.getName()))
-				.forEach(openShift::deleteBuildConfig);
-		openShift.getBuilds()
+				.forEach(getOpenShift()::deleteBuildConfig);
+		getOpenShift().getBuilds()
 				.stream()
 				.filter(b -> b.getMetadata().getName().startsWith(bootableApplication.getName()))
-				.forEach(openShift::deleteBuild);
-		openShift.getConfigMaps()
+				.forEach(getOpenShift()::deleteBuild);
+		getOpenShift().getConfigMaps()
 				.stream()
 				.filter(cf -> cf.getMetadata().getName().startsWith(bootableApplication.getName()))
-				.forEach(openShift::deleteConfigMap);
-		openShift.getImageStreams()
+				.forEach(getOpenShift()::deleteConfigMap);
+		getOpenShift().getImageStreams()
 				.stream()
 				.filter(is -> is.getMetadata().getName().startsWith(bootableApplication.getName()))
-				.forEach(openShift::deleteImageStream);
-		openShift.getPods()
+				.forEach(getOpenShift()::deleteImageStream);
+		getOpenShift().getPods()
 				.stream()
 				.filter(pod -> pod.getMetadata().getName().startsWith(bootableApplication.getName()))
-				.forEach(openShift::deletePod);
+				.forEach(getOpenShift()::deletePod);
 	}
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(bootableApplication.getName(), replicas);
+		getOpenShift().scale(bootableApplication.getName(), replicas);
 		if (wait) {
 			waitForReplicas(replicas);
 		}
 	}
 
 	public void waitForReplicas(int replicas) {
-		OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, bootableApplication.getName())
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, bootableApplication.getName())
 				.level(Level.DEBUG)
 				.waitFor();
-		WaitersUtil.serviceEndpointsAreReady(openShift, getApplication().getName(), replicas, 8080)
+		WaitersUtil.serviceEndpointsAreReady(getOpenShift(), getApplication().getName(), replicas, 8080)
 				.level(Level.DEBUG)
 				.waitFor();
 		if (replicas > 0) {
@@ -172,8 +184,11 @@ public abstract class BootableJarImageOpenShiftProvisioner
 						String.format("'%s' archive path must be either a directory or a file", archiveFile.getAbsolutePath()));
 			}
 
-			ManagedBuildReference reference = BuildManagers.get().deploy(bootableJarBuild);
-			BuildManagers.get().hasBuildCompleted(bootableJarBuild).waitFor();
+			ManagedBuildReference reference = build.get(() -> {
+				ManagedBuildReference deployed = BuildManagers.get().deploy(bootableJarBuild);
+				BuildManagers.get().hasBuildCompleted(bootableJarBuild).waitFor();
+				return deployed;
+			});
 
 			ApplicationBuilder appBuilder = ApplicationBuilder.fromManagedBuild(
 					bootableApplication.getName(),
@@ -226,14 +241,14 @@ public abstract class BootableJarImageOpenShiftProvisioner
 
 		configureAppBuilder(appBuilder);
 
-		appBuilder.buildApplication(openShift).deploy();
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(appBuilder.getName()).level(Level.DEBUG).waitFor();
+		appBuilder.buildApplication(getOpenShift()).deploy();
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(appBuilder.getName()).level(Level.DEBUG).waitFor();
 		// 1 by default
 		waitForReplicas(1);
 	}
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 }
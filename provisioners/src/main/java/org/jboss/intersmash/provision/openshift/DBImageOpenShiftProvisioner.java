@@ -33,6 +33,8 @@ import cz.xtf.core.event.helpers.EventHelper;
 import cz.xtf.core.openshift.OpenShiftWaiters;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -52,9 +54,9 @@ public abstract class DBImageOpenShiftProvisioner<T extends DBImageOpenShiftAppl
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(dbApplication.getName(), replicas);
+		getOpenShift().scale(dbApplication.getName(), replicas);
 		if (wait) {
-			OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, "name", dbApplication.getName())
+			OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, "name", dbApplication.getName())
 					.level(Level.DEBUG).waitFor();
 		}
 	}
@@ -88,7 +90,7 @@ public abstract class DBImageOpenShiftProvisioner<T extends DBImageOpenShiftAppl
 		// create persistent volume claims on the cluster before deploying
 		if (dbApplication.getPersistentVolumeClaims() != null && !dbApplication.getPersistentVolumeClaims().isEmpty()) {
 			PersistentVolumeClaim pvc = dbApplication.getPersistentVolumeClaims().get(0);
-			openShift.createPersistentVolumeClaim(
+			getOpenShift().createPersistentVolumeClaim(
 					new PVCBuilder(pvc.getClaimName()).accessRWX().storageSize("100Mi").build());
 		}
 
@@ -98,42 +100,24 @@ public abstract class DBImageOpenShiftProvisioner<T extends DBImageOpenShiftAppl
 
 		customizeApplication(appBuilder);
 
-		appBuilder.buildApplication(openShift).deploy();
-
-		// mount persistent volumes into pod using Fabric8 API directly
-		// (bypasses XTF's Volume builder which has a compatibility issue with Fabric8 7.x)
-		if (dbApplication.getPersistentVolumeClaims() != null && !dbApplication.getPersistentVolumeClaims().isEmpty()) {
-			PersistentVolumeClaim pvc = dbApplication.getPersistentVolumeClaims().get(0);
-			io.fabric8.openshift.api.model.DeploymentConfig dc = openShift.deploymentConfigs()
-					.withName(dbApplication.getName()).get();
-			io.fabric8.kubernetes.api.model.PodSpec podSpec = dc.getSpec().getTemplate().getSpec();
-
-			java.util.List<io.fabric8.kubernetes.api.model.Volume> volumes = podSpec.getVolumes();
-			if (volumes == null) {
-				volumes = new java.util.ArrayList<>();
-				podSpec.setVolumes(volumes);
-			}
-			volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-					.withName(pvc.getName())
-					.withNewPersistentVolumeClaim(pvc.getClaimName(), false)
-					.build());
-
-			io.fabric8.kubernetes.api.model.Container container = podSpec.getContainers().get(0);
-			java.util.List<io.fabric8.kubernetes.api.model.VolumeMount> mounts = container.getVolumeMounts();
-			if (mounts == null) {
-				mounts = new java.util.ArrayList<>();
-				container.setVolumeMounts(mounts);
+		// the persistent volume is mounted into the pod template before the deployment config is created, so that a
+		// single rollout happens
+		ApplicationDeployer.deploy(getOpenShift(), appBuilder, ffCheck, dbApplication.getName(), podSpec -> {
+			if (dbApplication.getPersistentVolumeClaims() != null && !dbApplication.getPersistentVolumeClaims().isEmpty()) {
+				PersistentVolumeClaim pvc = dbApplication.getPersistentVolumeClaims().get(0);
+				ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+						.withName(pvc.getName())
+						.withNewPersistentVolumeClaim(pvc.getClaimName(), false)
+						.build(),
+						List.of(new VolumeMountBuilder()
+								.withName(pvc.getName())
+								.withMountPath(getMountpath())
+								.withReadOnly(false)
+								.build()));
 			}
-			mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-					.withName(pvc.getName())
-					.withMountPath(getMountpath())
-					.withReadOnly(false)
-					.build());
+		});
 
-			openShift.deploymentConfigs().withName(dbApplication.getName()).replace(dc);
-		}
-
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(appBuilder.getName()).waitFor();
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(appBuilder.getName()).waitFor();
 	}
 
 	public abstract String getImage();
@@ -148,12 +132,13 @@ public abstract class DBImageOpenShiftProvisioner<T extends DBImageOpenShiftAppl
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 
 	@Override
 	public void undeploy() {
-		OpenShiftUtils.deleteResourcesWithLabels(openShift, Collections.singletonMap(APP_LABEL_KEY, dbApplication.getName()));
+		OpenShiftUtils.deleteResourcesWithLabels(getOpenShift(),
+				Collections.singletonMap(APP_LABEL_KEY, dbApplication.getName()));
 	}
 
 	@Override
@@ -30,6 +30,8 @@ import org.jboss.intersmash.application.input.BinarySource;
 import org.jboss.intersmash.application.input.BuildInput;
 import org.jboss.intersmash.application.input.GitSource;
 import org.jboss.intersmash.application.openshift.Eap7ImageOpenShiftApplication;
+import org.jboss.intersmash.provision.BuildResult;
+import org.jboss.intersmash.provision.Prebuildable;
 import org.slf4j.event.Level;
 
 import cz.xtf.builder.builders.ApplicationBuilder;
@@ -43,9 +45,15 @@ import cz.xtf.core.bm.ManagedBuildReference;
 import cz.xtf.core.event.helpers.EventHelper;
 import cz.xtf.core.openshift.OpenShiftWaiters;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
+import io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimVolumeSourceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretVolumeSourceBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,10 +62,11 @@ import lombok.extern.slf4j.Slf4j;
  * {@link Eap7ImageOpenShiftApplication}
  */
 @Slf4j
-public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7ImageOpenShiftApplication> {
+public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7ImageOpenShiftApplication>, Prebuildable {
 
 	private final Eap7ImageOpenShiftApplication application;
 	private FailFastCheck ffCheck = () -> false;
+	private final BuildResult<ManagedBuildReference> build = new BuildResult<>();
 
 	public Eap7ImageOpenShiftProvisioner(@NonNull Eap7ImageOpenShiftApplication application) {
 		this.application = application;
@@ -73,32 +82,41 @@ public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7I
 		deployImage();
 	}
 
+	@Override
+	public void prebuild() {
+		// the binary build is run by the application builder, while S2I builds from a git repository are triggered by
+		// the build config which is created by the deployment
+		if (application.getBuildInput() instanceof BinarySource) {
+			getAppBuilder();
+		}
+	}
+
 	@Override
 	public void undeploy() {
-		OpenShiftUtils.deleteResourcesWithLabel(openShift, APP_LABEL_KEY, application.getName());
+		OpenShiftUtils.deleteResourcesWithLabel(getOpenShift(), APP_LABEL_KEY, application.getName());
 		// when using git repo S2I process creates some custom maps and build pods
-		openShift.getConfigMaps()
+		getOpenShift().getConfigMaps()
 				.stream()
 				.filter(cfMap -> cfMap.getMetadata().getName().startsWith(application.getName()))
-				.forEach(openShift::deleteConfigMap);
-		openShift.getPods()
+				.forEach(getOpenShift()::deleteConfigMap);
+		getOpenShift().getPods()
 				.stream()
 				.filter(pod -> pod.getMetadata().getName().startsWith(application.getName()))
-				.forEach(openShift::deletePod);
+				.forEach(getOpenShift()::deletePod);
 	}
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(application.getName(), replicas);
+		getOpenShift().scale(application.getName(), replicas);
 		if (wait) {
 			waitForReplicas(replicas);
 		}
 	}
 
 	public void waitForReplicas(int replicas) {
-		OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, application.getName()).level(Level.DEBUG)
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, application.getName()).level(Level.DEBUG)
 				.waitFor();
-		WaitersUtil.serviceEndpointsAreReady(openShift, getApplication().getName(), replicas, 8080)
+		WaitersUtil.serviceEndpointsAreReady(getOpenShift(), getApplication().getName(), replicas, 8080)
 				.level(Level.DEBUG)
 				.waitFor();
 		if (replicas > 0) {
@@ -122,13 +140,16 @@ public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7I
 			// It is extracted from filename.
 			// builder.withNewStrategy().withType("Source").withNewSourceStrategy().withEnv(env).withForcePull(true).withNewFrom()
 			//                .withKind("DockerImage").withName(builderImage).endFrom().endSourceStrategy().endStrategy();
-			BinaryBuildFromFile build = new BinaryBuildFromFile(
+			BinaryBuildFromFile binaryBuild = new BinaryBuildFromFile(
 					IntersmashConfig.eap7ImageURL(),
 					binarySource.getArchive(),
 					environmentVariables.stream().collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue)),
 					application.getName() + "-" + IntersmashConfig.eap7ProductCode());
-			ManagedBuildReference reference = BuildManagers.get().deploy(build);
-			BuildManagers.get().hasBuildCompleted(build).level(Level.DEBUG).waitFor();
+			ManagedBuildReference reference = build.get(() -> {
+				ManagedBuildReference deployed = BuildManagers.get().deploy(binaryBuild);
+				BuildManagers.get().hasBuildCompleted(binaryBuild).level(Level.DEBUG).waitFor();
+				return deployed;
+			});
 
 			return ApplicationBuilder.fromManagedBuild(application.getName(), reference,
 					Collections.singletonMap(APP_LABEL_KEY, application.getName()));
@@ -210,97 +231,75 @@ public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7I
 
 		// create persistent volume claims on the cluster before deploying
 		if (!application.getPersistentVolumeClaimMounts().isEmpty()) {
-			application.getPersistentVolumeClaimMounts().forEach((pvc, vms) -> openShift.createPersistentVolumeClaim(
+			application.getPersistentVolumeClaimMounts().forEach((pvc, vms) -> getOpenShift().createPersistentVolumeClaim(
 					new PVCBuilder(pvc.getClaimName()).accessRWX().storageSize("100Mi").build()));
 		}
 
-		appBuilder.buildApplication(openShift).deploy();
-
-		// Add all volumes and mounts using Fabric8 API directly
-		// (XTF's Volume builders are incompatible with the Fabric8 7.x fluent API at runtime)
-		boolean needsDcUpdate = !application.getCliScript().isEmpty()
-				|| !application.getSecrets().isEmpty()
-				|| !application.getPersistentVolumeClaimMounts().isEmpty();
-
-		if (needsDcUpdate) {
-			io.fabric8.openshift.api.model.DeploymentConfig dc = openShift.deploymentConfigs()
-					.withName(application.getName()).get();
-			io.fabric8.kubernetes.api.model.PodSpec podSpec = dc.getSpec().getTemplate().getSpec();
-
-			List<io.fabric8.kubernetes.api.model.Volume> volumes = podSpec.getVolumes();
-			if (volumes == null) {
-				volumes = new ArrayList<>();
-				podSpec.setVolumes(volumes);
-			}
-			io.fabric8.kubernetes.api.model.Container container = podSpec.getContainers().get(0);
-			List<io.fabric8.kubernetes.api.model.VolumeMount> mounts = container.getVolumeMounts();
-			if (mounts == null) {
-				mounts = new ArrayList<>();
-				container.setVolumeMounts(mounts);
-			}
-
-			// ConfigMap volume for CLI commands
-			if (!application.getCliScript().isEmpty()) {
-				final String extensionPath = String.format("/opt/%s/extensions", serverHomeDirectory);
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName("jboss-cli")
-						.withConfigMap(new io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder()
-								.withName("jboss-cli")
-								.withDefaultMode(Integer.parseInt("0755", 8))
-								.build())
-						.build());
-				mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-						.withName("jboss-cli")
-						.withMountPath(extensionPath)
-						.withReadOnly(false)
-						.build());
-			}
-
-			// Secret volumes
-			for (Secret secret : application.getSecrets()) {
-				String secretName = secret.getMetadata().getName();
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName(secretName)
-						.withSecret(new io.fabric8.kubernetes.api.model.SecretVolumeSourceBuilder()
-								.withSecretName(secretName)
-								.build())
-						.build());
-				mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-						.withName(secretName)
-						.withMountPath("/etc/secrets")
-						.withReadOnly(false)
-						.build());
-			}
-
-			// PVC volumes
-			for (Map.Entry<PersistentVolumeClaim, Set<VolumeMount>> entry : application.getPersistentVolumeClaimMounts()
-					.entrySet()) {
-				PersistentVolumeClaim pvc = entry.getKey();
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName(pvc.getName())
-						.withPersistentVolumeClaim(
-								new io.fabric8.kubernetes.api.model.PersistentVolumeClaimVolumeSourceBuilder()
-										.withClaimName(pvc.getClaimName())
-										.build())
-						.build());
-				for (VolumeMount vm : entry.getValue()) {
-					mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-							.withName(pvc.getName())
-							.withMountPath(vm.getMountPath())
-							.withReadOnly(vm.isReadOnly())
-							.withSubPath(vm.getSubPath())
-							.build());
-				}
-			}
-
-			openShift.deploymentConfigs().withName(application.getName()).replace(dc);
-		}
+		// volumes and mounts are added to the pod template before the deployment config is created, so that a single
+		// rollout happens
+		ApplicationDeployer.deploy(getOpenShift(), appBuilder, ffCheck, application.getName(),
+				podSpec -> addVolumes(podSpec, serverHomeDirectory));
 
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(application.getName()).level(Level.DEBUG).waitFor();
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(application.getName()).level(Level.DEBUG).waitFor();
 		// 1 by default
 		waitForReplicas(1);
 	}
 
+	private void addVolumes(PodSpec podSpec, String serverHomeDirectory) {
+		// ConfigMap volume for CLI commands
+		if (!application.getCliScript().isEmpty()) {
+			final String extensionPath = String.format("/opt/%s/extensions", serverHomeDirectory);
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName("jboss-cli")
+					.withConfigMap(new ConfigMapVolumeSourceBuilder()
+							.withName("jboss-cli")
+							.withDefaultMode(Integer.parseInt("0755", 8))
+							.build())
+					.build(),
+					List.of(new VolumeMountBuilder()
+							.withName("jboss-cli")
+							.withMountPath(extensionPath)
+							.withReadOnly(false)
+							.build()));
+		}
+
+		// Secret volumes
+		for (Secret secret : application.getSecrets()) {
+			String secretName = secret.getMetadata().getName();
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName(secretName)
+					.withSecret(new SecretVolumeSourceBuilder()
+							.withSecretName(secretName)
+							.build())
+					.build(),
+					List.of(new VolumeMountBuilder()
+							.withName(secretName)
+							.withMountPath("/etc/secrets")
+							.withReadOnly(false)
+							.build()));
+		}
+
+		// PVC volumes
+		for (Map.Entry<PersistentVolumeClaim, Set<VolumeMount>> entry : application.getPersistentVolumeClaimMounts()
+				.entrySet()) {
+			PersistentVolumeClaim pvc = entry.getKey();
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName(pvc.getName())
+					.withPersistentVolumeClaim(new PersistentVolumeClaimVolumeSourceBuilder()
+							.withClaimName(pvc.getClaimName())
+							.build())
+					.build(),
+					entry.getValue().stream()
+							.map(vm -> new VolumeMountBuilder()
+									.withName(pvc.getName())
+									.withMountPath(vm.getMountPath())
+									.withReadOnly(vm.isReadOnly())
+									.withSubPath(vm.getSubPath())
+									.build())
+							.collect(Collectors.toList()));
+		}
+	}
+
 	private void addEnvVariable(ApplicationBuilder appBuilder, final String key, final String value) {
 		addEnvVariable(appBuilder, key, value, true, true);
 	}
@@ -317,6 +316,6 @@ public class Eap7ImageOpenShiftProvisioner implements OpenShiftProvisioner<Eap7I
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 }
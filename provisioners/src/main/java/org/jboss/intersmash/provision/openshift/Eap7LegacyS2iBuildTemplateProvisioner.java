@@ -63,19 +63,19 @@ public class Eap7LegacyS2iBuildTemplateProvisioner implements OpenShiftProvision
 			throw new IllegalArgumentException("APPLICATION_IMAGE template parameters has to match the application name!");
 		}
 		try {
-			template = openShift.templates().load(new URL(EAP_S2I_BUILD)).item();
+			template = getOpenShift().templates().load(new URL(EAP_S2I_BUILD)).item();
 		} catch (IOException e) {
 			throw new RuntimeException("Failed to load eap-s2i-build template from " + EAP_S2I_BUILD, e);
 		}
 		template.setApiVersion("template.openshift.io/v1");
-		openShift.createTemplate(template);
-		deployedResources = openShift.processTemplate(template.getMetadata().getName(),
+		getOpenShift().createTemplate(template);
+		deployedResources = getOpenShift().processTemplate(template.getMetadata().getName(),
 				application.getParameters());
 		// add additional environment variables to the build config resources
 		deployedResources.getItems().stream()
 				.filter(hasMetadata -> hasMetadata.getKind().equals(BuildConfig.class.getSimpleName()))
 				.forEach(hasMetadata -> setEnvToBuildConfig((BuildConfig) hasMetadata));
-		openShift.createResources(deployedResources);
+		getOpenShift().createResources(deployedResources);
 
 		// two build configs has to be built (builder/runtime) in order to proceed
 		waitForBuilds();
@@ -101,18 +101,18 @@ public class Eap7LegacyS2iBuildTemplateProvisioner implements OpenShiftProvision
 	}
 
 	private void waitForBuilds() {
-		OpenShiftWaiters.get(openShift, ffCheck).hasBuildCompleted(application.getName() + "-build-artifacts")
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).hasBuildCompleted(application.getName() + "-build-artifacts")
 				.level(Level.DEBUG)
 				.waitFor();
-		OpenShiftWaiters.get(openShift, ffCheck).hasBuildCompleted(application.getName())
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).hasBuildCompleted(application.getName())
 				.level(Level.DEBUG)
 				.waitFor();
 	}
 
 	@Override
 	public void undeploy() {
-		openShift.deleteResources(deployedResources);
-		openShift.deleteTemplate(template);
+		getOpenShift().deleteResources(deployedResources);
+		getOpenShift().deleteTemplate(template);
 	}
 
 	@Override
@@ -32,7 +32,6 @@ import org.slf4j.event.Level;
 import cz.xtf.core.config.OpenShiftConfig;
 import cz.xtf.core.event.helpers.EventHelper;
 import cz.xtf.core.openshift.OpenShiftWaiters;
-import cz.xtf.core.openshift.OpenShifts;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
@@ -71,32 +70,32 @@ public class Eap7TemplateOpenShiftProvisioner
 		Map<String, String> labels = new HashMap<>(2);
 		labels.put("application", application.getName());
 		labels.put(APP_LABEL_KEY, application.getName());
-		OpenShiftUtils.deleteResourcesWithLabels(openShift, labels);
+		OpenShiftUtils.deleteResourcesWithLabels(getOpenShift(), labels);
 		// when using geit repo S2I create soe custom maps and build pods
-		openShift.getConfigMaps()
+		getOpenShift().getConfigMaps()
 				.stream()
 				.filter(cfMap -> cfMap.getMetadata().getName().startsWith(application.getName()))
-				.forEach(openShift::deleteConfigMap);
-		openShift.getPods()
+				.forEach(getOpenShift()::deleteConfigMap);
+		getOpenShift().getPods()
 				.stream()
 				.filter(pod -> pod.getMetadata().getName().startsWith(application.getName()))
-				.forEach(openShift::deletePod);
-		deployedImageStreams.forEach(openShift::deleteImageStream);
-		openShift.deleteTemplate(deployedTemplate);
+				.forEach(getOpenShift()::deletePod);
+		deployedImageStreams.forEach(getOpenShift()::deleteImageStream);
+		getOpenShift().deleteTemplate(deployedTemplate);
 	}
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(application.getName(), replicas);
+		getOpenShift().scale(application.getName(), replicas);
 		if (wait) {
 			waitForReplicas(replicas);
 		}
 	}
 
 	public void waitForReplicas(int replicas) {
-		OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, application.getName()).level(Level.DEBUG)
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, application.getName()).level(Level.DEBUG)
 				.waitFor();
-		WaitersUtil.serviceEndpointsAreReady(openShift, getApplication().getName(), replicas, 8080)
+		WaitersUtil.serviceEndpointsAreReady(getOpenShift(), getApplication().getName(), replicas, 8080)
 				.level(Level.DEBUG)
 				.waitFor();
 		if (replicas > 0) {
@@ -128,7 +127,8 @@ public class Eap7TemplateOpenShiftProvisioner
 							i.getMetadata().getAnnotations().get("version")));
 			if (!deployedBuilderImageNameSearch.isPresent()) {
 				throw new IllegalStateException(String.format(
-						"The expected EAP 7 builder image stream was not found in the %s namespace", openShift.getNamespace()));
+						"The expected EAP 7 builder image stream was not found in the %s namespace",
+						getOpenShift().getNamespace()));
 			}
 			params.put("EAP_IMAGE_NAME", deployedBuilderImageNameSearch.get());
 		}
@@ -141,7 +141,8 @@ public class Eap7TemplateOpenShiftProvisioner
 					.findAny();
 			if (!deployedRuntimeImageName.isPresent()) {
 				throw new IllegalStateException(String.format(
-						"The expected EAP 7 runtime image stream was not found in the %s namespace", openShift.getNamespace()));
+						"The expected EAP 7 runtime image stream was not found in the %s namespace",
+						getOpenShift().getNamespace()));
 			}
 			params.put("EAP_RUNTIME_IMAGE_NAME", deployedRuntimeImageName.get());
 		}
@@ -161,23 +162,23 @@ public class Eap7TemplateOpenShiftProvisioner
 			params.put("CONTEXT_DIR", "");
 		}
 
-		openShift.processAndDeployTemplate(deployedTemplate.getMetadata().getName(), params);
+		getOpenShift().processAndDeployTemplate(deployedTemplate.getMetadata().getName(), params);
 		// run post deploy scripts before waiting, there is a plenty of time (app building) for openshift to deal with it
 		postDeploy(application);
 
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(application.getName()).level(Level.DEBUG).waitFor();
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(application.getName()).level(Level.DEBUG).waitFor();
 		// TODO - this is still risky as a template might change or get parametrized
 		waitForReplicas(1);
 	}
 
 	private void postDeploy(WildflyOpenShiftApplication eapApplication) {
 		if (IntersmashConfig.scriptDebug() != null || template.equals(Eap7Template.SSO)) {
-			DeploymentConfig dc = openShift.getDeploymentConfig(eapApplication.getName());
+			DeploymentConfig dc = getOpenShift().getDeploymentConfig(eapApplication.getName());
 			if (IntersmashConfig.scriptDebug() != null) {
 				dc.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv()
 						.add(new EnvVarBuilder().withName(SCRIPT_DEBUG).withValue(IntersmashConfig.scriptDebug()).build());
 			}
-			openShift.deploymentConfigs().createOrReplace(dc);
+			getOpenShift().deploymentConfigs().createOrReplace(dc);
 		}
 
 		// setup cliScript;
@@ -192,10 +193,10 @@ public class Eap7TemplateOpenShiftProvisioner
 					.endMetadata().addToData("postconfigure.sh", postconfigure)
 					.addToData("configure.cli", String.join("\n", eapApplication.getCliScript()))
 					.build();
-			openShift.createConfigMap(cfMap);
+			getOpenShift().createConfigMap(cfMap);
 			// TODO make it JAVA https://access.redhat.com/documentation/en-us/red_hat_jboss_enterprise_application_platform/7.3/html-single/getting_started_with_jboss_eap_for_openshift_container_platform/index#custom_scripts
 
-			String output = OpenShifts.masterBinary().execute("set", "volume", "dc/" + eapApplication.getName(),
+			String output = OpenShiftBinaries.masterBinary().execute("set", "volume", "dc/" + eapApplication.getName(),
 					"--add", "--name=jboss-cli", "-m", "/opt/eap/extensions", "-t", "configmap", "--configmap-name=jboss-cli",
 					"--default-mode=0755");
 			// output is null in case of failure, see ERROR logs
@@ -208,6 +209,6 @@ public class Eap7TemplateOpenShiftProvisioner
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 }
@@ -23,7 +23,6 @@ import org.jboss.intersmash.application.operator.HyperfoilOperatorApplication;
 import org.jboss.intersmash.provision.operator.HyperfoilOperatorProvisioner;
 
 import cz.xtf.core.event.helpers.EventHelper;
-import cz.xtf.core.openshift.OpenShifts;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
@@ -83,7 +82,7 @@ public class HyperfoilOpenShiftOperatorProvisioner
 
 	@Override
 	public URL getURL() {
-		Route route = OpenShiftProvisioner.openShift.getRoute(getApplication().getName());
+		Route route = getOpenShift().getRoute(getApplication().getName());
 		if (Objects.nonNull(route)) {
 			String host = route.getSpec().getHost() != null ? route.getSpec().getHost()
 					: route.getStatus().getIngress().get(0).getHost();
@@ -103,12 +102,11 @@ public class HyperfoilOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	public HasMetadataOperationsImpl<Hyperfoil, HyperfoilList> hyperfoilCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, Hyperfoil.class, HyperfoilList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, Hyperfoil.class, HyperfoilList.class);
 	}
 
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.event.Level;
+
+import cz.xtf.core.bm.BinaryBuild;
+import cz.xtf.core.bm.BuildManager;
+import cz.xtf.core.bm.BuildManagers;
+import cz.xtf.core.bm.ManagedBuildReference;
+import cz.xtf.core.config.BuildManagerConfig;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import io.fabric8.openshift.api.model.Image;
+import io.fabric8.openshift.api.model.ImageStreamTag;
+import io.fabric8.openshift.api.model.ImageStreamTagBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reuses the images built by S2I binary builds, based on a hash of the build inputs, i.e. the builder image, the
+ * environment and the content of the uploaded file or directory.
+ * <p>
+ * Once a build completes, the built image is tagged with the content hash in the image stream of the build. When a
+ * build with the same content hash is requested later, e.g. by a following CI run which shares the build namespace,
+ * the {@code latest} tag is moved to the tagged image, and the build is skipped. Contrary to the content hash
+ * checked by the XTF build manager, which only applies to the last build, images are kept for every content which
+ * has been built.
+ * </p>
+ * <p>
+ * Note that the builder image is hashed by name, so an updated builder image which is published with the same
+ * tag is not rebuilt, unless {@code xtf.bm.force_rebuild} is set.
+ * </p>
+ */
+@Slf4j
+final class ImageContentCache {
+	static final String LATEST_TAG = "latest";
+
+	private ImageContentCache() {
+	}
+
+	/**
+	 * Deploy the binary build, unless an image with the same content hash has been built already, and wait for it.
+	 *
+	 * @param build The binary build
+	 * @param contentHash The hash of the build inputs, see {@link #contentHash(String, Map, Path)}
+	 * @param level The log level of the build completion waiter
+	 * @return The reference to the image
+	 */
+	static ManagedBuildReference deploy(BinaryBuild build, String contentHash, Level level) {
+		final BuildManager buildManager = BuildManagers.get();
+		final OpenShiftClient openShift = buildManager.openShift();
+		final Optional<String> cached = BuildManagerConfig.forceRebuild() ? Optional.empty()
+				: image(openShift, build.getId(), contentHash);
+		if (cached.isPresent()) {
+			log.info("Image of '{}' with content hash {} already built, skipping the build", build.getId(), contentHash);
+			tag(openShift, build.getId(), cached.get(), LATEST_TAG);
+		} else {
+			final ManagedBuildReference reference = buildManager.deploy(build);
+			buildManager.hasBuildCompleted(build).level(level).waitFor();
+			image(openShift, build.getId(), LATEST_TAG)
+					.ifPresent(image -> tag(openShift, build.getId(), image, contentHash));
+			return reference;
+		}
+		return buildManager.getBuildReference(build);
+	}
+
+	/**
+	 * Compute the hash of the build inputs.
+	 *
+	 * @param builderImage The builder image
+	 * @param env The build environment
+	 * @param archive The file or directory which is uploaded to the build
+	 * @return The hex encoded hash, which is a valid image tag
+	 */
+	static String contentHash(String builderImage, Map<String, String> env, Path archive) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			update(digest, builderImage);
+			for (Map.Entry<String, String> entry : new TreeMap<>(env).entrySet()) {
+				update(digest, entry.getKey());
+				update(digest, entry.getValue());
+			}
+			final List<Path> files;
+			try (Stream<Path> paths = Files.walk(archive)) {
+				files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+			}
+			final byte[] buffer = new byte[8192];
+			for (Path file : files) {
+				update(digest, archive.relativize(file).toString());
+				try (InputStream in = Files.newInputStream(file)) {
+					int read;
+					while ((read = in.read(buffer)) != -1) {
+						digest.update(buffer, 0, read);
+					}
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to hash " + archive, e);
+		}
+	}
+
+	/**
+	 * @param openShift The client of the build namespace
+	 * @param imageStream The image stream name
+	 * @param tag The image stream tag
+	 * @return The name of the image, i.e. its digest, which the tag points to, if any
+	 */
+	static Optional<String> image(OpenShiftClient openShift, String imageStream, String tag) {
+		return Optional.ofNullable(openShift.imageStreamTags().withName(imageStream + ":" + tag).get())
+				.map(ImageStreamTag::getImage)
+				.map(Image::getMetadata)
+				.map(ObjectMeta::getName);
+	}
+
+	/**
+	 * Point the image stream tag to the given image, like {@code oc tag <imageStream>@<image> <imageStream>:<tag>}.
+	 *
+	 * @param openShift The client of the build namespace
+	 * @param imageStream The image stream name
+	 * @param image The name of the image, i.e. its digest
+	 * @param tag The image stream tag
+	 */
+	static void tag(OpenShiftClient openShift, String imageStream, String image, String tag) {
+		final ImageStreamTag imageStreamTag = new ImageStreamTagBuilder()
+				.withNewMetadata().withName(imageStream + ":" + tag).endMetadata()
+				.withNewTag()
+				.withName(tag)
+				.withNewFrom().withKind("ImageStreamImage").withName(imageStream + "@" + image).endFrom()
+				.endTag()
+				.build();
+		openShift.imageStreamTags().resource(imageStreamTag).createOr(NonDeletingOperation::update);
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+}
@@ -29,7 +29,6 @@ import org.jboss.intersmash.provision.operator.InfinispanOperatorProvisioner;
 import org.jboss.intersmash.provision.operator.model.infinispan.cache.CacheList;
 import org.jboss.intersmash.provision.operator.model.infinispan.infinispan.InfinispanList;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
@@ -75,15 +74,15 @@ public class InfinispanOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public List<Pod> getPods() {
-		StatefulSet statefulSet = OpenShiftProvisioner.openShift.getStatefulSet(getApplication().getName());
+		StatefulSet statefulSet = getOpenShift().getStatefulSet(getApplication().getName());
 		return Objects.nonNull(statefulSet)
-				? OpenShiftProvisioner.openShift.getLabeledPods("controller-revision-hash",
+				? getOpenShift().getLabeledPods("controller-revision-hash",
 						statefulSet.getStatus().getUpdateRevision())
 				: Lists.emptyList();
 	}
 
 	public Route getRoute(final String name) {
-		return OpenShiftProvisioner.openShift.getRoute(name);
+		return getOpenShift().getRoute(name);
 	}
 
 	// =================================================================================================================
@@ -141,19 +140,17 @@ public class InfinispanOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<Infinispan, InfinispanList> infinispanCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, Infinispan.class, InfinispanList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, Infinispan.class, InfinispanList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<Cache, CacheList> cacheCustomResourcesClient(CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, Cache.class, CacheList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, Cache.class, CacheList.class);
 	}
 }
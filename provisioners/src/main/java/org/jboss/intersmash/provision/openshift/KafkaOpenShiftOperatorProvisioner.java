@@ -18,7 +18,6 @@ package org.jboss.intersmash.provision.openshift;
 import org.jboss.intersmash.application.operator.KafkaOperatorApplication;
 import org.jboss.intersmash.provision.operator.KafkaOperatorProvisioner;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
@@ -63,6 +62,6 @@ public class KafkaOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 }
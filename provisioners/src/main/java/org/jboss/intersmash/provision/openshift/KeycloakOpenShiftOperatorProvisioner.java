@@ -28,7 +28,6 @@ import org.keycloak.k8s.v2alpha1.KeycloakOperatorKeycloakList;
 import org.keycloak.k8s.v2alpha1.KeycloakOperatorRealmImportList;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
@@ -87,7 +86,7 @@ public class KeycloakOpenShiftOperatorProvisioner
 
 	@Override
 	public URL getURL() {
-		String host = OpenShiftProvisioner.openShift.routes().list().getItems()
+		String host = getOpenShift().routes().list().getItems()
 				.stream().filter(
 						route -> route.getMetadata().getName().startsWith(
 								keycloak().get().getMetadata().getName())
@@ -117,20 +116,19 @@ public class KeycloakOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<Keycloak, KeycloakOperatorKeycloakList> keycloaksCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, Keycloak.class, KeycloakOperatorKeycloakList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, Keycloak.class, KeycloakOperatorKeycloakList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<KeycloakRealmImport, KeycloakOperatorRealmImportList> keycloakRealmImportsCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, KeycloakRealmImport.class, KeycloakOperatorRealmImportList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, KeycloakRealmImport.class,
+				KeycloakOperatorRealmImportList.class);
 	}
 }
@@ -23,7 +23,6 @@ import org.jboss.intersmash.provision.operator.model.odh.DataScienceClusterList;
 import org.jboss.intersmash.provision.operator.model.odh.FeatureTrackerList;
 import org.jboss.intersmash.provision.operator.model.odh.MonitoringList;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
@@ -63,7 +62,7 @@ public class OpenDataHubOpenShiftOperatorProvisioner
 
 	@Override
 	public NamespacedKubernetesClientAdapter<NamespacedOpenShiftClient> client() {
-		return OpenShifts.admin();
+		return OpenShiftClients.admin();
 	}
 
 	@Override
@@ -94,35 +93,35 @@ public class OpenDataHubOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	protected HasMetadataOperationsImpl<DataScienceCluster, DataScienceClusterList> dataScienceClusterCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts.admin().newHasMetadataOperation(crdc, DataScienceCluster.class, DataScienceClusterList.class);
+		return OpenShiftClients.admin().newHasMetadataOperation(crdc, DataScienceCluster.class, DataScienceClusterList.class);
 	}
 
 	@Override
 	protected HasMetadataOperationsImpl<DSCInitialization, DSCInitializationList> dscInitializationCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts.admin().newHasMetadataOperation(crdc, DSCInitialization.class, DSCInitializationList.class);
+		return OpenShiftClients.admin().newHasMetadataOperation(crdc, DSCInitialization.class, DSCInitializationList.class);
 	}
 
 	@Override
 	protected HasMetadataOperationsImpl<FeatureTracker, FeatureTrackerList> featureTrackerCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts.admin().newHasMetadataOperation(crdc, FeatureTracker.class, FeatureTrackerList.class);
+		return OpenShiftClients.admin().newHasMetadataOperation(crdc, FeatureTracker.class, FeatureTrackerList.class);
 	}
 
 	@Override
 	protected HasMetadataOperationsImpl<Monitoring, MonitoringList> monitoringCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts.admin().newHasMetadataOperation(crdc, Monitoring.class, MonitoringList.class);
+		return OpenShiftClients.admin().newHasMetadataOperation(crdc, Monitoring.class, MonitoringList.class);
 	}
 
 	@Override
 	protected HasMetadataOperationsImpl<Auth, AuthList> authCustomResourcesClient(CustomResourceDefinitionContext crdc) {
-		return OpenShifts.admin().newHasMetadataOperation(crdc, Auth.class, AuthList.class);
+		return OpenShiftClients.admin().newHasMetadataOperation(crdc, Auth.class, AuthList.class);
 	}
 }
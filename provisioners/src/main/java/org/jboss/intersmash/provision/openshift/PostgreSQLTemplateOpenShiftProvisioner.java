@@ -72,29 +72,29 @@ public class PostgreSQLTemplateOpenShiftProvisioner implements OpenShiftProvisio
 		// Get the template from the openshift namespace, recreate it into test namespace and deploy
 		Template template = OpenShifts.master("openshift")
 				.getTemplate(postgreSQLApplication.getTemplate().getLabel());
-		template.getMetadata().setNamespace(openShift.getNamespace());
+		template.getMetadata().setNamespace(getOpenShift().getNamespace());
 		template.getMetadata().setResourceVersion(null);
-		openShift.createTemplate(template);
-		kubernetesList = openShift.processAndDeployTemplate(template.getMetadata().getName(), parameters);
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(postgreSQLApplication.getName()).waitFor();
+		getOpenShift().createTemplate(template);
+		kubernetesList = getOpenShift().processAndDeployTemplate(template.getMetadata().getName(), parameters);
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(postgreSQLApplication.getName()).waitFor();
 	}
 
 	@Override
 	public void undeploy() {
-		openShift.deleteResources(kubernetesList);
-		openShift.deleteTemplate(postgreSQLApplication.getTemplate().getLabel());
+		getOpenShift().deleteResources(kubernetesList);
+		getOpenShift().deleteTemplate(postgreSQLApplication.getTemplate().getLabel());
 	}
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(postgreSQLApplication.getName(), replicas);
+		getOpenShift().scale(postgreSQLApplication.getName(), replicas);
 		if (wait) {
-			OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, "name", postgreSQLTemplate.getLabel())
+			OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, "name", postgreSQLTemplate.getLabel())
 					.level(Level.DEBUG).waitFor();
 		}
 	}
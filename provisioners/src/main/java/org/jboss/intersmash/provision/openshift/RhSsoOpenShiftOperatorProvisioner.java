@@ -32,7 +32,6 @@ import org.keycloak.v1alpha1.KeycloakClient;
 import org.keycloak.v1alpha1.KeycloakRealm;
 import org.keycloak.v1alpha1.KeycloakUser;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
@@ -94,41 +93,36 @@ public class RhSsoOpenShiftOperatorProvisioner
 	// =================================================================================================================
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<Keycloak, KeycloakList> keycloakCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, Keycloak.class, KeycloakList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, Keycloak.class, KeycloakList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<KeycloakRealm, KeycloakRealmList> keycloakRealmCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, KeycloakRealm.class, KeycloakRealmList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, KeycloakRealm.class, KeycloakRealmList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<KeycloakClient, KeycloakClientList> keycloakClientCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, KeycloakClient.class, KeycloakClientList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, KeycloakClient.class, KeycloakClientList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<KeycloakBackup, KeycloakBackupList> keycloakBackupCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, KeycloakBackup.class, KeycloakBackupList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, KeycloakBackup.class, KeycloakBackupList.class);
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<KeycloakUser, KeycloakUserList> keycloakUserCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, KeycloakUser.class, KeycloakUserList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, KeycloakUser.class, KeycloakUserList.class);
 	}
 }
@@ -80,18 +80,18 @@ public class RhSsoTemplateOpenShiftProvisioner implements OpenShiftProvisioner<R
 		Map<String, String> labels = new HashMap<>(2);
 		labels.put("application", rhSsoApplication.getName());
 		labels.put(APP_LABEL_KEY, rhSsoApplication.getName());
-		OpenShiftUtils.deleteResourcesWithLabels(openShift, labels);
+		OpenShiftUtils.deleteResourcesWithLabels(getOpenShift(), labels);
 		// when using geit repo S2I create soe custom maps and buil pods
-		openShift.getConfigMaps()
+		getOpenShift().getConfigMaps()
 				.stream()
 				.filter(cfMap -> cfMap.getMetadata().getName().startsWith(rhSsoApplication.getName()))
-				.forEach(openShift::deleteConfigMap);
-		openShift.getPods()
+				.forEach(getOpenShift()::deleteConfigMap);
+		getOpenShift().getPods()
 				.stream()
 				.filter(pod -> pod.getMetadata().getName().startsWith(rhSsoApplication.getName()))
-				.forEach(openShift::deletePod);
-		deployedImageStreams.forEach(openShift::deleteImageStream);
-		openShift.deleteTemplate(deployedTemplate);
+				.forEach(getOpenShift()::deletePod);
+		deployedImageStreams.forEach(getOpenShift()::deleteImageStream);
+		getOpenShift().deleteTemplate(deployedTemplate);
 	}
 
 	private void deployTemplate() {
@@ -101,13 +101,13 @@ public class RhSsoTemplateOpenShiftProvisioner implements OpenShiftProvisioner<R
 		deployedImageStreams = templateProvisioner.deployImageStreams();
 		deployedTemplate = templateProvisioner.deployTemplate(rhSsoTemplate);
 
-		openShift.processAndDeployTemplate(deployedTemplate.getMetadata().getName(),
+		getOpenShift().processAndDeployTemplate(deployedTemplate.getMetadata().getName(),
 				rhSsoApplication.getParameters());
 		// run post deploy scripts before waiting, there is a plenty of time (app building) for openshift to deal with it
 		postDeploy(rhSsoApplication);
 
 		// Equivalent of oc get route sso-app -o template --template "{{.spec.host}}"
-		Route route = openShift.getRoute(rhSsoApplication.getHttpsRouteName());
+		Route route = getOpenShift().getRoute(rhSsoApplication.getHttpsRouteName());
 		if (route == null) {
 			throw new RuntimeException(String.format("RH-SSO Template \"%s\" doesn't provide an HTTPS Route!",
 					rhSsoApplication.getTemplate().getLabel()));
@@ -128,10 +128,10 @@ public class RhSsoTemplateOpenShiftProvisioner implements OpenShiftProvisioner<R
 
 	private void postDeploy(RhSsoTemplateOpenShiftApplication rhSsoApplication) {
 		if (IntersmashConfig.scriptDebug() != null) {
-			DeploymentConfig dc = openShift.getDeploymentConfig(rhSsoApplication.getName());
+			DeploymentConfig dc = getOpenShift().getDeploymentConfig(rhSsoApplication.getName());
 			dc.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv()
 					.add(new EnvVarBuilder().withName(SCRIPT_DEBUG).withValue(IntersmashConfig.scriptDebug()).build());
-			openShift.deploymentConfigs().createOrReplace(dc);
+			getOpenShift().deploymentConfigs().createOrReplace(dc);
 		}
 	}
 
@@ -170,21 +170,21 @@ public class RhSsoTemplateOpenShiftProvisioner implements OpenShiftProvisioner<R
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(rhSsoApplication.getName(), replicas);
+		getOpenShift().scale(rhSsoApplication.getName(), replicas);
 		if (wait) {
-			OpenShiftWaiters.get(openShift, () -> false).areExactlyNPodsReady(replicas, rhSsoApplication.getName())
+			OpenShiftWaiters.get(getOpenShift(), () -> false).areExactlyNPodsReady(replicas, rhSsoApplication.getName())
 					.level(Level.DEBUG).waitFor();
 		}
 	}
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 
 	@Override
 	public String getUrl(String routeName, boolean secure) {
 		String protocol = secure ? "https" : "http";
-		return protocol + "://" + openShift.generateHostname(routeName);
+		return protocol + "://" + getOpenShift().generateHostname(routeName);
 	}
 }
@@ -33,6 +33,8 @@ import org.jboss.intersmash.application.input.BuildInput;
 import org.jboss.intersmash.application.input.GitSource;
 import org.jboss.intersmash.application.openshift.WildflyImageOpenShiftApplication;
 import org.jboss.intersmash.application.openshift.WildflyOpenShiftApplication;
+import org.jboss.intersmash.provision.BuildResult;
+import org.jboss.intersmash.provision.Prebuildable;
 import org.slf4j.event.Level;
 
 import cz.xtf.builder.builders.ApplicationBuilder;
@@ -43,14 +45,19 @@ import cz.xtf.builder.builders.route.TransportProtocol;
 import cz.xtf.core.bm.BinaryBuild;
 import cz.xtf.core.bm.BinaryBuildFromFile;
 import cz.xtf.core.bm.BinarySourceBuild;
-import cz.xtf.core.bm.BuildManagers;
 import cz.xtf.core.bm.ManagedBuildReference;
 import cz.xtf.core.event.helpers.EventHelper;
 import cz.xtf.core.openshift.OpenShiftWaiters;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
+import io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimVolumeSourceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretVolumeSourceBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -58,11 +65,13 @@ import lombok.extern.slf4j.Slf4j;
  * Class deploys a Wildfly application based on {@link WildflyOpenShiftApplication}
  */
 @Slf4j
-public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<WildflyImageOpenShiftApplication> {
+public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<WildflyImageOpenShiftApplication>,
+		Prebuildable {
 
 	private final WildflyImageOpenShiftApplication wildflyApplication;
 	private final String CLI_LAUNCH_SCRIPT = "CLI_LAUNCH_SCRIPT";
 	private FailFastCheck ffCheck = () -> false;
+	private final BuildResult<ManagedBuildReference> build = new BuildResult<>();
 
 	public WildflyImageOpenShiftProvisioner(@NonNull WildflyImageOpenShiftApplication wildflyApplication) {
 		this.wildflyApplication = wildflyApplication;
@@ -78,32 +87,42 @@ public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<Wi
 		deployImage();
 	}
 
+	@Override
+	public void prebuild() {
+		// the binary build is run by the application builder, while S2I builds from a git repository are triggered by
+		// the build config which is created by the deployment
+		if (wildflyApplication.getBuildInput() instanceof BinarySource) {
+			getAppBuilder();
+		}
+	}
+
 	@Override
 	public void undeploy() {
-		OpenShiftUtils.deleteResourcesWithLabel(openShift, APP_LABEL_KEY, wildflyApplication.getName());
+		OpenShiftUtils.deleteResourcesWithLabel(getOpenShift(), APP_LABEL_KEY, wildflyApplication.getName());
 		// when using git repo S2I process creates some custom maps and build pods
-		openShift.getConfigMaps()
+		getOpenShift().getConfigMaps()
 				.stream()
 				.filter(cfMap -> cfMap.getMetadata().getName().startsWith(wildflyApplication.getName()))
-				.forEach(openShift::deleteConfigMap);
-		openShift.getPods()
+				.forEach(getOpenShift()::deleteConfigMap);
+		getOpenShift().getPods()
 				.stream()
 				.filter(pod -> pod.getMetadata().getName().startsWith(wildflyApplication.getName()))
-				.forEach(openShift::deletePod);
+				.forEach(getOpenShift()::deletePod);
 	}
 
 	@Override
 	public void scale(int replicas, boolean wait) {
-		openShift.scale(wildflyApplication.getName(), replicas);
+		getOpenShift().scale(wildflyApplication.getName(), replicas);
 		if (wait) {
 			waitForReplicas(replicas);
 		}
 	}
 
 	public void waitForReplicas(int replicas) {
-		OpenShiftWaiters.get(openShift, ffCheck).areExactlyNPodsReady(replicas, wildflyApplication.getName()).level(Level.DEBUG)
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).areExactlyNPodsReady(replicas, wildflyApplication.getName())
+				.level(Level.DEBUG)
 				.waitFor();
-		WaitersUtil.serviceEndpointsAreReady(openShift, getApplication().getName(), replicas, 8080)
+		WaitersUtil.serviceEndpointsAreReady(getOpenShift(), getApplication().getName(), replicas, 8080)
 				.level(Level.DEBUG)
 				.waitFor();
 		if (replicas > 0) {
@@ -170,15 +189,19 @@ public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<Wi
 				
 						oc new-app wildfly-build-from-server
 				 */
-				BinaryBuild binaryBuild;
-				Path localSourceCode = wildflyApplication.prepareProjectSources(binarySource.getArchive());
-				binaryBuild = new BinarySourceBuild(
-						IntersmashConfig.wildflyImageURL(),
-						localSourceCode,
-						environmentVariables.stream().collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue)),
-						wildflyApplication.getName());
-				ManagedBuildReference reference = BuildManagers.get().deploy(binaryBuild);
-				BuildManagers.get().hasBuildCompleted(binaryBuild).waitFor();
+				ManagedBuildReference reference = build.get(() -> {
+					Path localSourceCode = wildflyApplication.prepareProjectSources(binarySource.getArchive());
+					Map<String, String> env = environmentVariables.stream()
+							.collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue));
+					BinaryBuild binaryBuild = new BinarySourceBuild(
+							IntersmashConfig.wildflyImageURL(),
+							localSourceCode,
+							env,
+							wildflyApplication.getName());
+					return ImageContentCache.deploy(binaryBuild,
+							ImageContentCache.contentHash(IntersmashConfig.wildflyImageURL(), env, localSourceCode),
+							Level.INFO);
+				});
 				return ApplicationBuilder.fromManagedBuild(
 						wildflyApplication.getName(),
 						reference,
@@ -212,14 +235,17 @@ public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<Wi
 				
 					oc new-app wildfly-build-from-war
 				 */
+				Map<String, String> env = environmentVariables.stream()
+						.collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue));
 				BinaryBuildFromFile wildflyBuild = new BinaryBuildFromFile(
 						IntersmashConfig.wildflyImageURL(),
 						binarySource.getArchive(),
-						environmentVariables.stream().collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue)),
+						env,
 						wildflyApplication.getName() + "-"
 								+ IntersmashConfig.getProductCode(IntersmashConfig.wildflyImageURL()));
-				ManagedBuildReference reference = BuildManagers.get().deploy(wildflyBuild);
-				BuildManagers.get().hasBuildCompleted(wildflyBuild).level(Level.DEBUG).waitFor();
+				ManagedBuildReference reference = build.get(() -> ImageContentCache.deploy(wildflyBuild,
+						ImageContentCache.contentHash(IntersmashConfig.wildflyImageURL(), env, binarySource.getArchive()),
+						Level.DEBUG));
 
 				return ApplicationBuilder.fromManagedBuild(wildflyApplication.getName(), reference,
 						Collections.singletonMap(APP_LABEL_KEY, wildflyApplication.getName()));
@@ -313,95 +339,73 @@ public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<Wi
 
 		// create persistent volume claims on the cluster before deploying
 		if (!wildflyApplication.getPersistentVolumeClaimMounts().isEmpty()) {
-			wildflyApplication.getPersistentVolumeClaimMounts().forEach((pvc, vms) -> openShift.createPersistentVolumeClaim(
-					new PVCBuilder(pvc.getClaimName()).accessRWX().storageSize("100Mi").build()));
+			wildflyApplication.getPersistentVolumeClaimMounts().forEach((pvc, vms) -> getOpenShift()
+					.createPersistentVolumeClaim(new PVCBuilder(pvc.getClaimName()).accessRWX().storageSize("100Mi").build()));
 		}
 
-		appBuilder.buildApplication(openShift).deploy();
-
-		// Add all volumes and mounts using Fabric8 API directly
-		// (XTF's Volume builders are incompatible with the Fabric8 7.x fluent API at runtime)
-		boolean needsDcUpdate = !wildflyApplication.getCliScript().isEmpty()
-				|| !wildflyApplication.getSecrets().isEmpty()
-				|| !wildflyApplication.getPersistentVolumeClaimMounts().isEmpty();
-
-		if (needsDcUpdate) {
-			io.fabric8.openshift.api.model.DeploymentConfig dc = openShift.deploymentConfigs()
-					.withName(wildflyApplication.getName()).get();
-			io.fabric8.kubernetes.api.model.PodSpec podSpec = dc.getSpec().getTemplate().getSpec();
-
-			List<io.fabric8.kubernetes.api.model.Volume> volumes = podSpec.getVolumes();
-			if (volumes == null) {
-				volumes = new ArrayList<>();
-				podSpec.setVolumes(volumes);
-			}
-			io.fabric8.kubernetes.api.model.Container container = podSpec.getContainers().get(0);
-			List<io.fabric8.kubernetes.api.model.VolumeMount> mounts = container.getVolumeMounts();
-			if (mounts == null) {
-				mounts = new ArrayList<>();
-				container.setVolumeMounts(mounts);
-			}
-
-			// ConfigMap volume for CLI commands
-			if (!wildflyApplication.getCliScript().isEmpty()) {
-				final String extensionPath = "/opt/server/extensions";
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName("jboss-cli")
-						.withConfigMap(new io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder()
-								.withName("jboss-cli")
-								.withDefaultMode(Integer.parseInt("0755", 8))
-								.build())
-						.build());
-				mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-						.withName("jboss-cli")
-						.withMountPath(extensionPath)
-						.withReadOnly(false)
-						.build());
-			}
+		// volumes and mounts are added to the pod template before the deployment config is created, so that a single
+		// rollout happens
+		ApplicationDeployer.deploy(getOpenShift(), appBuilder, ffCheck, wildflyApplication.getName(),
+				this::addVolumes);
 
-			// Secret volumes
-			for (Secret secret : wildflyApplication.getSecrets()) {
-				String secretName = secret.getMetadata().getName();
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName(secretName)
-						.withSecret(new io.fabric8.kubernetes.api.model.SecretVolumeSourceBuilder()
-								.withSecretName(secretName)
-								.build())
-						.build());
-				mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-						.withName(secretName)
-						.withMountPath("/etc/secrets")
-						.withReadOnly(false)
-						.build());
-			}
+		OpenShiftWaiters.get(getOpenShift(), ffCheck).isDcReady(wildflyApplication.getName()).level(Level.DEBUG).waitFor();
+		// 1 by default
+		waitForReplicas(1);
+	}
 
-			// PVC volumes
-			for (Map.Entry<PersistentVolumeClaim, Set<VolumeMount>> entry : wildflyApplication.getPersistentVolumeClaimMounts()
-					.entrySet()) {
-				PersistentVolumeClaim pvc = entry.getKey();
-				volumes.add(new io.fabric8.kubernetes.api.model.VolumeBuilder()
-						.withName(pvc.getName())
-						.withPersistentVolumeClaim(
-								new io.fabric8.kubernetes.api.model.PersistentVolumeClaimVolumeSourceBuilder()
-										.withClaimName(pvc.getClaimName())
-										.build())
-						.build());
-				for (VolumeMount vm : entry.getValue()) {
-					mounts.add(new io.fabric8.kubernetes.api.model.VolumeMountBuilder()
-							.withName(pvc.getName())
-							.withMountPath(vm.getMountPath())
-							.withReadOnly(vm.isReadOnly())
-							.withSubPath(vm.getSubPath())
-							.build());
-				}
-			}
+	private void addVolumes(PodSpec podSpec) {
+		// ConfigMap volume for CLI commands
+		if (!wildflyApplication.getCliScript().isEmpty()) {
+			final String extensionPath = "/opt/server/extensions";
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName("jboss-cli")
+					.withConfigMap(new ConfigMapVolumeSourceBuilder()
+							.withName("jboss-cli")
+							.withDefaultMode(Integer.parseInt("0755", 8))
+							.build())
+					.build(),
+					List.of(new VolumeMountBuilder()
+							.withName("jboss-cli")
+							.withMountPath(extensionPath)
+							.withReadOnly(false)
+							.build()));
+		}
 
-			openShift.deploymentConfigs().withName(wildflyApplication.getName()).replace(dc);
+		// Secret volumes
+		for (Secret secret : wildflyApplication.getSecrets()) {
+			String secretName = secret.getMetadata().getName();
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName(secretName)
+					.withSecret(new SecretVolumeSourceBuilder()
+							.withSecretName(secretName)
+							.build())
+					.build(),
+					List.of(new VolumeMountBuilder()
+							.withName(secretName)
+							.withMountPath("/etc/secrets")
+							.withReadOnly(false)
+							.build()));
 		}
 
-		OpenShiftWaiters.get(openShift, ffCheck).isDcReady(wildflyApplication.getName()).level(Level.DEBUG).waitFor();
-		// 1 by default
-		waitForReplicas(1);
+		// PVC volumes
+		for (Map.Entry<PersistentVolumeClaim, Set<VolumeMount>> entry : wildflyApplication.getPersistentVolumeClaimMounts()
+				.entrySet()) {
+			PersistentVolumeClaim pvc = entry.getKey();
+			ApplicationDeployer.addVolume(podSpec, new VolumeBuilder()
+					.withName(pvc.getName())
+					.withPersistentVolumeClaim(new PersistentVolumeClaimVolumeSourceBuilder()
+							.withClaimName(pvc.getClaimName())
+							.build())
+					.build(),
+					entry.getValue().stream()
+							.map(vm -> new VolumeMountBuilder()
+									.withName(pvc.getName())
+									.withMountPath(vm.getMountPath())
+									.withReadOnly(vm.isReadOnly())
+									.withSubPath(vm.getSubPath())
+									.build())
+							.collect(Collectors.toList()));
+		}
 	}
 
 	private void addEnvVariable(ApplicationBuilder appBuilder, final String key, final String value, final boolean addToDC,
@@ -416,6 +420,6 @@ public class WildflyImageOpenShiftProvisioner implements OpenShiftProvisioner<Wi
 
 	@Override
 	public List<Pod> getPods() {
-		return openShift.getPods(getApplication().getName());
+		return getOpenShift().getPods(getApplication().getName());
 	}
 }
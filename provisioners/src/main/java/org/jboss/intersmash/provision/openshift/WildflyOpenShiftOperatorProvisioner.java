@@ -20,7 +20,6 @@ import org.jboss.intersmash.provision.operator.WildflyOperatorProvisioner;
 import org.jboss.intersmash.provision.operator.model.wildfly.WildFlyServerList;
 import org.wildfly.v1alpha1.WildFlyServer;
 
-import cz.xtf.core.openshift.OpenShifts;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClientAdapter;
@@ -48,7 +47,7 @@ public class WildflyOpenShiftOperatorProvisioner
 
 	@Override
 	public String execute(String... args) {
-		return OpenShifts.adminBinary().execute(args);
+		return OpenShiftBinaries.adminBinary().execute(args);
 	}
 
 	@Override
@@ -62,13 +61,12 @@ public class WildflyOpenShiftOperatorProvisioner
 
 	@Override
 	public NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient() {
-		return OpenShifts.admin().apiextensions().v1().customResourceDefinitions();
+		return OpenShiftClients.admin().apiextensions().v1().customResourceDefinitions();
 	}
 
 	@Override
 	public HasMetadataOperationsImpl<WildFlyServer, WildFlyServerList> wildflyCustomResourcesClient(
 			CustomResourceDefinitionContext crdc) {
-		return OpenShifts
-				.master().newHasMetadataOperation(crdc, WildFlyServer.class, WildFlyServerList.class);
+		return OpenShiftClients.master().newHasMetadataOperation(crdc, WildFlyServer.class, WildFlyServerList.class);
 	}
 }
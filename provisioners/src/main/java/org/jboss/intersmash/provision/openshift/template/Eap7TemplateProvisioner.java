@@ -79,7 +79,7 @@ public class Eap7TemplateProvisioner implements OpenShiftTemplateProvisioner {
 		List<ImageStream> streams = new ArrayList<>(2);
 		String url = getUsedImageStreamUrl();
 		try (InputStream is = new URL(url).openStream()) {
-			List<HasMetadata> kubernetesList = openShift.load(is).items();
+			List<HasMetadata> kubernetesList = getOpenShift().load(is).items();
 			for (HasMetadata item : kubernetesList) {
 				if (item.getMetadata().getName().contains("runtime")) {
 					ImageStream runtimeImageStream = (ImageStream) item;
@@ -90,7 +90,7 @@ public class Eap7TemplateProvisioner implements OpenShiftTemplateProvisioner {
 								tagReference.getFrom().setName(IntersmashConfig.eap7ImageURL());
 								tagReference.setImportPolicy(new TagImportPolicyBuilder().withInsecure(true).build());
 							});
-					streams.add(openShift.imageStreams().createOrReplace(runtimeImageStream));
+					streams.add(getOpenShift().imageStreams().createOrReplace(runtimeImageStream));
 				} else {
 					ImageStream imageStream = (ImageStream) item;
 					// update the DockerImage based tags with EAP builder image set by configuration
@@ -100,7 +100,7 @@ public class Eap7TemplateProvisioner implements OpenShiftTemplateProvisioner {
 								tagReference.getFrom().setName(IntersmashConfig.eap7ImageURL());
 								tagReference.setImportPolicy(new TagImportPolicyBuilder().withInsecure(true).build());
 							});
-					streams.add(openShift.imageStreams().createOrReplace((ImageStream) item));
+					streams.add(getOpenShift().imageStreams().createOrReplace((ImageStream) item));
 				}
 			}
 		} catch (IOException e) {
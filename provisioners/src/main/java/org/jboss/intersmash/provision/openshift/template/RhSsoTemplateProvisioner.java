@@ -44,7 +44,7 @@ public class RhSsoTemplateProvisioner implements OpenShiftTemplateProvisioner {
 		String url = getTemplatesUrl() + getProductCode() + "-image-stream.json";
 		try (InputStream is = new URL(url).openStream()) {
 			// since RH-SSO 76, an additional PostgreSQL image has been added to the template
-			List<HasMetadata> imageStreams = openShift.load(is).items();
+			List<HasMetadata> imageStreams = getOpenShift().load(is).items();
 			// get a reference to the actual RH-SSO ImageStream definition (by skipping the PostgreSQL one)
 			ImageStream ssoImageStream = imageStreams.stream()
 					.filter(item -> !"PostgreSQL".equals(item.getMetadata().getAnnotations().get("openshift.io/display-name")))
@@ -62,7 +62,7 @@ public class RhSsoTemplateProvisioner implements OpenShiftTemplateProvisioner {
 						tagReference.setImportPolicy(new TagImportPolicyBuilder().withInsecure(true).build());
 					});
 			return imageStreams.stream()
-					.map(imageStream -> openShift.imageStreams().createOrReplace((ImageStream) imageStream))
+					.map(imageStream -> getOpenShift().imageStreams().createOrReplace((ImageStream) imageStream))
 					.collect(Collectors.toList());
 		} catch (IOException e) {
 			throw new RuntimeException("Failed to deploy RH-SSO image streams from " + url, e);
@@ -30,7 +30,6 @@ import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.amq.broker.v1beta1.ActiveMQArtemis;
 import io.amq.broker.v1beta1.ActiveMQArtemisAddress;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
-import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
@@ -50,16 +49,6 @@ public abstract class ActiveMQOperatorProvisioner<C extends NamespacedKubernetes
 		super(application, ActiveMQOperatorProvisioner.OPERATOR_ID);
 	}
 
-	// =================================================================================================================
-	// ActiveMQ Artemis related
-	// =================================================================================================================
-	protected List<Pod> getLabeledPods(final String labelName, final String labelValue) {
-		return this.getPods().stream()
-				.filter(p -> p.getMetadata().getLabels().entrySet().stream()
-						.anyMatch(l -> l.getKey().equals(labelName) && l.getValue().equals(labelValue)))
-				.collect(Collectors.toList());
-	}
-
 	// =================================================================================================================
 	// Related to generic provisioning behavior
 	// =================================================================================================================
@@ -195,7 +184,7 @@ public abstract class ActiveMQOperatorProvisioner<C extends NamespacedKubernetes
 	protected abstract HasMetadataOperationsImpl<ActiveMQArtemisAddress, ActiveMQArtemisAddressList> activeMQArtemisAddressesCustomResourcesClient(
 			CustomResourceDefinitionContext crdc);
 
-	private static NonNamespaceOperation<ActiveMQArtemis, ActiveMQArtemisList, Resource<ActiveMQArtemis>> ACTIVE_MQ_ARTEMISES_CLIENT;
+	private NonNamespaceOperation<ActiveMQArtemis, ActiveMQArtemisList, Resource<ActiveMQArtemis>> activeMqArtemisesClient;
 
 	/**
 	 * Get a client capable of working with {@link {@link ActiveMQOperatorProvisioner#ACTIVEMQ_ARTEMIS_CRD_NAME}} custom resource.
@@ -203,19 +192,19 @@ public abstract class ActiveMQOperatorProvisioner<C extends NamespacedKubernetes
 	 * @return client for operations with {@link {@link ActiveMQOperatorProvisioner#ACTIVEMQ_ARTEMIS_CRD_NAME}} custom resource
 	 */
 	public NonNamespaceOperation<ActiveMQArtemis, ActiveMQArtemisList, Resource<ActiveMQArtemis>> activeMQArtemisesClient() {
-		if (ACTIVE_MQ_ARTEMISES_CLIENT == null) {
+		if (activeMqArtemisesClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ACTIVEMQ_ARTEMIS_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ACTIVEMQ_ARTEMIS_CRD_NAME, OPERATOR_ID));
 			}
-			ACTIVE_MQ_ARTEMISES_CLIENT = activeMQArtemisCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			activeMqArtemisesClient = activeMQArtemisCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ACTIVE_MQ_ARTEMISES_CLIENT;
+		return activeMqArtemisesClient;
 	}
 
-	private static NonNamespaceOperation<ActiveMQArtemisAddress, ActiveMQArtemisAddressList, Resource<ActiveMQArtemisAddress>> ACTIVE_MQ_ARTEMIS_ADDRESSES_CLIENT;
+	private NonNamespaceOperation<ActiveMQArtemisAddress, ActiveMQArtemisAddressList, Resource<ActiveMQArtemisAddress>> activeMqArtemisAddressesClient;
 
 	/**
 	 * Get a client capable of working with {@link ActiveMQOperatorProvisioner#ACTIVEMQ_ARTEMIS_ADDRESS_CRD_NAME} custom resource.
@@ -223,17 +212,17 @@ public abstract class ActiveMQOperatorProvisioner<C extends NamespacedKubernetes
 	 * @return client for operations with {@link ActiveMQOperatorProvisioner#ACTIVEMQ_ARTEMIS_ADDRESS_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<ActiveMQArtemisAddress, ActiveMQArtemisAddressList, Resource<ActiveMQArtemisAddress>> activeMQArtemisAddressesClient() {
-		if (ACTIVE_MQ_ARTEMIS_ADDRESSES_CLIENT == null) {
+		if (activeMqArtemisAddressesClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ACTIVEMQ_ARTEMIS_ADDRESS_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ACTIVEMQ_ARTEMIS_ADDRESS_CRD_NAME, OPERATOR_ID));
 			}
-			ACTIVE_MQ_ARTEMIS_ADDRESSES_CLIENT = activeMQArtemisAddressesCustomResourcesClient(
+			activeMqArtemisAddressesClient = activeMQArtemisAddressesCustomResourcesClient(
 					CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ACTIVE_MQ_ARTEMIS_ADDRESSES_CLIENT;
+		return activeMqArtemisAddressesClient;
 	}
 
 	/**
@@ -61,8 +61,9 @@ public abstract class HyperfoilOperatorProvisioner<C extends NamespacedKubernete
 	}
 
 	public List<Pod> getAgentPods() {
-		return getPods().stream().filter(p -> p.getMetadata().getName().startsWith(
-				"agent-") && "agent".equals(p.getMetadata().getLabels().get("role"))).collect(Collectors.toList());
+		return getLabeledPods("role", "agent").stream()
+				.filter(p -> p.getMetadata().getName().startsWith("agent-"))
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -208,7 +209,7 @@ public abstract class HyperfoilOperatorProvisioner<C extends NamespacedKubernete
 	protected abstract HasMetadataOperationsImpl<Hyperfoil, HyperfoilList> hyperfoilCustomResourcesClient(
 			CustomResourceDefinitionContext crdc);
 
-	protected static NonNamespaceOperation<Hyperfoil, HyperfoilList, Resource<Hyperfoil>> HYPERFOIL_CUSTOM_RESOURCE_CLIENT;
+	protected NonNamespaceOperation<Hyperfoil, HyperfoilList, Resource<Hyperfoil>> hyperfoilCustomResourceClient;
 
 	/**
 	 * Get a client capable of working with {@link HyperfoilOperatorProvisioner#HYPERFOIL_CRD_NAME} custom resource.
@@ -216,16 +217,16 @@ public abstract class HyperfoilOperatorProvisioner<C extends NamespacedKubernete
 	 * @return client for operations with {@link HyperfoilOperatorProvisioner#HYPERFOIL_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<Hyperfoil, HyperfoilList, Resource<Hyperfoil>> hyperfoilClient() {
-		if (HYPERFOIL_CUSTOM_RESOURCE_CLIENT == null) {
+		if (hyperfoilCustomResourceClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(HYPERFOIL_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						HYPERFOIL_CRD_NAME, OPERATOR_ID));
 			}
-			HYPERFOIL_CUSTOM_RESOURCE_CLIENT = hyperfoilCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			hyperfoilCustomResourceClient = hyperfoilCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return HYPERFOIL_CUSTOM_RESOURCE_CLIENT;
+		return hyperfoilCustomResourceClient;
 	}
 
 	/**
@@ -16,6 +16,7 @@
 package org.jboss.intersmash.provision.operator;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
@@ -56,16 +57,10 @@ public abstract class InfinispanOperatorProvisioner<C extends NamespacedKubernet
 	// Infinispan related
 	// =================================================================================================================
 	public List<Pod> getInfinispanPods() {
-		return getPods().stream().filter(
-				// the following criteria is implemented based on similar requirements taken from the
-				// infinispan-operator project, see
-				// https://github.com/infinispan/infinispan-operator/blob/main/test/e2e/utils/kubernetes.go#L599-L604
-				p -> p.getMetadata().getLabels().entrySet().stream()
-						.anyMatch(tl -> "app".equals(tl.getKey()) && "infinispan-pod".equals(tl.getValue())
-								&& p.getMetadata().getLabels().entrySet().stream().anyMatch(
-										cnl -> "clusterName".equals(cnl.getKey())
-												&& getApplication().getName().equals(cnl.getValue()))))
-				.collect(Collectors.toList());
+		// the following criteria is implemented based on similar requirements taken from the
+		// infinispan-operator project, see
+		// https://github.com/infinispan/infinispan-operator/blob/main/test/e2e/utils/kubernetes.go#L599-L604
+		return podCache().withLabels(Map.of("app", "infinispan-pod", "clusterName", getApplication().getName()));
 	}
 
 	protected Service getService(final String name) {
@@ -198,33 +193,33 @@ public abstract class InfinispanOperatorProvisioner<C extends NamespacedKubernet
 	protected abstract HasMetadataOperationsImpl<Cache, CacheList> cacheCustomResourcesClient(
 			CustomResourceDefinitionContext crdc);
 
-	private static NonNamespaceOperation<Infinispan, InfinispanList, Resource<Infinispan>> INFINISPAN_CLIENT;
-	private static NonNamespaceOperation<Cache, CacheList, Resource<Cache>> INFINISPAN_CACHES_CLIENT;
+	private NonNamespaceOperation<Infinispan, InfinispanList, Resource<Infinispan>> infinispanClient;
+	private NonNamespaceOperation<Cache, CacheList, Resource<Cache>> infinispanCachesClient;
 
 	public NonNamespaceOperation<Infinispan, InfinispanList, Resource<Infinispan>> infinispansClient() {
-		if (INFINISPAN_CLIENT == null) {
+		if (infinispanClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(INFINISPAN_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						INFINISPAN_CRD_NAME, OPERATOR_ID));
 			}
-			INFINISPAN_CLIENT = infinispanCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			infinispanClient = infinispanCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return INFINISPAN_CLIENT;
+		return infinispanClient;
 	}
 
 	public NonNamespaceOperation<Cache, CacheList, Resource<Cache>> cachesClient() {
-		if (INFINISPAN_CACHES_CLIENT == null) {
+		if (infinispanCachesClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(INFINISPAN_CACHE_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						INFINISPAN_CACHE_CRD_NAME, OPERATOR_ID));
 			}
-			INFINISPAN_CACHES_CLIENT = cacheCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			infinispanCachesClient = cacheCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return INFINISPAN_CACHES_CLIENT;
+		return infinispanCachesClient;
 	}
 
 	/**
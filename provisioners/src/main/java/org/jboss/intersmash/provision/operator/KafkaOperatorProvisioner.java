@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.application.operator.KafkaOperatorApplication;
+import org.jboss.intersmash.k8s.client.waiters.WatchWaiters;
 import org.jboss.intersmash.provision.Provisioner;
 import org.slf4j.event.Level;
 
@@ -31,11 +32,14 @@ import cz.xtf.core.waiting.SimpleWaiter;
 import cz.xtf.core.waiting.failfast.FailFastCheck;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.kafka.Kafka;
@@ -80,11 +84,14 @@ public abstract class KafkaOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * having the {@code strimzi.io/broker-role} label
 	 */
 	public List<Pod> getKafkaPods() {
+		return kafkaPodsClient().list().getItems();
+	}
+
+	private FilterWatchListDeletable<Pod, PodList, PodResource> kafkaPodsClient() {
 		return this.client().pods().inNamespace(this.client().getNamespace())
 				.withLabels(Map.of(
 						"app.kubernetes.io/name", "kafka",
-						KafkaOperatorApplication.STRIMZI_IO_KAFKA_LABEL_BROKER_ROLE, "true"))
-				.list().getItems();
+						KafkaOperatorApplication.STRIMZI_IO_KAFKA_LABEL_BROKER_ROLE, "true"));
 	}
 
 	/**
@@ -132,29 +139,11 @@ public abstract class KafkaOperatorProvisioner<C extends NamespacedKubernetesCli
 	public void waitForKafkaClusterCreation() {
 		FailFastCheck ffCheck = getFailFastCheck();
 		int expectedReplicas = getConfiguredReplicas();
-		new SimpleWaiter(() -> getKafkaResource().get() != null)
-				.failFast(ffCheck)
-				.reason("Wait for Kafka cluster instance to be initialized.")
-				.level(Level.DEBUG)
-				.waitFor();
-		new SimpleWaiter(() -> getKafkaResource().get().getStatus() != null)
-				.failFast(ffCheck)
-				.reason("Wait for a status field of the Kafka cluster instance to be initialized.")
-				.level(Level.DEBUG)
-				.waitFor();
-		new SimpleWaiter(() -> getKafkaResource().get().getStatus().getConditions() != null)
-				.failFast(ffCheck)
-				.reason("Wait for a conditions field of the Kafka cluster instance to be initialized.")
-				.level(Level.DEBUG)
-				.waitFor();
-		new SimpleWaiter(() -> !getKafkaResource().get().getStatus().getConditions().isEmpty())
-				.failFast(ffCheck)
-				.reason("Wait for a conditions field of the Kafka cluster instance to contain at least one condition.")
-				.level(Level.DEBUG)
-				.waitFor();
-		new SimpleWaiter(
-				() -> getKafkaResource().get().getStatus().getConditions().stream()
-						.anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus())))
+		// a single watch on the Kafka resource replaces polling each status field in turn
+		WatchWaiters.resource(getKafkaResource(),
+				k -> k.getStatus() != null && k.getStatus().getConditions() != null
+						&& k.getStatus().getConditions().stream()
+								.anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus())))
 				.failFast(ffCheck)
 				.reason("Wait for a conditions field of the Kafka cluster instance to be in state 'Ready'.")
 				.level(Level.DEBUG)
@@ -171,7 +160,7 @@ public abstract class KafkaOperatorProvisioner<C extends NamespacedKubernetesCli
 							"Waiting for the Kafka cluster instance ended with a timeout.");
 				})
 				.waitFor();
-		new SimpleWaiter(() -> getKafkaPods().size() == expectedReplicas)
+		WatchWaiters.podCount(kafkaPodsClient(), expectedReplicas)
 				.failFast(ffCheck)
 				.reason("Wait for expected number of replicas of Kafka to be active.")
 				.level(Level.DEBUG)
@@ -315,8 +315,8 @@ public abstract class KeycloakOperatorProvisioner<C extends NamespacedKubernetes
 	 */
 	public abstract NonNamespaceOperation<CustomResourceDefinition, CustomResourceDefinitionList, Resource<CustomResourceDefinition>> customResourceDefinitionsClient();
 
-	private static NonNamespaceOperation<Keycloak, KeycloakOperatorKeycloakList, Resource<Keycloak>> KEYCLOAKS_CLIENT;
-	private static NonNamespaceOperation<KeycloakRealmImport, KeycloakOperatorRealmImportList, Resource<KeycloakRealmImport>> KEYCLOAK_REALM_IMPORTS_CLIENT;
+	private NonNamespaceOperation<Keycloak, KeycloakOperatorKeycloakList, Resource<Keycloak>> keycloaksClient;
+	private NonNamespaceOperation<KeycloakRealmImport, KeycloakOperatorRealmImportList, Resource<KeycloakRealmImport>> keycloakRealmImportsClient;
 
 	// keycloaks.k8s.keycloak.org
 	protected abstract HasMetadataOperationsImpl<Keycloak, KeycloakOperatorKeycloakList> keycloaksCustomResourcesClient(
@@ -327,30 +327,30 @@ public abstract class KeycloakOperatorProvisioner<C extends NamespacedKubernetes
 			CustomResourceDefinitionContext crdc);
 
 	public NonNamespaceOperation<Keycloak, KeycloakOperatorKeycloakList, Resource<Keycloak>> keycloakClient() {
-		if (KEYCLOAKS_CLIENT == null) {
+		if (keycloaksClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOACK_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOACK_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAKS_CLIENT = keycloaksCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloaksClient = keycloaksCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAKS_CLIENT;
+		return keycloaksClient;
 	}
 
 	public NonNamespaceOperation<KeycloakRealmImport, KeycloakOperatorRealmImportList, Resource<KeycloakRealmImport>> keycloakRealmImportClient() {
-		if (KEYCLOAK_REALM_IMPORTS_CLIENT == null) {
+		if (keycloakRealmImportsClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOACK_REALM_IMPORT_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOACK_REALM_IMPORT_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAK_REALM_IMPORTS_CLIENT = keycloakRealmImportsCustomResourcesClient(
+			keycloakRealmImportsClient = keycloakRealmImportsCustomResourcesClient(
 					CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAK_REALM_IMPORTS_CLIENT;
+		return keycloakRealmImportsClient;
 	}
 
 	/**
@@ -187,102 +187,102 @@ public abstract class OpenDataHubOperatorProvisioner<C extends NamespacedKuberne
 	protected abstract HasMetadataOperationsImpl<Auth, AuthList> authCustomResourcesClient(
 			CustomResourceDefinitionContext crdc);
 
-	private static NonNamespaceOperation<DataScienceCluster, DataScienceClusterList, Resource<DataScienceCluster>> ODH_DATA_SCIENCE_CLUSTER_CLIENT;
-	private static NonNamespaceOperation<DSCInitialization, DSCInitializationList, Resource<DSCInitialization>> ODH_DSC_INITIALIZATION_CLIENT;
-	private static NonNamespaceOperation<FeatureTracker, FeatureTrackerList, Resource<FeatureTracker>> ODH_FEATURE_TRACKER_CLIENT;
-	private static NonNamespaceOperation<Monitoring, MonitoringList, Resource<Monitoring>> ODH_MONITORING_CLIENT;
-	private static NonNamespaceOperation<Auth, AuthList, Resource<Auth>> ODH_AUTH_CLIENT;
+	private NonNamespaceOperation<DataScienceCluster, DataScienceClusterList, Resource<DataScienceCluster>> odhDataScienceClusterClient;
+	private NonNamespaceOperation<DSCInitialization, DSCInitializationList, Resource<DSCInitialization>> odhDscInitializationClient;
+	private NonNamespaceOperation<FeatureTracker, FeatureTrackerList, Resource<FeatureTracker>> odhFeatureTrackerClient;
+	private NonNamespaceOperation<Monitoring, MonitoringList, Resource<Monitoring>> odhMonitoringClient;
+	private NonNamespaceOperation<Auth, AuthList, Resource<Auth>> odhAuthClient;
 
 	/**
-	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#ODH_DATA_SCIENCE_CLUSTER_CLIENT} custom resource.
+	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#odhDataScienceClusterClient} custom resource.
 	 *
-	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#ODH_DATA_SCIENCE_CLUSTER_CLIENT} custom resource
+	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#odhDataScienceClusterClient} custom resource
 	 */
 	public NonNamespaceOperation<DataScienceCluster, DataScienceClusterList, Resource<DataScienceCluster>> dataScienceClusterClient() {
-		if (ODH_DATA_SCIENCE_CLUSTER_CLIENT == null) {
+		if (odhDataScienceClusterClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ODH_DATA_SCIENCE_CLUSTER_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ODH_DATA_SCIENCE_CLUSTER_CRD_NAME, OPERATOR_ID));
 			}
-			ODH_DATA_SCIENCE_CLUSTER_CLIENT = dataScienceClusterCustomResourcesClient(
+			odhDataScienceClusterClient = dataScienceClusterCustomResourcesClient(
 					CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ODH_DATA_SCIENCE_CLUSTER_CLIENT;
+		return odhDataScienceClusterClient;
 	}
 
 	/**
-	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#ODH_DSC_INITIALIZATION_CLIENT} custom resource.
+	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#odhDscInitializationClient} custom resource.
 	 *
-	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#ODH_DSC_INITIALIZATION_CLIENT} custom resource
+	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#odhDscInitializationClient} custom resource
 	 */
 	public NonNamespaceOperation<DSCInitialization, DSCInitializationList, Resource<DSCInitialization>> dscInitializationClient() {
-		if (ODH_DSC_INITIALIZATION_CLIENT == null) {
+		if (odhDscInitializationClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ODH_DSC_INITIALIZATION_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ODH_DSC_INITIALIZATION_CRD_NAME, OPERATOR_ID));
 			}
-			ODH_DSC_INITIALIZATION_CLIENT = dscInitializationCustomResourcesClient(
+			odhDscInitializationClient = dscInitializationCustomResourcesClient(
 					CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ODH_DSC_INITIALIZATION_CLIENT;
+		return odhDscInitializationClient;
 	}
 
 	/**
-	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#ODH_FEATURE_TRACKER_CLIENT} custom resource.
+	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#odhFeatureTrackerClient} custom resource.
 	 *
-	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#ODH_FEATURE_TRACKER_CLIENT} custom resource
+	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#odhFeatureTrackerClient} custom resource
 	 */
 	public NonNamespaceOperation<FeatureTracker, FeatureTrackerList, Resource<FeatureTracker>> featureTrackerClient() {
-		if (ODH_FEATURE_TRACKER_CLIENT == null) {
+		if (odhFeatureTrackerClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ODH_FEATURE_TRACKER_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ODH_FEATURE_TRACKER_CRD_NAME, OPERATOR_ID));
 			}
-			ODH_FEATURE_TRACKER_CLIENT = featureTrackerCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			odhFeatureTrackerClient = featureTrackerCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ODH_FEATURE_TRACKER_CLIENT;
+		return odhFeatureTrackerClient;
 	}
 
 	/**
-	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#ODH_MONITORING_CLIENT} custom resource.
+	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#odhMonitoringClient} custom resource.
 	 *
-	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#ODH_MONITORING_CLIENT} custom resource
+	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#odhMonitoringClient} custom resource
 	 */
 	public NonNamespaceOperation<Monitoring, MonitoringList, Resource<Monitoring>> monitoringClient() {
-		if (ODH_MONITORING_CLIENT == null) {
+		if (odhMonitoringClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ODH_MONITORING_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ODH_MONITORING_CRD_NAME, OPERATOR_ID));
 			}
-			ODH_MONITORING_CLIENT = monitoringCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			odhMonitoringClient = monitoringCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ODH_MONITORING_CLIENT;
+		return odhMonitoringClient;
 	}
 
 	/**
-	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#ODH_AUTH_CLIENT} custom resource.
+	 * Get a client capable of working with {@link OpenDataHubOperatorProvisioner#odhAuthClient} custom resource.
 	 *
-	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#ODH_AUTH_CLIENT} custom resource
+	 * @return client for operations with {@link OpenDataHubOperatorProvisioner#odhAuthClient} custom resource
 	 */
 	public NonNamespaceOperation<Auth, AuthList, Resource<Auth>> authClient() {
-		if (ODH_AUTH_CLIENT == null) {
+		if (odhAuthClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(ODH_AUTH_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						ODH_AUTH_CRD_NAME, OPERATOR_ID));
 			}
-			ODH_AUTH_CLIENT = authCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			odhAuthClient = authCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return ODH_AUTH_CLIENT;
+		return odhAuthClient;
 	}
 
 	/**
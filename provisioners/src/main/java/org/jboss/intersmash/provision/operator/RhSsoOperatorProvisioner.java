@@ -276,19 +276,19 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	// you can get it with command:
 	// oc get crd <group>> -o template --template='{{ .metadata.name }}'
 	private static final String KEYCLOAK_CRD_NAME = "keycloaks.keycloak.org";
-	private static NonNamespaceOperation<Keycloak, KeycloakList, Resource<Keycloak>> KEYCLOAKS_CLIENT;
+	private NonNamespaceOperation<Keycloak, KeycloakList, Resource<Keycloak>> keycloaksClient;
 
 	private static final String KEYCLOAK_REALM_CRD_NAME = "keycloakrealms.keycloak.org";
-	private static NonNamespaceOperation<KeycloakRealm, KeycloakRealmList, Resource<KeycloakRealm>> KEYCLOAK_REALMS_CLIENT;
+	private NonNamespaceOperation<KeycloakRealm, KeycloakRealmList, Resource<KeycloakRealm>> keycloakRealmsClient;
 
 	private static final String KEYCLOAK_BACKUP_CRD_NAME = "keycloakbackups.keycloak.org";
-	private static NonNamespaceOperation<KeycloakBackup, KeycloakBackupList, Resource<KeycloakBackup>> KEYCLOAK_BACKUPS_CLIENT;
+	private NonNamespaceOperation<KeycloakBackup, KeycloakBackupList, Resource<KeycloakBackup>> keycloakBackupsClient;
 
 	private static final String KEYCLOAK_CLIENT_CRD_NAME = "keycloakclients.keycloak.org";
-	private static NonNamespaceOperation<KeycloakClient, KeycloakClientList, Resource<KeycloakClient>> KEYCLOAK_CLIENTS_CLIENT;
+	private NonNamespaceOperation<KeycloakClient, KeycloakClientList, Resource<KeycloakClient>> keycloakClientsClient;
 
 	private static final String KEYCLOAK_USER_CRD_NAME = "keycloakusers.keycloak.org";
-	private static NonNamespaceOperation<KeycloakUser, KeycloakUserList, Resource<KeycloakUser>> KEYCLOAK_USERS_CLIENT;
+	private NonNamespaceOperation<KeycloakUser, KeycloakUserList, Resource<KeycloakUser>> keycloakUsersClient;
 
 	/**
 	 * Generic CRD client which is used by client builders default implementation to build the CRDs client
@@ -307,16 +307,16 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * @return client for operations with {@link RhSsoOperatorProvisioner#KEYCLOAK_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<Keycloak, KeycloakList, Resource<Keycloak>> keycloakClient() {
-		if (KEYCLOAKS_CLIENT == null) {
+		if (keycloaksClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOAK_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOAK_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAKS_CLIENT = keycloakCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloaksClient = keycloakCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAKS_CLIENT;
+		return keycloaksClient;
 	}
 
 	/**
@@ -338,16 +338,16 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * @return client for operations with {@link #KEYCLOAK_REALM_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<KeycloakRealm, KeycloakRealmList, Resource<KeycloakRealm>> keycloakRealmClient() {
-		if (KEYCLOAK_REALMS_CLIENT == null) {
+		if (keycloakRealmsClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOAK_REALM_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOAK_REALM_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAK_REALMS_CLIENT = keycloakRealmCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloakRealmsClient = keycloakRealmCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAK_REALMS_CLIENT;
+		return keycloakRealmsClient;
 	}
 
 	/**
@@ -386,16 +386,16 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * @return client for operations with {@link #KEYCLOAK_BACKUP_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<KeycloakBackup, KeycloakBackupList, Resource<KeycloakBackup>> keycloakBackupClient() {
-		if (KEYCLOAK_BACKUPS_CLIENT == null) {
+		if (keycloakBackupsClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOAK_BACKUP_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOAK_BACKUP_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAK_BACKUPS_CLIENT = keycloakBackupCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloakBackupsClient = keycloakBackupCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAK_BACKUPS_CLIENT;
+		return keycloakBackupsClient;
 	}
 
 	/**
@@ -434,16 +434,16 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * @return client for operations with {@link #KEYCLOAK_CLIENT_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<KeycloakClient, KeycloakClientList, Resource<KeycloakClient>> keycloakClientClient() {
-		if (KEYCLOAK_CLIENTS_CLIENT == null) {
+		if (keycloakClientsClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOAK_CLIENT_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOAK_CLIENT_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAK_CLIENTS_CLIENT = keycloakClientCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloakClientsClient = keycloakClientCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAK_CLIENTS_CLIENT;
+		return keycloakClientsClient;
 	}
 
 	/**
@@ -482,16 +482,16 @@ public abstract class RhSsoOperatorProvisioner<C extends NamespacedKubernetesCli
 	 * @return client for operations with {@link #KEYCLOAK_USER_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<KeycloakUser, KeycloakUserList, Resource<KeycloakUser>> keycloakUserClient() {
-		if (KEYCLOAK_USERS_CLIENT == null) {
+		if (keycloakUsersClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(KEYCLOAK_USER_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						KEYCLOAK_USER_CRD_NAME, OPERATOR_ID));
 			}
-			KEYCLOAK_USERS_CLIENT = keycloakUserCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			keycloakUsersClient = keycloakUserCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return KEYCLOAK_USERS_CLIENT;
+		return keycloakUsersClient;
 	}
 
 	/**
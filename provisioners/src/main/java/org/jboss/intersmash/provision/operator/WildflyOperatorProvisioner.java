@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.jboss.intersmash.IntersmashConfig;
 import org.jboss.intersmash.application.operator.WildflyOperatorApplication;
+import org.jboss.intersmash.k8s.client.waiters.WatchWaiters;
 import org.jboss.intersmash.provision.Provisioner;
 import org.jboss.intersmash.provision.operator.model.wildfly.WildFlyServerList;
 import org.slf4j.event.Level;
@@ -41,6 +42,7 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import lombok.NonNull;
 
 public abstract class WildflyOperatorProvisioner<C extends NamespacedKubernetesClient> extends
@@ -59,11 +61,13 @@ public abstract class WildflyOperatorProvisioner<C extends NamespacedKubernetesC
 	public List<Pod> getPods() {
 		final List<Pod> pods = super.getPods();
 		final WildFlyServer wildFlyServer = wildFlyServer().get();
-		final List<String> activeOperatorPodNames = wildFlyServer == null ? List.of()
-				: wildFlyServer().get().getStatus().getPods().stream()
-						.filter(podStatus -> podStatus.getState().equals(Pods.State.ACTIVE))
-						.map(Pods::getName)
-						.collect(Collectors.toList());
+		// the status is not reported until the operator has reconciled the server
+		final List<Pods> podStatuses = wildFlyServer == null || wildFlyServer.getStatus() == null
+				|| wildFlyServer.getStatus().getPods() == null ? List.of() : wildFlyServer.getStatus().getPods();
+		final List<String> activeOperatorPodNames = podStatuses.stream()
+				.filter(podStatus -> Pods.State.ACTIVE.equals(podStatus.getState()))
+				.map(Pods::getName)
+				.collect(Collectors.toList());
 		return pods.stream()
 				.filter(pod -> activeOperatorPodNames.contains(pod.getMetadata().getName()))
 				.filter(pod -> pod.getStatus().getContainerStatuses().size() > 0
@@ -117,12 +121,31 @@ public abstract class WildflyOperatorProvisioner<C extends NamespacedKubernetesC
 		subscribe();
 		wildflyServerClient().createOrReplace(getApplication().getWildflyServer());
 		int expected = getApplication().getWildflyServer().getSpec().getReplicas();
-		new SimpleWaiter(() -> wildFlyServer().get().getStatus() != null)
+		WatchWaiters.resource(wildFlyServer(), server -> server.getStatus() != null)
 				.failFast(getFailFastCheck())
 				.reason("Wait for status field to be initialized.")
 				.level(Level.DEBUG)
 				.waitFor();
-		new SimpleWaiter(() -> getPods().size() == expected)
+		// the operator reports the active pods in the WildFlyServer status, so watch it rather than polling the pods
+		WatchWaiters.resource(wildFlyServer(), server -> server.getStatus() != null
+				&& server.getStatus().getPods() != null
+				&& server.getStatus().getPods().stream()
+						.filter(podStatus -> Pods.State.ACTIVE.equals(podStatus.getState()))
+						.count() == expected)
+				.failFast(getFailFastCheck())
+				.reason("Wait for expected number of replicas to be reported as active.")
+				.level(Level.DEBUG)
+				.waitFor();
+		final List<String> activePodNames = wildFlyServer().get().getStatus().getPods().stream()
+				.filter(podStatus -> Pods.State.ACTIVE.equals(podStatus.getState()))
+				.map(Pods::getName)
+				.collect(Collectors.toList());
+		// the operator labels the pods with the application name, don't watch the other pods in the namespace
+		WatchWaiters.resources(client().pods().withLabel("app.kubernetes.io/name", getApplication().getName()),
+				pods -> pods.stream()
+						.filter(pod -> activePodNames.contains(pod.getMetadata().getName()))
+						.filter(Readiness::isPodReady)
+						.count() == expected)
 				.failFast(getFailFastCheck())
 				.reason("Wait for expected number of replicas to be active.")
 				.level(Level.DEBUG)
@@ -174,7 +197,7 @@ public abstract class WildflyOperatorProvisioner<C extends NamespacedKubernetesC
 	// you can get it with command:
 	// oc get crd wildflyservers.wildfly.org -o template --template='{{ .metadata.name }}'
 	protected static String WILDFLY_SERVER_CRD_NAME = "wildflyservers.wildfly.org";
-	private static NonNamespaceOperation<WildFlyServer, WildFlyServerList, Resource<WildFlyServer>> WILDFLY_SERVERS_CLIENT;
+	private NonNamespaceOperation<WildFlyServer, WildFlyServerList, Resource<WildFlyServer>> wildflyServersClient;
 
 	/**
 	 * Generic CRD client which is used by client builders default implementation to build the CRDs client
@@ -193,16 +216,16 @@ public abstract class WildflyOperatorProvisioner<C extends NamespacedKubernetesC
 	 * @return client for operations with {@link #WILDFLY_SERVER_CRD_NAME} custom resource
 	 */
 	public NonNamespaceOperation<WildFlyServer, WildFlyServerList, Resource<WildFlyServer>> wildflyServerClient() {
-		if (WILDFLY_SERVERS_CLIENT == null) {
+		if (wildflyServersClient == null) {
 			CustomResourceDefinition crd = customResourceDefinitionsClient()
 					.withName(WILDFLY_SERVER_CRD_NAME).get();
 			if (crd == null) {
 				throw new RuntimeException(String.format("[%s] custom resource is not provided by [%s] operator.",
 						WILDFLY_SERVER_CRD_NAME, OPERATOR_ID));
 			}
-			WILDFLY_SERVERS_CLIENT = wildflyCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
+			wildflyServersClient = wildflyCustomResourcesClient(CustomResourceDefinitionContext.fromCrd(crd));
 		}
-		return WILDFLY_SERVERS_CLIENT;
+		return wildflyServersClient;
 	}
 
 	/**
@@ -15,30 +15,60 @@
  */
 package org.jboss.intersmash.provision.util.k8s.log.collect;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.TimestampBytesLimitTerminateTimeTailPrettyLoggable;
 import lombok.NonNull;
 
 /**
  * A class that collect pods' logs. It must be initialized via its {@link PodLogsCollectorBuilder} to provide a
  * {@link NamespacedKubernetesClient} instance to connect to the cluster, and a collection of
  * {@link Pod} instances which logs must be collected.
+ * <p>
+ * The log of each container is streamed, up to {@link #getMaxConcurrency()} containers at a time, either to a file
+ * in the output directory, if one is provided, or through the line selector, so that whole logs are not held in
+ * memory. Reading from the stream at the pace of the consumer lets the connection apply backpressure.
+ * </p>
  */
 public class PodLogsCollector {
 
+	static final int DEFAULT_MAX_CONCURRENCY = 4;
+
 	private final NamespacedKubernetesClient client;
 	private final List<Pod> pods;
 
 	private final Predicate<Pod> podSelector;
 	private final Predicate<String> lineSelector;
+	private final String sinceTime;
+	private final Integer tailLines;
+	private final int maxConcurrency;
+	private final Path outputDirectory;
 
 	/**
 	 * Initialize a new {@link PodLogsCollector} instance
@@ -46,14 +76,23 @@ public class PodLogsCollector {
 	 * @param pods A collection of {@link Pod} instances
 	 * @param podSelector A {@link Predicate<Pod>} to select a subset of pods to process
 	 * @param lineSelector A {@link Predicate<String>} to select a subset of log lines
+	 * @param sinceTime An RFC3339 timestamp from which logs should be collected, or null to collect them all
+	 * @param tailLines The number of lines to be collected from the end of each log, or null to collect them all
+	 * @param maxConcurrency The maximum number of container logs which are collected concurrently
+	 * @param outputDirectory A directory where the logs are written, or null to keep them in memory
 	 */
 	PodLogsCollector(@NonNull final NamespacedKubernetesClient client,
 			final List<Pod> pods, final Predicate<Pod> podSelector,
-			final Predicate<String> lineSelector) {
+			final Predicate<String> lineSelector, final String sinceTime, final Integer tailLines,
+			final int maxConcurrency, final Path outputDirectory) {
 		this.client = client;
 		this.pods = pods;
 		this.podSelector = podSelector;
 		this.lineSelector = lineSelector;
+		this.sinceTime = sinceTime;
+		this.tailLines = tailLines;
+		this.maxConcurrency = maxConcurrency;
+		this.outputDirectory = outputDirectory;
 	}
 
 	NamespacedKubernetesClient getClient() {
@@ -72,6 +111,22 @@ public class PodLogsCollector {
 		return podSelector;
 	}
 
+	String getSinceTime() {
+		return sinceTime;
+	}
+
+	Integer getTailLines() {
+		return tailLines;
+	}
+
+	int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	Path getOutputDirectory() {
+		return outputDirectory;
+	}
+
 	/**
 	 * Collect logs from each of the {@link Pod} instances which has been provided.
 	 * If a {@link Predicate<Pod>} has been provided to filter the target pods based on some criteria, then the collection
@@ -84,25 +139,149 @@ public class PodLogsCollector {
 	public List<PodLogsReport> collect() {
 		if (pods == null || pods.isEmpty())
 			return List.of();
-		final List<PodLogsReport> podLogsReports = new ArrayList<>();
 		final List<Pod> selectedPods = podSelector == null ? pods
 				: pods.stream()
 						.filter(podSelector)
 						.collect(Collectors.toList());
-		selectedPods.stream().forEach(p -> {
-			// fetch all lines
-			final PodResource podResource = client.pods().withName(p.getMetadata().getName());
-			if (Objects.isNull(podResource)) {
-				throw new IllegalStateException("Target pod not found");
-			}
-			String podLog = podResource.getLog();
-			if (lineSelector != null) {
-				// funnel
-				podLog = Arrays.stream(podLog.split(System.lineSeparator())).filter(lineSelector)
-						.collect(Collectors.joining(System.lineSeparator()));
+		if (selectedPods.isEmpty())
+			return List.of();
+		if (outputDirectory != null) {
+			try {
+				Files.createDirectories(outputDirectory);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
-			podLogsReports.add(new PodLogsReport(p, podLog));
+		}
+		final AtomicInteger threads = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), r -> {
+			Thread thread = new Thread(r, "intersmash-pod-logs-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
 		});
-		return podLogsReports;
+		try {
+			// one task per container, the results are grouped by pod, in the original order
+			final Map<Pod, List<CompletableFuture<ContainerLog>>> tasks = new LinkedHashMap<>();
+			selectedPods.forEach(p -> {
+				final PodResource podResource = client.pods().withName(p.getMetadata().getName());
+				if (Objects.isNull(podResource)) {
+					throw new IllegalStateException("Target pod not found");
+				}
+				tasks.put(p, containerNames(p).stream()
+						.map(c -> CompletableFuture.supplyAsync(() -> collect(p, podResource, c), executor))
+						.collect(Collectors.toList()));
+			});
+			final List<PodLogsReport> podLogsReports = new ArrayList<>();
+			tasks.forEach((p, containerLogs) -> {
+				final List<ContainerLog> logs = containerLogs.stream().map(PodLogsCollector::join)
+						.collect(Collectors.toList());
+				if (outputDirectory != null) {
+					podLogsReports.add(new PodLogsReport(p,
+							logs.stream().map(ContainerLog::getFile).collect(Collectors.toList())));
+				} else {
+					podLogsReports.add(new PodLogsReport(p, logs.size() == 1 ? logs.get(0).getLog()
+							: logs.stream().map(l -> String.format("--- container %s ---%s%s", l.getContainer(),
+									System.lineSeparator(), l.getLog()))
+									.collect(Collectors.joining(System.lineSeparator()))));
+				}
+			});
+			return podLogsReports;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return The names of the pod containers, or a list holding {@code null} if the pod has a single container,
+	 *         whose log can be read without naming it
+	 */
+	private static List<String> containerNames(Pod pod) {
+		if (pod.getSpec() == null || pod.getSpec().getContainers() == null || pod.getSpec().getContainers().size() < 2) {
+			return Collections.singletonList(null);
+		}
+		return pod.getSpec().getContainers().stream().map(Container::getName).collect(Collectors.toList());
+	}
+
+	private ContainerLog collect(Pod pod, PodResource podResource, String container) {
+		final Loggable loggable = limit(container == null ? podResource : podResource.inContainer(container));
+		try (Reader reader = loggable.getLogReader()) {
+			if (outputDirectory != null) {
+				final String name = pod.getMetadata().getName() + (container == null ? "" : "-" + container);
+				final Path file = outputDirectory.resolve(name + ".log");
+				try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+					copy(reader, writer);
+				}
+				return new ContainerLog(container, null, file);
+			}
+			final StringWriter writer = new StringWriter();
+			copy(reader, writer);
+			return new ContainerLog(container, writer.toString(), null);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Loggable limit(TimestampBytesLimitTerminateTimeTailPrettyLoggable loggable) {
+		if (sinceTime != null && tailLines != null) {
+			return loggable.sinceTime(sinceTime).tailingLines(tailLines);
+		} else if (sinceTime != null) {
+			return loggable.sinceTime(sinceTime);
+		} else if (tailLines != null) {
+			return loggable.tailingLines(tailLines);
+		}
+		return loggable;
+	}
+
+	private void copy(Reader reader, Writer writer) throws IOException {
+		if (lineSelector == null) {
+			reader.transferTo(writer);
+			return;
+		}
+		// funnel
+		final BufferedReader lines = new BufferedReader(reader);
+		boolean first = true;
+		for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+			if (lineSelector.test(line)) {
+				if (!first) {
+					writer.write(System.lineSeparator());
+				}
+				writer.write(line);
+				first = false;
+			}
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static class ContainerLog {
+		private final String container;
+		private final String log;
+		private final Path file;
+
+		ContainerLog(String container, String log, Path file) {
+			this.container = container;
+			this.log = log;
+			this.file = file;
+		}
+
+		String getContainer() {
+			return container;
+		}
+
+		String getLog() {
+			return log;
+		}
+
+		Path getFile() {
+			return file;
+		}
 	}
 }
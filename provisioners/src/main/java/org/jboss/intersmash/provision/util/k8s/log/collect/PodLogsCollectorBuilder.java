@@ -15,6 +15,7 @@
  */
 package org.jboss.intersmash.provision.util.k8s.log.collect;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -29,6 +30,10 @@ public class PodLogsCollectorBuilder {
 	private List<Pod> pods;
 	private Predicate<Pod> podSelector;
 	private Predicate<String> lineSelector;
+	private String sinceTime;
+	private Integer tailLines;
+	private int maxConcurrency = PodLogsCollector.DEFAULT_MAX_CONCURRENCY;
+	private Path outputDirectory;
 
 	public PodLogsCollectorBuilder withClient(NamespacedKubernetesClient client) {
 		this.client = client;
@@ -50,7 +55,44 @@ public class PodLogsCollectorBuilder {
 		return this;
 	}
 
+	/**
+	 * @param sinceTime An RFC3339 timestamp, only the log lines which are more recent are collected
+	 * @return this builder
+	 */
+	public PodLogsCollectorBuilder withSinceTime(String sinceTime) {
+		this.sinceTime = sinceTime;
+		return this;
+	}
+
+	/**
+	 * @param tailLines The number of lines to be collected from the end of each container log
+	 * @return this builder
+	 */
+	public PodLogsCollectorBuilder withTailLines(Integer tailLines) {
+		this.tailLines = tailLines;
+		return this;
+	}
+
+	/**
+	 * @param maxConcurrency The maximum number of container logs which are streamed concurrently, 4 by default
+	 * @return this builder
+	 */
+	public PodLogsCollectorBuilder withMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+		return this;
+	}
+
+	/**
+	 * @param outputDirectory A directory where each container log is written, rather than being kept in memory
+	 * @return this builder
+	 */
+	public PodLogsCollectorBuilder withOutputDirectory(Path outputDirectory) {
+		this.outputDirectory = outputDirectory;
+		return this;
+	}
+
 	public PodLogsCollector build() {
-		return new PodLogsCollector(client, pods, podSelector, lineSelector);
+		return new PodLogsCollector(client, pods, podSelector, lineSelector, sinceTime, tailLines, maxConcurrency,
+				outputDirectory);
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.jboss.intersmash.provision.util.k8s.log.collect;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,7 +23,7 @@ import io.fabric8.kubernetes.api.model.Pod;
 import lombok.Getter;
 
 /**
- * A POJO that stores a pod logs.
+ * A POJO that stores a pod logs, or refers to the files where they have been written.
  */
 @Getter
 public class PodLogsReport {
@@ -31,10 +32,18 @@ public class PodLogsReport {
 
 	private final Pod pod;
 	private final String podLog;
+	private final List<Path> podLogFiles;
 
 	public PodLogsReport(Pod pod, String podLog) {
 		this.pod = pod;
 		this.podLog = podLog;
+		this.podLogFiles = List.of();
+	}
+
+	public PodLogsReport(Pod pod, List<Path> podLogFiles) {
+		this.pod = pod;
+		this.podLog = null;
+		this.podLogFiles = podLogFiles;
 	}
 
 	/**
@@ -45,10 +54,16 @@ public class PodLogsReport {
 	public static String generate(List<PodLogsReport> reports) {
 		if (!reports.isEmpty()) {
 			return reports.stream()
-					.map(podLogsReport -> String.format(
-							"Pod %s failed reporting the following log traces:\n%s\n",
-							podLogsReport.getPod().getMetadata().getName(),
-							podLogsReport.getPodLog()))
+					.map(podLogsReport -> podLogsReport.getPodLog() != null
+							? String.format(
+									"Pod %s failed reporting the following log traces:\n%s\n",
+									podLogsReport.getPod().getMetadata().getName(),
+									podLogsReport.getPodLog())
+							: String.format(
+									"Pod %s failed, log traces have been written to:\n%s\n",
+									podLogsReport.getPod().getMetadata().getName(),
+									podLogsReport.getPodLogFiles().stream().map(Path::toString)
+											.collect(Collectors.joining("\n"))))
 					.collect(Collectors.joining(POD_LOG_REPORT_BOUNDARY));
 		}
 		return "";
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util.git;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.CreateBranchCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.JGitInternalException;
+import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.TagOpt;
+
+import cz.xtf.core.waiting.Waiters;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local cache of bare mirrors of remote Git repositories, which is kept across executions.
+ * <p>
+ * Each remote repository is mirrored once into the cache directory, and only the changes are fetched afterwards.
+ * Checkouts borrow the objects of the mirror via Git alternates, i.e. like {@code git clone --shared} does, so that
+ * creating one doesn't copy the repository history.
+ * </p>
+ * <p>
+ * Updates of a given mirror are serialized, both within the JVM and across processes, via a lock file. Checkouts
+ * read from the mirror without locking it, since fetching only adds objects and updates references atomically.
+ * </p>
+ */
+@Slf4j
+final class GitMirrors {
+	private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+	private static final int RETRIES = 5;
+	private static final int RETRY_INTERVAL = 10;
+
+	private final Path directory;
+
+	/**
+	 * @param directory The cache directory
+	 */
+	GitMirrors(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Update the mirror of the given repository, then replace the target directory with a checkout of the given
+	 * reference, whose {@code origin} remote is the given repository.
+	 *
+	 * @param target The directory of the checkout
+	 * @param url The URL of the remote repository
+	 * @param credentials The credentials used to fetch the remote repository, or {@code null}
+	 * @param ref The branch, tag or commit to be checked out
+	 * @return The checked out repository
+	 */
+	Git checkout(Path target, String url, CredentialsProvider credentials, String ref) {
+		final Path mirror = update(url, credentials);
+		try {
+			if (Files.exists(target)) {
+				FileUtils.deleteDirectory(target.toFile());
+			}
+			Git.init().setDirectory(target.toFile()).call().close();
+			Files.writeString(target.resolve(".git/objects/info/alternates"),
+					mirror.resolve("objects").toAbsolutePath() + "\n");
+			final Git git = Git.open(target.toFile());
+			try {
+				final StoredConfig config = git.getRepository().getConfig();
+				config.setString("remote", "origin", "url", mirror.toUri().toString());
+				config.setString("remote", "origin", "fetch", "+refs/heads/*:refs/remotes/origin/*");
+				// the objects belong to the mirror, there's nothing to collect
+				config.setInt("gc", null, "auto", 0);
+				config.setBoolean("gc", null, "autoDetach", false);
+				config.save();
+				// all the objects are available through the alternates already, only the references are fetched
+				git.fetch().setRemote("origin").setTagOpt(TagOpt.FETCH_TAGS).call();
+				checkout(git, ref);
+				config.setString("remote", "origin", "url", url);
+				config.save();
+			} catch (IOException | GitAPIException | RuntimeException e) {
+				git.close();
+				throw e;
+			}
+			log.debug("Checked {} of {} out into {}", ref, url, target);
+			return git;
+		} catch (IOException | GitAPIException | JGitInternalException e) {
+			throw new RuntimeException(String.format("Unable to check %s of %s out", ref, url), e);
+		}
+	}
+
+	/**
+	 * Fetch the changes of the given repository into its mirror, which is created first, if needed.
+	 *
+	 * @param url The URL of the remote repository
+	 * @param credentials The credentials used to fetch the remote repository, or {@code null}
+	 * @return The directory of the mirror
+	 */
+	Path update(String url, CredentialsProvider credentials) {
+		final Path mirror = directory.resolve(mirrorName(url));
+		synchronized (LOCKS.computeIfAbsent(mirror.toString(), k -> new Object())) {
+			try {
+				Files.createDirectories(directory);
+				try (FileChannel channel = FileChannel.open(directory.resolve(mirror.getFileName() + ".lock"),
+						StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+						FileLock lock = channel.lock()) {
+					fetchOrClone(mirror, url, credentials);
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Unable to lock the mirror of " + url, e);
+			}
+		}
+		return mirror;
+	}
+
+	private static void fetchOrClone(Path mirror, String url, CredentialsProvider credentials) {
+		Exception failure = null;
+		for (int i = 0; i < RETRIES; i++) {
+			try {
+				if (Files.isDirectory(mirror.resolve("objects"))) {
+					try (Git git = Git.open(mirror.toFile())) {
+						git.fetch().setRemote("origin").setRemoveDeletedRefs(true).setCredentialsProvider(credentials)
+								.setTimeout(120).call();
+					}
+					log.debug("Fetched {} into {}", url, mirror);
+				} else {
+					clone(mirror, url, credentials);
+					log.debug("Mirrored {} into {}", url, mirror);
+				}
+				return;
+			} catch (TransportException e) {
+				failure = e;
+				log.error("Mirroring git repo failed. Retry " + i, e);
+				Waiters.sleep(TimeUnit.SECONDS, RETRY_INTERVAL);
+			} catch (IOException | GitAPIException | JGitInternalException e) {
+				failure = e;
+				log.warn("Unable to update the mirror of {}, mirroring it again: {}", url, e.getMessage());
+				FileUtils.deleteQuietly(mirror.toFile());
+			}
+		}
+		throw new RuntimeException("Unable to mirror git repository " + url, failure);
+	}
+
+	/**
+	 * The mirror is moved into the cache once complete, so that an interrupted execution doesn't leave an incomplete
+	 * mirror behind.
+	 */
+	private static void clone(Path mirror, String url, CredentialsProvider credentials)
+			throws IOException, GitAPIException {
+		final Path staging = Files.createTempDirectory(mirror.getParent(), ".staging-");
+		try {
+			try (Git git = Git.cloneRepository().setURI(url).setDirectory(staging.toFile()).setMirror(true)
+					.setCredentialsProvider(credentials).setTimeout(120).call()) {
+				// collect garbage while the mirror is locked, rather than in the background
+				final StoredConfig config = git.getRepository().getConfig();
+				config.setBoolean("gc", null, "autoDetach", false);
+				config.save();
+			}
+			Files.move(staging, mirror, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			FileUtils.deleteQuietly(staging.toFile());
+		}
+	}
+
+	private static void checkout(Git git, String ref) throws IOException, GitAPIException {
+		if (git.getRepository().resolve("refs/remotes/origin/" + ref) != null) {
+			git.checkout().setName(ref).setCreateBranch(true).setStartPoint("origin/" + ref)
+					.setUpstreamMode(CreateBranchCommand.SetupUpstreamMode.TRACK).call();
+			return;
+		}
+		ObjectId revision = git.getRepository().resolve("refs/tags/" + ref + "^{commit}");
+		if (revision == null) {
+			revision = git.getRepository().resolve(ref + "^{commit}");
+		}
+		if (revision == null) {
+			throw new IllegalStateException(String.format("Reference %s not found", ref));
+		}
+		git.checkout().setName(revision.getName()).call();
+	}
+
+	private static String mirrorName(String url) {
+		final String name = url.replaceAll("/+$", "").replaceAll("\\.git$", "")
+				.replaceAll(".*/", "").replaceAll("[^A-Za-z0-9._-]", "_");
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(url.getBytes(StandardCharsets.UTF_8));
+			return name + "-" + HexFormat.of().formatHex(digest.digest()).substring(0, 12) + ".git";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+}
@@ -15,35 +15,26 @@
  */
 package org.jboss.intersmash.util.git;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.assertj.core.api.Assertions;
-import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.InitCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.jboss.intersmash.IntersmashConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import cz.xtf.core.waiting.Waiters;
-import lombok.extern.slf4j.Slf4j;
-
 /**
  * Utilities that can be used when automating Git related operations, as for instance when cloning Helm Charts
  * repositories.
  */
-@Slf4j
 public final class GitUtil {
 	private static final Logger LOGGER = LoggerFactory.getLogger(GitUtil.class);
 	public static final Path REPOSITORIES = Paths.get("tmp").toAbsolutePath().resolve("git");
+	private static final GitMirrors MIRRORS = new GitMirrors(IntersmashConfig.gitMirrorsDirectory());
 
 	private GitUtil() {
 		// prevent instantiation
@@ -61,47 +52,23 @@ public final class GitUtil {
 		return cloneRepository(target, url, username, password, "master");
 	}
 
+	/**
+	 * Check the given branch of a remote repository out, the repository is mirrored into a local cache first, see
+	 * {@link IntersmashConfig#gitMirrorsDirectory()}, and only its changes are fetched by subsequent calls.
+	 *
+	 * @param target The directory of the checkout, which is replaced if it exists
+	 * @param url The URL of the remote repository
+	 * @param username The user name used to fetch the remote repository, or {@code null}
+	 * @param password The password used to fetch the remote repository, or {@code null}
+	 * @param branch The branch, tag or commit to be checked out
+	 * @return The checked out {@link GitProject}
+	 */
 	public static GitProject cloneRepository(Path target, String url, String username, String password, String branch) {
-		if (Files.exists(target)) {
-			try {
-				FileUtils.deleteDirectory(target.toFile());
-			} catch (IOException e) {
-				LOGGER.warn("Unable to delete directory", e);
-			}
-		}
-
-		//CloneCommand cloneCommand = Git.cloneRepository().setURI(url).setDirectory(target.toFile());
-		CloneCommand cloneCommand = Git.cloneRepository().setBranch(branch).setURI(url).setDirectory(target.toFile())
-				.setTimeout(120_000);
-
 		CredentialsProvider credentials = null;
 		if (username != null && password != null) {
 			credentials = new UsernamePasswordCredentialsProvider(username, password);
-			cloneCommand = cloneCommand.setCredentialsProvider(credentials);
-		}
-		try {
-			Git git = null;
-			int RETRIES = 5;
-			int RETRY_INTERVAL = 10;
-			for (int i = 0; i < RETRIES; i++) {
-				try {
-					git = cloneCommand.call();
-					break;
-				} catch (Exception e) {
-					log.error("Cloning git repo failed. Retry " + i, e);
-				}
-				Waiters.sleep(TimeUnit.SECONDS, RETRY_INTERVAL);
-			}
-			Assertions.assertThat(git).as("Unable to clone the repo").isNotNull();
-
-			if (StringUtils.isNotBlank(branch)) {
-				git.checkout().setName(branch).call();
-			}
-
-			return new GitProject(target, git, credentials);
-		} catch (GitAPIException ex) {
-			throw new RuntimeException("Unable to clone git repository", ex);
 		}
+		return new GitProject(target, MIRRORS.checkout(target, url, credentials, branch), credentials);
 	}
 
 	public static GitProject initRepository(Path target) {
@@ -16,9 +16,22 @@
 package org.jboss.intersmash.util.maven;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.building.SettingsBuildingException;
+import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -27,12 +40,16 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
 import org.eclipse.aether.impl.DefaultServiceLocator;
 import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.spi.connector.RepositoryConnectorFactory;
 import org.eclipse.aether.spi.connector.transport.TransporterFactory;
 import org.eclipse.aether.transport.file.FileTransporterFactory;
+import org.jboss.intersmash.k8s.client.TestCaseContext;
+
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Class provides support to get artifact by GAV from local repo (considered as remote).
@@ -50,7 +67,17 @@ import org.eclipse.aether.transport.file.FileTransporterFactory;
  * </ul>
  * maven central and such repositories are not supported.
  */
+@Slf4j
 public class ArtifactProvider {
+	private static final AtomicInteger THREADS = new AtomicInteger();
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4, r -> {
+		Thread thread = new Thread(r, "intersmash-artifact-resolver-" + THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+	// resolutions by artifact coordinates, failed ones are removed so that they're attempted again on demand
+	private static final Map<String, CompletableFuture<File>> RESOLVED = new ConcurrentHashMap<>();
+	private static Resolver resolver;
 
 	/**
 	 * @param groupId - required
@@ -62,17 +89,90 @@ public class ArtifactProvider {
 	 */
 	public static File resolveArtifact(String groupId, String artifactId, String version, String type, String classifier)
 			throws SettingsBuildingException, ArtifactResolutionException {
-		LocalRepository localRepository = MavenSettingsUtil.getLocalRepository(MavenSettingsUtil.loadSettings());
-		RepositorySystem system = newRepositorySystem();
-		RepositorySystemSession session = newRepositorySystemSession(system, localRepository.getBasedir().getAbsolutePath());
+		return resolveArtifacts(List.of(new DefaultArtifact(groupId, artifactId, classifier, type, version))).get(0);
+	}
 
-		Artifact artifact = new DefaultArtifact(groupId, artifactId, classifier, type, version);
-		ArtifactRequest artifactRequest = new ArtifactRequest();
-		artifactRequest.setArtifact(artifact);
+	/**
+	 * Resolve the given artifacts concurrently. Artifacts are resolved once per run, so subsequent calls return the
+	 * files which have already been resolved, or wait for the pending resolutions, e.g. the ones started by
+	 * {@link #prefetchArtifacts(Collection)}.
+	 *
+	 * @param artifacts The artifacts to be resolved
+	 * @return The artifact files, in the same order as the given artifacts
+	 */
+	public static List<File> resolveArtifacts(Collection<Artifact> artifacts)
+			throws SettingsBuildingException, ArtifactResolutionException {
+		final Resolver current = resolver();
+		final List<CompletableFuture<File>> files = artifacts.stream()
+				.map(artifact -> resolve(current, artifact))
+				.collect(Collectors.toList());
+		final List<File> result = new ArrayList<>();
+		for (CompletableFuture<File> file : files) {
+			try {
+				result.add(file.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof ArtifactResolutionException) {
+					throw (ArtifactResolutionException) e.getCause();
+				}
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		return result;
+	}
 
-		artifactRequest.setRepositories(MavenSettingsUtil.getRemoteRepositories(MavenSettingsUtil.loadSettings()));
-		ArtifactResult artifactResult = system.resolveArtifact(session, artifactRequest);
-		return artifactResult.getArtifact().getFile();
+	/**
+	 * Start resolving the given artifacts in the background, without waiting for them, so that they're available
+	 * by the time they are requested via {@link #resolveArtifact(String, String, String, String, String)}. Artifacts
+	 * which can't be resolved, e.g. because they're built by an inactive profile, only fail once requested.
+	 *
+	 * @param artifacts The artifacts to be resolved
+	 */
+	public static void prefetchArtifacts(Collection<Artifact> artifacts) {
+		final Resolver current;
+		try {
+			current = resolver();
+		} catch (SettingsBuildingException e) {
+			log.debug("Artifacts can't be prefetched, Maven settings can't be loaded: {}", e.getMessage());
+			return;
+		}
+		artifacts.forEach(artifact -> resolve(current, artifact));
+	}
+
+	private static CompletableFuture<File> resolve(Resolver current, Artifact artifact) {
+		final String coordinates = artifact.toString();
+		// the pool threads outlive test cases, hence the resolution is bound to the one of the calling thread
+		final CompletableFuture<File> file = RESOLVED.computeIfAbsent(coordinates,
+				k -> CompletableFuture.supplyAsync(() -> {
+					try {
+						return current.resolve(artifact);
+					} catch (ArtifactResolutionException e) {
+						throw new CompletionException(e);
+					}
+				}, TestCaseContext.bind(EXECUTOR)));
+		file.whenComplete((f, e) -> {
+			if (e != null) {
+				log.debug("Unable to resolve {}: {}", coordinates, e.getMessage());
+				RESOLVED.remove(coordinates, file);
+			}
+		});
+		return file;
+	}
+
+	/**
+	 * The repository system and session are shared by all the resolutions, since setting them up, and loading the
+	 * Maven settings, is expensive.
+	 */
+	private static synchronized Resolver resolver() throws SettingsBuildingException {
+		if (resolver == null) {
+			final Settings settings = MavenSettingsUtil.loadSettings();
+			final RepositorySystem system = newRepositorySystem();
+			final DefaultRepositorySystemSession session = (DefaultRepositorySystemSession) newRepositorySystemSession(
+					system, MavenSettingsUtil.getLocalRepository(settings).getBasedir().getAbsolutePath());
+			session.setCache(new DefaultRepositoryCache());
+			session.setReadOnly();
+			resolver = new Resolver(system, session, MavenSettingsUtil.getRemoteRepositories(settings));
+		}
+		return resolver;
 	}
 
 	public static RepositorySystem newRepositorySystem() {
@@ -98,4 +198,24 @@ public class ArtifactProvider {
 
 		return session;
 	}
+
+	private static class Resolver {
+		private final RepositorySystem system;
+		private final RepositorySystemSession session;
+		private final List<RemoteRepository> repositories;
+
+		Resolver(RepositorySystem system, RepositorySystemSession session, List<RemoteRepository> repositories) {
+			this.system = system;
+			this.session = session;
+			this.repositories = repositories;
+		}
+
+		File resolve(Artifact artifact) throws ArtifactResolutionException {
+			ArtifactRequest artifactRequest = new ArtifactRequest();
+			artifactRequest.setArtifact(artifact);
+			artifactRequest.setRepositories(repositories);
+			ArtifactResult artifactResult = system.resolveArtifact(session, artifactRequest);
+			return artifactResult.getArtifact().getFile();
+		}
+	}
 }
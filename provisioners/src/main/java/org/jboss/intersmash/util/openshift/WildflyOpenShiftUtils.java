@@ -16,9 +16,9 @@
 package org.jboss.intersmash.util.openshift;
 
 import java.util.concurrent.TimeUnit;
+import org.jboss.intersmash.provision.openshift.OpenShiftClients;
 
 import cz.xtf.core.image.Image;
-import cz.xtf.core.openshift.OpenShifts;
 import cz.xtf.core.waiting.SimpleWaiter;
 import io.fabric8.openshift.api.model.ImageStreamTag;
 
@@ -52,9 +52,9 @@ public class WildflyOpenShiftUtils {
 	}
 
 	public static ImageStreamTag createImageStream(String image, String name, String tag) {
-		OpenShifts.master().createImageStream(Image.from(image).getImageStream(name, tag));
-		new SimpleWaiter(() -> OpenShifts.master().getImageStreamTag(name, tag) != null, TimeUnit.SECONDS, 10,
+		OpenShiftClients.master().createImageStream(Image.from(image).getImageStream(name, tag));
+		new SimpleWaiter(() -> OpenShiftClients.master().getImageStreamTag(name, tag) != null, TimeUnit.SECONDS, 10,
 				String.format("Waiting for %s:%s image stream tag to be created", name, tag)).waitFor();
-		return OpenShifts.master().getImageStreamTag(name, tag);
+		return OpenShiftClients.master().getImageStreamTag(name, tag);
 	}
 }
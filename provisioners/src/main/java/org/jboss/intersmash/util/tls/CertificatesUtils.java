@@ -15,18 +15,23 @@
  */
 package org.jboss.intersmash.util.tls;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.X509Certificate;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.jboss.intersmash.util.Certificates;
+
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
@@ -92,12 +97,20 @@ public class CertificatesUtils {
 		}
 
 		// create key + self-signed certificate: they are typically used by the server exposing the endpoints over TLS
-		processCall(caDir, "openssl", "req", "-subj", "/CN=" + hostname + "/OU=TF/O=XTF/L=Milan/C=IT",
-				"-newkey", "rsa:2048", "-nodes", "-keyout", key, "-x509", "-days", "365", "-out", certificate);
+		final KeyPair keyPair = Certificates.generateKeyPair(2048);
+		final X509Certificate x509Certificate = Certificates.selfSigned(keyPair,
+				"C=IT, L=Milan, O=XTF, OU=TF, CN=" + hostname, Duration.ofDays(365));
+		Certificates.writePem(certificateAndKey.key, keyPair.getPrivate());
+		Certificates.writePem(certificateAndKey.certificate, x509Certificate);
 
 		// add self-signed certificate to keystore: it's typically used by the clients contacting the endpoints over TLS
-		processCall(caDir, "keytool", "-import", "-noprompt", "-alias", hostname, "-keystore",
-				truststore, "-file", certificate, "-storetype", "JKS", "-storepass", truststorePassword);
+		final KeyStore keyStore = Certificates.keyStore("JKS");
+		try {
+			keyStore.setCertificateEntry(hostname, x509Certificate);
+		} catch (KeyStoreException e) {
+			throw new RuntimeException("Failed to create truststore " + truststore, e);
+		}
+		Certificates.store(keyStore, certificateAndKey.truststore, truststorePassword);
 
 		// create secret
 		try {
@@ -114,35 +127,6 @@ public class CertificatesUtils {
 		return certificateAndKey;
 	}
 
-	private static void processCall(Path cwd, String... args) {
-		ProcessBuilder pb = new ProcessBuilder(args);
-
-		pb.directory(cwd.toFile());
-		pb.redirectErrorStream(true);
-
-		int result = -1;
-		Process process = null;
-		try {
-			process = pb.start();
-			result = process.waitFor();
-			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-				while (reader.ready()) {
-					if (result == 0) {
-						log.debug(reader.readLine());
-					} else {
-						log.error(reader.readLine());
-					}
-				}
-			}
-		} catch (IOException | InterruptedException e) {
-			throw new RuntimeException("Failed executing " + String.join(" ", args));
-		}
-
-		if (result != 0) {
-			throw new RuntimeException("Failed executing " + String.join(" ", args));
-		}
-	}
-
 	public static Secret createTlsSecret(final String secretName, final Path key, final Path certificate,
 			final NamespacedKubernetesClient client, final String namespace) throws IOException {
 		Map<String, String> data = new HashMap<>();
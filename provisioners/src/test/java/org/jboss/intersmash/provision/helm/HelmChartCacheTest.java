@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.helm;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HelmChartCacheTest {
+
+	@TempDir
+	Path root;
+
+	private Git remote;
+	private final List<String> helmCommands = new ArrayList<>();
+
+	@BeforeEach
+	public void createRemote() throws IOException, GitAPIException {
+		remote = Git.init().setDirectory(root.resolve("remote").toFile()).setInitialBranch("main").call();
+		commit("version: 1.0.0");
+	}
+
+	@AfterEach
+	public void closeRemote() {
+		remote.close();
+	}
+
+	/**
+	 * Verifies that charts are packaged once per revision, and that the cached clone is updated incrementally, across
+	 * cache instances, i.e. executions
+	 */
+	@Test
+	public void testChartIsPackagedOncePerRevision() throws IOException, GitAPIException {
+		final String url = root.resolve("remote").toUri().toString();
+		final Path packaged = cache().chart(url, "main", "wildfly");
+		Assertions.assertTrue(Files.isRegularFile(packaged));
+		Assertions.assertEquals(List.of("dependency", "package"), helmCommands);
+
+		final Path marker = Files.createFile(repository().resolve(".git/marker"));
+		Assertions.assertEquals(packaged, cache().chart(url, "main", "wildfly"));
+		Assertions.assertEquals(2, helmCommands.size());
+
+		commit("version: 1.0.1");
+		final Path updated = cache().chart(url, "main", "wildfly");
+		Assertions.assertNotEquals(packaged, updated);
+		Assertions.assertEquals(4, helmCommands.size());
+		Assertions.assertEquals("version: 1.0.1", Files.readString(repository().resolve("charts/wildfly/Chart.yaml")));
+		// the clone was fetched rather than cloned again
+		Assertions.assertTrue(Files.exists(marker));
+	}
+
+	/**
+	 * Verifies that a missing chart is reported
+	 */
+	@Test
+	public void testMissingChart() {
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> cache().chart(root.resolve("remote").toUri().toString(), "main", "eap74"));
+	}
+
+	private HelmChartCache cache() {
+		return new HelmChartCache(root.resolve("cache"), arguments -> {
+			helmCommands.add(arguments[0]);
+			if ("package".equals(arguments[0])) {
+				try {
+					Files.writeString(Path.of(arguments[3]).resolve("wildfly-1.0.0.tgz"), "chart");
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return "";
+		});
+	}
+
+	private Path repository() throws IOException {
+		try (Stream<Path> entries = Files.list(root.resolve("cache"))) {
+			return entries.findFirst().orElseThrow().resolve("repository");
+		}
+	}
+
+	private void commit(String chart) throws IOException, GitAPIException {
+		final Path chartDirectory = root.resolve("remote/charts/wildfly");
+		Files.createDirectories(chartDirectory);
+		Files.writeString(chartDirectory.resolve("Chart.yaml"), chart);
+		remote.add().addFilepattern(".").call();
+		remote.commit().setMessage(chart).setSign(false).call();
+	}
+}
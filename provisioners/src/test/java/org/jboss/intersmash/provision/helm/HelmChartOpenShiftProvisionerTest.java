@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.helm;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class HelmChartOpenShiftProvisionerTest {
+
+	private static final String INSTANCE_LABEL = "app.kubernetes.io/instance";
+
+	KubernetesClient client;
+
+	/**
+	 * Verifies that the release workload is scaled through the scale subresource
+	 */
+	@Test
+	public void testWorkloadIsScaled() {
+		client.apps().deployments().resource(new DeploymentBuilder()
+				.withNewMetadata().withName("wildfly").addToLabels(INSTANCE_LABEL, "wildfly").endMetadata()
+				.withNewSpec().withReplicas(1).endSpec()
+				.build()).create();
+
+		Assertions.assertTrue(HelmChartOpenShiftProvisioner.scaleWorkload(client, "wildfly", 3));
+		Assertions.assertEquals(3, client.apps().deployments().withName("wildfly").get().getSpec().getReplicas());
+	}
+
+	/**
+	 * Verifies that releases which don't consist of exactly one workload are not scaled
+	 */
+	@Test
+	public void testAmbiguousWorkloadIsNotScaled() {
+		Assertions.assertFalse(HelmChartOpenShiftProvisioner.scaleWorkload(client, "wildfly", 3));
+
+		client.apps().deployments().resource(new DeploymentBuilder()
+				.withNewMetadata().withName("wildfly").addToLabels(INSTANCE_LABEL, "wildfly").endMetadata()
+				.withNewSpec().withReplicas(1).endSpec()
+				.build()).create();
+		client.apps().statefulSets().resource(new StatefulSetBuilder()
+				.withNewMetadata().withName("wildfly-db").addToLabels(INSTANCE_LABEL, "wildfly").endMetadata()
+				.withNewSpec().withReplicas(1).endSpec()
+				.build()).create();
+
+		Assertions.assertFalse(HelmChartOpenShiftProvisioner.scaleWorkload(client, "wildfly", 3));
+		Assertions.assertEquals(1, client.apps().deployments().withName("wildfly").get().getSpec().getReplicas());
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.provision.openshift;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.openshift.api.model.ImageStreamTagBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class ImageContentCacheTest {
+
+	private static final String BUILDER_IMAGE = "quay.io/wildfly/wildfly-s2i:latest";
+	private static final String DIGEST = "sha256:0123456789abcdef";
+
+	KubernetesClient client;
+
+	@TempDir
+	Path sources;
+
+	/**
+	 * Verifies that the content hash changes with the build inputs only
+	 */
+	@Test
+	public void testContentHash() throws IOException {
+		Files.createDirectories(sources.resolve("src/main/webapp"));
+		Files.writeString(sources.resolve("pom.xml"), "<project/>");
+		Files.writeString(sources.resolve("src/main/webapp/index.html"), "Hello");
+		final String hash = ImageContentCache.contentHash(BUILDER_IMAGE, Map.of("A", "1", "B", "2"), sources);
+
+		Assertions.assertTrue(hash.matches("[0-9a-f]{64}"));
+		Assertions.assertEquals(hash, ImageContentCache.contentHash(BUILDER_IMAGE, Map.of("B", "2", "A", "1"), sources));
+		Assertions.assertNotEquals(hash, ImageContentCache.contentHash(BUILDER_IMAGE, Map.of("A", "1"), sources));
+		Assertions.assertNotEquals(hash,
+				ImageContentCache.contentHash("quay.io/wildfly/wildfly-s2i:31.0", Map.of("A", "1", "B", "2"), sources));
+		Files.writeString(sources.resolve("src/main/webapp/index.html"), "Hello!");
+		Assertions.assertNotEquals(hash, ImageContentCache.contentHash(BUILDER_IMAGE, Map.of("A", "1", "B", "2"), sources));
+	}
+
+	/**
+	 * Verifies that images are looked up, and tagged, by image stream tag
+	 */
+	@Test
+	public void testImageIsTagged() {
+		final OpenShiftClient openShift = client.adapt(OpenShiftClient.class);
+		Assertions.assertEquals(Optional.empty(), ImageContentCache.image(openShift, "app", "0123"));
+
+		openShift.imageStreamTags().resource(new ImageStreamTagBuilder()
+				.withNewMetadata().withName("app:0123").endMetadata()
+				.withNewImage().withNewMetadata().withName(DIGEST).endMetadata().endImage()
+				.build()).create();
+		Assertions.assertEquals(Optional.of(DIGEST), ImageContentCache.image(openShift, "app", "0123"));
+
+		ImageContentCache.tag(openShift, "app", DIGEST, ImageContentCache.LATEST_TAG);
+		ImageContentCache.tag(openShift, "app", DIGEST, ImageContentCache.LATEST_TAG);
+		Assertions.assertEquals("app@" + DIGEST,
+				openShift.imageStreamTags().withName("app:latest").get().getTag().getFrom().getName());
+	}
+}
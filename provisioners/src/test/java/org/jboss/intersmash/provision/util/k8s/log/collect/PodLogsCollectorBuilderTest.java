@@ -17,6 +17,7 @@ package org.jboss.intersmash.provision.util.k8s.log.collect;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
@@ -64,6 +65,10 @@ class PodLogsCollectorBuilderTest {
 				.withPods(Arrays.asList(aPod, anotherPod))
 				.withPodSelector(podSelector)
 				.withLineSelector(lineSelector)
+				.withSinceTime("2025-01-01T00:00:00Z")
+				.withTailLines(100)
+				.withMaxConcurrency(2)
+				.withOutputDirectory(Path.of("target", "pod-logs"))
 				.build();
 		// Assert
 		final URL actualClientMasterUrl = podLogsCollector.getClient().getMasterUrl();
@@ -84,5 +89,10 @@ class PodLogsCollectorBuilderTest {
 		final Predicate<String> actualLineSelector = podLogsCollector.getLineSelector();
 		Assertions.assertNotNull(actualLineSelector, "Null line selector");
 		Assertions.assertEquals(lineSelector.toString(), actualLineSelector.toString(), "Unexpected line selector");
+		Assertions.assertEquals("2025-01-01T00:00:00Z", podLogsCollector.getSinceTime(), "Unexpected since time");
+		Assertions.assertEquals(100, podLogsCollector.getTailLines(), "Unexpected tail lines");
+		Assertions.assertEquals(2, podLogsCollector.getMaxConcurrency(), "Unexpected max concurrency");
+		Assertions.assertEquals(Path.of("target", "pod-logs"), podLogsCollector.getOutputDirectory(),
+				"Unexpected output directory");
 	}
 }
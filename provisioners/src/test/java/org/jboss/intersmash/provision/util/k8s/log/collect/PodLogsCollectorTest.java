@@ -18,6 +18,10 @@ package org.jboss.intersmash.provision.util.k8s.log.collect;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +29,7 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
@@ -33,6 +38,7 @@ import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.PrettyLoggable;
 
 /**
  * An integration test to validate the {@link PodLogsCollector} behavior.
@@ -81,9 +87,9 @@ class PodLogsCollectorTest {
 		when(client.pods().withName(aPodName)).thenReturn(aPodResource);
 		when(client.pods().withName(anotherPodName)).thenReturn(anotherPodResource);
 		when(aPod.getMetadata()).thenReturn(aPodMetadata);
-		when(aPodResource.getLog()).thenReturn(LOG_WITH_ERRORS);
+		when(aPodResource.getLogReader()).thenAnswer(invocation -> new StringReader(LOG_WITH_ERRORS));
 		when(anotherPod.getMetadata()).thenReturn(anotherPodMetadata);
-		when(anotherPodResource.getLog()).thenReturn(LOG_WITH_NO_ERRORS);
+		when(anotherPodResource.getLogReader()).thenAnswer(invocation -> new StringReader(LOG_WITH_NO_ERRORS));
 	}
 
 	/**
@@ -150,4 +156,36 @@ class PodLogsCollectorTest {
 		Assertions.assertNotNull(anotherPodReport.getPodLog(), "Unexpected null pod log");
 		Assertions.assertTrue(report.contains(LOG_WITH_NO_ERRORS));
 	}
+
+	/**
+	 * Validate the collection of the last lines of a pod log into an output directory.
+	 * Only the requested number of lines is fetched, and the log is written to a file named after the pod, rather than
+	 * being kept in memory.
+	 */
+	@Test
+	void test_tailLines_withOutputDirectory(@TempDir Path outputDirectory) throws IOException {
+		// Arrange
+		final String lastLine = "12:00:04 INFO Another clean line, though\n";
+		final PrettyLoggable tail = mock(PrettyLoggable.class);
+		when(tail.getLogReader()).thenAnswer(invocation -> new StringReader(lastLine));
+		when(client.pods().withName("pod-0").tailingLines(1)).thenReturn(tail);
+		final PodLogsCollector podLogsCollector = new PodLogsCollectorBuilder()
+				.withClient(client)
+				.withPods(pods)
+				.withPodSelector(p -> "pod-0".equals(p.getMetadata().getName()))
+				.withTailLines(1)
+				.withOutputDirectory(outputDirectory)
+				.build();
+		// Act
+		final List<PodLogsReport> reports = podLogsCollector.collect();
+		final String report = PodLogsReport.generate(reports);
+		// Assert
+		Assertions.assertEquals(1, reports.size(), "Unexpected number of collected pod logs");
+		final PodLogsReport actualReport = reports.get(0);
+		Assertions.assertNull(actualReport.getPodLog(), "Unexpected in memory pod log");
+		final Path logFile = outputDirectory.resolve("pod-0.log");
+		Assertions.assertEquals(List.of(logFile), actualReport.getPodLogFiles(), "Unexpected pod log files");
+		Assertions.assertEquals(lastLine, Files.readString(logFile), "Unexpected pod log file content");
+		Assertions.assertTrue(report.contains(logFile.toString()));
+	}
 }
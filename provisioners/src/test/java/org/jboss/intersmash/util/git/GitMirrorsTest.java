@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util.git;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GitMirrorsTest {
+
+	@TempDir
+	Path root;
+
+	private Git remote;
+	private String url;
+
+	@BeforeEach
+	public void createRemote() throws IOException, GitAPIException {
+		remote = Git.init().setDirectory(root.resolve("remote").toFile()).setInitialBranch("main").call();
+		url = root.resolve("remote").toUri().toString();
+		commit("1.0.0");
+		remote.tag().setName("1.0.0").setSigned(false).call();
+	}
+
+	@AfterEach
+	public void closeRemote() {
+		remote.close();
+	}
+
+	/**
+	 * Verifies that the mirror is updated incrementally, and that checkouts share its objects and track the remote
+	 * repository
+	 */
+	@Test
+	public void testCheckoutsShareTheMirror() throws IOException, GitAPIException {
+		final GitMirrors mirrors = new GitMirrors(root.resolve("mirrors"));
+		try (Git git = mirrors.checkout(root.resolve("first"), url, null, "main")) {
+			Assertions.assertEquals("1.0.0", Files.readString(root.resolve("first/VERSION")));
+			Assertions.assertEquals("main", git.getRepository().getBranch());
+			Assertions.assertEquals(url, git.getRepository().getConfig().getString("remote", "origin", "url"));
+		}
+		final Path mirror = mirrors.update(url, null);
+		final Path marker = Files.createFile(mirror.resolve("marker"));
+
+		commit("1.0.1");
+		try (Git git = new GitMirrors(root.resolve("mirrors")).checkout(root.resolve("second"), url, null, "main")) {
+			Assertions.assertEquals("1.0.1", Files.readString(root.resolve("second/VERSION")));
+			Assertions.assertEquals(remote.getRepository().resolve("main"), git.getRepository().resolve("HEAD"));
+		}
+		// the mirror was fetched rather than cloned again, and the checkout didn't copy its objects
+		Assertions.assertTrue(Files.exists(marker));
+		try (Stream<Path> packs = Files.list(root.resolve("second/.git/objects/pack"))) {
+			Assertions.assertEquals(0, packs.count());
+		}
+	}
+
+	/**
+	 * Verifies that tags and commits are checked out as detached heads
+	 */
+	@Test
+	public void testTagIsCheckedOut() throws IOException, GitAPIException {
+		commit("1.0.1");
+		try (Git git = new GitMirrors(root.resolve("mirrors")).checkout(root.resolve("tag"), url, null, "1.0.0")) {
+			Assertions.assertEquals("1.0.0", Files.readString(root.resolve("tag/VERSION")));
+			Assertions.assertEquals(git.getRepository().resolve("HEAD").getName(), git.getRepository().getBranch());
+		}
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> new GitMirrors(root.resolve("mirrors")).checkout(root.resolve("missing"), url, null, "2.0.0"));
+	}
+
+	/**
+	 * Verifies that concurrent checkouts share the same mirror safely
+	 */
+	@Test
+	public void testConcurrentCheckouts() {
+		final GitMirrors mirrors = new GitMirrors(root.resolve("mirrors"));
+		final List<CompletableFuture<String>> versions = IntStream.range(0, 4)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+					final Path target = root.resolve("checkout-" + i);
+					try (Git git = mirrors.checkout(target, url, null, "main")) {
+						return Files.readString(target.resolve("VERSION"));
+					} catch (IOException e) {
+						throw new IllegalStateException(e);
+					}
+				}))
+				.collect(Collectors.toList());
+		Assertions.assertEquals(List.of("1.0.0", "1.0.0", "1.0.0", "1.0.0"),
+				versions.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+		try (Stream<Path> entries = Files.list(root.resolve("mirrors"))) {
+			Assertions.assertEquals(1, entries.filter(Files::isDirectory).count());
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void commit(String version) throws IOException, GitAPIException {
+		Files.writeString(root.resolve("remote/VERSION"), version);
+		remote.add().addFilepattern(".").call();
+		remote.commit().setMessage(version).setSign(false).call();
+	}
+}
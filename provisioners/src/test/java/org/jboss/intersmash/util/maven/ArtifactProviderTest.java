@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2023 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.intersmash.util.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ArtifactProviderTest {
+
+	@TempDir
+	static Path repository;
+
+	private static String localRepository;
+
+	@BeforeAll
+	public static void useTemporaryRepository() throws IOException {
+		localRepository = System.getProperty("localRepository");
+		System.setProperty("localRepository", repository.toString());
+		install("app-a");
+		install("app-b");
+	}
+
+	@AfterAll
+	public static void restoreRepository() {
+		if (localRepository == null) {
+			System.clearProperty("localRepository");
+		} else {
+			System.setProperty("localRepository", localRepository);
+		}
+	}
+
+	/**
+	 * Verifies that artifacts which are resolved in bulk are returned in order, and reused by later resolutions
+	 */
+	@Test
+	public void testArtifactsAreResolvedOnce() throws Exception {
+		final List<File> files = ArtifactProvider.resolveArtifacts(List.of(
+				new DefaultArtifact("org.jboss.intersmash.test", "app-b", "bootable-openshift", "jar", "1.0"),
+				new DefaultArtifact("org.jboss.intersmash.test", "app-a", "bootable-openshift", "jar", "1.0")));
+		Assertions.assertEquals(2, files.size());
+		Assertions.assertEquals("app-b-1.0-bootable-openshift.jar", files.get(0).getName());
+		Assertions.assertEquals("app-a-1.0-bootable-openshift.jar", files.get(1).getName());
+
+		Assertions.assertSame(files.get(1), ArtifactProvider.resolveArtifact("org.jboss.intersmash.test", "app-a", "1.0",
+				"jar", "bootable-openshift"));
+	}
+
+	/**
+	 * Verifies that prefetching missing artifacts doesn't fail, while requesting them does
+	 */
+	@Test
+	public void testMissingArtifactFailsOnlyWhenRequested() {
+		ArtifactProvider.prefetchArtifacts(
+				List.of(new DefaultArtifact("org.jboss.intersmash.test", "missing", "bootable-openshift", "jar", "1.0")));
+		Assertions.assertThrows(ArtifactResolutionException.class,
+				() -> ArtifactProvider.resolveArtifact("org.jboss.intersmash.test", "missing", "1.0", "jar",
+						"bootable-openshift"));
+	}
+
+	private static void install(String artifactId) throws IOException {
+		final Path directory = repository.resolve("org/jboss/intersmash/test").resolve(artifactId).resolve("1.0");
+		Files.createDirectories(directory);
+		Files.write(directory.resolve(artifactId + "-1.0-bootable-openshift.jar"), artifactId.getBytes());
+	}
+}
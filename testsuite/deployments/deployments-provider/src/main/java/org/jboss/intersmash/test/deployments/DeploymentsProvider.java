@@ -18,8 +18,11 @@ package org.jboss.intersmash.test.deployments;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.apache.maven.settings.building.SettingsBuildingException;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.jboss.intersmash.util.maven.ArtifactProvider;
 
@@ -32,34 +35,28 @@ public class DeploymentsProvider {
 	static final String EAP_7_BOOTABLE_JAR = "eap7-bootable-jar";
 	static final String BOOTABLE_JAR_ARTIFACT_PACKAGING = "jar";
 
+	static {
+		// all the declared archive based deployments are resolved concurrently, as soon as any is requested
+		prefetch();
+	}
+
+	/**
+	 * Start resolving the archive based deployments in the background, so that they are already available when
+	 * requested, rather than being resolved one after the other. Deployments which are not installed are reported
+	 * when they are requested.
+	 */
+	public static void prefetch() {
+		ArtifactProvider.prefetchArtifacts(List.of(
+				bootableJarArtifact(WILDFLY_BOOTABLE_JAR),
+				bootableJarArtifact(EAP_7_BOOTABLE_JAR)));
+	}
+
 	public static Path wildflyBootableJarOpenShiftDeployment() {
-		Path file = null;
-		try {
-			file = ArtifactProvider.resolveArtifact(
-					TestDeploymentProperties.groupID(),
-					WILDFLY_BOOTABLE_JAR,
-					TestDeploymentProperties.version(),
-					BOOTABLE_JAR_ARTIFACT_PACKAGING,
-					"bootable-openshift").toPath();
-		} catch (SettingsBuildingException | ArtifactResolutionException e) {
-			throw new RuntimeException("Can not get artifact", e);
-		}
-		return file;
+		return resolve(bootableJarArtifact(WILDFLY_BOOTABLE_JAR));
 	}
 
 	public static Path eap7BootableJarOpenShiftDeployment() {
-		Path file = null;
-		try {
-			file = ArtifactProvider.resolveArtifact(
-					TestDeploymentProperties.groupID(),
-					EAP_7_BOOTABLE_JAR,
-					TestDeploymentProperties.version(),
-					BOOTABLE_JAR_ARTIFACT_PACKAGING,
-					"bootable-openshift").toPath();
-		} catch (SettingsBuildingException | ArtifactResolutionException e) {
-			throw new RuntimeException("Can not get artifact", e);
-		}
-		return file;
+		return resolve(bootableJarArtifact(EAP_7_BOOTABLE_JAR));
 	}
 
 	public static Path findStandaloneDeploymentPath(String deployment) {
@@ -71,4 +68,17 @@ public class DeploymentsProvider {
 		}
 		throw new RuntimeException("Cannot find sources root directory: " + path.toFile().getAbsolutePath());
 	}
+
+	private static Path resolve(Artifact artifact) {
+		try {
+			return ArtifactProvider.resolveArtifacts(List.of(artifact)).get(0).toPath();
+		} catch (SettingsBuildingException | ArtifactResolutionException e) {
+			throw new RuntimeException("Can not get artifact", e);
+		}
+	}
+
+	private static Artifact bootableJarArtifact(String artifactId) {
+		return new DefaultArtifact(TestDeploymentProperties.groupID(), artifactId, "bootable-openshift",
+				BOOTABLE_JAR_ARTIFACT_PACKAGING, TestDeploymentProperties.version());
+	}
 }
@@ -54,7 +54,7 @@ import org.jboss.intersmash.test.deployments.DeploymentsProvider;
 import org.jboss.intersmash.test.deployments.TestDeploymentProperties;
 import org.jboss.intersmash.test.deployments.WildflyDeploymentApplicationConfiguration;
 import org.jboss.intersmash.testsuite.junit5.categories.OpenShiftTest;
-import org.jboss.intersmash.util.CommandLineBasedKeystoreGenerator;
+import org.jboss.intersmash.util.KeystoreGenerator;
 import org.jboss.intersmash.util.openshift.WildflyOpenShiftUtils;
 import org.jboss.intersmash.util.tls.CertificatesUtils;
 import org.jboss.intersmash.util.wildfly.Eap7CliScriptBuilder;
@@ -99,9 +99,9 @@ public class OpenShiftProvisionerTestBase {
 	static RhSsoTemplateOpenShiftApplication getHttpsRhSso() {
 		return new RhSsoTemplateOpenShiftApplication() {
 			private final String secureAppHostname = "secure-" + getOpenShiftHostName();
-			private final Path keystore = CommandLineBasedKeystoreGenerator.generateKeystore(secureAppHostname);
+			private final Path keystore = KeystoreGenerator.generateKeystore(secureAppHostname);
 			private final String jceksFileName = "jgroups.jceks";
-			private final Path truststore = CommandLineBasedKeystoreGenerator.getTruststore();
+			private final Path truststore = KeystoreGenerator.getTruststore();
 
 			@Override
 			public String getName() {